@@ -4,6 +4,7 @@ import com.blaj.openmetin.annotationprocessor.codec.utils.FieldContextUtils;
 import com.blaj.openmetin.contracts.annotation.PacketHeader;
 import com.blaj.openmetin.contracts.enums.PacketDirection;
 import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.FieldSpec;
 import com.palantir.javapoet.JavaFile;
 import com.palantir.javapoet.MethodSpec;
 import com.palantir.javapoet.ParameterizedTypeName;
@@ -11,7 +12,9 @@ import com.palantir.javapoet.TypeSpec;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.processing.Filer;
@@ -23,6 +26,10 @@ import javax.tools.Diagnostic.Kind;
 
 public class CodecGenerator {
 
+  private static final int SIZE_PREFIX_LENGTH = 2;
+  private static final int HEADER_COUNT = 256;
+  private static final int HEADER_LENGTH = 1;
+
   private static final ClassName byteBufClassName = ClassName.get("io.netty.buffer", "ByteBuf");
   private static final ClassName serviceAnnotationClassName =
       ClassName.get("org.springframework.stereotype", "Service");
@@ -38,6 +45,7 @@ public class CodecGenerator {
   private final TypeChecker typeChecker;
   private final Filer filer;
   private final Messager messager;
+  private final Map<Integer, String> decoderPacketClassNames = new HashMap<>();
 
   public CodecGenerator(
       ProcessingEnvironment processingEnvironment,
@@ -60,6 +68,15 @@ public class CodecGenerator {
     var packetClass = ClassName.get(packageName, packetClassName);
 
     var header = typeElement.getAnnotation(PacketHeader.class);
+
+    if (header.header() < 0 || header.header() >= HEADER_COUNT) {
+      messager.printMessage(
+          Kind.ERROR,
+          "Packet " + packetClassName + " header must be between 0x00 and 0xFF",
+          typeElement);
+      return;
+    }
+
     var fields =
         FieldContextUtils.extractFieldContexts(
             typeElement, packetClass, 0, typeChecker, processingEnvironment);
@@ -80,6 +97,28 @@ public class CodecGenerator {
     }
 
     String decoderClassName = packetClassName + "DecoderService";
+    var size = getPacketSize(header, fields);
+
+    if (size == FieldCodecStrategy.DYNAMIC_SIZE && !header.hasDynamicSize()) {
+      messager.printMessage(
+          Kind.ERROR,
+          "Packet "
+              + packetClassName
+              + " has variable size fields and requires @PacketHeader(hasDynamicSize = true)");
+      return;
+    }
+
+    var previousPacketClassName =
+        decoderPacketClassNames.putIfAbsent(header.header(), packetClass.canonicalName());
+
+    if (previousPacketClassName != null) {
+      messager.printMessage(
+          Kind.ERROR,
+          String.format(
+              "Packet %s reuses incoming header 0x%02X already decoded by %s",
+              packetClassName, header.header(), previousPacketClassName));
+      return;
+    }
 
     var decodeMethodBuilder =
         MethodSpec.methodBuilder("decode")
@@ -100,7 +139,7 @@ public class CodecGenerator {
 
     decodeMethodBuilder.addStatement("return packet");
 
-    var decoderClass =
+    var decoderClassBuilder =
         TypeSpec.classBuilder(decoderClassName)
             .addAnnotation(serviceAnnotationClassName)
             .addAnnotation(generatedAnnotationClassName)
@@ -110,8 +149,13 @@ public class CodecGenerator {
             .addJavadoc("Generated decoder for {@link $L}\n", packetClassName)
             .addMethod(createGetHeaderMethod(header))
             .addMethod(createGetDirectionMethod(header))
-            .addMethod(decodeMethodBuilder.build())
-            .build();
+            .addMethod(createGetSizeMethod(header, size));
+
+    if (header.hasDynamicSize()) {
+      decoderClassBuilder.addMethod(createGetFrameLengthMethod());
+    }
+
+    var decoderClass = decoderClassBuilder.addMethod(decodeMethodBuilder.build()).build();
 
     JavaFile.builder(packageName, decoderClass)
         .addFileComment("AUTO-GENERATED by GeneratePacketCodecProcessor - DO NOT EDIT")
@@ -135,6 +179,8 @@ public class CodecGenerator {
 
     var encoderClassName = packetClassName + "EncoderService";
 
+    var size = getPacketSize(header, fields);
+
     var encodeMethodBuilder =
         MethodSpec.methodBuilder("encode")
             .addModifiers(Modifier.PUBLIC)
@@ -172,8 +218,10 @@ public class CodecGenerator {
                 String.format("%02X", header.header()),
                 header.direction())
             .addJavadoc("<p><strong>This class is auto-generated. Do not modify!</strong>\n")
+            .addField(createEncodedSizeField(header, fields, size))
             .addMethod(createGetHeaderMethod(header))
             .addMethod(getPacketClassMethod)
+            .addMethod(createEncodedSizeMethod(packetClass, fields, size))
             .addMethod(encodeMethodBuilder.build())
             .build();
 
@@ -195,6 +243,86 @@ public class CodecGenerator {
         .build();
   }
 
+  private FieldSpec createEncodedSizeField(
+      PacketHeader header, List<FieldContext> fields, int size) {
+    if (size != FieldCodecStrategy.DYNAMIC_SIZE) {
+      return FieldSpec.builder(
+              int.class, "ENCODED_SIZE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+          .initializer("$L", HEADER_LENGTH + size)
+          .build();
+    }
+
+    var fixedSize =
+        HEADER_LENGTH
+            + fieldCodecStrategyFactory.getFixedSize(fields)
+            + (header.isSequence() ? 1 : 0);
+
+    return FieldSpec.builder(
+            int.class, "FIXED_ENCODED_SIZE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+        .initializer("$L", fixedSize)
+        .build();
+  }
+
+  private MethodSpec createEncodedSizeMethod(
+      ClassName packetClass, List<FieldContext> fields, int size) {
+    var encodedSizeMethodBuilder =
+        MethodSpec.methodBuilder("encodedSize")
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Override.class)
+            .addParameter(packetClass, "packet")
+            .returns(int.class);
+
+    if (size != FieldCodecStrategy.DYNAMIC_SIZE) {
+      return encodedSizeMethodBuilder.addStatement("return ENCODED_SIZE").build();
+    }
+
+    encodedSizeMethodBuilder.addStatement("var size = FIXED_ENCODED_SIZE");
+
+    for (var field : fields) {
+      var fieldCodecStrategy = fieldCodecStrategyFactory.get(field);
+
+      if (fieldCodecStrategy.getSize(field) == FieldCodecStrategy.DYNAMIC_SIZE) {
+        fieldCodecStrategy.generateEncodedSizeMethod(encodedSizeMethodBuilder, field);
+      }
+    }
+
+    return encodedSizeMethodBuilder.addStatement("return size").build();
+  }
+
+  private int getPacketSize(PacketHeader header, List<FieldContext> fields) {
+    var size = fieldCodecStrategyFactory.getSize(fields);
+
+    if (size == FieldCodecStrategy.DYNAMIC_SIZE) {
+      return FieldCodecStrategy.DYNAMIC_SIZE;
+    }
+
+    return header.isSequence() ? size + 1 : size;
+  }
+
+  private MethodSpec createGetSizeMethod(PacketHeader header, int size) {
+    return MethodSpec.methodBuilder("getSize")
+        .addModifiers(Modifier.PUBLIC)
+        .addAnnotation(Override.class)
+        .returns(int.class)
+        .addStatement("return $L", header.hasDynamicSize() ? FieldCodecStrategy.DYNAMIC_SIZE : size)
+        .build();
+  }
+
+  private MethodSpec createGetFrameLengthMethod() {
+    return MethodSpec.methodBuilder("getFrameLength")
+        .addModifiers(Modifier.PUBLIC)
+        .addAnnotation(Override.class)
+        .addParameter(byteBufClassName, "in")
+        .returns(int.class)
+        .beginControlFlow("if (in.readableBytes() < $L)", SIZE_PREFIX_LENGTH)
+        .addStatement("return -1")
+        .endControlFlow()
+        .addStatement(
+            "return Math.max($L, in.getUnsignedShortLE(in.readerIndex()) - 1)",
+            SIZE_PREFIX_LENGTH)
+        .build();
+  }
+
   private MethodSpec createGetDirectionMethod(PacketHeader header) {
     var returnType =
         ParameterizedTypeName.get(ClassName.get(Set.class), ClassName.get(PacketDirection.class));
@@ -4,9 +4,18 @@ import com.palantir.javapoet.MethodSpec;
 
 public interface FieldCodecStrategy {
 
+  int DYNAMIC_SIZE = -1;
+
   boolean isSupported(FieldContext fieldContext);
 
+  int getSize(FieldContext fieldContext);
+
   void generateDecodingMethod(MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext);
 
   void generateEncodingMethod(MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext);
+
+  default void generateEncodedSizeMethod(
+      MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext) {
+    methodSpecBuilder.addStatement("size += $L", getSize(fieldContext));
+  }
 }
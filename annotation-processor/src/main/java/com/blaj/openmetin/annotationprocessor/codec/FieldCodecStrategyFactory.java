@@ -15,6 +15,7 @@ import com.blaj.openmetin.annotationprocessor.codec.strategy.ObjectFieldCodecStr
 import com.blaj.openmetin.annotationprocessor.codec.strategy.ShortFieldCodecStrategy;
 import com.blaj.openmetin.annotationprocessor.codec.strategy.StringArrayFieldCodecStrategy;
 import com.blaj.openmetin.annotationprocessor.codec.utils.StringFieldCodecStrategy;
+import com.palantir.javapoet.MethodSpec;
 import java.util.List;
 import javax.annotation.processing.ProcessingEnvironment;
 
@@ -51,4 +52,51 @@ public class FieldCodecStrategyFactory {
                 new IllegalArgumentException(
                     "No strategy found for type: " + fieldContext.fieldType()));
   }
+
+  public int getSize(List<FieldContext> fieldContexts) {
+    var size = 0;
+
+    for (var fieldContext : fieldContexts) {
+      var fieldSize = get(fieldContext).getSize(fieldContext);
+
+      if (fieldSize == FieldCodecStrategy.DYNAMIC_SIZE) {
+        return FieldCodecStrategy.DYNAMIC_SIZE;
+      }
+
+      size += fieldSize;
+    }
+
+    return size;
+  }
+
+  public int getFixedSize(List<FieldContext> fieldContexts) {
+    var size = 0;
+
+    for (var fieldContext : fieldContexts) {
+      var fieldSize = get(fieldContext).getSize(fieldContext);
+
+      if (fieldSize != FieldCodecStrategy.DYNAMIC_SIZE) {
+        size += fieldSize;
+      }
+    }
+
+    return size;
+  }
+
+  public void generateEncodedSizeMethod(
+      MethodSpec.Builder methodSpecBuilder, List<FieldContext> fieldContexts) {
+    var fixedSize = getFixedSize(fieldContexts);
+
+    if (fixedSize > 0) {
+      methodSpecBuilder.addStatement("size += $L", fixedSize);
+    }
+
+    for (var fieldContext : fieldContexts) {
+      var fieldCodecStrategy = get(fieldContext);
+
+      if (fieldCodecStrategy.getSize(fieldContext) == FieldCodecStrategy.DYNAMIC_SIZE) {
+        fieldCodecStrategy.generateEncodedSizeMethod(methodSpecBuilder, fieldContext);
+      }
+    }
+  }
 }
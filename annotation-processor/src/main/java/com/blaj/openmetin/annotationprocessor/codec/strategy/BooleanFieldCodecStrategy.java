@@ -19,4 +19,9 @@ public class BooleanFieldCodecStrategy extends PrimitiveFieldCodecStrategy {
   public boolean isSupported(FieldContext fieldContext) {
     return fieldContext.fieldType() == FieldType.BOOLEAN;
   }
+
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    return 1;
+  }
 }
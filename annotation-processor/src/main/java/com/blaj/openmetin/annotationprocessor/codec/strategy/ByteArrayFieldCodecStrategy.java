@@ -3,27 +3,36 @@ package com.blaj.openmetin.annotationprocessor.codec.strategy;
 import com.blaj.openmetin.annotationprocessor.codec.FieldCodecStrategy;
 import com.blaj.openmetin.annotationprocessor.codec.FieldContext;
 import com.blaj.openmetin.annotationprocessor.codec.FieldType;
+import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.MethodSpec;
 
 public class ByteArrayFieldCodecStrategy implements FieldCodecStrategy {
 
+  private static final ClassName packetCodecUtilsClassName =
+      ClassName.get("com.blaj.openmetin.shared.infrastructure.network.codec", "PacketCodecUtils");
+
   @Override
   public boolean isSupported(FieldContext fieldContext) {
     return fieldContext.fieldType() == FieldType.BYTE_ARRAY;
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    return Math.max(0, fieldContext.arrayLength());
+  }
+
   @Override
   public void generateDecodingMethod(MethodSpec.Builder methodSpecBuilder, FieldContext context) {
     if (context.arrayLength() <= 0) {
       return;
     }
 
-    var arrayVarName = context.fieldName() + "Bytes";
-
-    methodSpecBuilder.addStatement("byte[] $L = new byte[$L]", arrayVarName, context.arrayLength());
-    methodSpecBuilder.addStatement("in.readBytes($L)", arrayVarName);
     methodSpecBuilder.addStatement(
-        "$L.$L($L)", context.getElementVariableName(), context.getSetterName(), arrayVarName);
+        "$L.$L($T.readFixedByteArray(in, $L))",
+        context.getElementVariableName(),
+        context.getSetterName(),
+        packetCodecUtilsClassName,
+        context.arrayLength());
   }
 
   @Override
@@ -33,6 +42,10 @@ public class ByteArrayFieldCodecStrategy implements FieldCodecStrategy {
     }
 
     methodSpecBuilder.addStatement(
-        "out.writeBytes($L.$L())", context.getElementVariableName(), context.getGetterName());
+        "$T.writeFixedByteArray(out, $L.$L(), $L)",
+        packetCodecUtilsClassName,
+        context.getElementVariableName(),
+        context.getGetterName(),
+        context.arrayLength());
   }
 }
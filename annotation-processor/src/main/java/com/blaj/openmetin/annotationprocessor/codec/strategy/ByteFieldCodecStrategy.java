@@ -12,6 +12,11 @@ public class ByteFieldCodecStrategy implements FieldCodecStrategy {
     return fieldContext.fieldType() == FieldType.BYTE && !fieldContext.isUnsigned();
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    return 1;
+  }
+
   @Override
   public void generateDecodingMethod(MethodSpec.Builder method, FieldContext context) {
     method.addStatement(
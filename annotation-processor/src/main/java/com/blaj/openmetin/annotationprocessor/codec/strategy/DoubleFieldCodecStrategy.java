@@ -19,4 +19,9 @@ public class DoubleFieldCodecStrategy extends PrimitiveFieldCodecStrategy {
   public boolean isSupported(FieldContext fieldContext) {
     return fieldContext.fieldType() == FieldType.DOUBLE;
   }
+
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    return 8;
+  }
 }
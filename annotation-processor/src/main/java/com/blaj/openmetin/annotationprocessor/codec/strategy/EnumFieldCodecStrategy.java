@@ -24,6 +24,11 @@ public class EnumFieldCodecStrategy implements FieldCodecStrategy {
     return fieldContext.fieldType() == FieldType.ENUM;
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    return 1;
+  }
+
   @Override
   public void generateDecodingMethod(
       MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext) {
@@ -19,4 +19,9 @@ public class FloatFieldCodecStrategy extends PrimitiveFieldCodecStrategy {
   public boolean isSupported(FieldContext fieldContext) {
     return fieldContext.fieldType() == FieldType.FLOAT;
   }
+
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    return 4;
+  }
 }
@@ -12,6 +12,15 @@ public class IntArrayFieldCodecStrategy implements FieldCodecStrategy {
     return fieldContext.fieldType() == FieldType.INT_ARRAY;
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    if (fieldContext.arrayLength() <= 0) {
+      return 0;
+    }
+
+    return fieldContext.arrayLength() * (fieldContext.isUnsigned() ? 2 : 4);
+  }
+
   @Override
   public void generateDecodingMethod(MethodSpec.Builder methodSpecBuilder, FieldContext context) {
     if (context.arrayLength() <= 0) {
@@ -12,6 +12,11 @@ public class IntFieldCodecStrategy implements FieldCodecStrategy {
     return fieldContext.fieldType() == FieldType.INT;
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    return fieldContext.isUnsigned() ? 2 : 4;
+  }
+
   @Override
   public void generateDecodingMethod(MethodSpec.Builder method, FieldContext context) {
     if (context.isUnsigned()) {
@@ -16,6 +16,15 @@ public class LongArrayFieldCodecStrategy implements FieldCodecStrategy {
     return fieldContext.fieldType() == FieldType.LONG_ARRAY;
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    if (fieldContext.arrayLength() <= 0) {
+      return 0;
+    }
+
+    return fieldContext.arrayLength() * (fieldContext.isUnsigned() ? 4 : 8);
+  }
+
   @Override
   public void generateDecodingMethod(
       MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext) {
@@ -12,6 +12,11 @@ public class LongFieldCodecStrategy implements FieldCodecStrategy {
     return fieldContext.fieldType() == FieldType.LONG;
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    return fieldContext.isUnsigned() ? 4 : 8;
+  }
+
   @Override
   public void generateDecodingMethod(MethodSpec.Builder method, FieldContext context) {
     if (context.isUnsigned()) {
@@ -30,6 +30,39 @@ public class ObjectArrayFieldCodecStrategy implements FieldCodecStrategy {
     return fieldContext.fieldType() == FieldType.OBJECT_ARRAY;
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    if (fieldContext.arrayLength() <= 0) {
+      return 0;
+    }
+
+    var elementTypeName = getElementTypeName(fieldContext.typeMirror().toString());
+    var parentElement =
+        processingEnvironment
+            .getElementUtils()
+            .getTypeElement(fieldContext.parentClassName().reflectionName());
+    var elementElement = findNestedType(parentElement, elementTypeName);
+
+    if (elementElement == null) {
+      return 0;
+    }
+
+    var elementFields =
+        FieldContextUtils.extractFieldContexts(
+            elementElement,
+            fieldContext.parentClassName().nestedClass(elementTypeName),
+            fieldContext.nestingDepth() + 1,
+            typeChecker,
+            processingEnvironment);
+    var elementSize = fieldCodecStrategyFactory.getSize(elementFields);
+
+    if (elementSize == DYNAMIC_SIZE) {
+      return DYNAMIC_SIZE;
+    }
+
+    return fieldContext.arrayLength() * elementSize;
+  }
+
   @Override
   public void generateDecodingMethod(
       MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext) {
@@ -123,6 +156,46 @@ public class ObjectArrayFieldCodecStrategy implements FieldCodecStrategy {
     methodSpecBuilder.endControlFlow();
   }
 
+  @Override
+  public void generateEncodedSizeMethod(
+      MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext) {
+    if (fieldContext.arrayLength() <= 0) {
+      return;
+    }
+
+    var elementTypeName = getElementTypeName(fieldContext.typeMirror().toString());
+    var nextDepth = fieldContext.nestingDepth() + 1;
+    var elementVarName = generateElementVariableName(nextDepth);
+
+    var parentElement =
+        processingEnvironment
+            .getElementUtils()
+            .getTypeElement(fieldContext.parentClassName().reflectionName());
+    var elementElement = findNestedType(parentElement, elementTypeName);
+
+    if (elementElement == null) {
+      return;
+    }
+
+    var elementClassName = fieldContext.parentClassName().nestedClass(elementTypeName);
+    var elementFields =
+        FieldContextUtils.extractFieldContexts(
+            elementElement, elementClassName, nextDepth, typeChecker, processingEnvironment);
+
+    methodSpecBuilder.beginControlFlow("for (int i = 0; i < $L; i++)", fieldContext.arrayLength());
+
+    methodSpecBuilder.addStatement(
+        "$T $L = $L.$L()[i]",
+        elementClassName,
+        elementVarName,
+        fieldContext.getElementVariableName(),
+        fieldContext.getGetterName());
+
+    fieldCodecStrategyFactory.generateEncodedSizeMethod(methodSpecBuilder, elementFields);
+
+    methodSpecBuilder.endControlFlow();
+  }
+
   private String generateElementVariableName(int depth) {
     return "element" + depth;
   }
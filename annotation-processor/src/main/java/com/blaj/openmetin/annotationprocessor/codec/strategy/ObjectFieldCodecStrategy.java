@@ -32,6 +32,34 @@ public class ObjectFieldCodecStrategy implements FieldCodecStrategy {
     return fieldContext.fieldType() == FieldType.OBJECT;
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    var fullTypeName = fieldContext.typeMirror().toString();
+    var parentElement =
+        processingEnvironment
+            .getElementUtils()
+            .getTypeElement(fieldContext.parentClassName().reflectionName());
+    var elementElement = findNestedType(parentElement, getElementTypeName(fullTypeName));
+
+    if (elementElement == null) {
+      elementElement = processingEnvironment.getElementUtils().getTypeElement(fullTypeName);
+    }
+
+    if (elementElement == null) {
+      return 0;
+    }
+
+    var elementFields =
+        FieldContextUtils.extractFieldContexts(
+            elementElement,
+            ClassName.bestGuess(fullTypeName),
+            fieldContext.nestingDepth() + 1,
+            typeChecker,
+            processingEnvironment);
+
+    return fieldCodecStrategyFactory.getSize(elementFields);
+  }
+
   @Override
   public void generateDecodingMethod(
       MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext) {
@@ -124,6 +152,42 @@ public class ObjectFieldCodecStrategy implements FieldCodecStrategy {
     }
   }
 
+  @Override
+  public void generateEncodedSizeMethod(
+      MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext) {
+    var fullTypeName = fieldContext.typeMirror().toString();
+    var nextDepth = fieldContext.nestingDepth() + 1;
+    var elementVarName = generateElementVariableName(nextDepth);
+
+    var parentElement =
+        processingEnvironment
+            .getElementUtils()
+            .getTypeElement(fieldContext.parentClassName().reflectionName());
+    var elementElement = findNestedType(parentElement, getElementTypeName(fullTypeName));
+
+    if (elementElement == null) {
+      elementElement = processingEnvironment.getElementUtils().getTypeElement(fullTypeName);
+    }
+
+    if (elementElement == null) {
+      return;
+    }
+
+    var elementClassName = ClassName.bestGuess(fullTypeName);
+    var elementFields =
+        FieldContextUtils.extractFieldContexts(
+            elementElement, elementClassName, nextDepth, typeChecker, processingEnvironment);
+
+    methodSpecBuilder.addStatement(
+        "$T $L = $L.$L()",
+        elementClassName,
+        elementVarName,
+        fieldContext.getElementVariableName(),
+        fieldContext.getGetterName());
+
+    fieldCodecStrategyFactory.generateEncodedSizeMethod(methodSpecBuilder, elementFields);
+  }
+
   private String generateElementVariableName(int depth) {
     return "element" + depth;
   }
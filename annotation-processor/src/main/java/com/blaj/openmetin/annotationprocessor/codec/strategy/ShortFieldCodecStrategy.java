@@ -12,6 +12,11 @@ public class ShortFieldCodecStrategy implements FieldCodecStrategy {
     return fieldContext.fieldType() == FieldType.SHORT;
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    return fieldContext.isUnsigned() ? 1 : 2;
+  }
+
   @Override
   public void generateDecodingMethod(MethodSpec.Builder method, FieldContext context) {
     if (context.isUnsigned()) {
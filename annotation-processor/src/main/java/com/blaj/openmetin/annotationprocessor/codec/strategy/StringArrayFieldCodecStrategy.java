@@ -16,6 +16,15 @@ public class StringArrayFieldCodecStrategy implements FieldCodecStrategy {
     return fieldContext.fieldType() == FieldType.STRING_ARRAY;
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    if (fieldContext.arrayLength() <= 0 || fieldContext.length() <= 0) {
+      return 0;
+    }
+
+    return fieldContext.arrayLength() * fieldContext.length();
+  }
+
   @Override
   public void generateDecodingMethod(
       MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext) {
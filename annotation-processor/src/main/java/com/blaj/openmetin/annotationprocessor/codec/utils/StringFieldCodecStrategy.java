@@ -16,6 +16,11 @@ public class StringFieldCodecStrategy implements FieldCodecStrategy {
     return fieldContext.fieldType() == FieldType.STRING;
   }
 
+  @Override
+  public int getSize(FieldContext fieldContext) {
+    return fieldContext.length() > 0 ? fieldContext.length() : DYNAMIC_SIZE;
+  }
+
   @Override
   public void generateDecodingMethod(
       MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext) {
@@ -53,4 +58,18 @@ public class StringFieldCodecStrategy implements FieldCodecStrategy {
           fieldContext.getGetterName());
     }
   }
+
+  @Override
+  public void generateEncodedSizeMethod(
+      MethodSpec.Builder methodSpecBuilder, FieldContext fieldContext) {
+    if (fieldContext.length() > 0) {
+      methodSpecBuilder.addStatement("size += $L", fieldContext.length());
+    } else {
+      methodSpecBuilder.addStatement(
+          "size += $T.getStringSize($L.$L())",
+          packetCodecUtilsClassName,
+          fieldContext.getElementVariableName(),
+          fieldContext.getGetterName());
+    }
+  }
 }
@@ -162,6 +162,145 @@ public class CodecGeneratorTest {
     verify(messager, times(2)).printMessage(eq(Kind.NOTE), anyString());
   }
 
+  @Test
+  public void givenVariableSizeWithoutDynamicSize_whenGenerate_thenReportsErrorAndSkipsDecoder()
+      throws IOException {
+    // given
+    setupTypeElement("com.example", "VariablePacket");
+    setupPacketHeader(0x30, new PacketDirection[] {PacketDirection.INCOMING}, false);
+
+    when(typeElement.getEnclosedElements()).thenReturn(Collections.emptyList());
+    when(fieldCodecStrategyFactory.getSize(any())).thenReturn(FieldCodecStrategy.DYNAMIC_SIZE);
+
+    // when
+    codecGenerator.generate(typeElement);
+
+    // then
+    verify(messager).printMessage(eq(Kind.ERROR), anyString());
+    verify(filer, never()).createSourceFile(anyString(), any(Element[].class));
+  }
+
+  @Test
+  public void givenVariableSizeWithDynamicSize_whenGenerate_thenGeneratesDecoder()
+      throws IOException {
+    // given
+    setupTypeElement("com.example", "DynamicPacket");
+    setupPacketHeader(0x31, new PacketDirection[] {PacketDirection.INCOMING}, false);
+
+    when(packetHeader.hasDynamicSize()).thenReturn(true);
+    when(typeElement.getEnclosedElements()).thenReturn(Collections.emptyList());
+    when(fieldCodecStrategyFactory.getSize(any())).thenReturn(FieldCodecStrategy.DYNAMIC_SIZE);
+
+    // when
+    codecGenerator.generate(typeElement);
+
+    // then
+    verify(messager, never()).printMessage(eq(Kind.ERROR), anyString());
+    verify(filer)
+        .createSourceFile(eq("com.example.DynamicPacketDecoderService"), any(Element[].class));
+  }
+
+  @Test
+  public void givenFixedSizeOutgoingPacket_whenGenerate_thenDoesNotGenerateRuntimeSizeTerms()
+      throws IOException {
+    // given
+    setupTypeElement("com.example", "FixedPacket");
+    setupPacketHeader(0x33, new PacketDirection[] {PacketDirection.OUTGOING}, false);
+
+    var field = mock(VariableElement.class);
+
+    setupFieldElement(field, "field", 0);
+
+    doReturn(List.of(field)).when(typeElement).getEnclosedElements();
+    when(fieldCodecStrategyFactory.get(any())).thenReturn(fieldCodecStrategy);
+    when(fieldCodecStrategyFactory.getSize(any())).thenReturn(4);
+
+    // when
+    codecGenerator.generate(typeElement);
+
+    // then
+    verify(fieldCodecStrategy, never()).generateEncodedSizeMethod(any(), any());
+    verify(filer)
+        .createSourceFile(eq("com.example.FixedPacketEncoderService"), any(Element[].class));
+  }
+
+  @Test
+  public void givenVariableSizeOutgoingPacket_whenGenerate_thenGeneratesRuntimeSizeTerms()
+      throws IOException {
+    // given
+    setupTypeElement("com.example", "VariableOutgoingPacket");
+    setupPacketHeader(0x34, new PacketDirection[] {PacketDirection.OUTGOING}, false);
+
+    var field1 = mock(VariableElement.class);
+    var field2 = mock(VariableElement.class);
+
+    setupFieldElement(field1, "field1", 0);
+    setupFieldElement(field2, "field2", 1);
+
+    doReturn(List.of(field1, field2)).when(typeElement).getEnclosedElements();
+    when(fieldCodecStrategyFactory.get(any())).thenReturn(fieldCodecStrategy);
+    when(fieldCodecStrategyFactory.getSize(any())).thenReturn(FieldCodecStrategy.DYNAMIC_SIZE);
+    when(fieldCodecStrategy.getSize(any())).thenReturn(FieldCodecStrategy.DYNAMIC_SIZE);
+
+    // when
+    codecGenerator.generate(typeElement);
+
+    // then
+    verify(fieldCodecStrategyFactory).getFixedSize(any());
+    verify(fieldCodecStrategy, times(2)).generateEncodedSizeMethod(any(), any());
+    verify(filer)
+        .createSourceFile(
+            eq("com.example.VariableOutgoingPacketEncoderService"), any(Element[].class));
+  }
+
+  @Test
+  public void givenHeaderOutOfRange_whenGenerate_thenReportsErrorAndSkipsCodecs()
+      throws IOException {
+    // given
+    setupTypeElement("com.example", "InvalidPacket");
+    setupPacketHeader(0x100, new PacketDirection[] {PacketDirection.INCOMING}, false);
+
+    // when
+    codecGenerator.generate(typeElement);
+
+    // then
+    verify(messager)
+        .printMessage(
+            eq(Kind.ERROR),
+            eq("Packet InvalidPacket header must be between 0x00 and 0xFF"),
+            eq(typeElement));
+    verify(filer, never()).createSourceFile(anyString(), any(Element[].class));
+  }
+
+  @Test
+  public void givenDuplicateIncomingHeader_whenGenerate_thenReportsErrorAndSkipsDecoder()
+      throws IOException {
+    // given
+    setupTypeElement("com.example", "FirstPacket");
+    setupPacketHeader(0x32, new PacketDirection[] {PacketDirection.INCOMING}, false);
+
+    when(typeElement.getEnclosedElements()).thenReturn(Collections.emptyList());
+
+    codecGenerator.generate(typeElement);
+
+    when(typeName.toString()).thenReturn("SecondPacket");
+
+    // when
+    codecGenerator.generate(typeElement);
+
+    // then
+    verify(messager)
+        .printMessage(
+            eq(Kind.ERROR),
+            eq(
+                "Packet SecondPacket reuses incoming header 0x32 already decoded by"
+                    + " com.example.FirstPacket"));
+    verify(filer)
+        .createSourceFile(eq("com.example.FirstPacketDecoderService"), any(Element[].class));
+    verify(filer, never())
+        .createSourceFile(eq("com.example.SecondPacketDecoderService"), any(Element[].class));
+  }
+
   @Test
   public void givenIOExceptionDuringGeneration_whenGenerate_thenThrowsIOException()
       throws IOException {
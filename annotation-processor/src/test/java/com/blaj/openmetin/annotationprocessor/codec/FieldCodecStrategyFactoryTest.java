@@ -2,6 +2,9 @@ package com.blaj.openmetin.annotationprocessor.codec;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 
 import com.blaj.openmetin.annotationprocessor.codec.strategy.BooleanFieldCodecStrategy;
 import com.blaj.openmetin.annotationprocessor.codec.strategy.ByteArrayFieldCodecStrategy;
@@ -19,6 +22,8 @@ import com.blaj.openmetin.annotationprocessor.codec.strategy.ShortFieldCodecStra
 import com.blaj.openmetin.annotationprocessor.codec.strategy.StringArrayFieldCodecStrategy;
 import com.blaj.openmetin.annotationprocessor.codec.utils.StringFieldCodecStrategy;
 import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.MethodSpec;
+import java.util.List;
 import java.util.stream.Stream;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.type.TypeMirror;
@@ -39,6 +44,7 @@ public class FieldCodecStrategyFactoryTest {
 
   @Mock private ProcessingEnvironment processingEnvironment;
   @Mock private TypeMirror typeMirror;
+  @Mock private MethodSpec.Builder methodSpecBuilder;
 
   private static Stream<Arguments> provideFieldTypeAndExpectedStrategy() {
     return Stream.of(
@@ -92,6 +98,79 @@ public class FieldCodecStrategyFactoryTest {
     assertThat(fieldCodecStrategy).isInstanceOf(expectedStrategyClass);
   }
 
+  @Test
+  public void givenFixedSizeFields_whenGetSize_thenReturnsSumOfFieldSizes() {
+    // given
+    var fieldContexts =
+        List.of(
+            createFieldContext(FieldType.INT),
+            createFieldContext(FieldType.SHORT),
+            createFieldContext(FieldType.BYTE));
+
+    // when
+    var size = fieldCodecStrategyFactory.getSize(fieldContexts);
+
+    // then
+    assertThat(size).isEqualTo(7);
+  }
+
+  @Test
+  public void givenVariableSizeField_whenGetSize_thenReturnsDynamicSize() {
+    // given
+    var fieldContexts =
+        List.of(createFieldContext(FieldType.INT), createFieldContext(FieldType.STRING));
+
+    // when
+    var size = fieldCodecStrategyFactory.getSize(fieldContexts);
+
+    // then
+    assertThat(size).isEqualTo(FieldCodecStrategy.DYNAMIC_SIZE);
+  }
+
+  @Test
+  public void givenNoFields_whenGetSize_thenReturnsZero() {
+    // when
+    var size = fieldCodecStrategyFactory.getSize(List.of());
+
+    // then
+    assertThat(size).isZero();
+  }
+
+  @Test
+  public void givenMixedSizeFields_whenGetFixedSize_thenReturnsSumOfFixedFieldSizes() {
+    // given
+    var fieldContexts =
+        List.of(createFieldContext(FieldType.INT), createFieldContext(FieldType.STRING));
+
+    // when
+    var size = fieldCodecStrategyFactory.getFixedSize(fieldContexts);
+
+    // then
+    assertThat(size).isEqualTo(4);
+  }
+
+  @Test
+  public void givenMixedSizeFields_whenGenerateEncodedSizeMethod_thenFoldsFixedSizes() {
+    // given
+    var fieldContexts =
+        List.of(
+            createFieldContext(FieldType.INT),
+            createFieldContext(FieldType.STRING),
+            createFieldContext(FieldType.BYTE));
+
+    // when
+    fieldCodecStrategyFactory.generateEncodedSizeMethod(methodSpecBuilder, fieldContexts);
+
+    // then
+    verify(methodSpecBuilder).addStatement(eq("size += $L"), eq(5));
+    verify(methodSpecBuilder)
+        .addStatement(
+            eq("size += $T.getStringSize($L.$L())"),
+            any(ClassName.class),
+            eq("packet"),
+            eq("getTestField"));
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
@@ -202,6 +202,29 @@ public class BooleanFieldCodecStrategyTest {
     assertThat(writeMethod).isEqualTo("writeBoolean");
   }
 
+  @Test
+  public void givenValid_whenGetSize_thenReturnFieldSize() {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.BOOLEAN,
+            typeMirror,
+            0,
+            0,
+            0,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = booleanFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(1);
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
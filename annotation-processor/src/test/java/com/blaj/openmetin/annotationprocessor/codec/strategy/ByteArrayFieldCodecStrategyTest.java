@@ -15,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -26,6 +27,8 @@ public class ByteArrayFieldCodecStrategyTest {
 
   private ByteArrayFieldCodecStrategy byteArrayFieldCodecStrategy;
   private ClassName parentClassName = ClassName.get("com.example", "TestPacket");
+  private ClassName packetCodecUtilsClassName =
+      ClassName.get("com.blaj.openmetin.shared.infrastructure.network.codec", "PacketCodecUtils");
 
   @Mock private MethodSpec.Builder methodSpecBuilder;
   @Mock private TypeMirror typeMirror;
@@ -98,14 +101,13 @@ public class ByteArrayFieldCodecStrategyTest {
     byteArrayFieldCodecStrategy.generateDecodingMethod(methodSpecBuilder, fieldContext);
 
     // then
-    verify(methodSpecBuilder).addStatement(eq("byte[] $L = new byte[$L]"), eq("dummyBytes"), eq(4));
-    verify(methodSpecBuilder).addStatement(eq("in.readBytes($L)"), eq("dummyBytes"));
     verify(methodSpecBuilder)
         .addStatement(
-            eq("$L.$L($L)"),
+            eq("$L.$L($T.readFixedByteArray(in, $L))"),
             eq(fieldContext.getElementVariableName()),
             eq(fieldContext.getSetterName()),
-            eq("dummyBytes"));
+            eq(packetCodecUtilsClassName),
+            eq(4));
   }
 
   @ParameterizedTest
@@ -130,14 +132,13 @@ public class ByteArrayFieldCodecStrategyTest {
     byteArrayFieldCodecStrategy.generateDecodingMethod(methodSpecBuilder, fieldContext);
 
     // then
-    verify(methodSpecBuilder).addStatement(eq("byte[] $L = new byte[$L]"), eq("dataBytes"), eq(8));
-    verify(methodSpecBuilder).addStatement(eq("in.readBytes($L)"), eq("dataBytes"));
     verify(methodSpecBuilder)
         .addStatement(
-            eq("$L.$L($L)"),
+            eq("$L.$L($T.readFixedByteArray(in, $L))"),
             eq(fieldContext.getElementVariableName()),
             eq(fieldContext.getSetterName()),
-            eq("dataBytes"));
+            eq(packetCodecUtilsClassName),
+            eq(8));
   }
 
   @ParameterizedTest
@@ -175,9 +176,11 @@ public class ByteArrayFieldCodecStrategyTest {
     // then
     verify(methodSpecBuilder)
         .addStatement(
-            eq("out.writeBytes($L.$L())"),
+            eq("$T.writeFixedByteArray(out, $L.$L(), $L)"),
+            eq(packetCodecUtilsClassName),
             eq(fieldContext.getElementVariableName()),
-            eq(fieldContext.getGetterName()));
+            eq(fieldContext.getGetterName()),
+            eq(4));
   }
 
   @ParameterizedTest
@@ -204,9 +207,38 @@ public class ByteArrayFieldCodecStrategyTest {
     // then
     verify(methodSpecBuilder)
         .addStatement(
-            eq("out.writeBytes($L.$L())"),
+            eq("$T.writeFixedByteArray(out, $L.$L(), $L)"),
+            eq(packetCodecUtilsClassName),
             eq(fieldContext.getElementVariableName()),
-            eq(fieldContext.getGetterName()));
+            eq(fieldContext.getGetterName()),
+            eq(8));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "0, 0",
+    "16, 16"
+  })
+  public void givenArrayLength_whenGetSize_thenReturnFieldSize(int arrayLength, int expectedSize) {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.BYTE_ARRAY,
+            typeMirror,
+            0,
+            0,
+            arrayLength,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = byteArrayFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(expectedSize);
   }
 
   private FieldContext createFieldContext(FieldType fieldType, int arrayLength) {
@@ -200,6 +200,29 @@ public class ByteFieldCodecStrategyTest {
             eq(fieldContext.getGetterName()));
   }
 
+  @Test
+  public void givenValid_whenGetSize_thenReturnFieldSize() {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.BYTE,
+            typeMirror,
+            0,
+            0,
+            0,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = byteFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(1);
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
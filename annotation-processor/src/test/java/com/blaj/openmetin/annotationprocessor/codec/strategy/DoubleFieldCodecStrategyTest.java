@@ -202,6 +202,29 @@ public class DoubleFieldCodecStrategyTest {
     assertThat(writeMethod).isEqualTo("writeDoubleLE");
   }
 
+  @Test
+  public void givenValid_whenGetSize_thenReturnFieldSize() {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.DOUBLE,
+            typeMirror,
+            0,
+            0,
+            0,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = doubleFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(8);
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
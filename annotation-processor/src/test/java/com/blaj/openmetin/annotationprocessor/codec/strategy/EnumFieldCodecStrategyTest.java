@@ -278,6 +278,29 @@ public class EnumFieldCodecStrategyTest {
             eq("getGameState"));
   }
 
+  @Test
+  public void givenValid_whenGetSize_thenReturnFieldSize() {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.ENUM,
+            typeMirror,
+            0,
+            0,
+            0,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = enumFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(1);
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
@@ -202,6 +202,29 @@ public class FloatFieldCodecStrategyTest {
     assertThat(writeMethod).isEqualTo("writeFloatLE");
   }
 
+  @Test
+  public void givenValid_whenGetSize_thenReturnFieldSize() {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.FLOAT,
+            typeMirror,
+            0,
+            0,
+            0,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = floatFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(4);
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
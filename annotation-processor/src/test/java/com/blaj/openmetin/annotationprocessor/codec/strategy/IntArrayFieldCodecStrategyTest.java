@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.mockito.Mock;
@@ -193,6 +194,35 @@ public class IntArrayFieldCodecStrategyTest {
     then(methodSpecBuilder).should().endControlFlow();
   }
 
+  @ParameterizedTest
+  @CsvSource({
+    "0, false, 0",
+    "3, false, 12",
+    "3, true, 6"
+  })
+  public void givenArrayLength_whenGetSize_thenReturnFieldSize(
+      int arrayLength, boolean unsigned, int expectedSize) {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.INT_ARRAY,
+            typeMirror,
+            0,
+            0,
+            arrayLength,
+            unsigned,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = intArrayFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(expectedSize);
+  }
+
   private FieldContext createFieldContext(
       FieldType fieldType, int arrayLength, boolean isUnsigned) {
     return new FieldContext(
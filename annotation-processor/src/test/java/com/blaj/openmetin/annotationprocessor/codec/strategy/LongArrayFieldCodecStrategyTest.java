@@ -16,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -354,6 +355,35 @@ public class LongArrayFieldCodecStrategyTest {
             eq(1));
   }
 
+  @ParameterizedTest
+  @CsvSource({
+    "0, false, 0",
+    "3, false, 24",
+    "3, true, 12"
+  })
+  public void givenArrayLength_whenGetSize_thenReturnFieldSize(
+      int arrayLength, boolean unsigned, int expectedSize) {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.LONG_ARRAY,
+            typeMirror,
+            0,
+            0,
+            arrayLength,
+            unsigned,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = longArrayFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(expectedSize);
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -277,6 +278,33 @@ public class LongFieldCodecStrategyTest {
             eq(fieldContext.getGetterName()));
   }
 
+  @ParameterizedTest
+  @CsvSource({
+    "false, 8",
+    "true, 4"
+  })
+  public void givenUnsigned_whenGetSize_thenReturnFieldSize(boolean unsigned, int expectedSize) {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.LONG,
+            typeMirror,
+            0,
+            0,
+            0,
+            unsigned,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = longFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(expectedSize);
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
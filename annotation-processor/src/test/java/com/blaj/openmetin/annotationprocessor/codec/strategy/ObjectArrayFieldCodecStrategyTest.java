@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -370,6 +371,61 @@ public class ObjectArrayFieldCodecStrategyTest {
         processingEnvironment);
   }
 
+  @Test
+  public void givenZeroArrayLength_whenGetSize_thenReturnZero() {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "items",
+            FieldType.OBJECT_ARRAY,
+            typeMirror,
+            0,
+            0,
+            0,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = objectArrayFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(0);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "6, 18",
+    "-1, -1"
+  })
+  public void givenValid_whenGetSize_thenReturnArrayLengthTimesElementSize(
+      int elementSize, int expectedSize) {
+    // given
+    setupValidNestedType("Item");
+    when(typeMirror.toString()).thenReturn("com.example.Item[]");
+    when(fieldCodecStrategyFactory.getSize(any())).thenReturn(elementSize);
+
+    var fieldContext =
+        new FieldContext(
+            "items",
+            FieldType.OBJECT_ARRAY,
+            typeMirror,
+            0,
+            0,
+            3,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = objectArrayFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(expectedSize);
+  }
+
   private void setupValidNestedType(String typeName) {
     when(processingEnvironment.getElementUtils()).thenReturn(elements);
     when(elements.getTypeElement("com.example.TestPacket")).thenReturn(parentTypeElement);
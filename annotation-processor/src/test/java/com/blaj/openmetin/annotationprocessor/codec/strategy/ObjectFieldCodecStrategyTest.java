@@ -263,6 +263,45 @@ public class ObjectFieldCodecStrategyTest {
             eq("element1"));
   }
 
+  @Test
+  public void givenTypeNotFound_whenGetSize_thenReturnZero() {
+    // given
+    var fieldContext = createFieldContext(FieldType.OBJECT);
+
+    when(processingEnvironment.getElementUtils()).thenReturn(elements);
+    when(typeMirror.toString()).thenReturn("com.example.NonExistentType");
+    when(elements.getTypeElement("com.example.TestPacket")).thenReturn(mock(TypeElement.class));
+    when(elements.getTypeElement("com.example.NonExistentType")).thenReturn(null);
+
+    // when
+    var size = objectFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(0);
+  }
+
+  @Test
+  public void givenValidNestedType_whenGetSize_thenReturnNestedFieldsSize() {
+    // given
+    var fieldContext = createFieldContext(FieldType.OBJECT);
+    var parentElement = mock(TypeElement.class);
+    var nestedElement = mock(TypeElement.class);
+
+    when(processingEnvironment.getElementUtils()).thenReturn(elements);
+    when(typeMirror.toString()).thenReturn("com.example.NestedType");
+    when(elements.getTypeElement("com.example.TestPacket")).thenReturn(parentElement);
+    when(parentElement.getEnclosedElements()).thenReturn(Collections.emptyList());
+    when(elements.getTypeElement("com.example.NestedType")).thenReturn(nestedElement);
+    when(nestedElement.getEnclosedElements()).thenReturn(Collections.emptyList());
+    when(fieldCodecStrategyFactory.getSize(any())).thenReturn(6);
+
+    // when
+    var size = objectFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(6);
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
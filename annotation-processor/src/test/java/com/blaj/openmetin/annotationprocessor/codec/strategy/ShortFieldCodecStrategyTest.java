@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -288,6 +289,33 @@ public class ShortFieldCodecStrategyTest {
             eq(fieldContext.getGetterName()));
   }
 
+  @ParameterizedTest
+  @CsvSource({
+    "false, 2",
+    "true, 1"
+  })
+  public void givenUnsigned_whenGetSize_thenReturnFieldSize(boolean unsigned, int expectedSize) {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.SHORT,
+            typeMirror,
+            0,
+            0,
+            0,
+            unsigned,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = shortFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(expectedSize);
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -282,6 +283,35 @@ public class StringArrayFieldCodecStrategyTest {
             eq(2));
   }
 
+  @ParameterizedTest
+  @CsvSource({
+    "0, 10, 0",
+    "4, 0, 0",
+    "4, 10, 40"
+  })
+  public void givenLengths_whenGetSize_thenReturnFieldSize(
+      int arrayLength, int length, int expectedSize) {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.STRING_ARRAY,
+            typeMirror,
+            0,
+            length,
+            arrayLength,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = stringArrayFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(expectedSize);
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -301,6 +302,84 @@ public class StringFieldCodecStrategyTest {
             eq(1));
   }
 
+  @ParameterizedTest
+  @CsvSource({
+    "0, -1",
+    "31, 31"
+  })
+  public void givenLength_whenGetSize_thenReturnFieldSize(int length, int expectedSize) {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "testField",
+            FieldType.STRING,
+            typeMirror,
+            0,
+            length,
+            0,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    var size = stringFieldCodecStrategy.getSize(fieldContext);
+
+    // then
+    assertThat(size).isEqualTo(expectedSize);
+  }
+
+  @Test
+  public void given0Length_whenGenerateEncodedSizeMethod_thenAddStringSizeStatement() {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "header",
+            FieldType.STRING,
+            typeMirror,
+            0,
+            0,
+            0,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    stringFieldCodecStrategy.generateEncodedSizeMethod(methodSpecBuilder, fieldContext);
+
+    // then
+    verify(methodSpecBuilder)
+        .addStatement(
+            eq("size += $T.getStringSize($L.$L())"),
+            eq(packetCodecUtilsClassName),
+            eq("packet"),
+            eq("getHeader"));
+  }
+
+  @Test
+  public void givenGreaterThan0Length_whenGenerateEncodedSizeMethod_thenAddFixedSizeStatement() {
+    // given
+    var fieldContext =
+        new FieldContext(
+            "header",
+            FieldType.STRING,
+            typeMirror,
+            0,
+            24,
+            0,
+            false,
+            0,
+            parentClassName,
+            processingEnvironment);
+
+    // when
+    stringFieldCodecStrategy.generateEncodedSizeMethod(methodSpecBuilder, fieldContext);
+
+    // then
+    verify(methodSpecBuilder).addStatement(eq("size += $L"), eq(24));
+  }
+
   private FieldContext createFieldContext(FieldType fieldType) {
     return new FieldContext(
         "testField",
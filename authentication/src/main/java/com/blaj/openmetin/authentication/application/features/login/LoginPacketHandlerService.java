@@ -15,13 +15,14 @@ public class LoginPacketHandlerService implements PacketHandlerService<LoginPack
 
   @Override
   public void handle(LoginPacket packet, Session session) {
-    mediator.sendAsync(
+    mediator.sendAndForget(
         new LoginCommand(
             packet.getUsername(),
             packet.getPassword(),
             packet.getEncryptKeys(),
             session.getId(),
-            (InetSocketAddress) session.getChannel().remoteAddress()));
+            (InetSocketAddress) session.getChannel().remoteAddress()),
+        session.getCommandLane());
   }
 
   @Override
@@ -1,6 +1,7 @@
 package com.blaj.openmetin.authentication.application.features.login;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -8,6 +9,7 @@ import com.blaj.openmetin.shared.common.model.Session;
 import com.blaj.openmetin.shared.infrastructure.cqrs.Mediator;
 import io.netty.channel.Channel;
 import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +25,7 @@ public class LoginPacketHandlerServiceTest {
 
   @Mock private Mediator mediator;
   @Mock private Channel channel;
+  @Mock private Executor commandLane;
 
   @Captor private ArgumentCaptor<LoginCommand> loginCommandArgumentCaptor;
 
@@ -40,6 +43,7 @@ public class LoginPacketHandlerServiceTest {
             .setPassword("password")
             .setEncryptKeys(new long[] {1, 2, 3, 4});
     var session = new Session(123L, channel);
+    session.setCommandLane(commandLane);
     var remoteAddress = InetSocketAddress.createUnresolved("localhost", 123);
 
     given(channel.remoteAddress()).willReturn(remoteAddress);
@@ -48,7 +52,7 @@ public class LoginPacketHandlerServiceTest {
     loginPacketHandlerService.handle(loginPacket, session);
 
     // then
-    then(mediator).should().sendAsync(loginCommandArgumentCaptor.capture());
+    then(mediator).should().sendAndForget(loginCommandArgumentCaptor.capture(), eq(commandLane));
 
     var loginCommand = loginCommandArgumentCaptor.getValue();
     assertThat(loginCommand.username()).isEqualTo(loginPacket.getUsername());
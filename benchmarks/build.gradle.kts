@@ -0,0 +1,29 @@
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
+
+plugins {
+    java
+    id("io.spring.dependency-management")
+    id("me.champeau.jmh")
+}
+
+dependencyManagement {
+    imports {
+        mavenBom(SpringBootPlugin.BOM_COORDINATES)
+    }
+}
+
+dependencies {
+    jmh(project(":contracts"))
+    jmh(project(":shared"))
+    jmh(project(":game"))
+    jmh("io.netty:netty-all:4.2.7.Final")
+}
+
+jmh {
+    jmhVersion = "1.37"
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    humanOutputFile = layout.buildDirectory.file("results/jmh/human.txt")
+
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+}
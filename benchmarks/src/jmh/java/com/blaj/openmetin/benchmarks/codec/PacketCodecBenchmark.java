@@ -0,0 +1,113 @@
+package com.blaj.openmetin.benchmarks.codec;
+
+import com.blaj.openmetin.game.application.common.character.dto.CharacterListPacket;
+import com.blaj.openmetin.game.application.common.character.dto.CharacterListPacketEncoderService;
+import com.blaj.openmetin.game.application.common.character.dto.MoveCharacterBroadcastPacket;
+import com.blaj.openmetin.game.application.common.character.dto.MoveCharacterBroadcastPacketEncoderService;
+import com.blaj.openmetin.game.application.features.movecharacter.MoveCharacterPacket;
+import com.blaj.openmetin.game.application.features.movecharacter.MoveCharacterPacketDecoderService;
+import com.blaj.openmetin.game.application.features.tokenlogin.TokenLoginPacket;
+import com.blaj.openmetin.game.application.features.tokenlogin.TokenLoginPacketDecoderService;
+import com.blaj.openmetin.game.domain.enums.character.CharacterMovementType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketCodecBenchmark {
+
+  private static final int OUTPUT_BUFFER_CAPACITY = 1024;
+
+  private final MoveCharacterPacketDecoderService moveCharacterPacketDecoderService =
+      new MoveCharacterPacketDecoderService();
+  private final TokenLoginPacketDecoderService tokenLoginPacketDecoderService =
+      new TokenLoginPacketDecoderService();
+  private final MoveCharacterBroadcastPacketEncoderService
+      moveCharacterBroadcastPacketEncoderService = new MoveCharacterBroadcastPacketEncoderService();
+  private final CharacterListPacketEncoderService characterListPacketEncoderService =
+      new CharacterListPacketEncoderService();
+
+  private final MoveCharacterBroadcastPacket moveCharacterBroadcastPacket =
+      new MoveCharacterBroadcastPacket()
+          .setMovementType(CharacterMovementType.MOVE)
+          .setRotation((short) 18)
+          .setVid(1_000)
+          .setPositionX(256_000)
+          .setPositionY(512_000)
+          .setTime(123_456)
+          .setDuration(250);
+  private final CharacterListPacket characterListPacket = new CharacterListPacket();
+
+  private ByteBuf moveCharacterPacketBuffer;
+  private ByteBuf tokenLoginPacketBuffer;
+  private ByteBuf outputBuffer;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    var allocator = PooledByteBufAllocator.DEFAULT;
+
+    moveCharacterPacketBuffer =
+        allocator.directBuffer().writeZero(moveCharacterPacketDecoderService.getSize());
+    tokenLoginPacketBuffer =
+        allocator.directBuffer().writeZero(tokenLoginPacketDecoderService.getSize());
+    tokenLoginPacketBuffer.setCharSequence(0, "benchmark", StandardCharsets.US_ASCII);
+    outputBuffer = allocator.directBuffer(OUTPUT_BUFFER_CAPACITY);
+
+    characterListPacket.getSimpleCharacterPackets()[0].setId(1).setName("benchmark");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    moveCharacterPacketBuffer.release();
+    tokenLoginPacketBuffer.release();
+    outputBuffer.release();
+  }
+
+  @Benchmark
+  public MoveCharacterPacket decodeMoveCharacter() {
+    moveCharacterPacketBuffer.readerIndex(0);
+
+    return moveCharacterPacketDecoderService.decode(moveCharacterPacketBuffer);
+  }
+
+  @Benchmark
+  public TokenLoginPacket decodeTokenLogin() {
+    tokenLoginPacketBuffer.readerIndex(0);
+
+    return tokenLoginPacketDecoderService.decode(tokenLoginPacketBuffer);
+  }
+
+  @Benchmark
+  public int encodeMoveCharacterBroadcast() {
+    outputBuffer.clear();
+    moveCharacterBroadcastPacketEncoderService.encode(moveCharacterBroadcastPacket, outputBuffer);
+
+    return outputBuffer.writerIndex();
+  }
+
+  @Benchmark
+  public int encodeCharacterList() {
+    outputBuffer.clear();
+    characterListPacketEncoderService.encode(characterListPacket, outputBuffer);
+
+    return outputBuffer.writerIndex();
+  }
+}
@@ -0,0 +1,73 @@
+package com.blaj.openmetin.benchmarks.cqrs;
+
+import com.blaj.openmetin.shared.infrastructure.cqrs.Command;
+import com.blaj.openmetin.shared.infrastructure.cqrs.MediatorImpl;
+import com.blaj.openmetin.shared.infrastructure.cqrs.PipelineBehavior;
+import com.blaj.openmetin.shared.infrastructure.cqrs.RequestHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MediatorBenchmark {
+
+  @Param({"0", "2"})
+  private int behaviorCount;
+
+  private MediatorImpl mediator;
+  private BenchmarkCommand benchmarkCommand;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    var behaviors = new ArrayList<PipelineBehavior<?, ?>>();
+
+    for (var i = 0; i < behaviorCount; i++) {
+      behaviors.add(new PassThroughBehavior());
+    }
+
+    mediator = new MediatorImpl(List.of(new BenchmarkCommandHandler()), behaviors, Runnable::run);
+    benchmarkCommand = new BenchmarkCommand(42);
+  }
+
+  @Benchmark
+  public Integer send() {
+    return mediator.send(benchmarkCommand);
+  }
+
+  public record BenchmarkCommand(int value) implements Command<Integer> {}
+
+  public static class BenchmarkCommandHandler
+      implements RequestHandler<BenchmarkCommand, Integer> {
+
+    @Override
+    public Integer handle(BenchmarkCommand request) {
+      return request.value();
+    }
+  }
+
+  public static class PassThroughBehavior implements PipelineBehavior<BenchmarkCommand, Integer> {
+
+    @Override
+    public Integer handle(BenchmarkCommand request, Supplier<Integer> next) {
+      return next.get();
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.blaj.openmetin.benchmarks.map;
+
+import com.blaj.openmetin.game.domain.enums.map.MapAttribute;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.domain.model.map.MapAttributeSectree;
+import com.blaj.openmetin.game.domain.model.map.MapAttributeSet;
+import com.blaj.openmetin.shared.domain.model.Coordinates;
+import java.util.EnumSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapAttributeBenchmark {
+
+  private static final int MAP_UNITS = 4;
+  private static final int MAP_SIZE = MAP_UNITS * Map.MAP_UNIT;
+  private static final int SECTREES_PER_AXIS = MAP_SIZE / MapAttributeSet.SECTREE_SIZE;
+  private static final int COORDINATE_COUNT = 1024;
+  private static final int PATH_LENGTH = 3_000;
+  private static final int BLOCKED_CELL_PERCENT = 5;
+
+  private final EnumSet<MapAttribute> blockingAttributes =
+      EnumSet.of(MapAttribute.BLOCK, MapAttribute.OBJECT);
+
+  private Map map;
+  private MapAttributeSet mapAttributeSet;
+  private Coordinates[] startCoordinates;
+  private Coordinates[] endCoordinates;
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    var random = new SplittableRandom(42);
+    var mapAttributeSectrees = new MapAttributeSectree[SECTREES_PER_AXIS][SECTREES_PER_AXIS];
+
+    for (var sectreeY = 0; sectreeY < SECTREES_PER_AXIS; sectreeY++) {
+      for (var sectreeX = 0; sectreeX < SECTREES_PER_AXIS; sectreeX++) {
+        var cellAttributes = new int[MapAttributeSectree.CELLS_PER_SECTREE];
+
+        for (var i = 0; i < cellAttributes.length; i++) {
+          if (random.nextInt(100) < BLOCKED_CELL_PERCENT) {
+            cellAttributes[i] = MapAttribute.BLOCK.getValue();
+          }
+        }
+
+        mapAttributeSectrees[sectreeY][sectreeX] = new MapAttributeSectree(cellAttributes);
+      }
+    }
+
+    mapAttributeSet =
+        new MapAttributeSet(
+            SECTREES_PER_AXIS, SECTREES_PER_AXIS, new Coordinates(0, 0), mapAttributeSectrees);
+    map = new Map("benchmark", new Coordinates(0, 0), MAP_UNITS, MAP_UNITS, null);
+    map.setMapAttributeSet(mapAttributeSet);
+
+    startCoordinates = new Coordinates[COORDINATE_COUNT];
+    endCoordinates = new Coordinates[COORDINATE_COUNT];
+
+    for (var i = 0; i < COORDINATE_COUNT; i++) {
+      var x = random.nextInt(PATH_LENGTH, MAP_SIZE - PATH_LENGTH);
+      var y = random.nextInt(PATH_LENGTH, MAP_SIZE - PATH_LENGTH);
+
+      startCoordinates[i] = new Coordinates(x, y);
+      endCoordinates[i] =
+          new Coordinates(
+              x + random.nextInt(-PATH_LENGTH, PATH_LENGTH + 1),
+              y + random.nextInt(-PATH_LENGTH, PATH_LENGTH + 1));
+    }
+  }
+
+  @Benchmark
+  public boolean hasAnyAttribute() {
+    return mapAttributeSet.hasAnyAttribute(startCoordinates[nextIndex()], blockingAttributes);
+  }
+
+  @Benchmark
+  public boolean hasAttributeOnStraightPath() {
+    var index = nextIndex();
+
+    return map.hasAttributeOnStraightPath(
+        startCoordinates[index], endCoordinates[index], blockingAttributes);
+  }
+
+  private int nextIndex() {
+    var index = cursor;
+    cursor = (index + 1) & (COORDINATE_COUNT - 1);
+
+    return index;
+  }
+}
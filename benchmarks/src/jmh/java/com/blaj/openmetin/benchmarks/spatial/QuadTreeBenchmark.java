@@ -0,0 +1,118 @@
+package com.blaj.openmetin.benchmarks.spatial;
+
+import com.blaj.openmetin.game.domain.enums.entity.EntityType;
+import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.domain.model.spatial.QuadTree;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuadTreeBenchmark {
+
+  private static final int MAP_SIZE = 4 * Map.MAP_UNIT;
+  private static final int MOVE_STEP = 500;
+
+  @Param({"1000", "5000", "20000"})
+  private int entityCount;
+
+  private BaseGameEntity[] entities;
+  private int[] originPositionsX;
+  private QuadTree quadTree;
+  private List<BaseGameEntity> queryResults;
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    var random = new SplittableRandom(42);
+
+    entities = new BaseGameEntity[entityCount];
+    originPositionsX = new int[entityCount];
+    quadTree = createQuadTree();
+    queryResults = new ArrayList<>();
+
+    for (var i = 0; i < entityCount; i++) {
+      var entity =
+          MonsterGameEntity.builder()
+              .vid(i + 1)
+              .positionX(random.nextInt(MOVE_STEP, MAP_SIZE - MOVE_STEP))
+              .positionY(random.nextInt(MAP_SIZE))
+              .build();
+
+      entities[i] = entity;
+      originPositionsX[i] = entity.getPositionX();
+      quadTree.insert(entity);
+    }
+  }
+
+  @Benchmark
+  public QuadTree insertAll() {
+    var insertQuadTree = createQuadTree();
+
+    for (var entity : entities) {
+      insertQuadTree.insert(entity);
+    }
+
+    return insertQuadTree;
+  }
+
+  @Benchmark
+  public void updatePosition() {
+    var index = nextIndex();
+    var entity = entities[index];
+    var originPositionX = originPositionsX[index];
+
+    entity.setPositionX(
+        entity.getPositionX() == originPositionX
+            ? originPositionX + MOVE_STEP
+            : originPositionX);
+    quadTree.updatePosition(entity);
+  }
+
+  @Benchmark
+  public void queryAround(Blackhole blackhole) {
+    var entity = entities[nextIndex()];
+
+    queryResults.clear();
+    quadTree.queryAround(
+        queryResults,
+        entity.getPositionX(),
+        entity.getPositionY(),
+        Map.VIEW_DISTANCE,
+        EntityType.MONSTER);
+
+    blackhole.consume(queryResults.size());
+  }
+
+  private QuadTree createQuadTree() {
+    return new QuadTree(0, 0, MAP_SIZE, MAP_SIZE, QuadTree.DEFAULT_QUAD_TREE_CAPACITY);
+  }
+
+  private int nextIndex() {
+    var index = cursor;
+    cursor = index + 1 == entityCount ? 0 : index + 1;
+
+    return index;
+  }
+}
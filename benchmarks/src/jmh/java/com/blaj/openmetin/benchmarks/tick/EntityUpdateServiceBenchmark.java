@@ -0,0 +1,104 @@
+package com.blaj.openmetin.benchmarks.tick;
+
+import com.blaj.openmetin.game.domain.enums.entity.EntityState;
+import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.infrastructure.service.tick.EntityUpdateService;
+import com.blaj.openmetin.game.infrastructure.service.tick.TickClockService;
+import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
+import com.blaj.openmetin.shared.domain.model.Coordinates;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityUpdateServiceBenchmark {
+
+  private static final int MAP_UNITS = 4;
+  private static final int MAP_SIZE = MAP_UNITS * Map.MAP_UNIT;
+  private static final int MOVE_DISTANCE = 2_500;
+  private static final long MOVE_DURATION_MILLIS = 5_000;
+
+  @Param({"1000", "5000", "20000"})
+  private int entityCount;
+
+  @Param({"10", "50"})
+  private int movingPercent;
+
+  private TickClockService tickClockService;
+  private EntityUpdateService entityUpdateService;
+  private Map map;
+  private long tick;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    var random = new SplittableRandom(42);
+
+    DateTimeUtils.initialize();
+
+    tickClockService = new TickClockService();
+    entityUpdateService = new EntityUpdateService(List.of(), tickClockService);
+    map = new Map("benchmark", new Coordinates(0, 0), MAP_UNITS, MAP_UNITS, null);
+
+    for (var i = 0; i < entityCount; i++) {
+      var entity =
+          MonsterGameEntity.builder()
+              .vid(i + 1)
+              .state(EntityState.IDLE)
+              .positionX(random.nextInt(MOVE_DISTANCE, MAP_SIZE - MOVE_DISTANCE))
+              .positionY(random.nextInt(MOVE_DISTANCE, MAP_SIZE - MOVE_DISTANCE))
+              .build();
+
+      map.getEntities().add(entity);
+      map.getSpatialIndex().insert(entity);
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void startMovements() {
+    var entities = map.getEntities();
+    var movingEntityCount = entityCount * movingPercent / 100;
+    var startAt = DateTimeUtils.getUnixTime();
+
+    for (var i = 0; i < movingEntityCount; i++) {
+      startMovement(entities.get(i), startAt);
+    }
+  }
+
+  @Benchmark
+  public void update() {
+    tickClockService.advance(tick++);
+    entityUpdateService.update(map);
+    map.getMovedEntities().clear();
+  }
+
+  private void startMovement(BaseGameEntity entity, long startAt) {
+    var direction = entity.getPositionX() >= MAP_SIZE / 2 ? -1 : 1;
+
+    entity.setState(EntityState.MOVING);
+    entity.setStartPositionX(entity.getPositionX());
+    entity.setStartPositionY(entity.getPositionY());
+    entity.setTargetPositionX(entity.getPositionX() + direction * MOVE_DISTANCE);
+    entity.setTargetPositionY(entity.getPositionY());
+    entity.setMovementStartAt(startAt);
+    entity.setMovementDuration(MOVE_DURATION_MILLIS);
+  }
+}
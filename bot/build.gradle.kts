@@ -0,0 +1,26 @@
+plugins {
+    java
+    id("org.springframework.boot")
+    id("io.spring.dependency-management")
+    id("io.freefair.lombok")
+}
+
+dependencies {
+    implementation(project(":contracts"))
+    implementation(project(":shared"))
+    implementation(project(":authentication"))
+    implementation(project(":game"))
+    implementation("org.springframework.boot:spring-boot-starter")
+    implementation("io.netty:netty-all:4.2.7.Final")
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+
+    compileOnly("org.projectlombok:lombok")
+
+    annotationProcessor("org.projectlombok:lombok")
+
+    testImplementation("org.springframework.boot:spring-boot-starter-test")
+}
+
+springBoot {
+    mainClass = "com.blaj.openmetin.bot.OpenmetinBotApplication"
+}
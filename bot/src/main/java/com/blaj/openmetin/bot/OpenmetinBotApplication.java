@@ -0,0 +1,29 @@
+package com.blaj.openmetin.bot;
+
+import com.blaj.openmetin.bot.infrastructure.codec.PacketLayoutRegistry;
+import com.blaj.openmetin.bot.infrastructure.metrics.BotMetricsService;
+import com.blaj.openmetin.bot.infrastructure.properties.BotProperties;
+import com.blaj.openmetin.bot.infrastructure.runner.BotRunnerService;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class OpenmetinBotApplication {
+
+  public static final String SHARED_PACKAGE = "com.blaj.openmetin.shared";
+  public static final String AUTHENTICATION_PACKAGE = "com.blaj.openmetin.authentication";
+  public static final String GAME_PACKAGE = "com.blaj.openmetin.game";
+
+  public static void main(String[] args) {
+    var botProperties = BotProperties.fromArgs(args);
+    var botMetricsService = new BotMetricsService();
+
+    new BotRunnerService(
+            botProperties,
+            botMetricsService,
+            PacketLayoutRegistry.scan(SHARED_PACKAGE, AUTHENTICATION_PACKAGE),
+            PacketLayoutRegistry.scan(SHARED_PACKAGE, GAME_PACKAGE))
+        .run();
+
+    log.info(botMetricsService.createReport());
+  }
+}
@@ -0,0 +1,75 @@
+package com.blaj.openmetin.bot.application.features.auth;
+
+import com.blaj.openmetin.authentication.application.features.login.LoginFailedPacket;
+import com.blaj.openmetin.authentication.application.features.login.LoginPacket;
+import com.blaj.openmetin.authentication.application.features.login.LoginSuccessPacket;
+import com.blaj.openmetin.bot.domain.model.BotPlayer;
+import com.blaj.openmetin.bot.infrastructure.metrics.BotMetricsService;
+import com.blaj.openmetin.shared.application.features.handshake.HandshakePacket;
+import com.blaj.openmetin.shared.application.features.phase.PhasePacket;
+import com.blaj.openmetin.shared.common.enums.Phase;
+import com.blaj.openmetin.shared.common.model.Packet;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class AuthBotChannelHandlerService extends SimpleChannelInboundHandler<Packet> {
+
+  public static final Set<Class<?>> DECODED_PACKET_CLASSES =
+      Set.of(
+          HandshakePacket.class,
+          PhasePacket.class,
+          LoginSuccessPacket.class,
+          LoginFailedPacket.class);
+
+  private final BotPlayer botPlayer;
+  private final String password;
+  private final BotMetricsService botMetricsService;
+  private final Consumer<BotPlayer> loginSuccessConsumer;
+
+  private boolean loginCompleted = false;
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext channelHandlerContext, Packet packet) {
+    switch (packet) {
+      case HandshakePacket handshakePacket -> channelHandlerContext.writeAndFlush(handshakePacket);
+      case PhasePacket phasePacket when phasePacket.getPhase() == Phase.AUTH ->
+          channelHandlerContext.writeAndFlush(
+              new LoginPacket().setUsername(botPlayer.getUsername()).setPassword(password));
+      case LoginSuccessPacket loginSuccessPacket -> {
+        loginCompleted = true;
+        botPlayer.setLoginKey(loginSuccessPacket.getKey());
+        channelHandlerContext.close();
+        loginSuccessConsumer.accept(botPlayer);
+      }
+      case LoginFailedPacket loginFailedPacket -> {
+        loginCompleted = true;
+        log.warn("Login failed for {}: {}", botPlayer.getUsername(), loginFailedPacket.getStatus());
+        botMetricsService.recordLoginFailure();
+        channelHandlerContext.close();
+      }
+      default -> {}
+    }
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext channelHandlerContext) throws Exception {
+    if (!loginCompleted) {
+      log.debug("Authentication connection of {} closed before login", botPlayer.getUsername());
+      botMetricsService.recordLoginFailure();
+    }
+
+    super.channelInactive(channelHandlerContext);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext channelHandlerContext, Throwable cause) {
+    log.debug("Authentication connection error for {}", botPlayer.getUsername(), cause);
+    channelHandlerContext.close();
+  }
+}
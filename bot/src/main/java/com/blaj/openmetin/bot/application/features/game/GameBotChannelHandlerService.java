@@ -0,0 +1,169 @@
+package com.blaj.openmetin.bot.application.features.game;
+
+import com.blaj.openmetin.bot.domain.model.BotPlayer;
+import com.blaj.openmetin.bot.infrastructure.metrics.BotMetricsService;
+import com.blaj.openmetin.bot.infrastructure.properties.BotProperties;
+import com.blaj.openmetin.game.application.common.character.dto.CharacterBasicDataPacket;
+import com.blaj.openmetin.game.application.common.character.dto.CharacterListPacket;
+import com.blaj.openmetin.game.application.common.character.dto.MoveCharacterBroadcastPacket;
+import com.blaj.openmetin.game.application.common.ping.PingPacket;
+import com.blaj.openmetin.game.application.features.createcharacter.CreateCharacterFailurePacket;
+import com.blaj.openmetin.game.application.features.createcharacter.CreateCharacterPacket;
+import com.blaj.openmetin.game.application.features.createcharacter.CreateCharacterSuccessPacket;
+import com.blaj.openmetin.game.application.features.entergame.EntergamePacket;
+import com.blaj.openmetin.game.application.features.movecharacter.MoveCharacterPacket;
+import com.blaj.openmetin.game.application.features.pong.PongPacket;
+import com.blaj.openmetin.game.application.features.selectcharacter.SelectCharacterPacket;
+import com.blaj.openmetin.game.application.features.tokenlogin.TokenLoginPacket;
+import com.blaj.openmetin.game.domain.enums.character.CharacterMovementType;
+import com.blaj.openmetin.shared.application.features.handshake.HandshakePacket;
+import com.blaj.openmetin.shared.application.features.phase.PhasePacket;
+import com.blaj.openmetin.shared.common.model.Packet;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class GameBotChannelHandlerService extends SimpleChannelInboundHandler<Packet> {
+
+  public static final Set<Class<?>> DECODED_PACKET_CLASSES =
+      Set.of(
+          HandshakePacket.class,
+          PhasePacket.class,
+          PingPacket.class,
+          CharacterListPacket.class,
+          CreateCharacterSuccessPacket.class,
+          CreateCharacterFailurePacket.class,
+          CharacterBasicDataPacket.class,
+          MoveCharacterBroadcastPacket.class);
+
+  private static final int MAX_ROTATION = 72;
+
+  private final BotPlayer botPlayer;
+  private final BotProperties botProperties;
+  private final BotMetricsService botMetricsService;
+
+  private ScheduledFuture<?> moveFuture;
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext channelHandlerContext, Packet packet) {
+    switch (packet) {
+      case HandshakePacket handshakePacket -> channelHandlerContext.writeAndFlush(handshakePacket);
+      case PingPacket _ -> channelHandlerContext.writeAndFlush(new PongPacket());
+      case PhasePacket phasePacket -> handlePhase(channelHandlerContext, phasePacket);
+      case CharacterListPacket characterListPacket ->
+          handleCharacterList(channelHandlerContext, characterListPacket);
+      case CreateCharacterSuccessPacket _ -> selectCharacter(channelHandlerContext);
+      case CreateCharacterFailurePacket createCharacterFailurePacket -> {
+        log.warn(
+            "Character creation failed for {} with error {}",
+            botPlayer.getUsername(),
+            createCharacterFailurePacket.getError());
+        botMetricsService.recordCharacterFailure();
+        channelHandlerContext.close();
+      }
+      case CharacterBasicDataPacket characterBasicDataPacket -> {
+        botPlayer.setVid(characterBasicDataPacket.getVid());
+        botPlayer.setSpawnPositionX(characterBasicDataPacket.getPositionX());
+        botPlayer.setSpawnPositionY(characterBasicDataPacket.getPositionY());
+        channelHandlerContext.writeAndFlush(new EntergamePacket());
+      }
+      case MoveCharacterBroadcastPacket moveCharacterBroadcastPacket ->
+          botMetricsService.recordMoveEcho(moveCharacterBroadcastPacket.getTime());
+      default -> {}
+    }
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext channelHandlerContext) throws Exception {
+    if (moveFuture != null) {
+      moveFuture.cancel(false);
+    }
+
+    botMetricsService.recordDisconnect(botPlayer.isInGame());
+    botPlayer.setInGame(false);
+
+    super.channelInactive(channelHandlerContext);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext channelHandlerContext, Throwable cause) {
+    log.debug("Game connection error for {}", botPlayer.getUsername(), cause);
+    channelHandlerContext.close();
+  }
+
+  private void handlePhase(ChannelHandlerContext channelHandlerContext, PhasePacket phasePacket) {
+    switch (phasePacket.getPhase()) {
+      case LOGIN ->
+          channelHandlerContext.writeAndFlush(
+              new TokenLoginPacket()
+                  .setUsername(botPlayer.getUsername())
+                  .setKey(botPlayer.getLoginKey()));
+      case IN_GAME -> {
+        botPlayer.setInGame(true);
+        botMetricsService.recordInGame(botPlayer.getStartMicros());
+
+        var moveIntervalMillis = Math.max(1, botProperties.moveInterval().toMillis());
+        moveFuture =
+            channelHandlerContext
+                .executor()
+                .scheduleAtFixedRate(
+                    () -> sendMove(channelHandlerContext),
+                    ThreadLocalRandom.current().nextLong(moveIntervalMillis),
+                    moveIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+      }
+      default -> {}
+    }
+  }
+
+  private void handleCharacterList(
+      ChannelHandlerContext channelHandlerContext, CharacterListPacket characterListPacket) {
+    var simpleCharacterPacket =
+        characterListPacket.getSimpleCharacterPackets()[botProperties.slot()];
+
+    if (simpleCharacterPacket.getId() != 0) {
+      selectCharacter(channelHandlerContext);
+      return;
+    }
+
+    channelHandlerContext.writeAndFlush(
+        new CreateCharacterPacket()
+            .setSlot((short) botProperties.slot())
+            .setName(botPlayer.getUsername())
+            .setClassType(0)
+            .setShape((short) 0));
+  }
+
+  private void selectCharacter(ChannelHandlerContext channelHandlerContext) {
+    channelHandlerContext.writeAndFlush(
+        new SelectCharacterPacket().setSlot((short) botProperties.slot()));
+  }
+
+  private void sendMove(ChannelHandlerContext channelHandlerContext) {
+    if (!channelHandlerContext.channel().isWritable()) {
+      botMetricsService.recordMoveSkipped();
+      return;
+    }
+
+    var random = ThreadLocalRandom.current();
+    var moveRadius = botProperties.moveRadius();
+    var positionX = botPlayer.getSpawnPositionX() + random.nextInt(-moveRadius, moveRadius + 1);
+    var positionY = botPlayer.getSpawnPositionY() + random.nextInt(-moveRadius, moveRadius + 1);
+
+    channelHandlerContext.writeAndFlush(
+        new MoveCharacterPacket()
+            .setMovementType(CharacterMovementType.MOVE)
+            .setRotation((short) random.nextInt(MAX_ROTATION))
+            .setPositionX(positionX)
+            .setPositionY(positionY)
+            .setTime(botMetricsService.getMoveTime()));
+    botMetricsService.recordMoveSent();
+  }
+}
@@ -0,0 +1,21 @@
+package com.blaj.openmetin.bot.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class BotPlayer {
+
+  private final int index;
+  private final String username;
+
+  private volatile long startMicros;
+  private volatile long loginKey;
+  private volatile long vid;
+  private volatile int spawnPositionX;
+  private volatile int spawnPositionY;
+  private volatile boolean inGame;
+}
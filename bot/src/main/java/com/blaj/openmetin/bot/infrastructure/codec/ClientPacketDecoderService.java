@@ -0,0 +1,66 @@
+package com.blaj.openmetin.bot.infrastructure.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ClientPacketDecoderService extends ByteToMessageDecoder {
+
+  private final PacketLayoutRegistry packetLayoutRegistry;
+  private final Set<Class<?>> decodedPacketClasses;
+
+  @Override
+  protected void decode(
+      ChannelHandlerContext channelHandlerContext, ByteBuf byteBuf, List<Object> outList) {
+    if (byteBuf.readableBytes() < 1) {
+      return;
+    }
+
+    byteBuf.markReaderIndex();
+    var header = byteBuf.readByte() & 0xFF;
+
+    var packetLayout = packetLayoutRegistry.getDecodingPacketLayout(header);
+
+    if (packetLayout == null) {
+      log.warn(
+          "Unknown packet header from {}: 0x{}, closing connection",
+          channelHandlerContext.channel().remoteAddress(),
+          String.format("%02X", header));
+
+      byteBuf.skipBytes(byteBuf.readableBytes());
+      channelHandlerContext.close();
+
+      return;
+    }
+
+    var frameLength = packetLayout.getFrameLength();
+
+    if (byteBuf.readableBytes() < frameLength) {
+      byteBuf.resetReaderIndex();
+      return;
+    }
+
+    if (!decodedPacketClasses.contains(packetLayout.packetClass())) {
+      byteBuf.skipBytes(frameLength);
+      return;
+    }
+
+    try {
+      outList.add(packetLayout.decode(byteBuf.readSlice(frameLength)));
+    } catch (Exception e) {
+      log.error(
+          "Failed to decode packet with header 0x{} from {}",
+          String.format("%02X", header),
+          channelHandlerContext.channel().remoteAddress(),
+          e);
+
+      channelHandlerContext.close();
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.blaj.openmetin.bot.infrastructure.codec;
+
+import com.blaj.openmetin.shared.common.model.Packet;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ClientPacketEncoderService extends MessageToByteEncoder<Packet> {
+
+  private final PacketLayoutRegistry packetLayoutRegistry;
+
+  @Override
+  protected ByteBuf allocateBuffer(
+      ChannelHandlerContext channelHandlerContext, Packet packet, boolean preferDirect) {
+    var packetLayout = packetLayoutRegistry.getEncodingPacketLayout(packet.getClass());
+
+    if (packetLayout == null) {
+      return super.allocateBuffer(channelHandlerContext, packet, preferDirect);
+    }
+
+    return channelHandlerContext.alloc().directBuffer(packetLayout.getEncodedSize());
+  }
+
+  @Override
+  protected void encode(
+      ChannelHandlerContext channelHandlerContext, Packet packet, ByteBuf byteBuf) {
+    var packetLayout = packetLayoutRegistry.getEncodingPacketLayout(packet.getClass());
+
+    if (packetLayout == null) {
+      log.error(
+          "No layout found for packet: {} to {}",
+          packet.getClass().getSimpleName(),
+          channelHandlerContext.channel().remoteAddress());
+      return;
+    }
+
+    packetLayout.encode(packet, byteBuf);
+  }
+}
@@ -0,0 +1,249 @@
+package com.blaj.openmetin.bot.infrastructure.codec;
+
+import com.blaj.openmetin.contracts.annotation.PacketField;
+import com.blaj.openmetin.contracts.enums.ByteEnum;
+import com.blaj.openmetin.shared.infrastructure.network.codec.PacketCodecUtils;
+import io.netty.buffer.ByteBuf;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+public record PacketFieldLayout(
+    Field field, int size, Function<ByteBuf, Object> reader, BiConsumer<ByteBuf, Object> writer) {
+
+  public static PacketFieldLayout of(Field field) {
+    field.setAccessible(true);
+
+    var packetField = field.getAnnotation(PacketField.class);
+    var type = field.getType();
+    var unsigned = packetField.unsigned();
+    var length = packetField.length();
+    var arrayLength = packetField.arrayLength();
+
+    if (type == boolean.class) {
+      return new PacketFieldLayout(
+          field, 1, ByteBuf::readBoolean, (out, value) -> out.writeBoolean((Boolean) value));
+    }
+
+    if (type == byte.class) {
+      return new PacketFieldLayout(
+          field, 1, ByteBuf::readByte, (out, value) -> out.writeByte((Byte) value));
+    }
+
+    if (type == short.class) {
+      return unsigned
+          ? new PacketFieldLayout(
+              field, 1, ByteBuf::readUnsignedByte, (out, value) -> out.writeByte((Short) value))
+          : new PacketFieldLayout(
+              field, 2, ByteBuf::readShortLE, (out, value) -> out.writeShortLE((Short) value));
+    }
+
+    if (type == int.class) {
+      return unsigned
+          ? new PacketFieldLayout(
+              field,
+              2,
+              ByteBuf::readUnsignedShortLE,
+              (out, value) -> out.writeShortLE((Integer) value))
+          : new PacketFieldLayout(
+              field, 4, ByteBuf::readIntLE, (out, value) -> out.writeIntLE((Integer) value));
+    }
+
+    if (type == long.class) {
+      return unsigned
+          ? new PacketFieldLayout(
+              field,
+              4,
+              ByteBuf::readUnsignedIntLE,
+              (out, value) -> out.writeIntLE((int) (long) (Long) value))
+          : new PacketFieldLayout(
+              field, 8, ByteBuf::readLongLE, (out, value) -> out.writeLongLE((Long) value));
+    }
+
+    if (type == float.class) {
+      return new PacketFieldLayout(
+          field, 4, ByteBuf::readFloatLE, (out, value) -> out.writeFloatLE((Float) value));
+    }
+
+    if (type == double.class) {
+      return new PacketFieldLayout(
+          field, 8, ByteBuf::readDoubleLE, (out, value) -> out.writeDoubleLE((Double) value));
+    }
+
+    if (type == String.class && length > 0) {
+      return new PacketFieldLayout(
+          field,
+          length,
+          in -> PacketCodecUtils.readFixedString(in, length),
+          (out, value) -> PacketCodecUtils.writeFixedString(out, (String) value, length));
+    }
+
+    if (type == byte[].class && arrayLength > 0) {
+      return new PacketFieldLayout(
+          field,
+          arrayLength,
+          in -> PacketCodecUtils.readFixedByteArray(in, arrayLength),
+          (out, value) -> PacketCodecUtils.writeFixedByteArray(out, (byte[]) value, arrayLength));
+    }
+
+    if (type == int[].class && arrayLength > 0) {
+      return createIntArrayFieldLayout(field, unsigned, arrayLength);
+    }
+
+    if (type == long[].class && arrayLength > 0) {
+      return unsigned
+          ? new PacketFieldLayout(
+              field,
+              arrayLength * Integer.BYTES,
+              in -> PacketCodecUtils.readFixedUnsignedIntArray(in, arrayLength),
+              (out, value) ->
+                  PacketCodecUtils.writeFixedUnsignedIntArray(out, (long[]) value, arrayLength))
+          : new PacketFieldLayout(
+              field,
+              arrayLength * Long.BYTES,
+              in -> PacketCodecUtils.readFixedLongArray(in, arrayLength),
+              (out, value) ->
+                  PacketCodecUtils.writeFixedLongArray(out, (long[]) value, arrayLength));
+    }
+
+    if (type == String[].class && arrayLength > 0 && length > 0) {
+      return new PacketFieldLayout(
+          field,
+          arrayLength * length,
+          in -> PacketCodecUtils.readFixedStringArray(in, arrayLength, length),
+          (out, value) ->
+              PacketCodecUtils.writeFixedStringArray(out, (String[]) value, arrayLength, length));
+    }
+
+    if (type.isEnum() && ByteEnum.class.isAssignableFrom(type)) {
+      return createByteEnumFieldLayout(field, type);
+    }
+
+    if (type.isArray() && arrayLength > 0 && isStructType(type.getComponentType())) {
+      return createStructArrayFieldLayout(field, type.getComponentType(), arrayLength);
+    }
+
+    if (isStructType(type)) {
+      var packetStructLayout = PacketStructLayout.of(type);
+
+      return new PacketFieldLayout(
+          field, packetStructLayout.getSize(), packetStructLayout::read, packetStructLayout::write);
+    }
+
+    throw new IllegalArgumentException(
+        "Unsupported packet field "
+            + field.getDeclaringClass().getSimpleName()
+            + "."
+            + field.getName()
+            + " of type "
+            + type.getSimpleName());
+  }
+
+  public void read(ByteBuf in, Object target) {
+    try {
+      field.set(target, reader.apply(in));
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Cannot set packet field " + field.getName(), e);
+    }
+  }
+
+  public void write(ByteBuf out, Object source) {
+    try {
+      writer.accept(out, field.get(source));
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Cannot get packet field " + field.getName(), e);
+    }
+  }
+
+  private static PacketFieldLayout createIntArrayFieldLayout(
+      Field field, boolean unsigned, int arrayLength) {
+    return new PacketFieldLayout(
+        field,
+        arrayLength * (unsigned ? Short.BYTES : Integer.BYTES),
+        in -> {
+          var array = new int[arrayLength];
+
+          for (var i = 0; i < arrayLength; i++) {
+            array[i] = unsigned ? in.readUnsignedShortLE() : in.readIntLE();
+          }
+
+          return array;
+        },
+        (out, value) -> {
+          var array = (int[]) value;
+
+          for (var i = 0; i < arrayLength; i++) {
+            var element = array != null && i < array.length ? array[i] : 0;
+
+            if (unsigned) {
+              out.writeShortLE(element);
+            } else {
+              out.writeIntLE(element);
+            }
+          }
+        });
+  }
+
+  private static PacketFieldLayout createByteEnumFieldLayout(Field field, Class<?> enumType) {
+    var enumConstants = new Object[256];
+
+    for (var enumConstant : enumType.getEnumConstants()) {
+      enumConstants[((ByteEnum) enumConstant).getValue() & 0xFF] = enumConstant;
+    }
+
+    return new PacketFieldLayout(
+        field,
+        1,
+        in -> {
+          var value = in.readByte();
+          var enumConstant = enumConstants[value & 0xFF];
+
+          if (enumConstant == null) {
+            throw new IllegalArgumentException(
+                "Unknown " + enumType.getSimpleName() + " value: " + value);
+          }
+
+          return enumConstant;
+        },
+        (out, value) -> out.writeByte(value != null ? ((ByteEnum) value).getValue() : 0));
+  }
+
+  private static PacketFieldLayout createStructArrayFieldLayout(
+      Field field, Class<?> elementType, int arrayLength) {
+    var packetStructLayout = PacketStructLayout.of(elementType);
+
+    return new PacketFieldLayout(
+        field,
+        arrayLength * packetStructLayout.getSize(),
+        in -> {
+          var array = (Object[]) Array.newInstance(elementType, arrayLength);
+
+          for (var i = 0; i < arrayLength; i++) {
+            array[i] = packetStructLayout.read(in);
+          }
+
+          return array;
+        },
+        (out, value) -> {
+          var array = (Object[]) value;
+
+          for (var i = 0; i < arrayLength; i++) {
+            var element = array != null && i < array.length ? array[i] : null;
+
+            if (element == null) {
+              out.writeZero(packetStructLayout.getSize());
+            } else {
+              packetStructLayout.write(out, element);
+            }
+          }
+        });
+  }
+
+  private static boolean isStructType(Class<?> type) {
+    return !type.isPrimitive()
+        && !type.isArray()
+        && !type.isEnum()
+        && !type.getName().startsWith("java.");
+  }
+}
@@ -0,0 +1,64 @@
+package com.blaj.openmetin.bot.infrastructure.codec;
+
+import com.blaj.openmetin.contracts.annotation.PacketHeader;
+import com.blaj.openmetin.contracts.enums.PacketDirection;
+import io.netty.buffer.ByteBuf;
+import java.util.Set;
+
+public record PacketLayout(
+    int header,
+    Set<PacketDirection> direction,
+    Class<?> packetClass,
+    boolean sequence,
+    PacketStructLayout packetStructLayout) {
+
+  public static final int HEADER_LENGTH = 1;
+
+  public static PacketLayout of(Class<?> packetClass) {
+    var packetHeader = packetClass.getAnnotation(PacketHeader.class);
+
+    if (packetHeader == null) {
+      throw new IllegalArgumentException(
+          "Packet " + packetClass.getName() + " is not annotated with @PacketHeader");
+    }
+
+    if (packetHeader.hasDynamicSize()) {
+      throw new IllegalArgumentException(
+          "Packet " + packetClass.getName() + " has dynamic size which is not supported");
+    }
+
+    return new PacketLayout(
+        packetHeader.header(),
+        Set.of(packetHeader.direction()),
+        packetClass,
+        packetHeader.isSequence(),
+        PacketStructLayout.of(packetClass));
+  }
+
+  public int getFrameLength() {
+    return packetStructLayout.getSize() + (sequence ? 1 : 0);
+  }
+
+  public int getEncodedSize() {
+    return HEADER_LENGTH + getFrameLength();
+  }
+
+  public Object decode(ByteBuf in) {
+    var packet = packetStructLayout.read(in);
+
+    if (sequence) {
+      in.skipBytes(1);
+    }
+
+    return packet;
+  }
+
+  public void encode(Object packet, ByteBuf out) {
+    out.writeByte(header & 0xFF);
+    packetStructLayout.write(out, packet);
+
+    if (sequence) {
+      out.writeByte(0);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.blaj.openmetin.bot.infrastructure.codec;
+
+import com.blaj.openmetin.contracts.annotation.PacketHeader;
+import com.blaj.openmetin.contracts.enums.PacketDirection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+public class PacketLayoutRegistry {
+
+  public static final int HEADER_COUNT = 256;
+
+  private final PacketLayout[] decodingPacketLayoutTable = new PacketLayout[HEADER_COUNT];
+  private final Map<Class<?>, PacketLayout> encodingPacketLayoutMap = new HashMap<>();
+
+  public PacketLayoutRegistry(Collection<Class<?>> packetClasses) {
+    for (var packetClass : packetClasses) {
+      var packetLayout = PacketLayout.of(packetClass);
+
+      if (packetLayout.direction().contains(PacketDirection.OUTGOING)) {
+        registerDecodingPacketLayout(packetLayout);
+      }
+
+      if (packetLayout.direction().contains(PacketDirection.INCOMING)) {
+        encodingPacketLayoutMap.put(packetClass, packetLayout);
+      }
+    }
+  }
+
+  public static PacketLayoutRegistry scan(String... basePackages) {
+    var scanner = new ClassPathScanningCandidateComponentProvider(false);
+    scanner.addIncludeFilter(new AnnotationTypeFilter(PacketHeader.class));
+
+    var packetClasses =
+        Arrays.stream(basePackages)
+            .flatMap(basePackage -> scanner.findCandidateComponents(basePackage).stream())
+            .map(BeanDefinition::getBeanClassName)
+            .<Class<?>>map(
+                className ->
+                    ClassUtils.resolveClassName(
+                        className, PacketLayoutRegistry.class.getClassLoader()))
+            .toList();
+
+    return new PacketLayoutRegistry(packetClasses);
+  }
+
+  public PacketLayout getDecodingPacketLayout(int header) {
+    if (header < 0 || header >= HEADER_COUNT) {
+      return null;
+    }
+
+    return decodingPacketLayoutTable[header];
+  }
+
+  public PacketLayout getEncodingPacketLayout(Class<?> packetClass) {
+    return encodingPacketLayoutMap.get(packetClass);
+  }
+
+  private void registerDecodingPacketLayout(PacketLayout packetLayout) {
+    var header = packetLayout.header();
+
+    if (header < 0 || header >= HEADER_COUNT) {
+      throw new IllegalArgumentException(
+          String.format("Packet layout header out of range: 0x%X", header));
+    }
+
+    if (decodingPacketLayoutTable[header] != null) {
+      throw new IllegalStateException(
+          String.format(
+              "Duplicate packet layout for header 0x%02X: %s and %s",
+              header,
+              decodingPacketLayoutTable[header].packetClass().getSimpleName(),
+              packetLayout.packetClass().getSimpleName()));
+    }
+
+    decodingPacketLayoutTable[header] = packetLayout;
+  }
+}
@@ -0,0 +1,74 @@
+package com.blaj.openmetin.bot.infrastructure.codec;
+
+import com.blaj.openmetin.contracts.annotation.PacketField;
+import io.netty.buffer.ByteBuf;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import lombok.Getter;
+
+public class PacketStructLayout {
+
+  private final Constructor<?> constructor;
+  private final List<PacketFieldLayout> packetFieldLayouts;
+
+  @Getter private final int size;
+
+  private PacketStructLayout(
+      Constructor<?> constructor, List<PacketFieldLayout> packetFieldLayouts) {
+    this.constructor = constructor;
+    this.packetFieldLayouts = packetFieldLayouts;
+    this.size = packetFieldLayouts.stream().mapToInt(PacketFieldLayout::size).sum();
+  }
+
+  public static PacketStructLayout of(Class<?> structClass) {
+    var packetFieldLayouts =
+        Arrays.stream(structClass.getDeclaredFields())
+            .filter(field -> field.isAnnotationPresent(PacketField.class))
+            .sorted(Comparator.comparingInt(PacketStructLayout::getPosition))
+            .map(PacketFieldLayout::of)
+            .toList();
+
+    try {
+      var constructor = structClass.getDeclaredConstructor();
+      constructor.setAccessible(true);
+
+      return new PacketStructLayout(constructor, packetFieldLayouts);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException(
+          "Packet struct " + structClass.getName() + " requires a no-args constructor", e);
+    }
+  }
+
+  public Object read(ByteBuf in) {
+    var struct = newInstance();
+
+    for (var packetFieldLayout : packetFieldLayouts) {
+      packetFieldLayout.read(in, struct);
+    }
+
+    return struct;
+  }
+
+  public void write(ByteBuf out, Object struct) {
+    for (var packetFieldLayout : packetFieldLayouts) {
+      packetFieldLayout.write(out, struct);
+    }
+  }
+
+  private Object newInstance() {
+    try {
+      return constructor.newInstance();
+    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Cannot instantiate " + constructor.getDeclaringClass().getName(), e);
+    }
+  }
+
+  private static int getPosition(Field field) {
+    return field.getAnnotation(PacketField.class).position();
+  }
+}
@@ -0,0 +1,178 @@
+package com.blaj.openmetin.bot.infrastructure.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+public class BotMetricsService {
+
+  public static final long MOVE_TIME_MASK = 0xFFFFFFFFL;
+
+  private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+
+  private final LongSupplier nanoTimeSupplier;
+  private final long startNanos;
+
+  private final Histogram connectLatencyHistogram =
+      new ConcurrentHistogram(SIGNIFICANT_VALUE_DIGITS);
+  private final Histogram timeToInGameHistogram =
+      new ConcurrentHistogram(SIGNIFICANT_VALUE_DIGITS);
+  private final Histogram moveEchoLatencyHistogram =
+      new ConcurrentHistogram(SIGNIFICANT_VALUE_DIGITS);
+
+  private final AtomicInteger inGameCount = new AtomicInteger();
+  private final LongAdder connectFailureCount = new LongAdder();
+  private final LongAdder loginFailureCount = new LongAdder();
+  private final LongAdder characterFailureCount = new LongAdder();
+  private final LongAdder disconnectCount = new LongAdder();
+  private final LongAdder moveSentCount = new LongAdder();
+  private final LongAdder moveSkippedCount = new LongAdder();
+  private final AtomicLong firstMoveMicros = new AtomicLong(-1);
+
+  public BotMetricsService() {
+    this(System::nanoTime);
+  }
+
+  public BotMetricsService(LongSupplier nanoTimeSupplier) {
+    this.nanoTimeSupplier = nanoTimeSupplier;
+    this.startNanos = nanoTimeSupplier.getAsLong();
+  }
+
+  public long getMicros() {
+    return TimeUnit.NANOSECONDS.toMicros(nanoTimeSupplier.getAsLong() - startNanos);
+  }
+
+  public long getMoveTime() {
+    return getMicros() & MOVE_TIME_MASK;
+  }
+
+  public void recordConnectLatency(long startMicros) {
+    connectLatencyHistogram.recordValue(Math.max(0, getMicros() - startMicros));
+  }
+
+  public void recordInGame(long startMicros) {
+    inGameCount.incrementAndGet();
+    timeToInGameHistogram.recordValue(Math.max(0, getMicros() - startMicros));
+  }
+
+  public void recordMoveEcho(long moveTime) {
+    moveEchoLatencyHistogram.recordValue((getMoveTime() - moveTime) & MOVE_TIME_MASK);
+  }
+
+  public void recordMoveSent() {
+    firstMoveMicros.compareAndSet(-1, getMicros());
+    moveSentCount.increment();
+  }
+
+  public void recordMoveSkipped() {
+    moveSkippedCount.increment();
+  }
+
+  public void recordConnectFailure() {
+    connectFailureCount.increment();
+  }
+
+  public void recordLoginFailure() {
+    loginFailureCount.increment();
+  }
+
+  public void recordCharacterFailure() {
+    characterFailureCount.increment();
+  }
+
+  public void recordDisconnect(boolean inGame) {
+    disconnectCount.increment();
+
+    if (inGame) {
+      inGameCount.decrementAndGet();
+    }
+  }
+
+  public int getInGameCount() {
+    return inGameCount.get();
+  }
+
+  public long getMoveSentCount() {
+    return moveSentCount.sum();
+  }
+
+  public long getMoveEchoCount() {
+    return moveEchoLatencyHistogram.getTotalCount();
+  }
+
+  public double getMovesPerSecond() {
+    var firstMove = firstMoveMicros.get();
+
+    if (firstMove < 0) {
+      return 0;
+    }
+
+    var elapsedMicros = getMicros() - firstMove;
+
+    return elapsedMicros > 0
+        ? moveSentCount.sum() * (double) TimeUnit.SECONDS.toMicros(1) / elapsedMicros
+        : 0;
+  }
+
+  public String createProgress() {
+    return String.format(
+        Locale.ROOT,
+        "in-game=%d connected=%d failures=%d disconnects=%d moves=%d echoes=%d tps=%.1f",
+        inGameCount.get(),
+        connectLatencyHistogram.getTotalCount(),
+        connectFailureCount.sum() + loginFailureCount.sum() + characterFailureCount.sum(),
+        disconnectCount.sum(),
+        moveSentCount.sum(),
+        moveEchoLatencyHistogram.getTotalCount(),
+        getMovesPerSecond());
+  }
+
+  public String createReport() {
+    return String.join(
+        System.lineSeparator(),
+        "Load test report",
+        formatHistogram("connect latency", connectLatencyHistogram),
+        formatHistogram("time to in-game", timeToInGameHistogram),
+        formatHistogram("move echo latency", moveEchoLatencyHistogram),
+        String.format(
+            Locale.ROOT,
+            "  failures: connect=%d login=%d character=%d disconnects=%d",
+            connectFailureCount.sum(),
+            loginFailureCount.sum(),
+            characterFailureCount.sum(),
+            disconnectCount.sum()),
+        String.format(
+            Locale.ROOT,
+            "  moves: sent=%d skipped=%d echoes=%d achieved tps=%.1f",
+            moveSentCount.sum(),
+            moveSkippedCount.sum(),
+            moveEchoLatencyHistogram.getTotalCount(),
+            getMovesPerSecond()));
+  }
+
+  private String formatHistogram(String name, Histogram histogram) {
+    if (histogram.getTotalCount() == 0) {
+      return String.format(Locale.ROOT, "  %s: no samples", name);
+    }
+
+    return String.format(
+        Locale.ROOT,
+        "  %s (ms): count=%d p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f",
+        name,
+        histogram.getTotalCount(),
+        toMillis(histogram.getValueAtPercentile(50)),
+        toMillis(histogram.getValueAtPercentile(90)),
+        toMillis(histogram.getValueAtPercentile(99)),
+        toMillis(histogram.getValueAtPercentile(99.9)),
+        toMillis(histogram.getMaxValue()));
+  }
+
+  private double toMillis(long micros) {
+    return micros / 1_000.0;
+  }
+}
@@ -0,0 +1,89 @@
+package com.blaj.openmetin.bot.infrastructure.properties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public record BotProperties(
+    String authHost,
+    int authPort,
+    String gameHost,
+    int gamePort,
+    String usernamePrefix,
+    String password,
+    int firstIndex,
+    int playerCount,
+    int connectsPerSecond,
+    Duration duration,
+    Duration moveInterval,
+    int moveRadius,
+    int slot,
+    int ioThreads) {
+
+  public BotProperties {
+    if (usernamePrefix == null || !usernamePrefix.matches("[A-Za-z0-9]+")) {
+      throw new IllegalArgumentException("Username prefix must be alphanumeric");
+    }
+
+    if (playerCount < 1 || connectsPerSecond < 1 || moveRadius < 0 || ioThreads < 0) {
+      throw new IllegalArgumentException(
+          "Player count and connects per second must be positive, move radius and io threads"
+              + " must not be negative");
+    }
+
+    if (slot < 0 || slot > 3) {
+      throw new IllegalArgumentException("Character slot must be between 0 and 3");
+    }
+
+    if (duration.isNegative() || moveInterval.isNegative() || moveInterval.isZero()) {
+      throw new IllegalArgumentException("Duration and move interval must be positive");
+    }
+  }
+
+  public static BotProperties fromArgs(String... args) {
+    var values = new HashMap<String, String>();
+
+    for (var arg : args) {
+      var separatorIndex = arg.indexOf('=');
+
+      if (!arg.startsWith("--") || separatorIndex < 0) {
+        throw new IllegalArgumentException("Invalid argument " + arg + ", expected --key=value");
+      }
+
+      values.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+    }
+
+    var botProperties =
+        new BotProperties(
+            getValue(values, "auth-host", "127.0.0.1"),
+            Integer.parseInt(getValue(values, "auth-port", "11000")),
+            getValue(values, "game-host", "127.0.0.1"),
+            Integer.parseInt(getValue(values, "game-port", "13000")),
+            getValue(values, "username-prefix", "bot"),
+            getValue(values, "password", "bot"),
+            Integer.parseInt(getValue(values, "first-index", "1")),
+            Integer.parseInt(getValue(values, "player-count", "1000")),
+            Integer.parseInt(getValue(values, "connects-per-second", "100")),
+            Duration.ofSeconds(Long.parseLong(getValue(values, "duration-seconds", "300"))),
+            Duration.ofMillis(Long.parseLong(getValue(values, "move-interval-millis", "250"))),
+            Integer.parseInt(getValue(values, "move-radius", "500")),
+            Integer.parseInt(getValue(values, "slot", "0")),
+            Integer.parseInt(getValue(values, "io-threads", "0")));
+
+    if (!values.isEmpty()) {
+      throw new IllegalArgumentException("Unknown arguments: " + values.keySet());
+    }
+
+    return botProperties;
+  }
+
+  public String getUsername(int index) {
+    return usernamePrefix + index;
+  }
+
+  private static String getValue(Map<String, String> values, String key, String defaultValue) {
+    var value = values.remove(key);
+
+    return value != null ? value : defaultValue;
+  }
+}
@@ -0,0 +1,157 @@
+package com.blaj.openmetin.bot.infrastructure.runner;
+
+import com.blaj.openmetin.bot.application.features.auth.AuthBotChannelHandlerService;
+import com.blaj.openmetin.bot.application.features.game.GameBotChannelHandlerService;
+import com.blaj.openmetin.bot.domain.model.BotPlayer;
+import com.blaj.openmetin.bot.infrastructure.codec.ClientPacketDecoderService;
+import com.blaj.openmetin.bot.infrastructure.codec.ClientPacketEncoderService;
+import com.blaj.openmetin.bot.infrastructure.codec.PacketLayoutRegistry;
+import com.blaj.openmetin.bot.infrastructure.metrics.BotMetricsService;
+import com.blaj.openmetin.bot.infrastructure.properties.BotProperties;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class BotRunnerService {
+
+  private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+  private static final long PROGRESS_INTERVAL_SECONDS = 5;
+
+  private final BotProperties botProperties;
+  private final BotMetricsService botMetricsService;
+  private final PacketLayoutRegistry authPacketLayoutRegistry;
+  private final PacketLayoutRegistry gamePacketLayoutRegistry;
+
+  private final ChannelGroup channelGroup = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+
+  private EventLoopGroup eventLoopGroup;
+
+  public void run() {
+    eventLoopGroup =
+        new MultiThreadIoEventLoopGroup(botProperties.ioThreads(), NioIoHandler.newFactory());
+
+    try {
+      var progressFuture =
+          eventLoopGroup.scheduleAtFixedRate(
+              () -> log.info(botMetricsService.createProgress()),
+              PROGRESS_INTERVAL_SECONDS,
+              PROGRESS_INTERVAL_SECONDS,
+              TimeUnit.SECONDS);
+
+      var runStartNanos = System.nanoTime();
+      var connectIntervalNanos = TimeUnit.SECONDS.toNanos(1) / botProperties.connectsPerSecond();
+
+      log.info(
+          "Starting {} bots against auth {}:{} and game {}:{}",
+          botProperties.playerCount(),
+          botProperties.authHost(),
+          botProperties.authPort(),
+          botProperties.gameHost(),
+          botProperties.gamePort());
+
+      for (var i = 0; i < botProperties.playerCount(); i++) {
+        var index = botProperties.firstIndex() + i;
+        connectAuth(new BotPlayer(index, botProperties.getUsername(index)));
+
+        parkUntil(runStartNanos + (i + 1) * connectIntervalNanos);
+      }
+
+      parkUntil(runStartNanos + botProperties.duration().toNanos());
+
+      progressFuture.cancel(false);
+    } finally {
+      channelGroup.close().syncUninterruptibly();
+      eventLoopGroup.shutdownGracefully().syncUninterruptibly();
+    }
+  }
+
+  private void connectAuth(BotPlayer botPlayer) {
+    botPlayer.setStartMicros(botMetricsService.getMicros());
+
+    connect(
+            botProperties.authHost(),
+            botProperties.authPort(),
+            authPacketLayoutRegistry,
+            AuthBotChannelHandlerService.DECODED_PACKET_CLASSES,
+            new AuthBotChannelHandlerService(
+                botPlayer, botProperties.password(), botMetricsService, this::connectGame))
+        .addListener(
+            future -> {
+              if (!future.isSuccess()) {
+                log.debug("Authentication connect failed for {}", botPlayer.getUsername());
+                botMetricsService.recordConnectFailure();
+                return;
+              }
+
+              botMetricsService.recordConnectLatency(botPlayer.getStartMicros());
+            });
+  }
+
+  private void connectGame(BotPlayer botPlayer) {
+    connect(
+            botProperties.gameHost(),
+            botProperties.gamePort(),
+            gamePacketLayoutRegistry,
+            GameBotChannelHandlerService.DECODED_PACKET_CLASSES,
+            new GameBotChannelHandlerService(botPlayer, botProperties, botMetricsService))
+        .addListener(
+            future -> {
+              if (!future.isSuccess()) {
+                log.debug("Game connect failed for {}", botPlayer.getUsername());
+                botMetricsService.recordConnectFailure();
+              }
+            });
+  }
+
+  private ChannelFuture connect(
+      String host,
+      int port,
+      PacketLayoutRegistry packetLayoutRegistry,
+      Set<Class<?>> decodedPacketClasses,
+      ChannelHandler channelHandler) {
+    return new Bootstrap()
+        .group(eventLoopGroup)
+        .channel(NioSocketChannel.class)
+        .option(ChannelOption.TCP_NODELAY, true)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS)
+        .handler(
+            new ChannelInitializer<SocketChannel>() {
+              @Override
+              protected void initChannel(SocketChannel socketChannel) {
+                channelGroup.add(socketChannel);
+                socketChannel
+                    .pipeline()
+                    .addLast(
+                        new ClientPacketDecoderService(packetLayoutRegistry, decodedPacketClasses))
+                    .addLast(new ClientPacketEncoderService(packetLayoutRegistry))
+                    .addLast(channelHandler);
+              }
+            })
+        .connect(host, port);
+  }
+
+  private void parkUntil(long deadlineNanos) {
+    long remainingNanos;
+
+    while ((remainingNanos = deadlineNanos - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remainingNanos);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.blaj.openmetin.bot.application.features.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.blaj.openmetin.authentication.application.features.login.LoginFailedPacket;
+import com.blaj.openmetin.authentication.application.features.login.LoginPacket;
+import com.blaj.openmetin.authentication.application.features.login.LoginSuccessPacket;
+import com.blaj.openmetin.bot.domain.model.BotPlayer;
+import com.blaj.openmetin.bot.infrastructure.metrics.BotMetricsService;
+import com.blaj.openmetin.shared.application.features.handshake.HandshakePacket;
+import com.blaj.openmetin.shared.application.features.phase.PhasePacket;
+import com.blaj.openmetin.shared.common.enums.Phase;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthBotChannelHandlerServiceTest {
+
+  private EmbeddedChannel embeddedChannel;
+  private BotPlayer botPlayer;
+
+  @Mock private BotMetricsService botMetricsService;
+  @Mock private Consumer<BotPlayer> loginSuccessConsumer;
+
+  @BeforeEach
+  public void beforeEach() {
+    botPlayer = new BotPlayer(1, "bot1");
+    embeddedChannel =
+        new EmbeddedChannel(
+            new AuthBotChannelHandlerService(
+                botPlayer, "secret", botMetricsService, loginSuccessConsumer));
+  }
+
+  @AfterEach
+  public void afterEach() {
+    embeddedChannel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void givenHandshakePacket_whenRead_thenEchoHandshake() {
+    // given
+    var handshakePacket = new HandshakePacket().setHandshake(5).setTime(100).setDelta(0);
+
+    // when
+    embeddedChannel.writeInbound(handshakePacket);
+
+    // then
+    assertThat((Object) embeddedChannel.readOutbound()).isSameAs(handshakePacket);
+  }
+
+  @Test
+  public void givenAuthPhase_whenRead_thenSendLoginPacket() {
+    // when
+    embeddedChannel.writeInbound(new PhasePacket().setPhase(Phase.AUTH));
+
+    // then
+    LoginPacket loginPacket = embeddedChannel.readOutbound();
+    assertThat(loginPacket.getUsername()).isEqualTo("bot1");
+    assertThat(loginPacket.getPassword()).isEqualTo("secret");
+  }
+
+  @Test
+  public void givenLoginSuccessPacket_whenRead_thenStoreKeyAndContinueWithGame() {
+    // when
+    embeddedChannel.writeInbound(new LoginSuccessPacket().setKey(77).setResult((byte) 1));
+
+    // then
+    assertThat(botPlayer.getLoginKey()).isEqualTo(77);
+    assertThat(embeddedChannel.isOpen()).isFalse();
+    then(loginSuccessConsumer).should().accept(botPlayer);
+    then(botMetricsService).should(never()).recordLoginFailure();
+  }
+
+  @Test
+  public void givenLoginFailedPacket_whenRead_thenRecordFailureAndClose() {
+    // when
+    embeddedChannel.writeInbound(new LoginFailedPacket().setStatus("WRONGPWD"));
+
+    // then
+    assertThat(embeddedChannel.isOpen()).isFalse();
+    then(botMetricsService).should().recordLoginFailure();
+    then(loginSuccessConsumer).should(never()).accept(botPlayer);
+  }
+
+  @Test
+  public void givenConnectionClosedBeforeLogin_whenClose_thenRecordLoginFailure() {
+    // when
+    embeddedChannel.close();
+
+    // then
+    then(botMetricsService).should().recordLoginFailure();
+  }
+}
@@ -0,0 +1,184 @@
+package com.blaj.openmetin.bot.application.features.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+
+import com.blaj.openmetin.bot.domain.model.BotPlayer;
+import com.blaj.openmetin.bot.infrastructure.metrics.BotMetricsService;
+import com.blaj.openmetin.bot.infrastructure.properties.BotProperties;
+import com.blaj.openmetin.game.application.common.character.dto.CharacterBasicDataPacket;
+import com.blaj.openmetin.game.application.common.character.dto.CharacterListPacket;
+import com.blaj.openmetin.game.application.common.character.dto.MoveCharacterBroadcastPacket;
+import com.blaj.openmetin.game.application.common.ping.PingPacket;
+import com.blaj.openmetin.game.application.features.createcharacter.CreateCharacterFailurePacket;
+import com.blaj.openmetin.game.application.features.createcharacter.CreateCharacterPacket;
+import com.blaj.openmetin.game.application.features.createcharacter.CreateCharacterSuccessPacket;
+import com.blaj.openmetin.game.application.features.entergame.EntergamePacket;
+import com.blaj.openmetin.game.application.features.movecharacter.MoveCharacterPacket;
+import com.blaj.openmetin.game.application.features.pong.PongPacket;
+import com.blaj.openmetin.game.application.features.selectcharacter.SelectCharacterPacket;
+import com.blaj.openmetin.game.application.features.tokenlogin.TokenLoginPacket;
+import com.blaj.openmetin.game.domain.enums.character.CharacterMovementType;
+import com.blaj.openmetin.shared.application.features.phase.PhasePacket;
+import com.blaj.openmetin.shared.common.enums.Phase;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class GameBotChannelHandlerServiceTest {
+
+  private EmbeddedChannel embeddedChannel;
+  private BotPlayer botPlayer;
+
+  @Mock private BotMetricsService botMetricsService;
+
+  @BeforeEach
+  public void beforeEach() {
+    botPlayer = new BotPlayer(1, "bot1");
+    botPlayer.setLoginKey(77);
+    botPlayer.setStartMicros(10);
+
+    var botProperties = BotProperties.fromArgs("--slot=1", "--move-radius=100");
+
+    embeddedChannel =
+        new EmbeddedChannel(
+            new GameBotChannelHandlerService(botPlayer, botProperties, botMetricsService));
+  }
+
+  @AfterEach
+  public void afterEach() {
+    embeddedChannel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void givenLoginPhase_whenRead_thenSendTokenLoginPacket() {
+    // when
+    embeddedChannel.writeInbound(new PhasePacket().setPhase(Phase.LOGIN));
+
+    // then
+    TokenLoginPacket tokenLoginPacket = embeddedChannel.readOutbound();
+    assertThat(tokenLoginPacket.getUsername()).isEqualTo("bot1");
+    assertThat(tokenLoginPacket.getKey()).isEqualTo(77);
+  }
+
+  @Test
+  public void givenPingPacket_whenRead_thenSendPongPacket() {
+    // when
+    embeddedChannel.writeInbound(new PingPacket());
+
+    // then
+    assertThat((Object) embeddedChannel.readOutbound()).isInstanceOf(PongPacket.class);
+  }
+
+  @Test
+  public void givenCharacterInSlot_whenReadCharacterList_thenSelectCharacter() {
+    // given
+    var characterListPacket = new CharacterListPacket();
+    characterListPacket.getSimpleCharacterPackets()[1].setId(5);
+
+    // when
+    embeddedChannel.writeInbound(characterListPacket);
+
+    // then
+    SelectCharacterPacket selectCharacterPacket = embeddedChannel.readOutbound();
+    assertThat(selectCharacterPacket.getSlot()).isEqualTo((short) 1);
+  }
+
+  @Test
+  public void givenEmptySlot_whenReadCharacterList_thenCreateCharacter() {
+    // when
+    embeddedChannel.writeInbound(new CharacterListPacket());
+
+    // then
+    CreateCharacterPacket createCharacterPacket = embeddedChannel.readOutbound();
+    assertThat(createCharacterPacket.getSlot()).isEqualTo((short) 1);
+    assertThat(createCharacterPacket.getName()).isEqualTo("bot1");
+  }
+
+  @Test
+  public void givenCreateCharacterSuccess_whenRead_thenSelectCharacter() {
+    // when
+    embeddedChannel.writeInbound(new CreateCharacterSuccessPacket().setSlot((short) 1));
+
+    // then
+    assertThat((Object) embeddedChannel.readOutbound()).isInstanceOf(SelectCharacterPacket.class);
+  }
+
+  @Test
+  public void givenCreateCharacterFailure_whenRead_thenRecordFailureAndClose() {
+    // when
+    embeddedChannel.writeInbound(new CreateCharacterFailurePacket().setError((short) 1));
+
+    // then
+    assertThat(embeddedChannel.isOpen()).isFalse();
+    then(botMetricsService).should().recordCharacterFailure();
+    then(botMetricsService).should().recordDisconnect(false);
+  }
+
+  @Test
+  public void givenCharacterBasicData_whenRead_thenStoreSpawnAndEnterGame() {
+    // when
+    embeddedChannel.writeInbound(
+        new CharacterBasicDataPacket().setVid(9).setPositionX(1_000).setPositionY(2_000));
+
+    // then
+    assertThat(botPlayer.getVid()).isEqualTo(9);
+    assertThat(botPlayer.getSpawnPositionX()).isEqualTo(1_000);
+    assertThat(botPlayer.getSpawnPositionY()).isEqualTo(2_000);
+    assertThat((Object) embeddedChannel.readOutbound()).isInstanceOf(EntergamePacket.class);
+  }
+
+  @Test
+  public void givenInGamePhase_whenMoveIntervalElapsed_thenSendMoveWithinRadius() {
+    // given
+    botPlayer.setSpawnPositionX(1_000);
+    botPlayer.setSpawnPositionY(2_000);
+    given(botMetricsService.getMoveTime()).willReturn(123L);
+
+    // when
+    embeddedChannel.writeInbound(new PhasePacket().setPhase(Phase.IN_GAME));
+    embeddedChannel.advanceTimeBy(250, TimeUnit.MILLISECONDS);
+    embeddedChannel.runScheduledPendingTasks();
+
+    // then
+    assertThat(botPlayer.isInGame()).isTrue();
+    then(botMetricsService).should().recordInGame(10);
+    then(botMetricsService).should(atLeastOnce()).recordMoveSent();
+
+    MoveCharacterPacket moveCharacterPacket = embeddedChannel.readOutbound();
+    assertThat(moveCharacterPacket.getMovementType()).isEqualTo(CharacterMovementType.MOVE);
+    assertThat(moveCharacterPacket.getPositionX()).isBetween(900, 1_100);
+    assertThat(moveCharacterPacket.getPositionY()).isBetween(1_900, 2_100);
+    assertThat(moveCharacterPacket.getTime()).isEqualTo(123L);
+  }
+
+  @Test
+  public void givenInGameBot_whenClose_thenRecordInGameDisconnect() {
+    // given
+    embeddedChannel.writeInbound(new PhasePacket().setPhase(Phase.IN_GAME));
+
+    // when
+    embeddedChannel.close();
+
+    // then
+    assertThat(botPlayer.isInGame()).isFalse();
+    then(botMetricsService).should().recordDisconnect(true);
+  }
+
+  @Test
+  public void givenMoveBroadcast_whenRead_thenRecordMoveEcho() {
+    // when
+    embeddedChannel.writeInbound(new MoveCharacterBroadcastPacket().setVid(2).setTime(456));
+
+    // then
+    then(botMetricsService).should().recordMoveEcho(456);
+  }
+}
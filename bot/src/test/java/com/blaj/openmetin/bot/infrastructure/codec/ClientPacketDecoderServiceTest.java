@@ -0,0 +1,109 @@
+package com.blaj.openmetin.bot.infrastructure.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blaj.openmetin.game.application.common.character.dto.MoveCharacterBroadcastPacket;
+import com.blaj.openmetin.game.application.common.character.dto.MoveCharacterBroadcastPacketEncoderService;
+import com.blaj.openmetin.game.application.common.ping.PingPacket;
+import com.blaj.openmetin.game.domain.enums.character.CharacterMovementType;
+import com.blaj.openmetin.shared.application.features.phase.PhasePacket;
+import com.blaj.openmetin.shared.application.features.phase.PhasePacketEncoderService;
+import com.blaj.openmetin.shared.common.enums.Phase;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ClientPacketDecoderServiceTest {
+
+  private EmbeddedChannel embeddedChannel;
+
+  @BeforeEach
+  public void beforeEach() {
+    var packetLayoutRegistry =
+        new PacketLayoutRegistry(
+            List.of(PhasePacket.class, PingPacket.class, MoveCharacterBroadcastPacket.class));
+
+    embeddedChannel =
+        new EmbeddedChannel(
+            new ClientPacketDecoderService(
+                packetLayoutRegistry, Set.of(PhasePacket.class, PingPacket.class)));
+  }
+
+  @AfterEach
+  public void afterEach() {
+    embeddedChannel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void givenSkippedPacketFollowedByDecodedPacket_whenRead_thenOnlyDecodedPacketIsEmitted() {
+    // given
+    var byteBuf = Unpooled.buffer();
+    writeMoveCharacterBroadcastPacket(byteBuf);
+    writePhasePacket(byteBuf, Phase.IN_GAME);
+
+    // when
+    embeddedChannel.writeInbound(byteBuf);
+
+    // then
+    PhasePacket phasePacket = embeddedChannel.readInbound();
+    assertThat(phasePacket.getPhase()).isEqualTo(Phase.IN_GAME);
+    assertThat((Object) embeddedChannel.readInbound()).isNull();
+  }
+
+  @Test
+  public void givenPartialFrame_whenRead_thenWaitForRemainingBytes() {
+    // given
+    var byteBuf = Unpooled.buffer();
+    writePhasePacket(byteBuf, Phase.LOGIN);
+    var firstPart = byteBuf.readRetainedSlice(1);
+
+    // when
+    embeddedChannel.writeInbound(firstPart);
+    var packetBeforeRemainingBytes = embeddedChannel.readInbound();
+    embeddedChannel.writeInbound(byteBuf);
+
+    // then
+    assertThat(packetBeforeRemainingBytes).isNull();
+    PhasePacket phasePacket = embeddedChannel.readInbound();
+    assertThat(phasePacket.getPhase()).isEqualTo(Phase.LOGIN);
+  }
+
+  @Test
+  public void givenEmptyPacket_whenRead_thenDecodePacketWithoutBody() {
+    // when
+    embeddedChannel.writeInbound(Unpooled.wrappedBuffer(new byte[] {0x2C}));
+
+    // then
+    assertThat((Object) embeddedChannel.readInbound()).isInstanceOf(PingPacket.class);
+  }
+
+  @Test
+  public void givenUnknownHeader_whenRead_thenCloseChannel() {
+    // when
+    embeddedChannel.writeInbound(Unpooled.wrappedBuffer(new byte[] {0x42, 0x00}));
+
+    // then
+    assertThat(embeddedChannel.isOpen()).isFalse();
+  }
+
+  private void writePhasePacket(ByteBuf byteBuf, Phase phase) {
+    byteBuf.writeByte(0xfd);
+    new PhasePacketEncoderService().encode(new PhasePacket().setPhase(phase), byteBuf);
+  }
+
+  private void writeMoveCharacterBroadcastPacket(ByteBuf byteBuf) {
+    byteBuf.writeByte(0x03);
+    new MoveCharacterBroadcastPacketEncoderService()
+        .encode(
+            new MoveCharacterBroadcastPacket()
+                .setMovementType(CharacterMovementType.MOVE)
+                .setVid(1)
+                .setTime(10),
+            byteBuf);
+  }
+}
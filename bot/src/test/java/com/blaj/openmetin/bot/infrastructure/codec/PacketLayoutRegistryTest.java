@@ -0,0 +1,80 @@
+package com.blaj.openmetin.bot.infrastructure.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.blaj.openmetin.authentication.application.features.login.LoginFailedPacket;
+import com.blaj.openmetin.authentication.application.features.login.LoginPacket;
+import com.blaj.openmetin.contracts.annotation.PacketHeader;
+import com.blaj.openmetin.contracts.enums.PacketDirection;
+import com.blaj.openmetin.game.application.common.character.dto.MoveCharacterBroadcastPacket;
+import com.blaj.openmetin.game.application.features.movecharacter.MoveCharacterPacket;
+import com.blaj.openmetin.shared.application.features.handshake.HandshakePacket;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class PacketLayoutRegistryTest {
+
+  @Test
+  public void givenGamePackages_whenScan_thenRegisterLayoutsByDirection() {
+    // when
+    var packetLayoutRegistry =
+        PacketLayoutRegistry.scan("com.blaj.openmetin.shared", "com.blaj.openmetin.game");
+
+    // then
+    assertThat(packetLayoutRegistry.getDecodingPacketLayout(0x03).packetClass())
+        .isEqualTo(MoveCharacterBroadcastPacket.class);
+    assertThat(packetLayoutRegistry.getEncodingPacketLayout(MoveCharacterPacket.class).header())
+        .isEqualTo(0x07);
+    assertThat(packetLayoutRegistry.getDecodingPacketLayout(0xff).packetClass())
+        .isEqualTo(HandshakePacket.class);
+    assertThat(packetLayoutRegistry.getEncodingPacketLayout(HandshakePacket.class)).isNotNull();
+    assertThat(packetLayoutRegistry.getEncodingPacketLayout(MoveCharacterBroadcastPacket.class))
+        .isNull();
+  }
+
+  @Test
+  public void givenAuthenticationPackages_whenScan_thenRegisterAuthenticationLayouts() {
+    // when
+    var packetLayoutRegistry =
+        PacketLayoutRegistry.scan(
+            "com.blaj.openmetin.shared", "com.blaj.openmetin.authentication");
+
+    // then
+    assertThat(packetLayoutRegistry.getDecodingPacketLayout(0x07).packetClass())
+        .isEqualTo(LoginFailedPacket.class);
+    assertThat(packetLayoutRegistry.getEncodingPacketLayout(LoginPacket.class).sequence())
+        .isTrue();
+    assertThat(packetLayoutRegistry.getEncodingPacketLayout(MoveCharacterPacket.class)).isNull();
+  }
+
+  @Test
+  public void givenHeaderOutOfRange_whenGetDecodingPacketLayout_thenReturnNull() {
+    // given
+    var packetLayoutRegistry = new PacketLayoutRegistry(List.of());
+
+    // when
+    var packetLayout = packetLayoutRegistry.getDecodingPacketLayout(256);
+
+    // then
+    assertThat(packetLayout).isNull();
+  }
+
+  @Test
+  public void givenDuplicateOutgoingHeader_whenCreate_thenThrowIllegalStateException() {
+    // when
+    var thrownException =
+        assertThrows(
+            IllegalStateException.class,
+            () -> new PacketLayoutRegistry(List.of(FirstPacket.class, SecondPacket.class)));
+
+    // then
+    assertThat(thrownException).hasMessageContaining("0x10");
+  }
+
+  @PacketHeader(header = 0x10, direction = PacketDirection.OUTGOING)
+  public static class FirstPacket {}
+
+  @PacketHeader(header = 0x10, direction = PacketDirection.OUTGOING)
+  public static class SecondPacket {}
+}
@@ -0,0 +1,182 @@
+package com.blaj.openmetin.bot.infrastructure.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.blaj.openmetin.contracts.annotation.PacketField;
+import com.blaj.openmetin.contracts.annotation.PacketHeader;
+import com.blaj.openmetin.contracts.enums.PacketDirection;
+import com.blaj.openmetin.game.application.common.character.dto.CharacterListPacket;
+import com.blaj.openmetin.game.application.common.character.dto.CharacterListPacketEncoderService;
+import com.blaj.openmetin.game.application.common.character.dto.MoveCharacterBroadcastPacket;
+import com.blaj.openmetin.game.application.common.character.dto.MoveCharacterBroadcastPacketEncoderService;
+import com.blaj.openmetin.game.application.features.movecharacter.MoveCharacterPacket;
+import com.blaj.openmetin.game.application.features.movecharacter.MoveCharacterPacketDecoderService;
+import com.blaj.openmetin.game.application.features.tokenlogin.TokenLoginPacket;
+import com.blaj.openmetin.game.application.features.tokenlogin.TokenLoginPacketDecoderService;
+import com.blaj.openmetin.game.domain.enums.character.CharacterMovementType;
+import com.blaj.openmetin.game.domain.enums.character.ClassType;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+public class PacketLayoutTest {
+
+  @Test
+  public void givenClassWithoutPacketHeader_whenOf_thenThrowIllegalArgumentException() {
+    // when
+    var thrownException =
+        assertThrows(IllegalArgumentException.class, () -> PacketLayout.of(String.class));
+
+    // then
+    assertThat(thrownException).hasMessageContaining("@PacketHeader");
+  }
+
+  @Test
+  public void givenDynamicSizePacket_whenOf_thenThrowIllegalArgumentException() {
+    // when
+    var thrownException =
+        assertThrows(
+            IllegalArgumentException.class, () -> PacketLayout.of(DynamicSizePacket.class));
+
+    // then
+    assertThat(thrownException).hasMessageContaining("dynamic size");
+  }
+
+  @Test
+  public void givenPacketWithUnsupportedField_whenOf_thenThrowIllegalArgumentException() {
+    // when
+    var thrownException =
+        assertThrows(
+            IllegalArgumentException.class, () -> PacketLayout.of(UnsupportedFieldPacket.class));
+
+    // then
+    assertThat(thrownException).hasMessageContaining("UnsupportedFieldPacket.values");
+  }
+
+  @Test
+  public void givenIncomingPacket_whenGetFrameLength_thenMatchesGeneratedDecoderSize() {
+    // given
+    var packetLayout = PacketLayout.of(MoveCharacterPacket.class);
+
+    // when
+    var frameLength = packetLayout.getFrameLength();
+
+    // then
+    assertThat(frameLength).isEqualTo(new MoveCharacterPacketDecoderService().getSize());
+    assertThat(packetLayout.getEncodedSize()).isEqualTo(frameLength + 1);
+  }
+
+  @Test
+  public void givenTokenLoginPacket_whenEncode_thenGeneratedDecoderReadsSamePacket() {
+    // given
+    var packetLayout = PacketLayout.of(TokenLoginPacket.class);
+    var tokenLoginPacket =
+        new TokenLoginPacket()
+            .setUsername("bot1")
+            .setKey(0xFFFFFFF0L)
+            .setEncryptKeys(new long[] {1, 2, 3, 0xFFFFFFFFL});
+    var byteBuf = Unpooled.buffer();
+
+    // when
+    packetLayout.encode(tokenLoginPacket, byteBuf);
+
+    // then
+    assertThat(byteBuf.readableBytes()).isEqualTo(packetLayout.getEncodedSize());
+    assertThat(byteBuf.readUnsignedByte()).isEqualTo((short) 0x6d);
+
+    var decodedPacket = new TokenLoginPacketDecoderService().decode(byteBuf);
+    assertThat(decodedPacket.getUsername()).isEqualTo("bot1");
+    assertThat(decodedPacket.getKey()).isEqualTo(0xFFFFFFF0L);
+    assertThat(decodedPacket.getEncryptKeys()).containsExactly(1, 2, 3, 0xFFFFFFFFL);
+    assertThat(byteBuf.readableBytes()).isZero();
+  }
+
+  @Test
+  public void givenMoveCharacterPacket_whenEncode_thenGeneratedDecoderReadsSamePacket() {
+    // given
+    var packetLayout = PacketLayout.of(MoveCharacterPacket.class);
+    var moveCharacterPacket =
+        new MoveCharacterPacket()
+            .setMovementType(CharacterMovementType.MOVE)
+            .setArgument((short) 3)
+            .setRotation((short) 71)
+            .setPositionX(-1200)
+            .setPositionY(95_000)
+            .setTime(0xFFFFFFFEL);
+    var byteBuf = Unpooled.buffer();
+
+    // when
+    packetLayout.encode(moveCharacterPacket, byteBuf);
+
+    // then
+    byteBuf.skipBytes(1);
+    assertThat(new MoveCharacterPacketDecoderService().decode(byteBuf))
+        .isEqualTo(moveCharacterPacket);
+  }
+
+  @Test
+  public void givenMoveCharacterBroadcastPacketEncodedByServer_whenDecode_thenReturnSamePacket() {
+    // given
+    var packetLayout = PacketLayout.of(MoveCharacterBroadcastPacket.class);
+    var moveCharacterBroadcastPacket =
+        new MoveCharacterBroadcastPacket()
+            .setMovementType(CharacterMovementType.WAIT)
+            .setArgument((short) 1)
+            .setRotation((short) 12)
+            .setVid(0xFFFF0000L)
+            .setPositionX(1_000)
+            .setPositionY(-2_000)
+            .setTime(123_456L)
+            .setDuration(250L);
+    var byteBuf = Unpooled.buffer();
+    new MoveCharacterBroadcastPacketEncoderService().encode(moveCharacterBroadcastPacket, byteBuf);
+
+    // when
+    var decodedPacket = packetLayout.decode(byteBuf);
+
+    // then
+    assertThat(decodedPacket).isEqualTo(moveCharacterBroadcastPacket);
+    assertThat(byteBuf.readableBytes()).isZero();
+  }
+
+  @Test
+  public void givenCharacterListPacketEncodedByServer_whenDecode_thenReturnSamePacket() {
+    // given
+    var packetLayout = PacketLayout.of(CharacterListPacket.class);
+    var characterListPacket =
+        new CharacterListPacket()
+            .setGuildIds(new long[] {1, 0, 0, 0xFFFFFFFFL})
+            .setGuildNames(new String[] {"guild", "", "", "last"})
+            .setHandle(7)
+            .setRandomKey(9);
+    characterListPacket.getSimpleCharacterPackets()[2] =
+        new CharacterListPacket.SimpleCharacterPacket()
+            .setId(42)
+            .setName("bot42")
+            .setClassType(ClassType.WARRIOR_MALE)
+            .setLevel((short) 99)
+            .setPlaytime(3_600)
+            .setBodyPart(65_535)
+            .setDummy(new byte[] {1, 2, 3, 4})
+            .setPositionX(469_300)
+            .setPositionY(-964_200);
+    var byteBuf = Unpooled.buffer();
+    new CharacterListPacketEncoderService().encode(characterListPacket, byteBuf);
+
+    // when
+    var decodedPacket = packetLayout.decode(byteBuf);
+
+    // then
+    assertThat(decodedPacket).isEqualTo(characterListPacket);
+    assertThat(byteBuf.readableBytes()).isZero();
+  }
+
+  @PacketHeader(header = 0x01, direction = PacketDirection.OUTGOING, hasDynamicSize = true)
+  public static class DynamicSizePacket {}
+
+  @PacketHeader(header = 0x02, direction = PacketDirection.OUTGOING)
+  public static class UnsupportedFieldPacket {
+    @PacketField(position = 0, arrayLength = 2)
+    private short[] values;
+  }
+}
@@ -0,0 +1,103 @@
+package com.blaj.openmetin.bot.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BotMetricsServiceTest {
+
+  private BotMetricsService botMetricsService;
+  private long nanoTime;
+
+  @BeforeEach
+  public void beforeEach() {
+    nanoTime = 1_000_000;
+    botMetricsService = new BotMetricsService(() -> nanoTime);
+  }
+
+  @Test
+  public void givenElapsedTime_whenGetMicros_thenReturnMicrosSinceStart() {
+    // given
+    nanoTime += TimeUnit.MILLISECONDS.toNanos(3);
+
+    // when
+    var micros = botMetricsService.getMicros();
+
+    // then
+    assertThat(micros).isEqualTo(3_000);
+  }
+
+  @Test
+  public void givenMoveTimeWrappedAround_whenRecordMoveEcho_thenRecordUnsignedDifference() {
+    // given
+    nanoTime += TimeUnit.MICROSECONDS.toNanos(BotMetricsService.MOVE_TIME_MASK + 1 + 500);
+
+    // when
+    botMetricsService.recordMoveEcho(BotMetricsService.MOVE_TIME_MASK - 499);
+
+    // then
+    assertThat(botMetricsService.getMoveEchoCount()).isEqualTo(1);
+    assertThat(botMetricsService.createReport()).contains("move echo latency (ms): count=1");
+  }
+
+  @Test
+  public void givenMovesSent_whenGetMovesPerSecond_thenReturnAchievedThroughput() {
+    // given
+    botMetricsService.recordMoveSent();
+    nanoTime += TimeUnit.SECONDS.toNanos(2);
+    botMetricsService.recordMoveSent();
+    botMetricsService.recordMoveSent();
+    botMetricsService.recordMoveSent();
+
+    // when
+    var movesPerSecond = botMetricsService.getMovesPerSecond();
+
+    // then
+    assertThat(movesPerSecond).isEqualTo(2.0);
+    assertThat(botMetricsService.getMoveSentCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void givenNoMovesSent_whenGetMovesPerSecond_thenReturnZero() {
+    // when
+    var movesPerSecond = botMetricsService.getMovesPerSecond();
+
+    // then
+    assertThat(movesPerSecond).isZero();
+  }
+
+  @Test
+  public void givenInGameBotDisconnected_whenRecordDisconnect_thenDecrementInGameCount() {
+    // given
+    botMetricsService.recordInGame(0);
+    botMetricsService.recordInGame(0);
+
+    // when
+    botMetricsService.recordDisconnect(true);
+    botMetricsService.recordDisconnect(false);
+
+    // then
+    assertThat(botMetricsService.getInGameCount()).isEqualTo(1);
+    assertThat(botMetricsService.createProgress()).contains("in-game=1", "disconnects=2");
+  }
+
+  @Test
+  public void givenRecordedSamples_whenCreateReport_thenContainPercentilesAndFailures() {
+    // given
+    nanoTime += TimeUnit.MILLISECONDS.toNanos(2);
+    botMetricsService.recordConnectLatency(0);
+    botMetricsService.recordLoginFailure();
+    botMetricsService.recordConnectFailure();
+
+    // when
+    var report = botMetricsService.createReport();
+
+    // then
+    assertThat(report)
+        .contains("connect latency (ms): count=1 p50=2.00")
+        .contains("time to in-game: no samples")
+        .contains("failures: connect=1 login=1 character=0 disconnects=0");
+  }
+}
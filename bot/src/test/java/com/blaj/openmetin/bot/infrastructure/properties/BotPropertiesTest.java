@@ -0,0 +1,75 @@
+package com.blaj.openmetin.bot.infrastructure.properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class BotPropertiesTest {
+
+  @Test
+  public void givenNoArguments_whenFromArgs_thenReturnDefaults() {
+    // when
+    var botProperties = BotProperties.fromArgs();
+
+    // then
+    assertThat(botProperties.authPort()).isEqualTo(11000);
+    assertThat(botProperties.gamePort()).isEqualTo(13000);
+    assertThat(botProperties.playerCount()).isEqualTo(1000);
+    assertThat(botProperties.moveInterval()).isEqualTo(Duration.ofMillis(250));
+  }
+
+  @Test
+  public void givenArguments_whenFromArgs_thenOverrideDefaults() {
+    // when
+    var botProperties =
+        BotProperties.fromArgs(
+            "--game-host=10.0.0.2",
+            "--player-count=5000",
+            "--username-prefix=load",
+            "--first-index=100",
+            "--duration-seconds=60",
+            "--slot=2");
+
+    // then
+    assertThat(botProperties.gameHost()).isEqualTo("10.0.0.2");
+    assertThat(botProperties.playerCount()).isEqualTo(5000);
+    assertThat(botProperties.duration()).isEqualTo(Duration.ofSeconds(60));
+    assertThat(botProperties.slot()).isEqualTo(2);
+    assertThat(botProperties.getUsername(botProperties.firstIndex())).isEqualTo("load100");
+  }
+
+  @Test
+  public void givenUnknownArgument_whenFromArgs_thenThrowIllegalArgumentException() {
+    // when
+    var thrownException =
+        assertThrows(
+            IllegalArgumentException.class, () -> BotProperties.fromArgs("--players=10"));
+
+    // then
+    assertThat(thrownException).hasMessageContaining("players");
+  }
+
+  @Test
+  public void givenMalformedArgument_whenFromArgs_thenThrowIllegalArgumentException() {
+    // when
+    var thrownException =
+        assertThrows(IllegalArgumentException.class, () -> BotProperties.fromArgs("player-count"));
+
+    // then
+    assertThat(thrownException).hasMessageContaining("--key=value");
+  }
+
+  @Test
+  public void givenNonAlphanumericUsernamePrefix_whenFromArgs_thenThrowIllegalArgumentException() {
+    // when
+    var thrownException =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BotProperties.fromArgs("--username-prefix=bot_"));
+
+    // then
+    assertThat(thrownException).hasMessageContaining("alphanumeric");
+  }
+}
@@ -4,6 +4,7 @@ plugins {
     id("org.springframework.boot") version "4.0.0" apply false
     id("io.spring.dependency-management") version "1.1.7" apply false
     id("io.freefair.lombok") version "9.0.0" apply false
+    id("me.champeau.jmh") version "0.7.3" apply false
 }
 
 repositories {
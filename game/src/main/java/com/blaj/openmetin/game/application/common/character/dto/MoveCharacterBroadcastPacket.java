@@ -5,7 +5,7 @@ import com.blaj.openmetin.contracts.annotation.PacketField;
 import com.blaj.openmetin.contracts.annotation.PacketHeader;
 import com.blaj.openmetin.contracts.enums.PacketDirection;
 import com.blaj.openmetin.game.domain.enums.character.CharacterMovementType;
-import com.blaj.openmetin.shared.common.model.Packet;
+import com.blaj.openmetin.shared.common.model.CoalescablePacket;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,7 +17,7 @@ import lombok.experimental.Accessors;
 @Setter
 @Accessors(chain = true)
 @EqualsAndHashCode
-public class MoveCharacterBroadcastPacket implements Packet {
+public class MoveCharacterBroadcastPacket implements CoalescablePacket {
 
   @PacketField(position = 0)
   private CharacterMovementType movementType;
@@ -42,4 +42,9 @@ public class MoveCharacterBroadcastPacket implements Packet {
 
   @PacketField(position = 7, unsigned = true)
   private long duration;
+
+  @Override
+  public long getCoalesceKey() {
+    return vid;
+  }
 }
@@ -8,6 +8,10 @@ import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
 import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
 import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
 import com.blaj.openmetin.shared.common.abstractions.SessionService;
+import com.blaj.openmetin.shared.common.model.Packet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,39 +20,69 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class EntityVisibilityService {
 
-  private final Map<EntityType, EntityVisibilityHandler> showHandlers =
+  private final Map<EntityType, EntityVisibilityPacketCollector> showPacketCollectors =
       Map.of(
-          EntityType.PLAYER, this::showPlayer,
-          EntityType.MONSTER, this::showMonster);
+          EntityType.PLAYER, this::collectShowPlayerPackets,
+          EntityType.MONSTER, this::collectShowMonsterPackets);
 
-  private final Map<EntityType, EntityVisibilityHandler> hideHandlers =
+  private final Map<EntityType, EntityVisibilityPacketCollector> hidePacketCollectors =
       Map.of(
-          EntityType.PLAYER, this::hidePlayer,
-          EntityType.MONSTER, this::hideMonster);
+          EntityType.PLAYER, this::collectHidePackets,
+          EntityType.MONSTER, this::collectHidePackets);
 
   private final SessionService sessionService;
 
   public void showEntityToPlayer(BaseGameEntity entityToShow, long sessionId) {
-    var handler = showHandlers.get(entityToShow.getType());
+    collectPackets(showPacketCollectors, entityToShow)
+        .forEach(packet -> sessionService.queuePacket(sessionId, packet));
+  }
+
+  public void hideEntityFromPlayer(BaseGameEntity entityToHide, long sessionId) {
+    collectPackets(hidePacketCollectors, entityToHide)
+        .forEach(packet -> sessionService.queuePacket(sessionId, packet));
+  }
 
-    if (handler != null) {
-      handler.handle(entityToShow, sessionId);
+  public void applyVisibilityChanges(
+      long sessionId,
+      Collection<BaseGameEntity> entitiesToHide,
+      Collection<BaseGameEntity> entitiesToShow) {
+    var packets = new ArrayList<Packet>();
+
+    entitiesToHide.forEach(
+        entityToHide -> collectPackets(hidePacketCollectors, entityToHide, packets));
+    entitiesToShow.forEach(
+        entityToShow -> collectPackets(showPacketCollectors, entityToShow, packets));
+
+    if (packets.isEmpty()) {
+      return;
     }
+
+    sessionService.queuePackets(sessionId, packets);
   }
 
-  public void hideEntityFromPlayer(BaseGameEntity entityToHide, long sessionId) {
-    var handler = hideHandlers.get(entityToHide.getType());
+  private List<Packet> collectPackets(
+      Map<EntityType, EntityVisibilityPacketCollector> packetCollectors, BaseGameEntity entity) {
+    var packets = new ArrayList<Packet>(2);
+    collectPackets(packetCollectors, entity, packets);
+
+    return packets;
+  }
 
-    if (handler != null) {
-      handler.handle(entityToHide, sessionId);
+  private void collectPackets(
+      Map<EntityType, EntityVisibilityPacketCollector> packetCollectors,
+      BaseGameEntity entity,
+      List<Packet> packets) {
+    var packetCollector = packetCollectors.get(entity.getType());
+
+    if (packetCollector != null) {
+      packetCollector.collect(entity, packets);
     }
   }
 
-  private void showPlayer(BaseGameEntity baseGameEntity, long sessionId) {
+  private void collectShowPlayerPackets(BaseGameEntity baseGameEntity, List<Packet> packets) {
     var gameCharacterEntity = (GameCharacterEntity) baseGameEntity;
 
-    sessionService.sendPacketAsync(
-        sessionId,
+    packets.add(
         new SpawnCharacterPacket()
             .setVid(gameCharacterEntity.getVid())
             .setAngle(0)
@@ -62,8 +96,7 @@ public class EntityVisibilityService {
             .setState((short) 0)
             .setAffects(new long[2]));
 
-    sessionService.sendPacketAsync(
-        sessionId,
+    packets.add(
         new CharacterAdditionalDataPacket()
             .setVid(gameCharacterEntity.getVid())
             .setName(gameCharacterEntity.getCharacterDto().getName())
@@ -76,11 +109,10 @@ public class EntityVisibilityService {
             .setMountVnum(0));
   }
 
-  private void showMonster(BaseGameEntity baseGameEntity, long sessionId) {
+  private void collectShowMonsterPackets(BaseGameEntity baseGameEntity, List<Packet> packets) {
     var monsterGameEntity = (MonsterGameEntity) baseGameEntity;
 
-    sessionService.sendPacketAsync(
-        sessionId,
+    packets.add(
         new SpawnCharacterPacket()
             .setVid(monsterGameEntity.getVid())
             .setAngle(0)
@@ -95,17 +127,13 @@ public class EntityVisibilityService {
             .setAffects(new long[2]));
   }
 
-  private void hidePlayer(BaseGameEntity entity, long sessionId) {
-    sessionService.sendPacketAsync(sessionId, new RemoveCharacterPacket().setVid(entity.getVid()));
-  }
-
-  private void hideMonster(BaseGameEntity entity, long sessionId) {
-    sessionService.sendPacketAsync(sessionId, new RemoveCharacterPacket().setVid(entity.getVid()));
+  private void collectHidePackets(BaseGameEntity entity, List<Packet> packets) {
+    packets.add(new RemoveCharacterPacket().setVid(entity.getVid()));
   }
 
   @FunctionalInterface
-  private interface EntityVisibilityHandler {
+  private interface EntityVisibilityPacketCollector {
 
-    void handle(BaseGameEntity baseGameEntity, long sessionId);
+    void collect(BaseGameEntity baseGameEntity, List<Packet> packets);
   }
 }
@@ -1,5 +1,6 @@
 package com.blaj.openmetin.game.application.common.eventsystem;
 
+import com.blaj.openmetin.game.domain.model.map.Map;
 import java.time.Duration;
 import java.util.function.Supplier;
 
@@ -7,7 +8,13 @@ public interface EventSystemService {
 
   long scheduleEvent(Supplier<Duration> callback, Duration initialDelay);
 
+  long scheduleEvent(Map map, Supplier<Duration> callback, Duration initialDelay);
+
   void cancelEvent(long eventId);
 
   int getPendingEventsCount();
+
+  void processDueEvents();
+
+  void processDueEvents(Map map);
 }
@@ -16,13 +16,14 @@ public class CreateCharacterPacketHandlerService
 
   @Override
   public void handle(CreateCharacterPacket packet, Session session) {
-    mediator.sendAsync(
+    mediator.sendAndForget(
         new CreateCharacterCommand(
             packet.getSlot(),
             packet.getName(),
             ClassType.fromValue(packet.getClassType()),
             packet.getShape(),
-            session.getId()));
+            session.getId()),
+        session.getCommandLane());
   }
 
   @Override
@@ -15,8 +15,9 @@ public class DeleteCharacterPacketHandlerService
 
   @Override
   public void handle(DeleteCharacterPacket packet, Session session) {
-    mediator.sendAsync(
-        new DeleteCharacterCommand(packet.getSlot(), packet.getDeleteCode(), session.getId()));
+    mediator.sendAndForget(
+        new DeleteCharacterCommand(packet.getSlot(), packet.getDeleteCode(), session.getId()),
+        session.getCommandLane());
   }
 
   @Override
@@ -14,7 +14,7 @@ public class EntergamePacketHandlerService implements PacketHandlerService<Enter
 
   @Override
   public void handle(EntergamePacket packet, Session session) {
-    mediator.sendAsync(new EntergameCommand(session.getId()));
+    mediator.sendAndForget(new EntergameCommand(session.getId()), session.getCommandLane());
   }
 
   @Override
@@ -36,6 +36,11 @@ public class GameHandshakeCommandHandlerService extends BaseHandshakeCommandHand
 
     eventSystemService.scheduleEvent(
         () -> {
+          if (!session.getChannel().isOpen()) {
+            return Duration.ZERO;
+          }
+
+          session.setPingSentNanos(System.nanoTime());
           sessionService.sendPacketAsync(session.getId(), new PingPacket());
           return pingDuration;
         },
@@ -5,10 +5,9 @@ import com.blaj.openmetin.game.application.common.entity.GameEntityMovementServi
 import com.blaj.openmetin.game.domain.enums.character.CharacterMovementType;
 import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
 import com.blaj.openmetin.game.domain.model.session.GameSession;
+import com.blaj.openmetin.game.infrastructure.service.tick.TickClockService;
 import com.blaj.openmetin.shared.common.abstractions.SessionManagerService;
 import com.blaj.openmetin.shared.common.abstractions.SessionService;
-import com.blaj.openmetin.shared.common.model.Session;
-import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
 import com.blaj.openmetin.shared.infrastructure.cqrs.RequestHandler;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +23,7 @@ public class MoveCharacterCommandHandlerService
   private final SessionManagerService<GameSession> sessionManagerService;
   private final SessionService sessionService;
   private final GameEntityMovementService gameEntityMovementService;
+  private final TickClockService tickClockService;
 
   @Override
   public Void handle(MoveCharacterCommand request) {
@@ -44,19 +44,32 @@ public class MoveCharacterCommandHandlerService
       return null;
     }
 
+    var gameCharacterEntity = session.getGameCharacterEntity();
+    var map = gameCharacterEntity.getMap();
+
+    if (map == null) {
+      log.debug("Game character {} is not on a map", gameCharacterEntity.getVid());
+      return null;
+    }
+
+    map.getPendingCommands().add(() -> move(gameCharacterEntity, request));
+
+    return null;
+  }
+
+  private void move(GameCharacterEntity gameCharacterEntity, MoveCharacterCommand request) {
     if (request.movementType() == CharacterMovementType.MOVE) {
-      session.getGameCharacterEntity().setRotation(request.rotation() * 5);
+      gameCharacterEntity.setRotation(request.rotation() * 5);
 
       gameEntityMovementService.goTo(
-          session.getGameCharacterEntity(),
+          gameCharacterEntity,
           request.positionX(),
           request.positionY(),
-          DateTimeUtils.getUnixTime());
+          tickClockService.getServerTime());
     }
 
     if (request.movementType() == CharacterMovementType.WAIT) {
-      gameEntityMovementService.wait(
-          session.getGameCharacterEntity(), request.positionX(), request.positionY());
+      gameEntityMovementService.wait(gameCharacterEntity, request.positionX(), request.positionY());
     }
 
     var moveCharacterBroadcastPacket =
@@ -64,23 +77,22 @@ public class MoveCharacterCommandHandlerService
             .setMovementType(request.movementType())
             .setArgument(request.argument())
             .setRotation(request.rotation())
-            .setVid(session.getGameCharacterEntity().getVid())
+            .setVid(gameCharacterEntity.getVid())
             .setPositionX(request.positionX())
             .setPositionY(request.positionY())
             .setTime(request.time())
             .setDuration(
                 request.movementType() == CharacterMovementType.MOVE
-                    ? session.getGameCharacterEntity().getMovementDuration()
+                    ? gameCharacterEntity.getMovementDuration()
                     : 0);
 
-    session.getGameCharacterEntity().getNearbyEntities().stream()
-        .filter(nearbyEntity -> nearbyEntity instanceof GameCharacterEntity)
-        .map(nearbyEntity -> (GameCharacterEntity) nearbyEntity)
-        .map(GameCharacterEntity::getSession)
-        .map(Session::getId)
-        .forEach(
-            sessionId -> sessionService.sendPacketAsync(sessionId, moveCharacterBroadcastPacket));
+    var sessions =
+        gameCharacterEntity.getNearbyEntities().stream()
+            .filter(nearbyEntity -> nearbyEntity instanceof GameCharacterEntity)
+            .map(nearbyEntity -> (GameCharacterEntity) nearbyEntity)
+            .map(GameCharacterEntity::getSession)
+            .toList();
 
-    return null;
+    sessionService.queueBroadcastPacketToSessions(moveCharacterBroadcastPacket, sessions);
   }
 }
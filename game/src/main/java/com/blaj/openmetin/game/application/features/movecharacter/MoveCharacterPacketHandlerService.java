@@ -15,7 +15,7 @@ public class MoveCharacterPacketHandlerService
 
   @Override
   public void handle(MoveCharacterPacket packet, Session session) {
-    mediator.sendAsync(
+    mediator.sendAndForget(
         new MoveCharacterCommand(
             packet.getMovementType(),
             packet.getArgument(),
@@ -23,7 +23,8 @@ public class MoveCharacterPacketHandlerService
             packet.getPositionX(),
             packet.getPositionY(),
             packet.getTime(),
-            session.getId()));
+            session.getId()),
+        session.getCommandLane());
   }
 
   @Override
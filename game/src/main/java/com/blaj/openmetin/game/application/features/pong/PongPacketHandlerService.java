@@ -2,13 +2,35 @@ package com.blaj.openmetin.game.application.features.pong;
 
 import com.blaj.openmetin.shared.common.abstractions.PacketHandlerService;
 import com.blaj.openmetin.shared.common.model.Session;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import org.springframework.stereotype.Service;
 
 @Service
 public class PongPacketHandlerService implements PacketHandlerService<PongPacket> {
 
+  private final Timer roundTripTimer;
+
+  public PongPacketHandlerService(MeterRegistry meterRegistry) {
+    roundTripTimer =
+        Timer.builder("network.session.rtt")
+            .description("Round-trip time between a ping and its pong")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+  }
+
   @Override
-  public void handle(PongPacket packet, Session session) {}
+  public void handle(PongPacket packet, Session session) {
+    var pingSentNanos = session.getPingSentNanos();
+
+    if (pingSentNanos == 0) {
+      return;
+    }
+
+    session.setPingSentNanos(0);
+    roundTripTimer.record(System.nanoTime() - pingSentNanos, TimeUnit.NANOSECONDS);
+  }
 
   @Override
   public Class<PongPacket> getPacketType() {
@@ -15,7 +15,9 @@ public class SelectCharacterPacketHandlerService
 
   @Override
   public void handle(SelectCharacterPacket packet, Session session) {
-    mediator.sendAsync(new SelectCharacterCommand(packet.getSlot(), session.getId()));
+    mediator.sendAndForget(
+        new SelectCharacterCommand(packet.getSlot(), session.getId()),
+        session.getCommandLane());
   }
 
   @Override
@@ -15,7 +15,9 @@ public class SelectEmpirePacketHandlerService implements PacketHandlerService<Em
 
   @Override
   public void handle(EmpirePacket packet, Session session) {
-    mediator.sendAsync(new SelectEmpireCommand(packet.getEmpire(), session.getId()));
+    mediator.sendAndForget(
+        new SelectEmpireCommand(packet.getEmpire(), session.getId()),
+        session.getCommandLane());
   }
 
   @Override
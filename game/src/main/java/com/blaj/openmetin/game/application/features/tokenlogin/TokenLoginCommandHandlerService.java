@@ -80,7 +80,7 @@ public class TokenLoginCommandHandlerService implements RequestHandler<TokenLogi
       empire = characters.getFirst().getEmpire();
     }
 
-    session.setAccountId(loginToken.getAccountId());
+    sessionManagerService.linkSessionToAccount(session.getId(), loginToken.getAccountId());
     session.setPhase(Phase.SELECT_CHARACTER);
 
     sessionService.sendPacketAsync(session.getId(), new EmpirePacket().setEmpire(empire));
@@ -14,9 +14,10 @@ public class TokenLoginPacketHandlerService implements PacketHandlerService<Toke
 
   @Override
   public void handle(TokenLoginPacket packet, Session session) {
-    mediator.sendAsync(
+    mediator.sendAndForget(
         new TokenLoginCommand(
-            packet.getUsername(), packet.getKey(), packet.getEncryptKeys(), session.getId()));
+            packet.getUsername(), packet.getKey(), packet.getEncryptKeys(), session.getId()),
+        session.getCommandLane());
   }
 
   @Override
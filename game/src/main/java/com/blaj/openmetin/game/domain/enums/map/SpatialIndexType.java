@@ -0,0 +1,6 @@
+package com.blaj.openmetin.game.domain.enums.map;
+
+public enum SpatialIndexType {
+  QUAD_TREE,
+  SPATIAL_HASH_GRID
+}
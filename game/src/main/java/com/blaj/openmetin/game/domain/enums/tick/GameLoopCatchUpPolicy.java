@@ -0,0 +1,6 @@
+package com.blaj.openmetin.game.domain.enums.tick;
+
+public enum GameLoopCatchUpPolicy {
+  CATCH_UP,
+  SKIP
+}
@@ -5,9 +5,10 @@ import com.blaj.openmetin.game.domain.enums.entity.EntityState;
 import com.blaj.openmetin.game.domain.enums.entity.EntityType;
 import com.blaj.openmetin.game.domain.model.map.Map;
 import com.blaj.openmetin.game.domain.model.spatial.QuadTree;
+import com.blaj.openmetin.game.domain.model.spatial.SpatialHashCell;
 import com.blaj.openmetin.shared.domain.model.Coordinates;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -48,11 +49,15 @@ public abstract class BaseGameEntity {
   private long health;
   private long mana;
   private QuadTree lastQuadTree;
+  private SpatialHashCell lastSpatialHashCell;
   private Map map;
   private int lastPositionX;
   private int lastPositionY;
+  private int interestCellX;
+  private int interestCellY;
 
-  private final Set<BaseGameEntity> nearbyEntities = ConcurrentHashMap.newKeySet();
+  private final Set<BaseGameEntity> nearbyEntities = new HashSet<>();
+  private final Set<BaseGameEntity> interestCandidates = new HashSet<>();
 
   public abstract EntityType getType();
 
@@ -74,6 +79,35 @@ public abstract class BaseGameEntity {
     nearbyEntities.remove(entity);
   }
 
+  public void addInterestCandidate(BaseGameEntity entity) {
+    interestCandidates.add(entity);
+  }
+
+  public void removeInterestCandidate(BaseGameEntity entity) {
+    interestCandidates.remove(entity);
+  }
+
+  public boolean isWithinViewDistance(BaseGameEntity entity) {
+    long deltaX = entity.getPositionX() - positionX;
+    long deltaY = entity.getPositionY() - positionY;
+
+    return deltaX * deltaX + deltaY * deltaY <= (long) Map.VIEW_DISTANCE * Map.VIEW_DISTANCE;
+  }
+
+  public boolean updateInterestCell() {
+    var cellX = positionX / Map.INTEREST_CELL_SIZE;
+    var cellY = positionY / Map.INTEREST_CELL_SIZE;
+
+    if (cellX == interestCellX && cellY == interestCellY) {
+      return false;
+    }
+
+    interestCellX = cellX;
+    interestCellY = cellY;
+
+    return true;
+  }
+
   public Coordinates getCoordinates() {
     return new Coordinates(positionX, positionY);
   }
@@ -0,0 +1,193 @@
+package com.blaj.openmetin.game.domain.model.entity;
+
+import com.blaj.openmetin.game.domain.enums.entity.EntityType;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+public class EntityTable implements Iterable<BaseGameEntity> {
+
+  public static final int DEFAULT_CAPACITY = 64;
+
+  // open-addressed vid -> index map with linear probing; slots hold index + 1, 0 is empty
+  private long[] indexKeys;
+  private int[] indexSlots;
+  private int indexMask;
+
+  private final int[] countByType = new int[EntityType.values().length];
+  private BaseGameEntity[] entities;
+  private int size;
+
+  public EntityTable() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public EntityTable(int initialCapacity) {
+    if (initialCapacity <= 0) {
+      throw new IllegalArgumentException("Initial capacity must be positive");
+    }
+
+    this.entities = new BaseGameEntity[initialCapacity];
+    allocateIndex(Integer.highestOneBit(Math.max(1, initialCapacity * 2 - 1)) << 1);
+  }
+
+  public boolean add(BaseGameEntity entity) {
+    var vid = entity.getVid();
+    var slot = findSlot(vid);
+
+    if (indexSlots[slot] != 0) {
+      return false;
+    }
+
+    if ((size + 1) * 2 > indexKeys.length) {
+      growIndex();
+      slot = findSlot(vid);
+    }
+
+    if (size == entities.length) {
+      entities = Arrays.copyOf(entities, size * 2);
+    }
+
+    indexKeys[slot] = vid;
+    indexSlots[slot] = size + 1;
+    entities[size++] = entity;
+    updateCount(entity, 1);
+
+    return true;
+  }
+
+  public boolean remove(BaseGameEntity entity) {
+    var slot = findSlot(entity.getVid());
+    var index = indexSlots[slot] - 1;
+
+    if (index < 0 || entities[index] != entity) {
+      return false;
+    }
+
+    removeSlot(slot);
+    updateCount(entity, -1);
+
+    var lastIndex = --size;
+    var lastEntity = entities[lastIndex];
+    entities[lastIndex] = null;
+
+    if (index < lastIndex) {
+      entities[index] = lastEntity;
+      indexSlots[findSlot(lastEntity.getVid())] = index + 1;
+    }
+
+    return true;
+  }
+
+  public BaseGameEntity get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+    }
+
+    return entities[index];
+  }
+
+  public Optional<BaseGameEntity> getByVid(long vid) {
+    var index = indexSlots[findSlot(vid)] - 1;
+
+    return index < 0 ? Optional.empty() : Optional.of(entities[index]);
+  }
+
+  public boolean contains(BaseGameEntity entity) {
+    var index = indexSlots[findSlot(entity.getVid())] - 1;
+
+    return index >= 0 && entities[index] == entity;
+  }
+
+  public int count(EntityType type) {
+    return countByType[type.ordinal()];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public Iterator<BaseGameEntity> iterator() {
+    return new Iterator<>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public BaseGameEntity next() {
+        if (index >= size) {
+          throw new NoSuchElementException();
+        }
+
+        return entities[index++];
+      }
+    };
+  }
+
+  private int findSlot(long vid) {
+    var slot = hash(vid) & indexMask;
+
+    while (indexSlots[slot] != 0 && indexKeys[slot] != vid) {
+      slot = (slot + 1) & indexMask;
+    }
+
+    return slot;
+  }
+
+  private void removeSlot(int slot) {
+    var next = (slot + 1) & indexMask;
+
+    while (indexSlots[next] != 0) {
+      var home = hash(indexKeys[next]) & indexMask;
+
+      if (((next - home) & indexMask) >= ((next - slot) & indexMask)) {
+        indexKeys[slot] = indexKeys[next];
+        indexSlots[slot] = indexSlots[next];
+        slot = next;
+      }
+
+      next = (next + 1) & indexMask;
+    }
+
+    indexSlots[slot] = 0;
+  }
+
+  private void updateCount(BaseGameEntity entity, int delta) {
+    var type = entity.getType();
+
+    if (type != null) {
+      countByType[type.ordinal()] += delta;
+    }
+  }
+
+  private void growIndex() {
+    allocateIndex(indexKeys.length * 2);
+
+    for (var i = 0; i < size; i++) {
+      var slot = findSlot(entities[i].getVid());
+      indexKeys[slot] = entities[i].getVid();
+      indexSlots[slot] = i + 1;
+    }
+  }
+
+  private void allocateIndex(int capacity) {
+    indexKeys = new long[capacity];
+    indexSlots = new int[capacity];
+    indexMask = capacity - 1;
+  }
+
+  private static int hash(long vid) {
+    var hash = vid * 0x9E3779B97F4A7C15L;
+
+    return (int) (hash ^ (hash >>> 32));
+  }
+}
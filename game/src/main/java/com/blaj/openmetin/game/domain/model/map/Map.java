@@ -1,8 +1,15 @@
 package com.blaj.openmetin.game.domain.model.map;
 
 import com.blaj.openmetin.game.domain.enums.map.MapAttribute;
+import com.blaj.openmetin.game.domain.enums.map.SpatialIndexType;
 import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import com.blaj.openmetin.game.domain.model.entity.EntityTable;
+import com.blaj.openmetin.game.domain.model.scheduling.HierarchicalTimingWheel;
+import com.blaj.openmetin.game.domain.model.scheduling.ScheduledEvent;
 import com.blaj.openmetin.game.domain.model.spatial.QuadTree;
+import com.blaj.openmetin.game.domain.model.spatial.SpatialHashGrid;
+import com.blaj.openmetin.game.domain.model.spatial.SpatialIndex;
+import com.blaj.openmetin.game.domain.model.spawn.MonsterGroup;
 import com.blaj.openmetin.game.domain.model.spawn.SpawnPoint;
 import com.blaj.openmetin.shared.domain.model.Coordinates;
 import java.util.ArrayList;
@@ -11,7 +18,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -19,6 +25,10 @@ import lombok.Setter;
 public class Map {
 
   public static final int MAP_UNIT = 25600;
+  public static final int VIEW_DISTANCE = 10000;
+  public static final int INTEREST_CELL_SIZE = VIEW_DISTANCE / 8;
+  // each entity of a pair moves at most one cell diagonal (< 1.5 cells) between refreshes
+  public static final int INTEREST_CANDIDATE_DISTANCE = VIEW_DISTANCE + 3 * INTEREST_CELL_SIZE;
   public static final int SPAWN_POSITION_MULTIPLIER = 100;
   public static final int SPAWN_BASE_OFFSET = 5;
   public static final int SPAWN_ROTATION_SLICE_DEGREES = 45;
@@ -30,11 +40,15 @@ public class Map {
   @Setter private MapAttributeSet mapAttributeSet;
 
   private final TownCoordinates townCoordinates;
-  private final QuadTree quadTree;
-  private final List<BaseGameEntity> entities;
+  private final SpatialIndex spatialIndex;
+  private final EntityTable entities;
+  private final List<BaseGameEntity> movedEntities;
   private final Queue<BaseGameEntity> pendingSpawns;
   private final Queue<BaseGameEntity> pendingRemovals;
+  private final Queue<Runnable> pendingCommands;
   private final List<SpawnPoint> spawnPoints;
+  private final HierarchicalTimingWheel<MonsterGroup> respawnTimingWheel;
+  private final HierarchicalTimingWheel<ScheduledEvent> eventTimingWheel;
 
   public Map(
       String name,
@@ -42,6 +56,16 @@ public class Map {
       int width,
       int height,
       TownCoordinates townCoordinates) {
+    this(name, coordinates, width, height, townCoordinates, SpatialIndexType.QUAD_TREE);
+  }
+
+  public Map(
+      String name,
+      Coordinates coordinates,
+      int width,
+      int height,
+      TownCoordinates townCoordinates,
+      SpatialIndexType spatialIndexType) {
     this.name = name;
     this.coordinates = coordinates;
     this.width = width;
@@ -56,17 +80,15 @@ public class Map {
                         coordinates.add(tc.shinsoo().multiply(SPAWN_POSITION_MULTIPLIER)),
                         coordinates.add(tc.common().multiply(SPAWN_POSITION_MULTIPLIER))))
             .orElse(null);
-    this.quadTree =
-        new QuadTree(
-            coordinates.x(),
-            coordinates.y(),
-            width * MAP_UNIT,
-            height * MAP_UNIT,
-            QuadTree.DEFAULT_QUAD_TREE_CAPACITY);
-    this.entities = new CopyOnWriteArrayList<>();
+    this.spatialIndex = createSpatialIndex(spatialIndexType);
+    this.entities = new EntityTable();
+    this.movedEntities = new ArrayList<>();
     this.pendingSpawns = new ConcurrentLinkedQueue<>();
     this.pendingRemovals = new ConcurrentLinkedQueue<>();
+    this.pendingCommands = new ConcurrentLinkedQueue<>();
     this.spawnPoints = new ArrayList<>();
+    this.respawnTimingWheel = new HierarchicalTimingWheel<>(0);
+    this.eventTimingWheel = new HierarchicalTimingWheel<>(0);
   }
 
   public int getUnitX() {
@@ -122,4 +144,19 @@ public class Map {
 
     return false;
   }
+
+  private SpatialIndex createSpatialIndex(SpatialIndexType spatialIndexType) {
+    return switch (spatialIndexType) {
+      case QUAD_TREE ->
+          new QuadTree(
+              coordinates.x(),
+              coordinates.y(),
+              width * MAP_UNIT,
+              height * MAP_UNIT,
+              QuadTree.DEFAULT_QUAD_TREE_CAPACITY);
+      case SPATIAL_HASH_GRID ->
+          new SpatialHashGrid(
+              coordinates.x(), coordinates.y(), width * MAP_UNIT, height * MAP_UNIT, VIEW_DISTANCE);
+    };
+  }
 }
@@ -0,0 +1,154 @@
+package com.blaj.openmetin.game.domain.model.scheduling;
+
+import java.util.function.Consumer;
+
+public class HierarchicalTimingWheel<T> {
+
+  public static final int WHEEL_BITS = 6;
+  public static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+  public static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  public static final int LEVELS = 4;
+  public static final long MAX_DELAY_TICKS = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+  private final TimingWheelTimer<T>[][] slots;
+  private long nextTick;
+  private int size;
+
+  @SuppressWarnings("unchecked")
+  public HierarchicalTimingWheel(long startTick) {
+    this.slots = new TimingWheelTimer[LEVELS][WHEEL_SIZE];
+    this.nextTick = startTick + 1;
+  }
+
+  public TimingWheelTimer<T> schedule(T payload, long delayTicks) {
+    return scheduleAt(payload, getCurrentTick() + Math.max(1, delayTicks));
+  }
+
+  public TimingWheelTimer<T> scheduleAt(T payload, long expiryTick) {
+    var timer = new TimingWheelTimer<>(payload, Math.max(expiryTick, nextTick));
+    add(timer);
+    size++;
+
+    return timer;
+  }
+
+  public void reschedule(TimingWheelTimer<T> timer, long expiryTick) {
+    if (timer.isScheduled()) {
+      unlink(timer);
+    } else {
+      size++;
+    }
+
+    timer.setExpiryTick(Math.max(expiryTick, nextTick));
+    add(timer);
+  }
+
+  public boolean cancel(TimingWheelTimer<T> timer) {
+    if (!timer.isScheduled()) {
+      return false;
+    }
+
+    unlink(timer);
+    size--;
+
+    return true;
+  }
+
+  public void advanceTo(long tick, Consumer<T> expiredConsumer) {
+    while (nextTick <= tick) {
+      if (size == 0) {
+        nextTick = tick + 1;
+        return;
+      }
+
+      var index = (int) (nextTick & WHEEL_MASK);
+
+      if (index == 0) {
+        cascadeFrom(1);
+      }
+
+      nextTick++;
+
+      TimingWheelTimer<T> timer;
+      while ((timer = slots[0][index]) != null) {
+        unlink(timer);
+        size--;
+
+        expiredConsumer.accept(timer.getPayload());
+      }
+    }
+  }
+
+  public long getCurrentTick() {
+    return nextTick - 1;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  private void cascadeFrom(int level) {
+    for (; level < LEVELS; level++) {
+      var index = (int) ((nextTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+      var timer = slots[level][index];
+      slots[level][index] = null;
+
+      while (timer != null) {
+        var next = timer.next;
+        timer.previous = null;
+        timer.next = null;
+        add(timer);
+        timer = next;
+      }
+
+      if (index != 0) {
+        return;
+      }
+    }
+  }
+
+  private void add(TimingWheelTimer<T> timer) {
+    var delta = Math.clamp(timer.getExpiryTick() - nextTick, 0, MAX_DELAY_TICKS);
+    var expiryTick = nextTick + delta;
+
+    var level = 0;
+    while (level < LEVELS - 1 && delta >= 1L << (WHEEL_BITS * (level + 1))) {
+      level++;
+    }
+
+    var slot = (int) ((expiryTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+    var head = slots[level][slot];
+
+    timer.level = level;
+    timer.slot = slot;
+    timer.previous = null;
+    timer.next = head;
+
+    if (head != null) {
+      head.previous = timer;
+    }
+
+    slots[level][slot] = timer;
+  }
+
+  private void unlink(TimingWheelTimer<T> timer) {
+    if (timer.previous != null) {
+      timer.previous.next = timer.next;
+    } else {
+      slots[timer.level][timer.slot] = timer.next;
+    }
+
+    if (timer.next != null) {
+      timer.next.previous = timer.previous;
+    }
+
+    timer.previous = null;
+    timer.next = null;
+    timer.level = -1;
+    timer.slot = -1;
+  }
+}
@@ -0,0 +1,20 @@
+package com.blaj.openmetin.game.domain.model.scheduling;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@RequiredArgsConstructor
+public class ScheduledEvent {
+
+  private final long id;
+  private final Supplier<Duration> callback;
+  private final HierarchicalTimingWheel<ScheduledEvent> timingWheel;
+  private final Queue<Runnable> pendingCommands;
+
+  @Setter private TimingWheelTimer<ScheduledEvent> timer;
+}
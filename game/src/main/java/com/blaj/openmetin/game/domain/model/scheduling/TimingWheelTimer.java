@@ -0,0 +1,36 @@
+package com.blaj.openmetin.game.domain.model.scheduling;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class TimingWheelTimer<T> {
+
+  private final T payload;
+  private long expiryTick;
+
+  @Getter(AccessLevel.NONE)
+  TimingWheelTimer<T> previous;
+
+  @Getter(AccessLevel.NONE)
+  TimingWheelTimer<T> next;
+
+  @Getter(AccessLevel.NONE)
+  int level = -1;
+
+  @Getter(AccessLevel.NONE)
+  int slot = -1;
+
+  TimingWheelTimer(T payload, long expiryTick) {
+    this.payload = payload;
+    this.expiryTick = expiryTick;
+  }
+
+  void setExpiryTick(long expiryTick) {
+    this.expiryTick = expiryTick;
+  }
+
+  public boolean isScheduled() {
+    return level >= 0;
+  }
+}
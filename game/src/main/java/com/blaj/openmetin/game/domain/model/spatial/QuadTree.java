@@ -4,15 +4,20 @@ import com.blaj.openmetin.game.domain.enums.entity.EntityType;
 import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
 import java.awt.Rectangle;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 @Getter
-public class QuadTree {
+public class QuadTree implements SpatialIndex {
 
   public static final int DEFAULT_QUAD_TREE_CAPACITY = 20;
 
   private static final int MIN_QUAD_SIZE = 16;
+  private static final int INITIAL_QUERY_STACK_SIZE = 64;
+  private static final int ENTITY_TYPE_COUNT = EntityType.values().length;
 
   private int x;
   private int y;
@@ -22,6 +27,18 @@ public class QuadTree {
   private Rectangle rectangle;
   private List<BaseGameEntity> entities;
   private boolean isSubdivided;
+  private int depth;
+  private volatile QuadTreeStatistics statistics;
+
+  @Getter(AccessLevel.NONE)
+  private Counters counters;
+
+  @Getter(AccessLevel.NONE)
+  private QuadTree[] queryStack;
+
+  // start of the free part of queryStack, raised while a forEachAround consumer runs
+  @Getter(AccessLevel.NONE)
+  private int queryStackTop;
 
   private QuadTree northWestQuadTree;
   private QuadTree northEastQuadTree;
@@ -29,6 +46,13 @@ public class QuadTree {
   private QuadTree southEastQuadTree;
 
   public QuadTree(int x, int y, int width, int height, long capacity) {
+    this(x, y, width, height, capacity, 0, new Counters());
+
+    this.statistics = counters.snapshot();
+  }
+
+  private QuadTree(
+      int x, int y, int width, int height, long capacity, int depth, Counters counters) {
     this.x = x;
     this.y = y;
     this.width = width;
@@ -37,8 +61,11 @@ public class QuadTree {
     this.rectangle = new Rectangle(x, y, width, height);
     this.entities = new ArrayList<>();
     this.isSubdivided = false;
+    this.depth = depth;
+    this.counters = counters;
   }
 
+  @Override
   public boolean insert(BaseGameEntity entity) {
     if (!rectangle.contains(entity.getPositionX(), entity.getPositionY())) {
       return false;
@@ -50,6 +77,7 @@ public class QuadTree {
       entity.setLastQuadTree(this);
 
       entities.add(entity);
+      counters.addEntity(entity);
       return true;
     }
 
@@ -69,6 +97,7 @@ public class QuadTree {
         || southEastQuadTree.insert(entity);
   }
 
+  @Override
   public boolean remove(BaseGameEntity entity) {
     if (isSubdivided) {
       return northWestQuadTree.remove(entity)
@@ -79,6 +108,7 @@ public class QuadTree {
 
     if (entities.remove(entity)) {
       entity.setLastQuadTree(null);
+      counters.removeEntity(entity);
 
       return true;
     }
@@ -86,33 +116,19 @@ public class QuadTree {
     return false;
   }
 
+  @Override
   public void queryAround(
       List<BaseGameEntity> objects, int x, int y, int radius, EntityType filter) {
-    if (!circleIntersects(x, y, radius)) {
-      return;
-    }
-
-    if (isSubdivided) {
-      northEastQuadTree.queryAround(objects, x, y, radius, filter);
-      northWestQuadTree.queryAround(objects, x, y, radius, filter);
-      southEastQuadTree.queryAround(objects, x, y, radius, filter);
-      southWestQuadTree.queryAround(objects, x, y, radius, filter);
-    } else {
-      for (var entity : entities) {
-        if (filter != null && entity.getType() != filter) {
-          continue;
-        }
-
-        var distanceSquared =
-            Math.pow(entity.getPositionX() - x, 2) + Math.pow(entity.getPositionY() - y, 2);
+    visitAround(x, y, radius, filter, objects, null);
+  }
 
-        if (distanceSquared <= Math.pow(radius, 2)) {
-          objects.add(entity);
-        }
-      }
-    }
+  @Override
+  public void forEachAround(
+      int x, int y, int radius, EntityType filter, Consumer<BaseGameEntity> consumer) {
+    visitAround(x, y, radius, filter, null, consumer);
   }
 
+  @Override
   public void updatePosition(BaseGameEntity entity) {
     if (entity.getLastQuadTree() == null) {
       insert(entity);
@@ -129,18 +145,98 @@ public class QuadTree {
     }
   }
 
-  private boolean circleIntersects(int x, int y, int radius) {
+  public void publishStatistics() {
+    if (counters.changed) {
+      statistics = counters.snapshot();
+      counters.changed = false;
+    }
+  }
+
+  private void visitAround(
+      int x,
+      int y,
+      int radius,
+      EntityType filter,
+      List<BaseGameEntity> objects,
+      Consumer<BaseGameEntity> consumer) {
+    var radiusSquared = (long) radius * radius;
+    var stackBase = queryStackTop;
+    var stackSize = stackBase;
+    var stack = queryStack;
+
+    if (stack == null) {
+      stack = new QuadTree[INITIAL_QUERY_STACK_SIZE];
+      queryStack = stack;
+    } else if (stackSize + 1 > stack.length) {
+      stack = Arrays.copyOf(stack, stack.length * 2);
+      queryStack = stack;
+    }
+
+    stack[stackSize++] = this;
+
+    try {
+      while (stackSize > stackBase) {
+        var node = stack[--stackSize];
+        stack[stackSize] = null;
+
+        if (!node.circleIntersects(x, y, radius, radiusSquared)) {
+          continue;
+        }
+
+        if (node.isSubdivided) {
+          if (stackSize + 4 > stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+            queryStack = stack;
+          }
+
+          stack[stackSize++] = node.southWestQuadTree;
+          stack[stackSize++] = node.southEastQuadTree;
+          stack[stackSize++] = node.northWestQuadTree;
+          stack[stackSize++] = node.northEastQuadTree;
+
+          continue;
+        }
+
+        var nodeEntities = node.entities;
+
+        for (var i = 0; i < nodeEntities.size(); i++) {
+          var entity = nodeEntities.get(i);
+
+          if (filter != null && entity.getType() != filter) {
+            continue;
+          }
+
+          long deltaX = entity.getPositionX() - x;
+          long deltaY = entity.getPositionY() - y;
+
+          if (deltaX * deltaX + deltaY * deltaY > radiusSquared) {
+            continue;
+          }
+
+          if (objects != null) {
+            objects.add(entity);
+          } else {
+            queryStackTop = stackSize;
+            consumer.accept(entity);
+            stack = queryStack;
+          }
+        }
+      }
+    } finally {
+      queryStackTop = stackBase;
+    }
+  }
+
+  private boolean circleIntersects(int x, int y, int radius, long radiusSquared) {
     var halfWidth = width / 2;
     var halfHeight = height / 2;
     var centerX = this.x + halfWidth;
     var centerY = this.y + halfHeight;
 
-    var xDist = Math.abs(centerX - x);
-    var yDist = Math.abs(centerY - y);
-
-    var edges = Math.pow(xDist - halfWidth, 2) + Math.pow(yDist - halfHeight, 2);
+    long xDist = Math.abs(centerX - x);
+    long yDist = Math.abs(centerY - y);
 
-    if (xDist > radius + halfWidth || yDist > radius + halfHeight) {
+    if (xDist > (long) radius + halfWidth || yDist > (long) radius + halfHeight) {
       return false;
     }
 
@@ -148,7 +244,10 @@ public class QuadTree {
       return true;
     }
 
-    return edges <= Math.pow(radius, 2);
+    var edgeX = xDist - halfWidth;
+    var edgeY = yDist - halfHeight;
+
+    return edgeX * edgeX + edgeY * edgeY <= radiusSquared;
   }
 
   private void subdivide() {
@@ -158,15 +257,29 @@ public class QuadTree {
     var halfWidth2 = width > 2 && width % 2 > 0 ? width / 2 + width % 2 : halfWidth1;
     var halfHeight2 = height > 2 && height % 2 > 0 ? height / 2 + height % 2 : halfHeight1;
 
-    northWestQuadTree = new QuadTree(x, y, halfWidth1, halfHeight1, capacity);
-    northEastQuadTree = new QuadTree(x, y + halfHeight1, halfWidth1, halfHeight2, capacity);
-    southWestQuadTree = new QuadTree(x + halfWidth1, y, halfWidth2, halfHeight1, capacity);
+    var childDepth = depth + 1;
+
+    northWestQuadTree =
+        new QuadTree(x, y, halfWidth1, halfHeight1, capacity, childDepth, counters);
+    northEastQuadTree =
+        new QuadTree(x, y + halfHeight1, halfWidth1, halfHeight2, capacity, childDepth, counters);
+    southWestQuadTree =
+        new QuadTree(x + halfWidth1, y, halfWidth2, halfHeight1, capacity, childDepth, counters);
     southEastQuadTree =
-        new QuadTree(x + halfWidth1, y + halfHeight1, halfWidth2, halfHeight2, capacity);
+        new QuadTree(
+            x + halfWidth1,
+            y + halfHeight1,
+            halfWidth2,
+            halfHeight2,
+            capacity,
+            childDepth,
+            counters);
     isSubdivided = true;
+    counters.addSubdivision(childDepth);
 
     for (var entity : entities) {
       entity.setLastQuadTree(null);
+      counters.removeEntity(entity);
 
       var addedOnNw = northWestQuadTree.insert(entity);
       var addedOnNe = false;
@@ -191,4 +304,52 @@ public class QuadTree {
 
     entities.clear();
   }
+
+  private static class Counters {
+    private final int[] entityCountByType = new int[ENTITY_TYPE_COUNT];
+
+    private int nodeCount = 1;
+    private int subdividedNodeCount;
+    private int leafNodeCount = 1;
+    private int maxDepth;
+    private int entityCount;
+    private boolean changed;
+
+    private void addEntity(BaseGameEntity entity) {
+      updateEntityCount(entity, 1);
+    }
+
+    private void removeEntity(BaseGameEntity entity) {
+      updateEntityCount(entity, -1);
+    }
+
+    private void addSubdivision(int childDepth) {
+      nodeCount += 4;
+      subdividedNodeCount++;
+      leafNodeCount += 3;
+      maxDepth = Math.max(maxDepth, childDepth);
+      changed = true;
+    }
+
+    private QuadTreeStatistics snapshot() {
+      return new QuadTreeStatistics(
+          nodeCount,
+          subdividedNodeCount,
+          leafNodeCount,
+          maxDepth,
+          entityCount,
+          entityCountByType.clone());
+    }
+
+    private void updateEntityCount(BaseGameEntity entity, int delta) {
+      var entityType = entity.getType();
+
+      entityCount += delta;
+      changed = true;
+
+      if (entityType != null) {
+        entityCountByType[entityType.ordinal()] += delta;
+      }
+    }
+  }
 }
@@ -0,0 +1,20 @@
+package com.blaj.openmetin.game.domain.model.spatial;
+
+import com.blaj.openmetin.game.domain.enums.entity.EntityType;
+
+public record QuadTreeStatistics(
+    int nodeCount,
+    int subdividedNodeCount,
+    int leafNodeCount,
+    int maxDepth,
+    int entityCount,
+    int[] entityCountByType) {
+
+  public int getEntityCount(EntityType entityType) {
+    return entityCountByType[entityType.ordinal()];
+  }
+
+  public double getAverageEntitiesPerLeaf() {
+    return leafNodeCount > 0 ? (double) entityCount / leafNodeCount : 0;
+  }
+}
@@ -0,0 +1,38 @@
+package com.blaj.openmetin.game.domain.model.spatial;
+
+import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class SpatialHashCell {
+
+  private final int index;
+  private final List<BaseGameEntity> entities;
+
+  public SpatialHashCell(int index) {
+    this.index = index;
+    this.entities = new ArrayList<>();
+  }
+
+  public void add(BaseGameEntity entity) {
+    entities.add(entity);
+  }
+
+  public boolean remove(BaseGameEntity entity) {
+    var entityIndex = entities.indexOf(entity);
+
+    if (entityIndex < 0) {
+      return false;
+    }
+
+    var lastEntity = entities.removeLast();
+
+    if (entityIndex < entities.size()) {
+      entities.set(entityIndex, lastEntity);
+    }
+
+    return true;
+  }
+}
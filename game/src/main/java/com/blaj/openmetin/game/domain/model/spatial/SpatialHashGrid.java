@@ -0,0 +1,164 @@
+package com.blaj.openmetin.game.domain.model.spatial;
+
+import com.blaj.openmetin.game.domain.enums.entity.EntityType;
+import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.Getter;
+
+@Getter
+public class SpatialHashGrid implements SpatialIndex {
+
+  private final int x;
+  private final int y;
+  private final int width;
+  private final int height;
+  private final int cellSize;
+  private final int columns;
+  private final int rows;
+  private final SpatialHashCell[] cells;
+
+  public SpatialHashGrid(int x, int y, int width, int height, int cellSize) {
+    if (width <= 0 || height <= 0 || cellSize <= 0) {
+      throw new IllegalArgumentException("Width, height and cell size must be positive");
+    }
+
+    this.x = x;
+    this.y = y;
+    this.width = width;
+    this.height = height;
+    this.cellSize = cellSize;
+    this.columns = (width + cellSize - 1) / cellSize;
+    this.rows = (height + cellSize - 1) / cellSize;
+    this.cells = new SpatialHashCell[columns * rows];
+
+    for (var i = 0; i < cells.length; i++) {
+      cells[i] = new SpatialHashCell(i);
+    }
+  }
+
+  @Override
+  public boolean insert(BaseGameEntity entity) {
+    if (!contains(entity.getPositionX(), entity.getPositionY())) {
+      return false;
+    }
+
+    var cell = cells[getCellIndex(entity.getPositionX(), entity.getPositionY())];
+
+    entity.setLastPositionX(entity.getPositionX());
+    entity.setLastPositionY(entity.getPositionY());
+    entity.setLastSpatialHashCell(cell);
+
+    cell.add(entity);
+    return true;
+  }
+
+  @Override
+  public boolean remove(BaseGameEntity entity) {
+    var cell = entity.getLastSpatialHashCell();
+
+    if (cell == null || !cell.remove(entity)) {
+      return false;
+    }
+
+    entity.setLastSpatialHashCell(null);
+
+    return true;
+  }
+
+  @Override
+  public void updatePosition(BaseGameEntity entity) {
+    var lastCell = entity.getLastSpatialHashCell();
+
+    if (lastCell == null) {
+      insert(entity);
+
+      return;
+    }
+
+    if (!contains(entity.getPositionX(), entity.getPositionY())) {
+      remove(entity);
+
+      return;
+    }
+
+    var cellIndex = getCellIndex(entity.getPositionX(), entity.getPositionY());
+
+    if (lastCell.getIndex() == cellIndex) {
+      return;
+    }
+
+    lastCell.remove(entity);
+
+    var cell = cells[cellIndex];
+    cell.add(entity);
+
+    entity.setLastPositionX(entity.getPositionX());
+    entity.setLastPositionY(entity.getPositionY());
+    entity.setLastSpatialHashCell(cell);
+  }
+
+  @Override
+  public void queryAround(
+      List<BaseGameEntity> objects, int x, int y, int radius, EntityType filter) {
+    visitAround(x, y, radius, filter, objects, null);
+  }
+
+  @Override
+  public void forEachAround(
+      int x, int y, int radius, EntityType filter, Consumer<BaseGameEntity> consumer) {
+    visitAround(x, y, radius, filter, null, consumer);
+  }
+
+  private void visitAround(
+      int x,
+      int y,
+      int radius,
+      EntityType filter,
+      List<BaseGameEntity> objects,
+      Consumer<BaseGameEntity> consumer) {
+    var minColumn = Math.max(0, Math.floorDiv(x - radius - this.x, cellSize));
+    var maxColumn = Math.min(columns - 1, Math.floorDiv(x + radius - this.x, cellSize));
+    var minRow = Math.max(0, Math.floorDiv(y - radius - this.y, cellSize));
+    var maxRow = Math.min(rows - 1, Math.floorDiv(y + radius - this.y, cellSize));
+    var radiusSquared = (long) radius * radius;
+
+    for (var row = minRow; row <= maxRow; row++) {
+      for (var column = minColumn; column <= maxColumn; column++) {
+        var entities = cells[row * columns + column].getEntities();
+
+        for (var i = 0; i < entities.size(); i++) {
+          var entity = entities.get(i);
+
+          if (filter != null && entity.getType() != filter) {
+            continue;
+          }
+
+          long deltaX = entity.getPositionX() - x;
+          long deltaY = entity.getPositionY() - y;
+
+          if (deltaX * deltaX + deltaY * deltaY > radiusSquared) {
+            continue;
+          }
+
+          if (objects != null) {
+            objects.add(entity);
+          } else {
+            consumer.accept(entity);
+          }
+        }
+      }
+    }
+  }
+
+  private boolean contains(int positionX, int positionY) {
+    return positionX >= x && positionX < x + width && positionY >= y && positionY < y + height;
+  }
+
+  private int getCellIndex(int positionX, int positionY) {
+    var column = (positionX - x) / cellSize;
+    var row = (positionY - y) / cellSize;
+
+    return row * columns + column;
+  }
+}
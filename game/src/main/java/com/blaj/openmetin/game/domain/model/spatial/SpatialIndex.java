@@ -0,0 +1,20 @@
+package com.blaj.openmetin.game.domain.model.spatial;
+
+import com.blaj.openmetin.game.domain.enums.entity.EntityType;
+import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface SpatialIndex {
+
+  boolean insert(BaseGameEntity entity);
+
+  boolean remove(BaseGameEntity entity);
+
+  void updatePosition(BaseGameEntity entity);
+
+  void queryAround(List<BaseGameEntity> objects, int x, int y, int radius, EntityType filter);
+
+  void forEachAround(
+      int x, int y, int radius, EntityType filter, Consumer<BaseGameEntity> consumer);
+}
@@ -1,6 +1,7 @@
 package com.blaj.openmetin.game.domain.model.spawn;
 
 import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
+import com.blaj.openmetin.game.domain.model.scheduling.TimingWheelTimer;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
@@ -15,4 +16,6 @@ public class MonsterGroup {
   @Builder.Default private List<MonsterGameEntity> monsterEntities = new ArrayList<>();
 
   private SpawnPoint spawnPoint;
+
+  private TimingWheelTimer<MonsterGroup> respawnTimer;
 }
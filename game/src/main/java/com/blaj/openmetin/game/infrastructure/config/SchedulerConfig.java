@@ -1,24 +1,8 @@
 package com.blaj.openmetin.game.infrastructure.config;
 
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
-public class SchedulerConfig {
-
-  @Bean(name = "eventTaskScheduler")
-  public TaskScheduler eventTaskScheduler() {
-    var scheduler = new ThreadPoolTaskScheduler();
-    scheduler.setPoolSize(10);
-    scheduler.setThreadNamePrefix("event-scheduler-");
-    scheduler.setWaitForTasksToCompleteOnShutdown(true);
-    scheduler.setAwaitTerminationSeconds(30);
-    scheduler.initialize();
-
-    return scheduler;
-  }
-}
+public class SchedulerConfig {}
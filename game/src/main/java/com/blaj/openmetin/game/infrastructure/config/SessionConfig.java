@@ -1,6 +1,7 @@
 package com.blaj.openmetin.game.infrastructure.config;
 
 import com.blaj.openmetin.game.domain.model.session.GameSession;
+import com.blaj.openmetin.game.infrastructure.service.session.GameSessionRemovalService;
 import com.blaj.openmetin.shared.common.service.SessionFactoryService;
 import com.blaj.openmetin.shared.infrastructure.network.session.SessionManagerServiceImpl;
 import org.springframework.context.annotation.Bean;
@@ -16,7 +17,9 @@ public class SessionConfig {
 
   @Bean
   public SessionManagerServiceImpl<GameSession> gameSessionSessionManagerService(
-      SessionFactoryService<GameSession> gameSessionSessionFactoryService) {
-    return new SessionManagerServiceImpl<>(gameSessionSessionFactoryService);
+      SessionFactoryService<GameSession> gameSessionSessionFactoryService,
+      GameSessionRemovalService gameSessionRemovalService) {
+    return new SessionManagerServiceImpl<>(
+        gameSessionSessionFactoryService, gameSessionRemovalService);
   }
 }
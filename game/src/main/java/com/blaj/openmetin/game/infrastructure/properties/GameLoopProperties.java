@@ -1,6 +1,22 @@
 package com.blaj.openmetin.game.infrastructure.properties;
 
+import com.blaj.openmetin.game.domain.enums.tick.GameLoopCatchUpPolicy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "openmetin.game-loop")
-public record GameLoopProperties(boolean enabled, int targetTps, int fixedTimestepMs) {}
+public record GameLoopProperties(
+    boolean enabled,
+    int targetTps,
+    @DefaultValue("false") boolean parallelMapTick,
+    @DefaultValue("4") int mapWorkerPoolSize,
+    @DefaultValue List<List<String>> mapWorkerGroups,
+    @DefaultValue("CATCH_UP") GameLoopCatchUpPolicy catchUpPolicy,
+    @DefaultValue("15") int maxCatchUpTicks) {
+
+  public long tickIntervalNanos() {
+    return TimeUnit.SECONDS.toNanos(1) / targetTps;
+  }
+}
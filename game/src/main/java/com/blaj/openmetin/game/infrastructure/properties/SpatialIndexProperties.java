@@ -0,0 +1,16 @@
+package com.blaj.openmetin.game.infrastructure.properties;
+
+import com.blaj.openmetin.game.domain.enums.map.SpatialIndexType;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "openmetin.spatial-index")
+public record SpatialIndexProperties(
+    @DefaultValue("QUAD_TREE") SpatialIndexType defaultType,
+    @DefaultValue Map<String, SpatialIndexType> maps) {
+
+  public SpatialIndexType typeOf(String mapName) {
+    return maps.getOrDefault(mapName, defaultType);
+  }
+}
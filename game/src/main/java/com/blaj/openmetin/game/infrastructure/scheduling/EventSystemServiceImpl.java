@@ -1,43 +1,45 @@
 package com.blaj.openmetin.game.infrastructure.scheduling;
 
 import com.blaj.openmetin.game.application.common.eventsystem.EventSystemService;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.domain.model.scheduling.HierarchicalTimingWheel;
+import com.blaj.openmetin.game.domain.model.scheduling.ScheduledEvent;
+import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class EventSystemServiceImpl implements EventSystemService {
 
-  private final Map<Long, ScheduledEvent> pendingEvents = new ConcurrentHashMap<>();
-  private final AtomicLong nextEventId = new AtomicLong(1);
-  private final TaskScheduler taskScheduler;
+  public static final long EVENT_TICK_MILLIS = 10;
 
-  public EventSystemServiceImpl(@Qualifier("eventTaskScheduler") TaskScheduler taskScheduler) {
-    this.taskScheduler = taskScheduler;
-  }
+  private final java.util.Map<Long, ScheduledEvent> pendingEvents = new ConcurrentHashMap<>();
+  private final AtomicLong nextEventId = new AtomicLong(1);
+  private final HierarchicalTimingWheel<ScheduledEvent> globalTimingWheel =
+      new HierarchicalTimingWheel<>(0);
+  private final Queue<Runnable> globalPendingCommands = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<List<ScheduledEvent>> dueEventsCache =
+      ThreadLocal.withInitial(ArrayList::new);
 
   @Override
   public long scheduleEvent(Supplier<Duration> callback, Duration initialDelay) {
-    var eventId = nextEventId.getAndIncrement();
-
-    var future =
-        taskScheduler.schedule(
-            () -> executeEvent(eventId, callback), Instant.now().plus(initialDelay));
-
-    pendingEvents.put(eventId, new ScheduledEvent(eventId, future, callback));
-    log.debug("Scheduled event {} with initial delay {}ms", eventId, initialDelay);
+    return scheduleEvent(globalTimingWheel, globalPendingCommands, callback, initialDelay);
+  }
 
-    return eventId;
+  @Override
+  public long scheduleEvent(Map map, Supplier<Duration> callback, Duration initialDelay) {
+    return scheduleEvent(
+        map.getEventTimingWheel(), map.getPendingCommands(), callback, initialDelay);
   }
 
   @Override
@@ -45,7 +47,7 @@ public class EventSystemServiceImpl implements EventSystemService {
     Optional.ofNullable(pendingEvents.remove(eventId))
         .ifPresent(
             event -> {
-              event.future().cancel(false);
+              event.getPendingCommands().add(() -> cancelTimer(event));
               log.debug("Cancelled event {}", eventId);
             });
   }
@@ -55,30 +57,91 @@ public class EventSystemServiceImpl implements EventSystemService {
     return pendingEvents.size();
   }
 
-  private void executeEvent(long eventId, Supplier<Duration> callback) {
+  @Override
+  public void processDueEvents() {
+    Runnable command;
+    while ((command = globalPendingCommands.poll()) != null) {
+      command.run();
+    }
+
+    processDueEvents(globalTimingWheel);
+  }
+
+  @Override
+  public void processDueEvents(Map map) {
+    processDueEvents(map.getEventTimingWheel());
+  }
+
+  private long scheduleEvent(
+      HierarchicalTimingWheel<ScheduledEvent> timingWheel,
+      Queue<Runnable> pendingCommands,
+      Supplier<Duration> callback,
+      Duration initialDelay) {
+    var eventId = nextEventId.getAndIncrement();
+    var event = new ScheduledEvent(eventId, callback, timingWheel, pendingCommands);
+    var expiryTick = getExpiryTick(initialDelay);
+
+    pendingEvents.put(eventId, event);
+    pendingCommands.add(() -> scheduleTimer(event, expiryTick));
+    log.debug("Scheduled event {} with initial delay {}ms", eventId, initialDelay);
+
+    return eventId;
+  }
+
+  private void scheduleTimer(ScheduledEvent event, long expiryTick) {
+    if (pendingEvents.get(event.getId()) != event) {
+      return;
+    }
+
+    event.setTimer(event.getTimingWheel().scheduleAt(event, expiryTick));
+  }
+
+  private void cancelTimer(ScheduledEvent event) {
+    Optional.ofNullable(event.getTimer()).ifPresent(event.getTimingWheel()::cancel);
+  }
+
+  private void processDueEvents(HierarchicalTimingWheel<ScheduledEvent> timingWheel) {
+    var dueEvents = dueEventsCache.get();
+    timingWheel.advanceTo(getCurrentEventTick(), dueEvents::add);
+
+    for (var i = 0; i < dueEvents.size(); i++) {
+      executeEvent(dueEvents.get(i));
+    }
+
+    dueEvents.clear();
+  }
+
+  private void executeEvent(ScheduledEvent event) {
+    var eventId = event.getId();
+
+    if (pendingEvents.get(eventId) != event) {
+      return;
+    }
+
     try {
-      var nextTimeout = Optional.ofNullable(callback).map(Supplier::get).orElse(Duration.ZERO);
+      var nextTimeout =
+          Optional.ofNullable(event.getCallback()).map(Supplier::get).orElse(Duration.ZERO);
 
       if (nextTimeout.isZero()) {
-        pendingEvents.remove(eventId);
+        pendingEvents.remove(eventId, event);
         log.debug("Event {} finished (returned 0)", eventId);
-      } else {
-        Optional.ofNullable(pendingEvents.get(eventId))
-            .ifPresent(
-                oldEvent -> {
-                  var future =
-                      taskScheduler.schedule(
-                          () -> executeEvent(eventId, callback), Instant.now().plus(nextTimeout));
-
-                  pendingEvents.put(eventId, new ScheduledEvent(eventId, future, callback));
-                  log.debug("Rescheduled event {} for {}ms", eventId, nextTimeout);
-                });
+      } else if (pendingEvents.get(eventId) == event) {
+        event.getTimingWheel().reschedule(event.getTimer(), getExpiryTick(nextTimeout));
+        log.debug("Rescheduled event {} for {}ms", eventId, nextTimeout);
       }
     } catch (Exception e) {
       log.error("Error executing event {}", eventId, e);
-      pendingEvents.remove(eventId);
+      pendingEvents.remove(eventId, event);
     }
   }
 
-  private record ScheduledEvent(long id, ScheduledFuture<?> future, Supplier<Duration> callback) {}
+  private long getExpiryTick(Duration delay) {
+    var delayTicks = Math.ceilDiv(Math.max(0, delay.toMillis()), EVENT_TICK_MILLIS);
+
+    return getCurrentEventTick() + delayTicks;
+  }
+
+  private long getCurrentEventTick() {
+    return DateTimeUtils.getUnixTime() / EVENT_TICK_MILLIS;
+  }
 }
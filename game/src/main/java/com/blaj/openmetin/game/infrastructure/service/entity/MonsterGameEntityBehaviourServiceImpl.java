@@ -7,9 +7,8 @@ import com.blaj.openmetin.game.domain.enums.entity.EntityState;
 import com.blaj.openmetin.game.domain.enums.map.MapAttribute;
 import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
 import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
+import com.blaj.openmetin.game.infrastructure.service.tick.TickClockService;
 import com.blaj.openmetin.shared.common.abstractions.SessionService;
-import com.blaj.openmetin.shared.common.model.Session;
-import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
 import com.blaj.openmetin.shared.common.utils.MathUtils;
 import com.blaj.openmetin.shared.domain.model.Coordinates;
 import com.blaj.openmetin.shared.domain.model.Vector2;
@@ -31,15 +30,16 @@ public class MonsterGameEntityBehaviourServiceImpl
 
   private final GameEntityMovementService gameEntityMovementService;
   private final SessionService sessionService;
+  private final TickClockService tickClockService;
 
   @Override
   public void update(MonsterGameEntity monsterGameEntity) {
     if (monsterGameEntity.getState().equals(EntityState.IDLE)) {
-      var currentTime = DateTimeUtils.getUnixTime();
+      var currentTime = tickClockService.getServerTime();
       var nextMovementTime = monsterGameEntity.getBehaviourState().getNextMovementTime();
 
       if (currentTime >= nextMovementTime) {
-        moveToRandomLocation(monsterGameEntity);
+        moveToRandomLocation(monsterGameEntity, currentTime);
 
         var newNextMovementTime = currentTime + ThreadLocalRandom.current().nextLong(10000, 20000);
         monsterGameEntity.getBehaviourState().setNextMovementTime(newNextMovementTime);
@@ -52,7 +52,7 @@ public class MonsterGameEntityBehaviourServiceImpl
     return MonsterGameEntity.class;
   }
 
-  private void moveToRandomLocation(MonsterGameEntity monsterGameEntity) {
+  private void moveToRandomLocation(MonsterGameEntity monsterGameEntity, long currentTime) {
     for (var i = 0; i < CHECK_VALID_POSITION_MAX_ATTEMPTS; i++) {
       var distance = ThreadLocalRandom.current().nextInt(MIN_MOVE_DISTANCE, MAX_MOVE_DISTANCE);
       var directionVector =
@@ -61,13 +61,14 @@ public class MonsterGameEntityBehaviourServiceImpl
       var delta = new Vector2(distance * directionVector.x(), distance * directionVector.y());
       var targetCoordinates = monsterGameEntity.getCoordinates().add(delta);
 
-      if (tryGoToLocation(monsterGameEntity, targetCoordinates)) {
+      if (tryGoToLocation(monsterGameEntity, targetCoordinates, currentTime)) {
         return;
       }
     }
   }
 
-  private boolean tryGoToLocation(MonsterGameEntity monsterGameEntity, Coordinates coordinates) {
+  private boolean tryGoToLocation(
+      MonsterGameEntity monsterGameEntity, Coordinates coordinates, long currentTime) {
     var map = monsterGameEntity.getMap();
 
     if (!map.isPositionInside(coordinates)) {
@@ -83,8 +84,6 @@ public class MonsterGameEntityBehaviourServiceImpl
       return false;
     }
 
-    var currentTime = DateTimeUtils.getUnixTime();
-
     var directionX = coordinates.x() - monsterGameEntity.getPositionX();
     var directionY = coordinates.y() - monsterGameEntity.getPositionY();
     var rotation = MathUtils.rotation(directionX, directionY);
@@ -104,13 +103,14 @@ public class MonsterGameEntityBehaviourServiceImpl
             .setTime(currentTime)
             .setDuration(monsterGameEntity.getMovementDuration());
 
-    monsterGameEntity.getNearbyEntities().stream()
-        .filter(nearbyEntity -> nearbyEntity instanceof GameCharacterEntity)
-        .map(nearbyEntity -> (GameCharacterEntity) nearbyEntity)
-        .map(GameCharacterEntity::getSession)
-        .map(Session::getId)
-        .forEach(
-            sessionId -> sessionService.sendPacketAsync(sessionId, moveCharacterBroadcastPacket));
+    var sessions =
+        monsterGameEntity.getNearbyEntities().stream()
+            .filter(nearbyEntity -> nearbyEntity instanceof GameCharacterEntity)
+            .map(nearbyEntity -> (GameCharacterEntity) nearbyEntity)
+            .map(GameCharacterEntity::getSession)
+            .toList();
+
+    sessionService.queueBroadcastPacketToSessions(moveCharacterBroadcastPacket, sessions);
 
     return true;
   }
@@ -5,6 +5,7 @@ import com.blaj.openmetin.game.domain.model.map.TownCoordinates;
 import com.blaj.openmetin.game.infrastructure.exception.AtlasInfoLoadException;
 import com.blaj.openmetin.game.infrastructure.exception.AtlasInfoParseException;
 import com.blaj.openmetin.game.infrastructure.properties.DataPathProperties;
+import com.blaj.openmetin.game.infrastructure.properties.SpatialIndexProperties;
 import com.blaj.openmetin.shared.domain.model.Coordinates;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -28,6 +29,7 @@ public class AtlasMapProviderService {
       Pattern.compile("^([a-zA-Z0-9/_]+)\\s+([0-9]+)\\s+([0-9]+)\\s+([0-9]+)\\s+([0-9]+)$");
 
   private final DataPathProperties dataPathProperties;
+  private final SpatialIndexProperties spatialIndexProperties;
 
   public List<Map> getAll() {
     var atlasInfoPath = dataPathProperties.atlasInfoFile();
@@ -46,7 +48,8 @@ public class AtlasMapProviderService {
                     atlasInfo.coordinates(),
                     atlasInfo.width(),
                     atlasInfo.height(),
-                    getTownCoordinates(atlasInfo.name).orElse(null)))
+                    getTownCoordinates(atlasInfo.name).orElse(null),
+                    spatialIndexProperties.typeOf(atlasInfo.name())))
         .toList();
   }
 
@@ -42,6 +42,12 @@ public class ProcessMapSpawnPointsService {
             });
   }
 
+  public void respawn(MonsterGroup monsterGroup, Map map, GameWorldService gameWorldService) {
+    monsterGroup.getMonsterEntities().clear();
+
+    spawnGroup(monsterGroup, map, gameWorldService);
+  }
+
   private void spawnGroup(MonsterGroup monsterGroup, Map map, GameWorldService gameWorldService) {
     var spawnPoint = monsterGroup.getSpawnPoint();
 
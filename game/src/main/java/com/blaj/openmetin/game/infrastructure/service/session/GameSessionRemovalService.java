@@ -0,0 +1,28 @@
+package com.blaj.openmetin.game.infrastructure.service.session;
+
+import com.blaj.openmetin.game.domain.model.session.GameSession;
+import com.blaj.openmetin.shared.common.service.SessionRemovalService;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class GameSessionRemovalService implements SessionRemovalService<GameSession> {
+
+  @Override
+  public void onSessionRemoved(GameSession session) {
+    Optional.ofNullable(session.getGameCharacterEntity())
+        .ifPresent(
+            gameCharacterEntity -> {
+              Optional.ofNullable(gameCharacterEntity.getMap())
+                  .ifPresent(map -> map.getPendingRemovals().add(gameCharacterEntity));
+              session.setGameCharacterEntity(null);
+
+              log.debug(
+                  "Queued character {} of session {} for despawn",
+                  gameCharacterEntity.getVid(),
+                  session.getId());
+            });
+  }
+}
@@ -3,10 +3,11 @@ package com.blaj.openmetin.game.infrastructure.service.tick;
 import com.blaj.openmetin.game.application.common.entity.EntityVisibilityService;
 import com.blaj.openmetin.game.domain.enums.entity.EntityType;
 import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import com.blaj.openmetin.game.domain.model.entity.EntityTable;
 import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
+import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
 import com.blaj.openmetin.game.domain.model.map.Map;
-import com.blaj.openmetin.game.domain.model.spatial.QuadTree;
-import java.util.List;
+import com.blaj.openmetin.game.domain.model.spatial.SpatialIndex;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,20 +17,21 @@ import org.springframework.stereotype.Service;
 public class EntityDespawnService {
 
   private final EntityVisibilityService entityVisibilityService;
+  private final MonsterRespawnService monsterRespawnService;
 
   public void processPendingRemovals(Map map) {
     var pendingRemovals = map.getPendingRemovals();
     var entities = map.getEntities();
-    var quadTree = map.getQuadTree();
+    var spatialIndex = map.getSpatialIndex();
 
     BaseGameEntity gameEntity;
     while ((gameEntity = pendingRemovals.poll()) != null) {
-      despawnEntity(gameEntity, entities, quadTree);
+      despawnEntity(gameEntity, entities, spatialIndex, map);
     }
   }
 
   private void despawnEntity(
-      BaseGameEntity gameEntity, List<BaseGameEntity> entities, QuadTree quadTree) {
+      BaseGameEntity gameEntity, EntityTable entities, SpatialIndex spatialIndex, Map map) {
     entities.remove(gameEntity);
 
     gameEntity
@@ -45,9 +47,18 @@ public class EntityDespawnService {
             });
 
     gameEntity.getNearbyEntities().clear();
+
+    gameEntity
+        .getInterestCandidates()
+        .forEach(candidate -> candidate.removeInterestCandidate(gameEntity));
+    gameEntity.getInterestCandidates().clear();
     gameEntity.setMap(null);
 
-    quadTree.remove(gameEntity);
+    spatialIndex.remove(gameEntity);
+
+    if (gameEntity instanceof MonsterGameEntity monsterGameEntity) {
+      monsterRespawnService.onMonsterRemoved(monsterGameEntity, map);
+    }
   }
 
   private Optional<GameCharacterEntity> asPlayer(BaseGameEntity gameEntity) {
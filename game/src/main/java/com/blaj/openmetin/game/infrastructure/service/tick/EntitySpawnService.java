@@ -3,56 +3,79 @@ package com.blaj.openmetin.game.infrastructure.service.tick;
 import com.blaj.openmetin.game.application.common.entity.EntityVisibilityService;
 import com.blaj.openmetin.game.domain.enums.entity.EntityType;
 import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import com.blaj.openmetin.game.domain.model.entity.EntityTable;
 import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
 import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.domain.model.spatial.SpatialIndex;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EntitySpawnService {
 
-  private static final int VIEW_DISTANCE = 10000;
+  private final ThreadLocal<List<BaseGameEntity>> aroundCache =
+      ThreadLocal.withInitial(ArrayList::new);
 
   private final EntityVisibilityService entityVisibilityService;
 
   public void processPendingSpawns(Map map) {
     var pendingSpawns = map.getPendingSpawns();
-    var quadTree = map.getQuadTree();
+    var spatialIndex = map.getSpatialIndex();
     var entities = map.getEntities();
 
     BaseGameEntity entity;
     while ((entity = pendingSpawns.poll()) != null) {
-      spawnEntity(entity, entities, quadTree, map);
+      spawnEntity(entity, entities, spatialIndex, map);
     }
   }
 
   private void spawnEntity(
-      BaseGameEntity gameEntity,
-      java.util.List<BaseGameEntity> entities,
-      com.blaj.openmetin.game.domain.model.spatial.QuadTree quadTree,
-      Map map) {
-    if (!quadTree.insert(gameEntity)) {
+      BaseGameEntity gameEntity, EntityTable entities, SpatialIndex spatialIndex, Map map) {
+    if (!entities.add(gameEntity)) {
+      log.warn("Entity with vid {} is already spawned", gameEntity.getVid());
       return;
     }
 
-    var aroundEntities = new ArrayList<BaseGameEntity>();
+    if (!spatialIndex.insert(gameEntity)) {
+      entities.remove(gameEntity);
+      return;
+    }
+
+    gameEntity.updateInterestCell();
+
+    var aroundEntities = aroundCache.get();
     var entityTypeFilter = gameEntity.getType() != EntityType.PLAYER ? EntityType.PLAYER : null;
 
-    quadTree.queryAround(
+    spatialIndex.queryAround(
         aroundEntities,
         gameEntity.getPositionX(),
         gameEntity.getPositionY(),
-        VIEW_DISTANCE,
+        Map.INTEREST_CANDIDATE_DISTANCE,
         entityTypeFilter);
 
-    aroundEntities.stream()
-        .filter(nearbyEntity -> nearbyEntity != gameEntity)
-        .forEach(nearbyEntity -> handleNearbyEntity(gameEntity, nearbyEntity));
+    for (var i = 0; i < aroundEntities.size(); i++) {
+      var aroundEntity = aroundEntities.get(i);
+
+      if (aroundEntity == gameEntity) {
+        continue;
+      }
+
+      gameEntity.addInterestCandidate(aroundEntity);
+      aroundEntity.addInterestCandidate(gameEntity);
+
+      if (gameEntity.isWithinViewDistance(aroundEntity)) {
+        handleNearbyEntity(gameEntity, aroundEntity);
+      }
+    }
+
+    aroundEntities.clear();
 
-    entities.add(gameEntity);
     gameEntity.setMap(map);
   }
 
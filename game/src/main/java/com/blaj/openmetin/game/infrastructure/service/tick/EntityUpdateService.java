@@ -1,19 +1,12 @@
 package com.blaj.openmetin.game.infrastructure.service.tick;
 
-import com.blaj.openmetin.game.application.common.entity.EntityVisibilityService;
 import com.blaj.openmetin.game.domain.enums.entity.EntityState;
-import com.blaj.openmetin.game.domain.enums.entity.EntityType;
 import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
-import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
 import com.blaj.openmetin.game.domain.model.map.Map;
-import com.blaj.openmetin.game.domain.model.spatial.QuadTree;
+import com.blaj.openmetin.game.domain.model.spatial.SpatialIndex;
 import com.blaj.openmetin.game.infrastructure.service.entity.GameEntityBehaviourService;
-import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,38 +15,33 @@ import org.springframework.stereotype.Service;
 @Service
 public class EntityUpdateService {
 
-  private static final int VIEW_DISTANCE = 10000;
-
-  private final ThreadLocal<List<BaseGameEntity>> nearbyCache =
-      ThreadLocal.withInitial(ArrayList::new);
-  private final ThreadLocal<Set<BaseGameEntity>> removeCache =
-      ThreadLocal.withInitial(HashSet::new);
-
-  private final EntityVisibilityService entityVisibilityService;
   private final java.util.Map<
           Class<? extends BaseGameEntity>, GameEntityBehaviourService<BaseGameEntity>>
       gameEntityBehaviourServiceStrategyMap;
+  private final TickClockService tickClockService;
 
   public EntityUpdateService(
-      EntityVisibilityService entityVisibilityService,
-      List<GameEntityBehaviourService<? extends BaseGameEntity>> gameEntityBehaviourServices) {
-    this.entityVisibilityService = entityVisibilityService;
+      List<GameEntityBehaviourService<? extends BaseGameEntity>> gameEntityBehaviourServices,
+      TickClockService tickClockService) {
+    this.tickClockService = tickClockService;
     this.gameEntityBehaviourServiceStrategyMap =
         initializeGameEntityBehaviourServiceStrategyMap(gameEntityBehaviourServices);
   }
 
   public void update(Map map) {
     var entities = map.getEntities();
-    var quadTree = map.getQuadTree();
+    var spatialIndex = map.getSpatialIndex();
+    var movedEntities = map.getMovedEntities();
+    var currentServerTime = tickClockService.getServerTime();
 
-    for (var entity : entities) {
-      var currentServerTime = DateTimeUtils.getUnixTime();
+    for (var i = 0; i < entities.size(); i++) {
+      var entity = entities.get(i);
 
       Optional.ofNullable(gameEntityBehaviourServiceStrategyMap.get(entity.getClass()))
           .ifPresent(gameEntityBehaviourService -> gameEntityBehaviourService.update(entity));
 
       updateEntityMovement(entity, currentServerTime);
-      updatePositionInQuadTree(entity, quadTree);
+      updatePositionInSpatialIndex(entity, spatialIndex, movedEntities);
     }
   }
 
@@ -78,72 +66,16 @@ public class EntityUpdateService {
     }
   }
 
-  private void updatePositionInQuadTree(BaseGameEntity gameEntity, QuadTree quadTree) {
+  private void updatePositionInSpatialIndex(
+      BaseGameEntity gameEntity, SpatialIndex spatialIndex, List<BaseGameEntity> movedEntities) {
     if (!gameEntity.isPositionChanged()) {
       return;
     }
 
     gameEntity.setPositionChanged(false);
-    quadTree.updatePosition(gameEntity);
-
-    if (gameEntity.getType() != EntityType.PLAYER) {
-      return;
-    }
-
-    var nearby = nearbyCache.get();
-    var remove = removeCache.get();
-
-    var entityTypeFilter = gameEntity.getType() != EntityType.PLAYER ? EntityType.PLAYER : null;
-
-    quadTree.queryAround(
-        nearby,
-        gameEntity.getPositionX(),
-        gameEntity.getPositionY(),
-        VIEW_DISTANCE,
-        entityTypeFilter);
-
-    gameEntity.getNearbyEntities().stream()
-        .filter(nearbyEntity -> !nearby.remove(nearbyEntity))
-        .forEach(remove::add);
-
-    remove.forEach(
-        removeEntity -> {
-          removeEntity.removeNearbyEntity(gameEntity);
-          gameEntity.removeNearbyEntity(removeEntity);
-
-          var playerEntity = (GameCharacterEntity) gameEntity;
-          entityVisibilityService.hideEntityFromPlayer(
-              removeEntity, playerEntity.getSession().getId());
-
-          if (removeEntity.getType() == EntityType.PLAYER) {
-            var nearbyPlayerEntity = (GameCharacterEntity) removeEntity;
-
-            entityVisibilityService.hideEntityFromPlayer(
-                gameEntity, nearbyPlayerEntity.getSession().getId());
-          }
-        });
-
-    nearby.stream()
-        .filter(nearbyEntity -> nearbyEntity != gameEntity)
-        .forEach(
-            nearbyEntity -> {
-              nearbyEntity.addNearbyEntity(gameEntity);
-              gameEntity.addNearbyEntity(nearbyEntity);
-
-              var playerEntity = (GameCharacterEntity) gameEntity;
-              entityVisibilityService.showEntityToPlayer(
-                  nearbyEntity, playerEntity.getSession().getId());
-
-              if (nearbyEntity.getType() == EntityType.PLAYER) {
-                var nearbyPlayerEntity = (GameCharacterEntity) nearbyEntity;
-
-                entityVisibilityService.showEntityToPlayer(
-                    gameEntity, nearbyPlayerEntity.getSession().getId());
-              }
-            });
+    spatialIndex.updatePosition(gameEntity);
 
-    nearby.clear();
-    remove.clear();
+    movedEntities.add(gameEntity);
   }
 
   private float calculateMovementRate(BaseGameEntity gameEntity, long elapsed) {
@@ -152,7 +84,7 @@ public class EntityUpdateService {
     }
 
     var rate = (float) elapsed / gameEntity.getMovementDuration();
-    return Math.min(rate, 1.0f);
+    return Math.clamp(rate, 0.0f, 1.0f);
   }
 
   private int interpolatePosition(int start, int target, float rate) {
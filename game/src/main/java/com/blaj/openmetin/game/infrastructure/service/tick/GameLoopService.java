@@ -1,9 +1,12 @@
 package com.blaj.openmetin.game.infrastructure.service.tick;
 
+import com.blaj.openmetin.game.application.common.eventsystem.EventSystemService;
+import com.blaj.openmetin.game.domain.enums.tick.GameLoopCatchUpPolicy;
 import com.blaj.openmetin.game.infrastructure.properties.GameLoopProperties;
-import java.time.Duration;
-import java.time.Instant;
+import com.blaj.openmetin.shared.common.abstractions.SessionService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.SmartLifecycle;
@@ -14,19 +17,21 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class GameLoopService implements SmartLifecycle {
 
-  private static final Duration MAX_TICK_TIME = Duration.ofMillis(250);
   private static final int TPS_LOG_INTERVAL = 60;
 
   private final GameLoopProperties gameLoopProperties;
+  private final EventSystemService eventSystemService;
   private final MapUpdateService mapUpdateService;
+  private final SessionService sessionService;
+  private final TickMetricsService tickMetricsService;
+  private final TickClockService tickClockService;
 
   private final AtomicBoolean isRunning = new AtomicBoolean(false);
 
   private Thread gameLoopThread;
   private long currentTick;
-  private Duration accumulator = Duration.ZERO;
   private long lastTpsCheckTick = 0;
-  private Instant lastTpsCheckTime;
+  private long lastTpsCheckNanos;
 
   @Override
   public void start() {
@@ -43,7 +48,7 @@ public class GameLoopService implements SmartLifecycle {
       log.info(
           "Game loop started - Target TPS: {}, Timestep: {}ms",
           gameLoopProperties.targetTps(),
-          gameLoopProperties.fixedTimestepMs());
+          TimeUnit.NANOSECONDS.toMillis(gameLoopProperties.tickIntervalNanos()));
     }
   }
 
@@ -80,27 +85,29 @@ public class GameLoopService implements SmartLifecycle {
   }
 
   private void gameLoop() {
-    var fixedTimestep = Duration.ofMillis(gameLoopProperties.fixedTimestepMs());
-    var previousTime = Instant.now();
-    lastTpsCheckTime = Instant.now();
+    var tickIntervalNanos = gameLoopProperties.tickIntervalNanos();
+    var maxCatchUpTicks = Math.max(1, gameLoopProperties.maxCatchUpTicks());
+    var skipMissedTicks = gameLoopProperties.catchUpPolicy() == GameLoopCatchUpPolicy.SKIP;
+    var nextTickNanos = System.nanoTime();
+    lastTpsCheckNanos = nextTickNanos;
 
     log.info("Game loop thread started");
 
     while (isRunning.get()) {
-      var currentTime = Instant.now();
-      var frameTime = Duration.between(previousTime, currentTime);
+      var lagNanos = System.nanoTime() - nextTickNanos;
 
-      if (frameTime.compareTo(MAX_TICK_TIME) > 0) {
-        frameTime = MAX_TICK_TIME;
-        log.warn("Frame time clamped to max: {}ms", MAX_TICK_TIME.toMillis());
+      if (lagNanos < 0) {
+        parkNanos(-lagNanos);
+        continue;
       }
 
-      accumulator = accumulator.plus(frameTime);
-      previousTime = currentTime;
+      tickMetricsService.recordAccumulatorLag(lagNanos);
 
-      while (accumulator.compareTo(fixedTimestep) >= 0) {
+      var dueTicks = lagNanos / tickIntervalNanos + 1;
+      var ticksToRun = skipMissedTicks ? 1 : Math.min(dueTicks, maxCatchUpTicks);
+
+      for (var i = 0; i < ticksToRun && isRunning.get(); i++) {
         tick();
-        accumulator = accumulator.minus(fixedTimestep);
         currentTick++;
 
         if (currentTick % TPS_LOG_INTERVAL == 0) {
@@ -108,22 +115,33 @@ public class GameLoopService implements SmartLifecycle {
         }
       }
 
-      sleepBriefly();
+      if (dueTicks > ticksToRun) {
+        log.warn("Game loop is behind, skipped {} ticks", dueTicks - ticksToRun);
+      }
+
+      nextTickNanos += dueTicks * tickIntervalNanos;
     }
 
     log.info("Game loop thread finished");
   }
 
   private void tick() {
+    var tickStartNanos = System.nanoTime();
+    tickClockService.advance(currentTick);
+
+    eventSystemService.processDueEvents();
     mapUpdateService.update();
+    sessionService.flushQueuedPackets();
+
+    tickMetricsService.recordTick(System.nanoTime() - tickStartNanos);
   }
 
   private void logTicksPerSecond() {
-    var now = Instant.now();
+    var now = System.nanoTime();
     var ticksSinceLastCheck = currentTick - lastTpsCheckTick;
-    var timeSinceLastCheck = Duration.between(lastTpsCheckTime, now);
+    var secondsSinceLastCheck = (now - lastTpsCheckNanos) / (double) TimeUnit.SECONDS.toNanos(1);
 
-    var actualTps = ticksSinceLastCheck / (timeSinceLastCheck.toMillis() / 1000.0);
+    var actualTps = ticksSinceLastCheck / secondsSinceLastCheck;
 
     log.debug(
         "Tick: {} | TPS: {}/{} (actual/target) | {}%",
@@ -133,14 +151,13 @@ public class GameLoopService implements SmartLifecycle {
         String.format("%.2f", actualTps / gameLoopProperties.targetTps() * 100));
 
     lastTpsCheckTick = currentTick;
-    lastTpsCheckTime = now;
+    lastTpsCheckNanos = now;
   }
 
-  private void sleepBriefly() {
-    try {
-      Thread.sleep(1);
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
+  private void parkNanos(long nanos) {
+    LockSupport.parkNanos(this, nanos);
+
+    if (Thread.currentThread().isInterrupted()) {
       isRunning.set(false);
     }
   }
@@ -0,0 +1,183 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import com.blaj.openmetin.game.application.common.entity.EntityVisibilityService;
+import com.blaj.openmetin.game.domain.enums.entity.EntityType;
+import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.domain.model.spatial.SpatialIndex;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class InterestManagementService {
+
+  private final ThreadLocal<List<BaseGameEntity>> aroundCache =
+      ThreadLocal.withInitial(ArrayList::new);
+  private final ThreadLocal<Set<BaseGameEntity>> aroundSetCache =
+      ThreadLocal.withInitial(HashSet::new);
+  private final ThreadLocal<java.util.Map<Long, VisibilityChanges>> visibilityChangesCache =
+      ThreadLocal.withInitial(HashMap::new);
+
+  private final EntityVisibilityService entityVisibilityService;
+
+  public void update(Map map) {
+    var movedEntities = map.getMovedEntities();
+
+    if (movedEntities.isEmpty()) {
+      return;
+    }
+
+    var spatialIndex = map.getSpatialIndex();
+    var visibilityChanges = visibilityChangesCache.get();
+
+    for (var i = 0; i < movedEntities.size(); i++) {
+      var movedEntity = movedEntities.get(i);
+
+      if (movedEntity.updateInterestCell()) {
+        updateInterestCandidates(movedEntity, spatialIndex, visibilityChanges);
+      }
+
+      updateVisibility(movedEntity, visibilityChanges);
+    }
+
+    movedEntities.clear();
+
+    visibilityChanges.forEach(
+        (sessionId, changes) ->
+            entityVisibilityService.applyVisibilityChanges(
+                sessionId, changes.getEntitiesToHide(), changes.getEntitiesToShow()));
+    visibilityChanges.clear();
+  }
+
+  private void updateInterestCandidates(
+      BaseGameEntity gameEntity,
+      SpatialIndex spatialIndex,
+      java.util.Map<Long, VisibilityChanges> visibilityChanges) {
+    var around = aroundCache.get();
+    var aroundSet = aroundSetCache.get();
+    var entityTypeFilter = gameEntity.getType() != EntityType.PLAYER ? EntityType.PLAYER : null;
+
+    spatialIndex.queryAround(
+        around,
+        gameEntity.getPositionX(),
+        gameEntity.getPositionY(),
+        Map.INTEREST_CANDIDATE_DISTANCE,
+        entityTypeFilter);
+
+    aroundSet.addAll(around);
+
+    var candidateIterator = gameEntity.getInterestCandidates().iterator();
+    while (candidateIterator.hasNext()) {
+      var candidate = candidateIterator.next();
+
+      if (aroundSet.contains(candidate)) {
+        continue;
+      }
+
+      candidateIterator.remove();
+      candidate.removeInterestCandidate(gameEntity);
+
+      if (gameEntity.getNearbyEntities().contains(candidate)) {
+        hide(gameEntity, candidate, visibilityChanges);
+      }
+    }
+
+    for (var i = 0; i < around.size(); i++) {
+      var aroundEntity = around.get(i);
+
+      if (aroundEntity != gameEntity && gameEntity.getInterestCandidates().add(aroundEntity)) {
+        aroundEntity.addInterestCandidate(gameEntity);
+      }
+    }
+
+    around.clear();
+    aroundSet.clear();
+  }
+
+  private void updateVisibility(
+      BaseGameEntity gameEntity, java.util.Map<Long, VisibilityChanges> visibilityChanges) {
+    for (var candidate : gameEntity.getInterestCandidates()) {
+      var withinViewDistance = gameEntity.isWithinViewDistance(candidate);
+      var nearby = gameEntity.getNearbyEntities().contains(candidate);
+
+      if (withinViewDistance && !nearby) {
+        show(gameEntity, candidate, visibilityChanges);
+      } else if (!withinViewDistance && nearby) {
+        hide(gameEntity, candidate, visibilityChanges);
+      }
+    }
+  }
+
+  private void show(
+      BaseGameEntity gameEntity,
+      BaseGameEntity otherEntity,
+      java.util.Map<Long, VisibilityChanges> visibilityChanges) {
+    gameEntity.addNearbyEntity(otherEntity);
+    otherEntity.addNearbyEntity(gameEntity);
+
+    recordShow(gameEntity, otherEntity, visibilityChanges);
+    recordShow(otherEntity, gameEntity, visibilityChanges);
+  }
+
+  private void hide(
+      BaseGameEntity gameEntity,
+      BaseGameEntity otherEntity,
+      java.util.Map<Long, VisibilityChanges> visibilityChanges) {
+    gameEntity.removeNearbyEntity(otherEntity);
+    otherEntity.removeNearbyEntity(gameEntity);
+
+    recordHide(gameEntity, otherEntity, visibilityChanges);
+    recordHide(otherEntity, gameEntity, visibilityChanges);
+  }
+
+  private void recordShow(
+      BaseGameEntity viewer,
+      BaseGameEntity entityToShow,
+      java.util.Map<Long, VisibilityChanges> visibilityChanges) {
+    if (viewer.getType() != EntityType.PLAYER) {
+      return;
+    }
+
+    var changes = getVisibilityChanges((GameCharacterEntity) viewer, visibilityChanges);
+
+    if (!changes.getEntitiesToHide().remove(entityToShow)) {
+      changes.getEntitiesToShow().add(entityToShow);
+    }
+  }
+
+  private void recordHide(
+      BaseGameEntity viewer,
+      BaseGameEntity entityToHide,
+      java.util.Map<Long, VisibilityChanges> visibilityChanges) {
+    if (viewer.getType() != EntityType.PLAYER) {
+      return;
+    }
+
+    var changes = getVisibilityChanges((GameCharacterEntity) viewer, visibilityChanges);
+
+    if (!changes.getEntitiesToShow().remove(entityToHide)) {
+      changes.getEntitiesToHide().add(entityToHide);
+    }
+  }
+
+  private VisibilityChanges getVisibilityChanges(
+      GameCharacterEntity viewer, java.util.Map<Long, VisibilityChanges> visibilityChanges) {
+    return visibilityChanges.computeIfAbsent(
+        viewer.getSession().getId(), _ -> new VisibilityChanges());
+  }
+
+  @Getter
+  private static class VisibilityChanges {
+    private final Set<BaseGameEntity> entitiesToHide = new LinkedHashSet<>();
+    private final Set<BaseGameEntity> entitiesToShow = new LinkedHashSet<>();
+  }
+}
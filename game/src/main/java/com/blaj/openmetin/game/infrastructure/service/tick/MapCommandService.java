@@ -0,0 +1,23 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import com.blaj.openmetin.game.domain.model.map.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class MapCommandService {
+
+  public void processPendingCommands(Map map) {
+    var pendingCommands = map.getPendingCommands();
+
+    Runnable command;
+    while ((command = pendingCommands.poll()) != null) {
+      try {
+        command.run();
+      } catch (Exception e) {
+        log.error("Failed to process command on map {}", map.getName(), e);
+      }
+    }
+  }
+}
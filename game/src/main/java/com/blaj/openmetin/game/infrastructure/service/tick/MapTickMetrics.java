@@ -0,0 +1,79 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import com.blaj.openmetin.game.domain.enums.entity.EntityType;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MapTickMetrics {
+
+  private static final String MAP_TAG = "map";
+
+  private final long tickBudgetNanos;
+  private final EnumMap<MapTickPhase, Timer> phaseTimers = new EnumMap<>(MapTickPhase.class);
+  private final Timer tickTimer;
+  private final Counter tickOverrunsCounter;
+  private final AtomicInteger entityCount = new AtomicInteger();
+  private final AtomicInteger playerCount = new AtomicInteger();
+
+  public MapTickMetrics(String mapName, long tickBudgetNanos, MeterRegistry meterRegistry) {
+    this.tickBudgetNanos = tickBudgetNanos;
+
+    for (var mapTickPhase : MapTickPhase.values()) {
+      phaseTimers.put(
+          mapTickPhase,
+          Timer.builder("game.map.tick.phase.duration")
+              .description("Wall time of a single map tick phase")
+              .tag(MAP_TAG, mapName)
+              .tag("phase", mapTickPhase.getTagValue())
+              .publishPercentileHistogram()
+              .register(meterRegistry));
+    }
+
+    tickTimer =
+        Timer.builder("game.map.tick.duration")
+            .description("Wall time of all phases of a map tick")
+            .tag(MAP_TAG, mapName)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    tickOverrunsCounter =
+        Counter.builder("game.map.tick.overruns")
+            .description("Map ticks that took longer than the tick interval")
+            .tag(MAP_TAG, mapName)
+            .register(meterRegistry);
+
+    Gauge.builder("game.map.entities", entityCount, AtomicInteger::get)
+        .description("Entities on the map at the end of the last tick")
+        .tag(MAP_TAG, mapName)
+        .register(meterRegistry);
+    Gauge.builder("game.map.players", playerCount, AtomicInteger::get)
+        .description("Players on the map at the end of the last tick")
+        .tag(MAP_TAG, mapName)
+        .register(meterRegistry);
+  }
+
+  public long recordPhase(MapTickPhase mapTickPhase, long phaseStartNanos) {
+    var now = System.nanoTime();
+    phaseTimers.get(mapTickPhase).record(now - phaseStartNanos, TimeUnit.NANOSECONDS);
+
+    return now;
+  }
+
+  public void recordTick(Map map, long tickDurationNanos) {
+    tickTimer.record(tickDurationNanos, TimeUnit.NANOSECONDS);
+
+    if (tickDurationNanos > tickBudgetNanos) {
+      tickOverrunsCounter.increment();
+    }
+
+    var entities = map.getEntities();
+
+    entityCount.set(entities.size());
+    playerCount.set(entities.count(EntityType.PLAYER));
+  }
+}
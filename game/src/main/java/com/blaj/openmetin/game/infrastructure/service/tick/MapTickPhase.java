@@ -0,0 +1,20 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import lombok.Getter;
+
+@Getter
+public enum MapTickPhase {
+  COMMANDS("commands"),
+  EVENTS("events"),
+  RESPAWNS("respawns"),
+  SPAWNS("spawns"),
+  DESPAWNS("despawns"),
+  ENTITY_UPDATE("entity_update"),
+  VISIBILITY("visibility");
+
+  private final String tagValue;
+
+  MapTickPhase(String tagValue) {
+    this.tagValue = tagValue;
+  }
+}
@@ -0,0 +1,177 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.infrastructure.properties.GameLoopProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class MapTickWorkerPoolService {
+
+  private final int poolSize;
+  private final java.util.Map<String, Integer> pinnedGroupIndexByMapName;
+  private final ExecutorService[] workers;
+
+  private List<List<Map>> mapsByWorker = List.of();
+  private int assignedMapsCount = -1;
+
+  public MapTickWorkerPoolService(GameLoopProperties gameLoopProperties) {
+    this.poolSize = Math.max(1, gameLoopProperties.mapWorkerPoolSize());
+    this.pinnedGroupIndexByMapName =
+        initializePinnedGroupIndexByMapName(gameLoopProperties.mapWorkerGroups());
+    this.workers = new ExecutorService[poolSize];
+  }
+
+  public void execute(Collection<Map> maps, Consumer<Map> mapConsumer) {
+    if (maps.size() != assignedMapsCount) {
+      mapsByWorker = assignMapsToWorkers(maps);
+      assignedMapsCount = maps.size();
+    }
+
+    var activeWorkers = 0;
+    for (var workerMaps : mapsByWorker) {
+      if (!workerMaps.isEmpty()) {
+        activeWorkers++;
+      }
+    }
+
+    var barrier = new CountDownLatch(activeWorkers);
+
+    for (var workerIndex = 0; workerIndex < mapsByWorker.size(); workerIndex++) {
+      var workerMaps = mapsByWorker.get(workerIndex);
+
+      if (workerMaps.isEmpty()) {
+        continue;
+      }
+
+      getWorker(workerIndex).execute(() -> updateWorkerMaps(workerMaps, mapConsumer, barrier));
+    }
+
+    try {
+      barrier.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while waiting for map tick workers");
+    }
+  }
+
+  public int getWorkerIndex(String mapName) {
+    for (var workerIndex = 0; workerIndex < mapsByWorker.size(); workerIndex++) {
+      for (var map : mapsByWorker.get(workerIndex)) {
+        if (map.getName().equals(mapName)) {
+          return workerIndex;
+        }
+      }
+    }
+
+    return -1;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    for (var worker : workers) {
+      if (worker == null) {
+        continue;
+      }
+
+      worker.shutdown();
+
+      try {
+        if (!worker.awaitTermination(5, TimeUnit.SECONDS)) {
+          worker.shutdownNow();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        worker.shutdownNow();
+      }
+    }
+  }
+
+  private void updateWorkerMaps(
+      List<Map> workerMaps, Consumer<Map> mapConsumer, CountDownLatch barrier) {
+    try {
+      for (var map : workerMaps) {
+        try {
+          mapConsumer.accept(map);
+        } catch (Exception e) {
+          log.error("Failed to update map {}", map.getName(), e);
+        }
+      }
+    } finally {
+      barrier.countDown();
+    }
+  }
+
+  private List<List<Map>> assignMapsToWorkers(Collection<Map> maps) {
+    var result = new ArrayList<List<Map>>(poolSize);
+    for (var i = 0; i < poolSize; i++) {
+      result.add(new ArrayList<>());
+    }
+
+    var workerIndexByGroupIndex = new HashMap<Integer, Integer>();
+    var nextWorkerIndex = 0;
+
+    var sortedMaps = new ArrayList<>(maps);
+    sortedMaps.sort((first, second) -> first.getName().compareTo(second.getName()));
+
+    for (var map : sortedMaps) {
+      var groupIndex = pinnedGroupIndexByMapName.get(map.getName());
+      int workerIndex;
+
+      if (groupIndex != null && workerIndexByGroupIndex.containsKey(groupIndex)) {
+        workerIndex = workerIndexByGroupIndex.get(groupIndex);
+      } else {
+        workerIndex = nextWorkerIndex;
+        nextWorkerIndex = (nextWorkerIndex + 1) % poolSize;
+
+        if (groupIndex != null) {
+          workerIndexByGroupIndex.put(groupIndex, workerIndex);
+        }
+      }
+
+      result.get(workerIndex).add(map);
+    }
+
+    log.info("Assigned {} maps to {} map tick workers", maps.size(), poolSize);
+
+    return result;
+  }
+
+  private ExecutorService getWorker(int workerIndex) {
+    if (workers[workerIndex] == null) {
+      var threadName = "MapTick-Worker-" + workerIndex;
+      workers[workerIndex] =
+          Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, threadName));
+    }
+
+    return workers[workerIndex];
+  }
+
+  private java.util.Map<String, Integer> initializePinnedGroupIndexByMapName(
+      List<List<String>> mapWorkerGroups) {
+    var result = new HashMap<String, Integer>();
+
+    if (mapWorkerGroups == null) {
+      return result;
+    }
+
+    for (var groupIndex = 0; groupIndex < mapWorkerGroups.size(); groupIndex++) {
+      for (var mapName : mapWorkerGroups.get(groupIndex)) {
+        result.put(mapName, groupIndex);
+      }
+    }
+
+    return result;
+  }
+}
@@ -1,5 +1,9 @@
 package com.blaj.openmetin.game.infrastructure.service.tick;
 
+import com.blaj.openmetin.game.application.common.eventsystem.EventSystemService;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.domain.model.spatial.QuadTree;
+import com.blaj.openmetin.game.infrastructure.properties.GameLoopProperties;
 import com.blaj.openmetin.game.infrastructure.service.world.GameWorldService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,18 +15,57 @@ import org.springframework.stereotype.Service;
 public class MapUpdateService {
 
   private final GameWorldService gameWorldService;
+  private final MapCommandService mapCommandService;
   private final EntityUpdateService entityUpdateService;
   private final EntitySpawnService entitySpawnService;
   private final EntityDespawnService entityDespawnService;
+  private final InterestManagementService interestManagementService;
+  private final MonsterRespawnService monsterRespawnService;
+  private final EventSystemService eventSystemService;
+  private final GameLoopProperties gameLoopProperties;
+  private final MapTickWorkerPoolService mapTickWorkerPoolService;
+  private final TickMetricsService tickMetricsService;
 
   public void update() {
     var maps = gameWorldService.getMaps();
 
-    maps.forEach(
-        (mapName, map) -> {
-          entitySpawnService.processPendingSpawns(map);
-          entityDespawnService.processPendingRemovals(map);
-          entityUpdateService.update(map);
-        });
+    if (gameLoopProperties.parallelMapTick()) {
+      mapTickWorkerPoolService.execute(maps.values(), this::updateMap);
+      return;
+    }
+
+    maps.forEach((mapName, map) -> updateMap(map));
+  }
+
+  private void updateMap(Map map) {
+    var mapTickMetrics = tickMetricsService.getMapTickMetrics(map);
+    var tickStartNanos = System.nanoTime();
+
+    mapCommandService.processPendingCommands(map);
+    var phaseStartNanos = mapTickMetrics.recordPhase(MapTickPhase.COMMANDS, tickStartNanos);
+
+    eventSystemService.processDueEvents(map);
+    phaseStartNanos = mapTickMetrics.recordPhase(MapTickPhase.EVENTS, phaseStartNanos);
+
+    monsterRespawnService.processDueRespawns(map);
+    phaseStartNanos = mapTickMetrics.recordPhase(MapTickPhase.RESPAWNS, phaseStartNanos);
+
+    entitySpawnService.processPendingSpawns(map);
+    phaseStartNanos = mapTickMetrics.recordPhase(MapTickPhase.SPAWNS, phaseStartNanos);
+
+    entityDespawnService.processPendingRemovals(map);
+    phaseStartNanos = mapTickMetrics.recordPhase(MapTickPhase.DESPAWNS, phaseStartNanos);
+
+    entityUpdateService.update(map);
+    phaseStartNanos = mapTickMetrics.recordPhase(MapTickPhase.ENTITY_UPDATE, phaseStartNanos);
+
+    interestManagementService.update(map);
+    phaseStartNanos = mapTickMetrics.recordPhase(MapTickPhase.VISIBILITY, phaseStartNanos);
+
+    if (map.getSpatialIndex() instanceof QuadTree quadTree) {
+      quadTree.publishStatistics();
+    }
+
+    mapTickMetrics.recordTick(map, phaseStartNanos - tickStartNanos);
   }
 }
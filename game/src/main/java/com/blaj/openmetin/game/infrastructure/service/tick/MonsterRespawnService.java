@@ -0,0 +1,86 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.domain.model.spawn.MonsterGroup;
+import com.blaj.openmetin.game.infrastructure.service.map.ProcessMapSpawnPointsService;
+import com.blaj.openmetin.game.infrastructure.service.world.GameWorldService;
+import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonsterRespawnService {
+
+  public static final long RESPAWN_TICK_MILLIS = 1000;
+
+  private final ThreadLocal<List<MonsterGroup>> dueMonsterGroupsCache =
+      ThreadLocal.withInitial(ArrayList::new);
+
+  private final ProcessMapSpawnPointsService processMapSpawnPointsService;
+  private final GameWorldService gameWorldService;
+
+  public void onMonsterRemoved(MonsterGameEntity monsterGameEntity, Map map) {
+    var monsterGroup = monsterGameEntity.getMonsterGroup();
+
+    if (monsterGroup == null) {
+      return;
+    }
+
+    monsterGameEntity.setMonsterGroup(null);
+
+    var monsterEntities = monsterGroup.getMonsterEntities();
+
+    if (!monsterEntities.remove(monsterGameEntity) || !monsterEntities.isEmpty()) {
+      return;
+    }
+
+    scheduleRespawn(monsterGroup, map);
+  }
+
+  public void processDueRespawns(Map map) {
+    var dueMonsterGroups = dueMonsterGroupsCache.get();
+    map.getRespawnTimingWheel().advanceTo(getCurrentRespawnTick(), dueMonsterGroups::add);
+
+    for (var i = 0; i < dueMonsterGroups.size(); i++) {
+      var monsterGroup = dueMonsterGroups.get(i);
+      monsterGroup.setRespawnTimer(null);
+
+      processMapSpawnPointsService.respawn(monsterGroup, map, gameWorldService);
+
+      if (monsterGroup.getMonsterEntities().isEmpty()) {
+        scheduleRespawn(monsterGroup, map);
+      }
+    }
+
+    if (!dueMonsterGroups.isEmpty()) {
+      log.debug("Respawned {} monster groups on map {}", dueMonsterGroups.size(), map.getName());
+    }
+
+    dueMonsterGroups.clear();
+  }
+
+  private void scheduleRespawn(MonsterGroup monsterGroup, Map map) {
+    var spawnPoint = monsterGroup.getSpawnPoint();
+
+    if (spawnPoint == null || monsterGroup.getRespawnTimer() != null) {
+      return;
+    }
+
+    var delayTicks = spawnPoint.getRespawnTime() * 1000L / RESPAWN_TICK_MILLIS;
+    var respawnTimer =
+        map.getRespawnTimingWheel()
+            .scheduleAt(monsterGroup, getCurrentRespawnTick() + Math.max(1, delayTicks));
+
+    monsterGroup.setRespawnTimer(respawnTimer);
+  }
+
+  private long getCurrentRespawnTick() {
+    return DateTimeUtils.getUnixTime() / RESPAWN_TICK_MILLIS;
+  }
+}
@@ -0,0 +1,28 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TickClockService {
+
+  private volatile TickTime tickTime;
+
+  public void advance(long tick) {
+    tickTime = new TickTime(tick, DateTimeUtils.getUnixTime());
+  }
+
+  public long getTick() {
+    var currentTickTime = tickTime;
+
+    return currentTickTime != null ? currentTickTime.tick() : 0;
+  }
+
+  public long getServerTime() {
+    var currentTickTime = tickTime;
+
+    return currentTickTime != null ? currentTickTime.serverTime() : DateTimeUtils.getUnixTime();
+  }
+
+  private record TickTime(long tick, long serverTime) {}
+}
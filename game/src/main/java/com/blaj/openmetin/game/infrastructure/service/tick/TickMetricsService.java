@@ -0,0 +1,64 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.infrastructure.properties.GameLoopProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TickMetricsService {
+
+  private final MeterRegistry meterRegistry;
+  private final long tickBudgetNanos;
+  private final java.util.Map<String, MapTickMetrics> mapTickMetricsByMapName =
+      new ConcurrentHashMap<>();
+
+  private final Timer tickTimer;
+  private final Counter tickOverrunsCounter;
+  private final AtomicLong accumulatorLagNanos = new AtomicLong();
+
+  public TickMetricsService(GameLoopProperties gameLoopProperties, MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.tickBudgetNanos = gameLoopProperties.tickIntervalNanos();
+
+    tickTimer =
+        Timer.builder("game.tick.duration")
+            .description("Wall time of a whole game loop tick across all maps")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    tickOverrunsCounter =
+        Counter.builder("game.tick.overruns")
+            .description("Game loop ticks that took longer than the tick interval")
+            .register(meterRegistry);
+    Gauge.builder(
+            "game.tick.accumulator.lag",
+            accumulatorLagNanos,
+            lag -> lag.get() / (double) TimeUnit.MILLISECONDS.toNanos(1))
+        .description("Simulation time the game loop had to catch up on before the last tick")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  public MapTickMetrics getMapTickMetrics(Map map) {
+    return mapTickMetricsByMapName.computeIfAbsent(
+        map.getName(), mapName -> new MapTickMetrics(mapName, tickBudgetNanos, meterRegistry));
+  }
+
+  public void recordTick(long tickDurationNanos) {
+    tickTimer.record(tickDurationNanos, TimeUnit.NANOSECONDS);
+
+    if (tickDurationNanos > tickBudgetNanos) {
+      tickOverrunsCounter.increment();
+    }
+  }
+
+  public void recordAccumulatorLag(long lagNanos) {
+    accumulatorLagNanos.set(lagNanos);
+  }
+}
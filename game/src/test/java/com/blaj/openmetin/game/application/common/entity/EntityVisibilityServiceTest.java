@@ -17,6 +17,7 @@ import com.blaj.openmetin.game.domain.model.character.CharacterDto;
 import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
 import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
 import com.blaj.openmetin.shared.common.abstractions.SessionService;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,7 +48,7 @@ public class EntityVisibilityServiceTest {
     entityVisibilityService.showEntityToPlayer(entity, sessionId);
 
     // then
-    then(sessionService).should(never()).sendPacketAsync(anyLong(), any());
+    then(sessionService).should(never()).queuePacket(anyLong(), any());
   }
 
   @Test
@@ -73,7 +74,7 @@ public class EntityVisibilityServiceTest {
     // then
     then(sessionService)
         .should()
-        .sendPacketAsync(
+        .queuePacket(
             sessionId,
             new SpawnCharacterPacket()
                 .setVid(gameCharacterEntity.getVid())
@@ -90,7 +91,7 @@ public class EntityVisibilityServiceTest {
 
     then(sessionService)
         .should()
-        .sendPacketAsync(
+        .queuePacket(
             sessionId,
             new CharacterAdditionalDataPacket()
                 .setVid(gameCharacterEntity.getVid())
@@ -116,7 +117,7 @@ public class EntityVisibilityServiceTest {
     entityVisibilityService.hideEntityFromPlayer(entity, sessionId);
 
     // then
-    then(sessionService).should(never()).sendPacketAsync(anyLong(), any());
+    then(sessionService).should(never()).queuePacket(anyLong(), any());
   }
 
   @Test
@@ -131,7 +132,42 @@ public class EntityVisibilityServiceTest {
     // then
     then(sessionService)
         .should()
-        .sendPacketAsync(
+        .queuePacket(
             sessionId, new RemoveCharacterPacket().setVid(gameCharacterEntity.getVid()));
   }
+
+  @Test
+  public void givenVisibilityChanges_whenApplyVisibilityChanges_thenSendPacketsInSingleBatch() {
+    // given
+    var sessionId = 123L;
+    var entityToHide = GameCharacterEntity.builder().vid(111L).build();
+    var doorEntity = mock(BaseGameEntity.class);
+
+    given(doorEntity.getType()).willReturn(EntityType.DOOR);
+
+    // when
+    entityVisibilityService.applyVisibilityChanges(
+        sessionId, List.of(entityToHide), List.of(doorEntity));
+
+    // then
+    then(sessionService)
+        .should()
+        .queuePackets(sessionId, List.of(new RemoveCharacterPacket().setVid(111L)));
+    then(sessionService).should(never()).queuePacket(anyLong(), any());
+  }
+
+  @Test
+  public void givenNoVisiblePackets_whenApplyVisibilityChanges_thenDoNothing() {
+    // given
+    var sessionId = 123L;
+    var entity = mock(BaseGameEntity.class);
+
+    given(entity.getType()).willReturn(EntityType.DOOR);
+
+    // when
+    entityVisibilityService.applyVisibilityChanges(sessionId, List.of(), List.of(entity));
+
+    // then
+    then(sessionService).should(never()).queuePackets(anyLong(), any());
+  }
 }
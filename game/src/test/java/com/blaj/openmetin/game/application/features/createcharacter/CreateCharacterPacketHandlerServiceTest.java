@@ -7,6 +7,7 @@ import com.blaj.openmetin.game.domain.enums.character.ClassType;
 import com.blaj.openmetin.game.domain.model.session.GameSession;
 import com.blaj.openmetin.shared.infrastructure.cqrs.Mediator;
 import io.netty.channel.Channel;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,7 @@ public class CreateCharacterPacketHandlerServiceTest {
 
   @Mock private Mediator mediator;
   @Mock private Channel channel;
+  @Mock private Executor commandLane;
 
   @BeforeEach
   public void beforeEach() {
@@ -27,7 +29,7 @@ public class CreateCharacterPacketHandlerServiceTest {
   }
 
   @Test
-  public void givenValid_whenHandle_thenMediatorSendAsync() {
+  public void givenValid_whenHandle_thenMediatorSendAndForget() {
     // given
     var createCharacterPacket =
         new CreateCharacterPacket()
@@ -37,6 +39,7 @@ public class CreateCharacterPacketHandlerServiceTest {
             .setShape((short) 2);
     var sessionId = 123L;
     var session = new GameSession(sessionId, channel);
+    session.setCommandLane(commandLane);
 
     // when
     createCharacterPacketHandlerService.handle(createCharacterPacket, session);
@@ -44,13 +47,14 @@ public class CreateCharacterPacketHandlerServiceTest {
     // then
     then(mediator)
         .should()
-        .sendAsync(
+        .sendAndForget(
             new CreateCharacterCommand(
                 createCharacterPacket.getSlot(),
                 createCharacterPacket.getName(),
                 ClassType.SHAMAN_FEMALE,
                 createCharacterPacket.getShape(),
-                sessionId));
+                sessionId),
+            commandLane);
   }
 
   @Test
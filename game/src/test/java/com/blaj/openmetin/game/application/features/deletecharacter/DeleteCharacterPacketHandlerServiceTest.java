@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.then;
 import com.blaj.openmetin.game.domain.model.session.GameSession;
 import com.blaj.openmetin.shared.infrastructure.cqrs.Mediator;
 import io.netty.channel.Channel;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +20,7 @@ public class DeleteCharacterPacketHandlerServiceTest {
 
   @Mock private Mediator mediator;
   @Mock private Channel channel;
+  @Mock private Executor commandLane;
 
   @BeforeEach
   public void beforeEach() {
@@ -26,12 +28,13 @@ public class DeleteCharacterPacketHandlerServiceTest {
   }
 
   @Test
-  public void givenValid_whenHandle_thenMediatorSendAsync() {
+  public void givenValid_whenHandle_thenMediatorSendAndForget() {
     // given
     var sessionId = 123L;
     var deleteCharacterPacket =
         new DeleteCharacterPacket().setSlot((short) 3).setDeleteCode("1234567");
     var session = new GameSession(sessionId, channel);
+    session.setCommandLane(commandLane);
 
     // when
     deleteCharacterPacketHandlerService.handle(deleteCharacterPacket, session);
@@ -39,9 +42,10 @@ public class DeleteCharacterPacketHandlerServiceTest {
     // then
     then(mediator)
         .should()
-        .sendAsync(
+        .sendAndForget(
             new DeleteCharacterCommand(
-                deleteCharacterPacket.getSlot(), deleteCharacterPacket.getDeleteCode(), sessionId));
+                deleteCharacterPacket.getSlot(), deleteCharacterPacket.getDeleteCode(), sessionId),
+            commandLane);
   }
 
   @Test
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.then;
 import com.blaj.openmetin.shared.common.model.Session;
 import com.blaj.openmetin.shared.infrastructure.cqrs.Mediator;
 import io.netty.channel.Channel;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +20,7 @@ public class EntergamePacketHandlerServiceTest {
 
   @Mock private Mediator mediator;
   @Mock private Channel channel;
+  @Mock private Executor commandLane;
 
   @BeforeEach
   public void beforeEach() {
@@ -26,16 +28,17 @@ public class EntergamePacketHandlerServiceTest {
   }
 
   @Test
-  public void givenValid_whenHandle_thenMediatorSendAsync() {
+  public void givenValid_whenHandle_thenMediatorSendAndForget() {
     // given
     var entergamePacket = new EntergamePacket();
     var session = new Session(123L, channel);
+    session.setCommandLane(commandLane);
 
     // when
     entergamePacketHandlerService.handle(entergamePacket, session);
 
     // then
-    then(mediator).should().sendAsync(new EntergameCommand(session.getId()));
+    then(mediator).should().sendAndForget(new EntergameCommand(session.getId()), commandLane);
   }
 
   @Test
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.blaj.openmetin.game.application.common.eventsystem.EventSystemService;
@@ -55,6 +56,7 @@ public class GameHandshakeCommandHandlerServiceTest {
     var session = new Session(sessionId, channel);
     session.setPhase(Phase.LOADING);
 
+    given(channel.isOpen()).willReturn(true);
     given(eventSystemService.scheduleEvent(any(Supplier.class), any(Duration.class)))
         .willAnswer(
             invocation -> {
@@ -78,5 +80,24 @@ public class GameHandshakeCommandHandlerServiceTest {
     assertThat(capturedPackets.get(0)).isInstanceOf(PhasePacket.class);
     assertThat(((PhasePacket) capturedPackets.get(0)).getPhase()).isEqualTo(Phase.LOGIN);
     assertThat(capturedPackets.get(1)).isInstanceOf(PingPacket.class);
+    assertThat(session.getPingSentNanos()).isPositive();
+  }
+
+  @Test
+  public void givenClosedChannel_whenPingEventRuns_thenStopPinging() {
+    // given
+    var session = new Session(123L, channel);
+
+    given(channel.isOpen()).willReturn(false);
+
+    gameHandshakeCommandHandlerService.onSuccessHandshake(session);
+    then(eventSystemService).should().scheduleEvent(supplierArgumentCaptor.capture(), any());
+
+    // when
+    var nextDelay = supplierArgumentCaptor.getValue().get();
+
+    // then
+    assertThat(nextDelay).isEqualTo(Duration.ZERO);
+    then(sessionService).should(never()).sendPacketAsync(eq(123L), any(PingPacket.class));
   }
 }
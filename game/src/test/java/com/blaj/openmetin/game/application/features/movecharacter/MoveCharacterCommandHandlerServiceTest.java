@@ -2,22 +2,25 @@ package com.blaj.openmetin.game.application.features.movecharacter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.times;
 
 import com.blaj.openmetin.game.application.common.character.dto.MoveCharacterBroadcastPacket;
 import com.blaj.openmetin.game.application.common.entity.GameEntityMovementService;
 import com.blaj.openmetin.game.domain.enums.character.CharacterMovementType;
 import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
+import com.blaj.openmetin.game.domain.model.map.Map;
 import com.blaj.openmetin.game.domain.model.session.GameSession;
+import com.blaj.openmetin.game.infrastructure.service.tick.TickClockService;
 import com.blaj.openmetin.shared.common.abstractions.SessionManagerService;
 import com.blaj.openmetin.shared.common.abstractions.SessionService;
-import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
+import com.blaj.openmetin.shared.common.model.Session;
+import com.blaj.openmetin.shared.domain.model.Coordinates;
 import io.netty.channel.Channel;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +38,7 @@ public class MoveCharacterCommandHandlerServiceTest {
   @Mock private SessionManagerService<GameSession> sessionManagerService;
   @Mock private SessionService sessionService;
   @Mock private GameEntityMovementService gameEntityMovementService;
+  @Mock private TickClockService tickClockService;
 
   @Mock private Channel channel;
   @Mock private Channel nearbyChannel1;
@@ -43,11 +47,16 @@ public class MoveCharacterCommandHandlerServiceTest {
   @Captor
   private ArgumentCaptor<MoveCharacterBroadcastPacket> moveCharacterBroadcastPacketArgumentCaptor;
 
+  @Captor private ArgumentCaptor<Collection<? extends Session>> sessionsArgumentCaptor;
+
+  private Map map;
+
   @BeforeEach
   public void beforeEach() {
     moveCharacterCommandHandlerService =
         new MoveCharacterCommandHandlerService(
-            sessionManagerService, sessionService, gameEntityMovementService);
+            sessionManagerService, sessionService, gameEntityMovementService, tickClockService);
+    map = new Map("test", new Coordinates(0, 0), 1, 1, null);
   }
 
   @Test
@@ -110,10 +119,55 @@ public class MoveCharacterCommandHandlerServiceTest {
   }
 
   @Test
-  public void givenMovementTypeMove_whenHandle_thenSetRotationAndGoToAndSendPackets() {
+  public void givenGameCharacterEntityNotOnMap_whenHandle_thenDoNothing() {
     // given
-    DateTimeUtils.initialize();
+    var sessionId = 123L;
+    var gameCharacterEntity = GameCharacterEntity.builder().vid(333L).build();
+
+    var gameSession = new GameSession(sessionId, channel);
+    gameSession.setGameCharacterEntity(gameCharacterEntity);
+
+    var moveCharacterCommand =
+        new MoveCharacterCommand(
+            CharacterMovementType.MOVE, (short) 10, (short) 20, 100, 200, 555L, sessionId);
+
+    given(sessionManagerService.getSession(sessionId)).willReturn(Optional.of(gameSession));
 
+    // when
+    moveCharacterCommandHandlerService.handle(moveCharacterCommand);
+
+    // then
+    then(gameEntityMovementService).shouldHaveNoInteractions();
+    then(sessionService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  public void givenGameCharacterEntityOnMap_whenHandle_thenDeferMovementToMapTick() {
+    // given
+    var sessionId = 123L;
+    var gameCharacterEntity = GameCharacterEntity.builder().vid(333L).map(map).build();
+
+    var gameSession = new GameSession(sessionId, channel);
+    gameSession.setGameCharacterEntity(gameCharacterEntity);
+
+    var moveCharacterCommand =
+        new MoveCharacterCommand(
+            CharacterMovementType.MOVE, (short) 10, (short) 20, 100, 200, 555L, sessionId);
+
+    given(sessionManagerService.getSession(sessionId)).willReturn(Optional.of(gameSession));
+
+    // when
+    moveCharacterCommandHandlerService.handle(moveCharacterCommand);
+
+    // then
+    assertThat(map.getPendingCommands()).hasSize(1);
+    then(gameEntityMovementService).shouldHaveNoInteractions();
+    then(sessionService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  public void givenMovementTypeMove_whenHandle_thenSetRotationAndGoToAndSendPackets() {
+    // given
     var sessionId = 123L;
     var nearbyPlayer1 = GameCharacterEntity.builder().vid(4324L).build();
     var nearbyPlayer2 = GameCharacterEntity.builder().vid(6456L).build();
@@ -123,7 +177,7 @@ public class MoveCharacterCommandHandlerServiceTest {
     nearbyPlayer2.setSession(nearbySession2);
 
     var gameCharacterEntity =
-        GameCharacterEntity.builder().vid(333L).movementDuration(444L).build();
+        GameCharacterEntity.builder().vid(333L).movementDuration(444L).map(map).build();
     gameCharacterEntity.addNearbyEntity(nearbyPlayer1);
     gameCharacterEntity.addNearbyEntity(nearbyPlayer2);
 
@@ -135,9 +189,11 @@ public class MoveCharacterCommandHandlerServiceTest {
             CharacterMovementType.MOVE, (short) 10, (short) 20, 100, 200, 555L, sessionId);
 
     given(sessionManagerService.getSession(sessionId)).willReturn(Optional.of(gameSession));
+    given(tickClockService.getServerTime()).willReturn(1000L);
 
     // when
     moveCharacterCommandHandlerService.handle(moveCharacterCommand);
+    map.getPendingCommands().forEach(Runnable::run);
 
     // then
     assertThat(gameCharacterEntity.getRotation()).isEqualTo(moveCharacterCommand.rotation() * 5);
@@ -148,25 +204,24 @@ public class MoveCharacterCommandHandlerServiceTest {
             eq(gameCharacterEntity),
             eq(moveCharacterCommand.positionX()),
             eq(moveCharacterCommand.positionY()),
-            anyLong());
+            eq(1000L));
     then(sessionService)
-        .should(times(2))
-        .sendPacketAsync(anyLong(), moveCharacterBroadcastPacketArgumentCaptor.capture());
-
-    var packets = moveCharacterBroadcastPacketArgumentCaptor.getAllValues();
-    assertThat(packets).hasSize(2);
-
-    packets.forEach(
-        packet -> {
-          assertThat(packet.getMovementType()).isEqualTo(CharacterMovementType.MOVE);
-          assertThat(packet.getArgument()).isEqualTo(moveCharacterCommand.argument());
-          assertThat(packet.getRotation()).isEqualTo(moveCharacterCommand.rotation());
-          assertThat(packet.getVid()).isEqualTo(gameCharacterEntity.getVid());
-          assertThat(packet.getPositionX()).isEqualTo(moveCharacterCommand.positionX());
-          assertThat(packet.getPositionY()).isEqualTo(moveCharacterCommand.positionY());
-          assertThat(packet.getTime()).isEqualTo(moveCharacterCommand.time());
-          assertThat(packet.getDuration()).isEqualTo(gameCharacterEntity.getMovementDuration());
-        });
+        .should()
+        .queueBroadcastPacketToSessions(
+            moveCharacterBroadcastPacketArgumentCaptor.capture(), sessionsArgumentCaptor.capture());
+
+    assertThat(sessionsArgumentCaptor.getValue())
+        .containsExactlyInAnyOrder(nearbySession1, nearbySession2);
+
+    var packet = moveCharacterBroadcastPacketArgumentCaptor.getValue();
+    assertThat(packet.getMovementType()).isEqualTo(CharacterMovementType.MOVE);
+    assertThat(packet.getArgument()).isEqualTo(moveCharacterCommand.argument());
+    assertThat(packet.getRotation()).isEqualTo(moveCharacterCommand.rotation());
+    assertThat(packet.getVid()).isEqualTo(gameCharacterEntity.getVid());
+    assertThat(packet.getPositionX()).isEqualTo(moveCharacterCommand.positionX());
+    assertThat(packet.getPositionY()).isEqualTo(moveCharacterCommand.positionY());
+    assertThat(packet.getTime()).isEqualTo(moveCharacterCommand.time());
+    assertThat(packet.getDuration()).isEqualTo(gameCharacterEntity.getMovementDuration());
   }
 
   @Test
@@ -177,7 +232,7 @@ public class MoveCharacterCommandHandlerServiceTest {
     var nearbySession = new GameSession(456L, nearbyChannel1);
     nearbyPlayer.setSession(nearbySession);
 
-    var gameCharacterEntity = GameCharacterEntity.builder().vid(333L).build();
+    var gameCharacterEntity = GameCharacterEntity.builder().vid(333L).map(map).build();
     gameCharacterEntity.addNearbyEntity(nearbyPlayer);
 
     var gameSession = new GameSession(sessionId, channel);
@@ -191,6 +246,7 @@ public class MoveCharacterCommandHandlerServiceTest {
 
     // when
     moveCharacterCommandHandlerService.handle(moveCharacterCommand);
+    map.getPendingCommands().forEach(Runnable::run);
 
     // then
     then(gameEntityMovementService)
@@ -201,8 +257,8 @@ public class MoveCharacterCommandHandlerServiceTest {
             moveCharacterCommand.positionY());
     then(sessionService)
         .should()
-        .sendPacketAsync(
-            eq(nearbySession.getId()), moveCharacterBroadcastPacketArgumentCaptor.capture());
+        .queueBroadcastPacketToSessions(
+            moveCharacterBroadcastPacketArgumentCaptor.capture(), eq(List.of(nearbySession)));
 
     var packet = moveCharacterBroadcastPacketArgumentCaptor.getValue();
     assertThat(packet.getMovementType()).isEqualTo(CharacterMovementType.WAIT);
@@ -7,6 +7,7 @@ import com.blaj.openmetin.game.domain.enums.character.CharacterMovementType;
 import com.blaj.openmetin.shared.common.model.Session;
 import com.blaj.openmetin.shared.infrastructure.cqrs.Mediator;
 import io.netty.channel.Channel;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,7 @@ public class MoveCharacterPacketHandlerServiceTest {
 
   @Mock private Mediator mediator;
   @Mock private Channel channel;
+  @Mock private Executor commandLane;
 
   @BeforeEach
   public void beforeEach() {
@@ -27,7 +29,7 @@ public class MoveCharacterPacketHandlerServiceTest {
   }
 
   @Test
-  public void givenValid_whenHandle_thenMediatorSendAsync() {
+  public void givenValid_whenHandle_thenMediatorSendAndForget() {
     // given
     var moveCharacterPacket =
         new MoveCharacterPacket()
@@ -38,6 +40,7 @@ public class MoveCharacterPacketHandlerServiceTest {
             .setPositionY(542)
             .setTime(353L);
     var session = new Session(123L, channel);
+    session.setCommandLane(commandLane);
 
     // when
     moveCharacterPacketHandlerService.handle(moveCharacterPacket, session);
@@ -45,7 +48,7 @@ public class MoveCharacterPacketHandlerServiceTest {
     // then
     then(mediator)
         .should()
-        .sendAsync(
+        .sendAndForget(
             new MoveCharacterCommand(
                 moveCharacterPacket.getMovementType(),
                 moveCharacterPacket.getArgument(),
@@ -53,7 +56,8 @@ public class MoveCharacterPacketHandlerServiceTest {
                 moveCharacterPacket.getPositionX(),
                 moveCharacterPacket.getPositionY(),
                 moveCharacterPacket.getTime(),
-                session.getId()));
+                session.getId()),
+            commandLane);
   }
 
   @Test
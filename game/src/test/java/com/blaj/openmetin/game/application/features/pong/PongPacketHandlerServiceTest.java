@@ -0,0 +1,62 @@
+package com.blaj.openmetin.game.application.features.pong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blaj.openmetin.shared.common.model.Session;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PongPacketHandlerServiceTest {
+
+  private PongPacketHandlerService pongPacketHandlerService;
+  private SimpleMeterRegistry meterRegistry;
+
+  @Mock private Channel channel;
+
+  @BeforeEach
+  public void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    pongPacketHandlerService = new PongPacketHandlerService(meterRegistry);
+  }
+
+  @Test
+  public void givenPendingPing_whenHandle_thenRecordRoundTripTime() {
+    // given
+    var session = new Session(1L, channel);
+    session.setPingSentNanos(System.nanoTime());
+
+    // when
+    pongPacketHandlerService.handle(new PongPacket(), session);
+
+    // then
+    assertThat(meterRegistry.timer("network.session.rtt").count()).isEqualTo(1);
+    assertThat(session.getPingSentNanos()).isZero();
+  }
+
+  @Test
+  public void givenNoPendingPing_whenHandle_thenDoNotRecordRoundTripTime() {
+    // given
+    var session = new Session(1L, channel);
+
+    // when
+    pongPacketHandlerService.handle(new PongPacket(), session);
+
+    // then
+    assertThat(meterRegistry.timer("network.session.rtt").count()).isZero();
+  }
+
+  @Test
+  public void whenGetPacketType_thenReturnPongPacketClass() {
+    // when
+    var packetType = pongPacketHandlerService.getPacketType();
+
+    // then
+    assertThat(packetType).isEqualTo(PongPacket.class);
+  }
+}
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.then;
 import com.blaj.openmetin.game.domain.model.session.GameSession;
 import com.blaj.openmetin.shared.infrastructure.cqrs.Mediator;
 import io.netty.channel.Channel;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +20,7 @@ public class SelectCharacterPacketHandlerServiceTest {
 
   @Mock private Mediator mediator;
   @Mock private Channel channel;
+  @Mock private Executor commandLane;
 
   @BeforeEach
   public void beforeEach() {
@@ -26,9 +28,10 @@ public class SelectCharacterPacketHandlerServiceTest {
   }
 
   @Test
-  public void givenValid_whenHandle_thenMediatorSendAsync() {
+  public void givenValid_whenHandle_thenMediatorSendAndForget() {
     // given
     var session = new GameSession(123L, channel);
+    session.setCommandLane(commandLane);
     var selectCharacterPacket = new SelectCharacterPacket().setSlot((short) 2);
 
     // when
@@ -37,7 +40,9 @@ public class SelectCharacterPacketHandlerServiceTest {
     // then
     then(mediator)
         .should()
-        .sendAsync(new SelectCharacterCommand(selectCharacterPacket.getSlot(), session.getId()));
+        .sendAndForget(
+            new SelectCharacterCommand(selectCharacterPacket.getSlot(), session.getId()),
+            commandLane);
   }
 
   @Test
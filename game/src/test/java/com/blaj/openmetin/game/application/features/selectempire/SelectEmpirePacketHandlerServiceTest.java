@@ -8,6 +8,7 @@ import com.blaj.openmetin.game.domain.enums.character.Empire;
 import com.blaj.openmetin.game.domain.model.session.GameSession;
 import com.blaj.openmetin.shared.infrastructure.cqrs.Mediator;
 import io.netty.channel.Channel;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +22,7 @@ public class SelectEmpirePacketHandlerServiceTest {
 
   @Mock private Mediator mediator;
   @Mock private Channel channel;
+  @Mock private Executor commandLane;
 
   @BeforeEach
   public void beforeEach() {
@@ -28,17 +30,20 @@ public class SelectEmpirePacketHandlerServiceTest {
   }
 
   @Test
-  public void givenValid_whenHandle_thenMediatorSendAsync() {
+  public void givenValid_whenHandle_thenMediatorSendAndForget() {
     // given
     var sessionId = 123L;
     var empirePacket = new EmpirePacket().setEmpire(Empire.SHINSOO);
     var gameSession = new GameSession(sessionId, channel);
+    gameSession.setCommandLane(commandLane);
 
     // when
     selectEmpirePacketHandlerService.handle(empirePacket, gameSession);
 
     // then
-    then(mediator).should().sendAsync(new SelectEmpireCommand(empirePacket.getEmpire(), sessionId));
+    then(mediator)
+        .should()
+        .sendAndForget(new SelectEmpireCommand(empirePacket.getEmpire(), sessionId), commandLane);
   }
 
   @Test
@@ -134,6 +134,9 @@ public class TokenLoginCommandHandlerServiceTest {
     tokenLoginCommandHandlerService.handle(tokenLoginCommand);
 
     // then
+    then(sessionManagerService)
+        .should()
+        .linkSessionToAccount(gameSession.getId(), loginToken.getAccountId());
     then(sessionService)
         .should()
         .sendPacketAsync(
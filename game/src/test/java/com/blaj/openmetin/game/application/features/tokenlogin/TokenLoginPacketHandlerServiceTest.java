@@ -1,11 +1,13 @@
 package com.blaj.openmetin.game.application.features.tokenlogin;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
 
 import com.blaj.openmetin.shared.common.model.Session;
 import com.blaj.openmetin.shared.infrastructure.cqrs.Mediator;
 import io.netty.channel.Channel;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +23,7 @@ public class TokenLoginPacketHandlerServiceTest {
 
   @Mock private Mediator mediator;
   @Mock private Channel channel;
+  @Mock private Executor commandLane;
 
   @Captor private ArgumentCaptor<TokenLoginCommand> tokenLoginCommandArgumentCaptor;
 
@@ -38,12 +41,15 @@ public class TokenLoginPacketHandlerServiceTest {
             .setKey(5435L)
             .setEncryptKeys(new long[] {214, 345, 651, 23235});
     var session = new Session(33L, channel);
+    session.setCommandLane(commandLane);
 
     // when
     tokenLoginPacketHandlerService.handle(tokenLoginPacket, session);
 
     // then
-    then(mediator).should().sendAsync(tokenLoginCommandArgumentCaptor.capture());
+    then(mediator)
+        .should()
+        .sendAndForget(tokenLoginCommandArgumentCaptor.capture(), eq(commandLane));
 
     var tokenLoginCommand = tokenLoginCommandArgumentCaptor.getValue();
     assertThat(tokenLoginCommand.username()).isEqualTo(tokenLoginPacket.getUsername());
@@ -184,6 +184,32 @@ public class BaseGameEntityTest {
     assertThat(coordinates.y()).isEqualTo(4000);
   }
 
+  @Test
+  public void givenPositionInAnotherInterestCell_whenUpdateInterestCell_thenAssignCell() {
+    // when
+    var result = entity.updateInterestCell();
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(entity.getInterestCellX()).isEqualTo(0);
+    assertThat(entity.getInterestCellY()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenPositionInSameInterestCell_whenUpdateInterestCell_thenReturnFalse() {
+    // given
+    entity.updateInterestCell();
+    entity.setPositionX(1100);
+
+    // when
+    var result = entity.updateInterestCell();
+
+    // then
+    assertThat(result).isFalse();
+    assertThat(entity.getInterestCellX()).isEqualTo(0);
+    assertThat(entity.getInterestCellY()).isEqualTo(1);
+  }
+
   @Getter
   @Setter
   @SuperBuilder
@@ -0,0 +1,174 @@
+package com.blaj.openmetin.game.domain.model.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.blaj.openmetin.game.domain.enums.entity.EntityType;
+import java.util.ArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EntityTableTest {
+
+  private EntityTable entityTable;
+
+  @BeforeEach
+  public void beforeEach() {
+    entityTable = new EntityTable(2);
+  }
+
+  @Test
+  public void givenNonPositiveCapacity_whenCreate_thenThrowException() {
+    // when
+    var thrownException = assertThrows(IllegalArgumentException.class, () -> new EntityTable(0));
+
+    // then
+    assertThat(thrownException).hasMessageContaining("must be positive");
+  }
+
+  @Test
+  public void givenEntitiesBeyondCapacity_whenAdd_thenGrowAndKeepInsertionOrder() {
+    // given
+    var entity1 = createEntity(1);
+    var entity2 = createEntity(2);
+    var entity3 = createEntity(3);
+
+    // when
+    entityTable.add(entity1);
+    entityTable.add(entity2);
+    entityTable.add(entity3);
+
+    // then
+    assertThat(entityTable.size()).isEqualTo(3);
+    assertThat(entityTable).containsExactly(entity1, entity2, entity3);
+  }
+
+  @Test
+  public void givenEntityWithSameVid_whenAdd_thenReturnFalse() {
+    // given
+    entityTable.add(createEntity(1));
+
+    // when
+    var result = entityTable.add(createEntity(1));
+
+    // then
+    assertThat(result).isFalse();
+    assertThat(entityTable.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenMiddleEntity_whenRemove_thenMoveLastEntityIntoSlot() {
+    // given
+    var entity1 = createEntity(1);
+    var entity2 = createEntity(2);
+    var entity3 = createEntity(3);
+    entityTable.add(entity1);
+    entityTable.add(entity2);
+    entityTable.add(entity3);
+
+    // when
+    var result = entityTable.remove(entity1);
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(entityTable).containsExactly(entity3, entity2);
+    assertThat(entityTable.getByVid(3)).contains(entity3);
+    assertThat(entityTable.getByVid(1)).isEmpty();
+    assertThat(entityTable.contains(entity1)).isFalse();
+  }
+
+  @Test
+  public void givenLastEntity_whenRemove_thenShrink() {
+    // given
+    var entity1 = createEntity(1);
+    var entity2 = createEntity(2);
+    entityTable.add(entity1);
+    entityTable.add(entity2);
+
+    // when
+    entityTable.remove(entity2);
+
+    // then
+    assertThat(entityTable).containsExactly(entity1);
+    assertThat(entityTable.getByVid(1)).contains(entity1);
+  }
+
+  @Test
+  public void givenDifferentInstanceWithSameVid_whenRemove_thenReturnFalse() {
+    // given
+    var entity = createEntity(1);
+    entityTable.add(entity);
+
+    // when
+    var result = entityTable.remove(createEntity(1));
+
+    // then
+    assertThat(result).isFalse();
+    assertThat(entityTable).containsExactly(entity);
+  }
+
+  @Test
+  public void givenManyEntities_whenRemoveEveryOther_thenKeepVidLookupsConsistent() {
+    // given
+    var entities = new ArrayList<MonsterGameEntity>();
+
+    for (var vid = 0L; vid < 1000L; vid++) {
+      var entity = createEntity(vid * 1024);
+      entities.add(entity);
+      entityTable.add(entity);
+    }
+
+    // when
+    for (var i = 0; i < entities.size(); i += 2) {
+      entityTable.remove(entities.get(i));
+    }
+
+    // then
+    assertThat(entityTable.size()).isEqualTo(500);
+
+    for (var i = 0; i < entities.size(); i++) {
+      var entity = entities.get(i);
+
+      if (i % 2 == 0) {
+        assertThat(entityTable.getByVid(entity.getVid())).isEmpty();
+      } else {
+        assertThat(entityTable.getByVid(entity.getVid())).contains(entity);
+      }
+    }
+  }
+
+  @Test
+  public void givenAddedAndRemovedEntities_whenCount_thenReturnCountPerType() {
+    // given
+    var monster1 = createEntity(1);
+    var monster2 = createEntity(2);
+    var player = GameCharacterEntity.builder().vid(3).build();
+    entityTable.add(monster1);
+    entityTable.add(monster2);
+    entityTable.add(player);
+
+    // when
+    entityTable.remove(monster1);
+
+    // then
+    assertThat(entityTable.count(EntityType.MONSTER)).isEqualTo(1);
+    assertThat(entityTable.count(EntityType.PLAYER)).isEqualTo(1);
+    assertThat(entityTable.count(EntityType.NPC)).isZero();
+  }
+
+  @Test
+  public void givenIndexOutOfBounds_whenGet_thenThrowException() {
+    // given
+    entityTable.add(createEntity(1));
+
+    // when
+    var thrownException = assertThrows(IndexOutOfBoundsException.class, () -> entityTable.get(1));
+
+    // then
+    assertThat(thrownException).hasMessageContaining("out of bounds");
+  }
+
+  private MonsterGameEntity createEntity(long vid) {
+    return MonsterGameEntity.builder().vid(vid).build();
+  }
+}
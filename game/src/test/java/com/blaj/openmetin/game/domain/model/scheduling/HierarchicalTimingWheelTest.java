@@ -0,0 +1,162 @@
+package com.blaj.openmetin.game.domain.model.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HierarchicalTimingWheelTest {
+
+  private HierarchicalTimingWheel<String> hierarchicalTimingWheel;
+  private List<String> expired;
+
+  @BeforeEach
+  public void beforeEach() {
+    hierarchicalTimingWheel = new HierarchicalTimingWheel<>(0);
+    expired = new ArrayList<>();
+  }
+
+  @Test
+  public void givenTimerNotDue_whenAdvanceTo_thenDoNotExpire() {
+    // given
+    hierarchicalTimingWheel.schedule("timer", 10);
+
+    // when
+    hierarchicalTimingWheel.advanceTo(9, expired::add);
+
+    // then
+    assertThat(expired).isEmpty();
+    assertThat(hierarchicalTimingWheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenTimersOnDifferentLevels_whenAdvanceTo_thenExpireEachOnItsTick() {
+    // given
+    var delays = List.of(1L, 63L, 64L, 65L, 4095L, 4096L, 300_000L);
+    delays.forEach(delay -> hierarchicalTimingWheel.schedule(String.valueOf(delay), delay));
+
+    // when & then
+    for (var delay : delays) {
+      hierarchicalTimingWheel.advanceTo(delay - 1, expired::add);
+      assertThat(expired).doesNotContain(String.valueOf(delay));
+
+      hierarchicalTimingWheel.advanceTo(delay, expired::add);
+      assertThat(expired).endsWith(String.valueOf(delay));
+    }
+
+    assertThat(hierarchicalTimingWheel.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void givenTimerScheduledAfterAdvance_whenAdvanceTo_thenUseCurrentTickAsBase() {
+    // given
+    hierarchicalTimingWheel.advanceTo(1000, expired::add);
+    var timer = hierarchicalTimingWheel.schedule("timer", 100);
+
+    // when
+    hierarchicalTimingWheel.advanceTo(1100, expired::add);
+
+    // then
+    assertThat(timer.getExpiryTick()).isEqualTo(1100);
+    assertThat(timer.isScheduled()).isFalse();
+    assertThat(expired).containsExactly("timer");
+  }
+
+  @Test
+  public void givenPastExpiryTick_whenScheduleAt_thenExpireOnNextTick() {
+    // given
+    hierarchicalTimingWheel.advanceTo(50, expired::add);
+    hierarchicalTimingWheel.scheduleAt("timer", 10);
+
+    // when
+    hierarchicalTimingWheel.advanceTo(51, expired::add);
+
+    // then
+    assertThat(expired).containsExactly("timer");
+  }
+
+  @Test
+  public void givenCancelledTimer_whenAdvanceTo_thenDoNotExpire() {
+    // given
+    var timer1 = hierarchicalTimingWheel.schedule("timer1", 5000);
+    hierarchicalTimingWheel.schedule("timer2", 5000);
+
+    // when
+    var result = hierarchicalTimingWheel.cancel(timer1);
+    hierarchicalTimingWheel.advanceTo(5000, expired::add);
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(hierarchicalTimingWheel.cancel(timer1)).isFalse();
+    assertThat(expired).containsExactly("timer2");
+  }
+
+  @Test
+  public void givenDelayBeyondWheelRange_whenAdvanceTo_thenExpireOnExactTick() {
+    // given
+    var delay = HierarchicalTimingWheel.MAX_DELAY_TICKS + 100;
+    hierarchicalTimingWheel.schedule("timer", delay);
+
+    // when
+    hierarchicalTimingWheel.advanceTo(delay - 1, expired::add);
+    var expiredBeforeDue = new ArrayList<>(expired);
+    hierarchicalTimingWheel.advanceTo(delay, expired::add);
+
+    // then
+    assertThat(expiredBeforeDue).isEmpty();
+    assertThat(expired).containsExactly("timer");
+  }
+
+  @Test
+  public void givenExpiredTimer_whenReschedule_thenReuseTimer() {
+    // given
+    var timer = hierarchicalTimingWheel.schedule("timer", 1);
+    hierarchicalTimingWheel.advanceTo(1, expired::add);
+
+    // when
+    hierarchicalTimingWheel.reschedule(timer, 200);
+    hierarchicalTimingWheel.advanceTo(199, expired::add);
+    var expiredBeforeDue = new ArrayList<>(expired);
+    hierarchicalTimingWheel.advanceTo(200, expired::add);
+
+    // then
+    assertThat(expiredBeforeDue).containsExactly("timer");
+    assertThat(expired).containsExactly("timer", "timer");
+    assertThat(timer.getExpiryTick()).isEqualTo(200);
+    assertThat(hierarchicalTimingWheel.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void givenScheduledTimer_whenReschedule_thenMoveTimer() {
+    // given
+    var timer = hierarchicalTimingWheel.schedule("timer", 5000);
+
+    // when
+    hierarchicalTimingWheel.reschedule(timer, 10);
+    hierarchicalTimingWheel.advanceTo(10, expired::add);
+
+    // then
+    assertThat(expired).containsExactly("timer");
+    assertThat(hierarchicalTimingWheel.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void givenExpiredCallbackScheduling_whenAdvanceTo_thenRunRescheduledTimerLater() {
+    // given
+    hierarchicalTimingWheel.schedule("first", 1);
+
+    // when
+    hierarchicalTimingWheel.advanceTo(
+        1,
+        payload -> {
+          expired.add(payload);
+          hierarchicalTimingWheel.schedule("second", 2);
+        });
+    hierarchicalTimingWheel.advanceTo(3, expired::add);
+
+    // then
+    assertThat(expired).containsExactly("first", "second");
+  }
+}
@@ -6,7 +6,10 @@ import static org.mockito.BDDMockito.then;
 
 import com.blaj.openmetin.game.domain.enums.entity.EntityType;
 import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -250,6 +253,114 @@ public class QuadTreeTest {
     assertThat(results).contains(entity1, entity2, entity3);
   }
 
+  @Test
+  public void givenDeeplySubdividedTree_whenQueryAround_thenReturnAllEntitiesInRadius() {
+    // given
+    var quadTree = new QuadTree(0, 0, 100000, 100000, 1);
+    var entities =
+        IntStream.range(0, 100)
+            .mapToObj(
+                i ->
+                    (BaseGameEntity)
+                        MonsterGameEntity.builder()
+                            .vid(i)
+                            .positionX(i * 3)
+                            .positionY(i * 3)
+                            .build())
+            .toList();
+    entities.forEach(quadTree::insert);
+
+    var results = new ArrayList<BaseGameEntity>();
+
+    // when
+    quadTree.queryAround(results, 150, 150, 30, null);
+
+    // then
+    assertThat(results)
+        .isNotEmpty()
+        .containsExactlyInAnyOrderElementsOf(entitiesAround(entities, 150, 150, 30));
+  }
+
+  @Test
+  public void givenEntitiesWithinRadius_whenForEachAround_thenVisitEntities() {
+    // given
+    var quadTree = new QuadTree(0, 0, 100, 100, 10);
+    given(entity1.getPositionX()).willReturn(50);
+    given(entity1.getPositionY()).willReturn(50);
+    given(entity2.getPositionX()).willReturn(55);
+    given(entity2.getPositionY()).willReturn(55);
+    given(entity3.getPositionX()).willReturn(90);
+    given(entity3.getPositionY()).willReturn(90);
+
+    quadTree.insert(entity1);
+    quadTree.insert(entity2);
+    quadTree.insert(entity3);
+
+    var results = new ArrayList<BaseGameEntity>();
+
+    // when
+    quadTree.forEachAround(50, 50, 10, null, results::add);
+
+    // then
+    assertThat(results).containsExactlyInAnyOrder(entity1, entity2);
+  }
+
+  @Test
+  public void givenFilterType_whenForEachAround_thenVisitOnlyMatchingType() {
+    // given
+    var quadTree = new QuadTree(0, 0, 100, 100, 10);
+    given(entity1.getPositionX()).willReturn(50);
+    given(entity1.getPositionY()).willReturn(50);
+    given(entity1.getType()).willReturn(EntityType.PLAYER);
+    given(entity2.getPositionX()).willReturn(55);
+    given(entity2.getPositionY()).willReturn(55);
+    given(entity2.getType()).willReturn(EntityType.NPC);
+
+    quadTree.insert(entity1);
+    quadTree.insert(entity2);
+
+    var results = new ArrayList<BaseGameEntity>();
+
+    // when
+    quadTree.forEachAround(50, 50, 20, EntityType.PLAYER, results::add);
+
+    // then
+    assertThat(results).containsExactly(entity1);
+  }
+
+  @Test
+  public void givenNestedForEachAround_whenForEachAround_thenVisitAllEntitiesInBothTraversals() {
+    // given
+    var quadTree = new QuadTree(0, 0, 100, 100, 1);
+    var entities =
+        List.of(
+            MonsterGameEntity.builder().vid(1).positionX(10).positionY(10).build(),
+            MonsterGameEntity.builder().vid(2).positionX(90).positionY(10).build(),
+            MonsterGameEntity.builder().vid(3).positionX(10).positionY(90).build(),
+            MonsterGameEntity.builder().vid(4).positionX(90).positionY(90).build(),
+            MonsterGameEntity.builder().vid(5).positionX(30).positionY(30).build());
+    entities.forEach(quadTree::insert);
+
+    var outerResults = new ArrayList<BaseGameEntity>();
+    var innerResults = new ArrayList<BaseGameEntity>();
+
+    // when
+    quadTree.forEachAround(
+        50,
+        50,
+        100,
+        null,
+        entity -> {
+          outerResults.add(entity);
+          quadTree.forEachAround(50, 50, 100, null, innerResults::add);
+        });
+
+    // then
+    assertThat(quadTree.isSubdivided()).isTrue();
+    assertThat(outerResults).containsExactlyInAnyOrderElementsOf(entities);
+    assertThat(innerResults).hasSize(entities.size() * entities.size());
+  }
+
   @Test
   public void givenEntityWithoutLastQuadTree_whenUpdatePosition_thenInsert() {
     // given
@@ -302,4 +413,90 @@ public class QuadTreeTest {
     // then
     assertThat(quadTree.getEntities()).isEmpty();
   }
+
+  @Test
+  public void givenNewQuadTree_whenGetStatistics_thenReturnSingleEmptyLeaf() {
+    // given
+    var quadTree = new QuadTree(0, 0, 100, 100, 10);
+
+    // when
+    var statistics = quadTree.getStatistics();
+
+    // then
+    assertThat(statistics.nodeCount()).isEqualTo(1);
+    assertThat(statistics.leafNodeCount()).isEqualTo(1);
+    assertThat(statistics.subdividedNodeCount()).isZero();
+    assertThat(statistics.maxDepth()).isZero();
+    assertThat(statistics.entityCount()).isZero();
+  }
+
+  @Test
+  public void givenSubdividedQuadTree_whenPublishStatistics_thenReturnIncrementalCounts() {
+    // given
+    var quadTree = new QuadTree(0, 0, 100, 100, 2);
+    IntStream.range(0, 3)
+        .mapToObj(
+            i -> MonsterGameEntity.builder().vid(i).positionX(25 + i).positionY(25 + i).build())
+        .forEach(quadTree::insert);
+
+    // when
+    quadTree.publishStatistics();
+
+    // then
+    var statistics = quadTree.getStatistics();
+    assertThat(statistics.nodeCount()).isEqualTo(5);
+    assertThat(statistics.subdividedNodeCount()).isEqualTo(1);
+    assertThat(statistics.leafNodeCount()).isEqualTo(4);
+    assertThat(statistics.maxDepth()).isEqualTo(1);
+    assertThat(statistics.entityCount()).isEqualTo(3);
+    assertThat(statistics.getEntityCount(EntityType.MONSTER)).isEqualTo(3);
+    assertThat(statistics.getAverageEntitiesPerLeaf()).isEqualTo(0.75);
+  }
+
+  @Test
+  public void givenUnpublishedChanges_whenGetStatistics_thenReturnLastPublishedSnapshot() {
+    // given
+    var quadTree = new QuadTree(0, 0, 100, 100, 10);
+    var entity = MonsterGameEntity.builder().vid(1).positionX(50).positionY(50).build();
+
+    quadTree.insert(entity);
+    quadTree.publishStatistics();
+    quadTree.remove(entity);
+
+    // when
+    var statistics = quadTree.getStatistics();
+
+    // then
+    assertThat(statistics.entityCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenRemovedEntity_whenPublishStatistics_thenDecrementEntityCounts() {
+    // given
+    var quadTree = new QuadTree(0, 0, 100, 100, 10);
+    var entity = MonsterGameEntity.builder().vid(1).positionX(50).positionY(50).build();
+
+    quadTree.insert(entity);
+    quadTree.remove(entity);
+
+    // when
+    quadTree.publishStatistics();
+
+    // then
+    assertThat(quadTree.getStatistics().entityCount()).isZero();
+    assertThat(quadTree.getStatistics().getEntityCount(EntityType.MONSTER)).isZero();
+  }
+
+  private List<BaseGameEntity> entitiesAround(
+      List<BaseGameEntity> entities, int x, int y, int radius) {
+    return entities.stream()
+        .filter(
+            entity -> {
+              long deltaX = entity.getPositionX() - x;
+              long deltaY = entity.getPositionY() - y;
+
+              return deltaX * deltaX + deltaY * deltaY <= (long) radius * radius;
+            })
+        .toList();
+  }
 }
@@ -0,0 +1,246 @@
+package com.blaj.openmetin.game.domain.model.spatial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.blaj.openmetin.game.domain.enums.entity.EntityType;
+import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+public class SpatialHashGridTest {
+
+  @Test
+  public void givenNonPositiveCellSize_whenCreate_thenThrowException() {
+    // when
+    var thrownException =
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid(0, 0, 100, 100, 0));
+
+    // then
+    assertThat(thrownException).hasMessageContaining("must be positive");
+  }
+
+  @Test
+  public void givenGridSize_whenCreate_thenRoundCellCountUp() {
+    // when
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 250, 100, 100);
+
+    // then
+    assertThat(spatialHashGrid.getColumns()).isEqualTo(3);
+    assertThat(spatialHashGrid.getRows()).isEqualTo(1);
+    assertThat(spatialHashGrid.getCells()).hasSize(3);
+  }
+
+  @Test
+  public void givenEntityOutsideArea_whenInsert_thenReturnFalse() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 100, 100, 10);
+    var entity = createEntity(1, 150, 150);
+
+    // when
+    var result = spatialHashGrid.insert(entity);
+
+    // then
+    assertThat(result).isFalse();
+    assertThat(entity.getLastSpatialHashCell()).isNull();
+  }
+
+  @Test
+  public void givenEntityInsideArea_whenInsert_thenAddToCell() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 100, 100, 10);
+    var entity = createEntity(1, 55, 25);
+
+    // when
+    var result = spatialHashGrid.insert(entity);
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(entity.getLastSpatialHashCell()).isSameAs(spatialHashGrid.getCells()[25]);
+    assertThat(entity.getLastSpatialHashCell().getEntities()).containsExactly(entity);
+    assertThat(entity.getLastPositionX()).isEqualTo(55);
+    assertThat(entity.getLastPositionY()).isEqualTo(25);
+  }
+
+  @Test
+  public void givenInsertedEntity_whenRemove_thenRemoveFromCell() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 100, 100, 10);
+    var entity1 = createEntity(1, 55, 25);
+    var entity2 = createEntity(2, 56, 26);
+    var entity3 = createEntity(3, 57, 27);
+    spatialHashGrid.insert(entity1);
+    spatialHashGrid.insert(entity2);
+    spatialHashGrid.insert(entity3);
+    var cell = entity1.getLastSpatialHashCell();
+
+    // when
+    var result = spatialHashGrid.remove(entity1);
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(entity1.getLastSpatialHashCell()).isNull();
+    assertThat(cell.getEntities()).containsExactlyInAnyOrder(entity2, entity3);
+  }
+
+  @Test
+  public void givenNotInsertedEntity_whenRemove_thenReturnFalse() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 100, 100, 10);
+    var entity = createEntity(1, 55, 25);
+
+    // when
+    var result = spatialHashGrid.remove(entity);
+
+    // then
+    assertThat(result).isFalse();
+  }
+
+  @Test
+  public void givenEntityMovedInsideSameCell_whenUpdatePosition_thenKeepCell() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 100, 100, 10);
+    var entity = createEntity(1, 51, 21);
+    spatialHashGrid.insert(entity);
+    var cell = entity.getLastSpatialHashCell();
+
+    entity.setPositionX(58);
+    entity.setPositionY(28);
+
+    // when
+    spatialHashGrid.updatePosition(entity);
+
+    // then
+    assertThat(entity.getLastSpatialHashCell()).isSameAs(cell);
+    assertThat(cell.getEntities()).containsExactly(entity);
+    assertThat(entity.getLastPositionX()).isEqualTo(51);
+    assertThat(entity.getLastPositionY()).isEqualTo(21);
+  }
+
+  @Test
+  public void givenEntityMovedToAnotherCell_whenUpdatePosition_thenMoveToNewCell() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 100, 100, 10);
+    var entity = createEntity(1, 51, 21);
+    spatialHashGrid.insert(entity);
+    var oldCell = entity.getLastSpatialHashCell();
+
+    entity.setPositionX(75);
+    entity.setPositionY(95);
+
+    // when
+    spatialHashGrid.updatePosition(entity);
+
+    // then
+    assertThat(oldCell.getEntities()).isEmpty();
+    assertThat(entity.getLastSpatialHashCell()).isSameAs(spatialHashGrid.getCells()[97]);
+    assertThat(entity.getLastSpatialHashCell().getEntities()).containsExactly(entity);
+    assertThat(entity.getLastPositionX()).isEqualTo(75);
+    assertThat(entity.getLastPositionY()).isEqualTo(95);
+  }
+
+  @Test
+  public void givenEntityMovedOutsideArea_whenUpdatePosition_thenRemoveFromGrid() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 100, 100, 10);
+    var entity = createEntity(1, 51, 21);
+    spatialHashGrid.insert(entity);
+    var oldCell = entity.getLastSpatialHashCell();
+
+    entity.setPositionX(150);
+
+    // when
+    spatialHashGrid.updatePosition(entity);
+
+    // then
+    assertThat(oldCell.getEntities()).isEmpty();
+    assertThat(entity.getLastSpatialHashCell()).isNull();
+  }
+
+  @Test
+  public void givenNotInsertedEntity_whenUpdatePosition_thenInsert() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 100, 100, 10);
+    var entity = createEntity(1, 51, 21);
+
+    // when
+    spatialHashGrid.updatePosition(entity);
+
+    // then
+    assertThat(entity.getLastSpatialHashCell()).isSameAs(spatialHashGrid.getCells()[25]);
+  }
+
+  @Test
+  public void givenEntitiesInNeighbourCells_whenQueryAround_thenReturnEntitiesInRadius() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 100, 100, 10);
+    var entity1 = createEntity(1, 50, 50);
+    var entity2 = createEntity(2, 58, 50);
+    var entity3 = createEntity(3, 42, 44);
+    var entity4 = createEntity(4, 90, 90);
+    spatialHashGrid.insert(entity1);
+    spatialHashGrid.insert(entity2);
+    spatialHashGrid.insert(entity3);
+    spatialHashGrid.insert(entity4);
+    var result = new ArrayList<BaseGameEntity>();
+
+    // when
+    spatialHashGrid.queryAround(result, 50, 50, 10, null);
+
+    // then
+    assertThat(result).containsExactlyInAnyOrder(entity1, entity2, entity3);
+  }
+
+  @Test
+  public void givenTypeFilter_whenQueryAround_thenReturnOnlyMatchingEntities() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 100, 100, 10);
+    spatialHashGrid.insert(createEntity(1, 50, 50));
+    var result = new ArrayList<BaseGameEntity>();
+
+    // when
+    spatialHashGrid.queryAround(result, 50, 50, 10, EntityType.PLAYER);
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  public void givenEntitiesInNeighbourCells_whenForEachAround_thenVisitEntitiesInRadius() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(0, 0, 100, 100, 10);
+    var entity1 = createEntity(1, 50, 50);
+    var entity2 = createEntity(2, 58, 50);
+    var entity3 = createEntity(3, 90, 90);
+    spatialHashGrid.insert(entity1);
+    spatialHashGrid.insert(entity2);
+    spatialHashGrid.insert(entity3);
+    var result = new ArrayList<BaseGameEntity>();
+
+    // when
+    spatialHashGrid.forEachAround(50, 50, 10, null, result::add);
+
+    // then
+    assertThat(result).containsExactlyInAnyOrder(entity1, entity2);
+  }
+
+  @Test
+  public void givenQueryNearGridEdge_whenQueryAround_thenClampToGrid() {
+    // given
+    var spatialHashGrid = new SpatialHashGrid(1000, 1000, 100, 100, 10);
+    var entity = createEntity(1, 1001, 1001);
+    spatialHashGrid.insert(entity);
+    var result = new ArrayList<BaseGameEntity>();
+
+    // when
+    spatialHashGrid.queryAround(result, 1000, 1000, 50, null);
+
+    // then
+    assertThat(result).containsExactly(entity);
+  }
+
+  private MonsterGameEntity createEntity(long vid, int positionX, int positionY) {
+    return MonsterGameEntity.builder().vid(vid).positionX(positionX).positionY(positionY).build();
+  }
+}
@@ -1,54 +1,51 @@
 package com.blaj.openmetin.game.infrastructure.scheduling;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.withSettings;
 
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
+import com.blaj.openmetin.shared.domain.model.Coordinates;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.scheduling.TaskScheduler;
-
-@ExtendWith(MockitoExtension.class)
+import org.mockito.MockedStatic;
+import org.mockito.quality.Strictness;
+
 public class EventSystemServiceImplTest {
 
   private EventSystemServiceImpl eventSystemService;
-
-  @Mock private TaskScheduler taskScheduler;
-  @Mock private ScheduledFuture<?> scheduledFuture;
-
-  @Captor private ArgumentCaptor<Runnable> runnableArgumentCaptor;
-  @Captor private ArgumentCaptor<Instant> instantArgumentCaptor;
+  private MockedStatic<DateTimeUtils> dateTimeUtils;
+  private long unixTime;
 
   @BeforeEach
   public void beforeEach() {
-    eventSystemService = new EventSystemServiceImpl(taskScheduler);
+    unixTime = 1_000;
+    dateTimeUtils =
+        mockStatic(DateTimeUtils.class, withSettings().strictness(Strictness.LENIENT));
+    dateTimeUtils.when(DateTimeUtils::getUnixTime).thenAnswer(_ -> unixTime);
+
+    eventSystemService = new EventSystemServiceImpl();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    dateTimeUtils.close();
   }
 
   @Test
-  public void givenCallback_whenScheduleEvent_thenEventIsScheduled() {
+  public void givenCallback_whenScheduleEvent_thenEventIsPending() {
     // given
     Supplier<Duration> callback = () -> Duration.ofSeconds(30);
-    var initialDelay = Duration.ofSeconds(10);
-
-    doReturn(scheduledFuture).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
 
     // when
-    var eventId = eventSystemService.scheduleEvent(callback, initialDelay);
+    var eventId = eventSystemService.scheduleEvent(callback, Duration.ofSeconds(10));
 
     // then
-    then(taskScheduler).should().schedule(any(Runnable.class), any(Instant.class));
-
     assertThat(eventId).isEqualTo(1L);
     assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(1);
   }
@@ -59,8 +56,6 @@ public class EventSystemServiceImplTest {
     Supplier<Duration> callback1 = () -> Duration.ofSeconds(10);
     Supplier<Duration> callback2 = () -> Duration.ofSeconds(20);
 
-    doReturn(scheduledFuture).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
-
     // when
     var eventId1 = eventSystemService.scheduleEvent(callback1, Duration.ofSeconds(5));
     var eventId2 = eventSystemService.scheduleEvent(callback2, Duration.ofSeconds(5));
@@ -72,245 +67,286 @@ public class EventSystemServiceImplTest {
   }
 
   @Test
-  public void givenScheduledEvent_whenCancelEvent_thenEventIsRemoved() {
-    // given
-    Supplier<Duration> callback = () -> Duration.ofSeconds(30);
-
-    doReturn(scheduledFuture).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
-
-    var eventId = eventSystemService.scheduleEvent(callback, Duration.ofSeconds(10));
-
+  public void givenNoEvents_whenGetPendingEventsCount_thenReturnZero() {
     // when
-    eventSystemService.cancelEvent(eventId);
+    int count = eventSystemService.getPendingEventsCount();
 
     // then
-    then(scheduledFuture).should().cancel(false);
-
-    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
+    assertThat(count).isEqualTo(0);
   }
 
   @Test
-  public void givenNonExistentEvent_whenCancelEvent_thenNoException() {
-    // when
-    eventSystemService.cancelEvent(999L);
-
-    // then
-    then(scheduledFuture).shouldHaveNoInteractions();
+  public void givenEventNotDue_whenProcessDueEvents_thenCallbackIsNotExecuted() {
+    // given
+    var executions = new AtomicInteger();
+    eventSystemService.scheduleEvent(
+        () -> {
+          executions.incrementAndGet();
+          return Duration.ZERO;
+        },
+        Duration.ofSeconds(1));
 
-    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
-  }
+    eventSystemService.processDueEvents();
+    unixTime += 999;
 
-  @Test
-  public void givenNoEvents_whenGetPendingEventsCount_thenReturnZero() {
     // when
-    int count = eventSystemService.getPendingEventsCount();
+    eventSystemService.processDueEvents();
 
     // then
-    assertThat(count).isEqualTo(0);
+    assertThat(executions).hasValue(0);
+    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(1);
   }
 
   @Test
-  public void givenCallbackReturnsZero_whenExecuteEvent_thenEventIsRemoved() {
+  public void givenCallbackReturnsZero_whenProcessDueEvents_thenEventIsRemoved() {
     // given
-    Supplier<Duration> callback = () -> Duration.ZERO;
+    var executions = new AtomicInteger();
+    eventSystemService.scheduleEvent(
+        () -> {
+          executions.incrementAndGet();
+          return Duration.ZERO;
+        },
+        Duration.ofSeconds(1));
 
-    doReturn(scheduledFuture)
-        .when(taskScheduler)
-        .schedule(runnableArgumentCaptor.capture(), any(Instant.class));
+    unixTime += 1_000;
 
     // when
-    eventSystemService.scheduleEvent(callback, Duration.ofSeconds(1));
-    var scheduledTask = runnableArgumentCaptor.getValue();
-    scheduledTask.run();
+    eventSystemService.processDueEvents();
 
     // then
+    assertThat(executions).hasValue(1);
     assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
   }
 
   @Test
-  public void givenCallbackReturnsNull_whenExecuteEvent_thenEventIsRemoved() {
+  public void givenCallbackReturnsNull_whenProcessDueEvents_thenEventIsRemoved() {
     // given
-    Supplier<Duration> callback = () -> null;
+    eventSystemService.scheduleEvent(() -> null, Duration.ofSeconds(1));
 
-    doReturn(scheduledFuture)
-        .when(taskScheduler)
-        .schedule(runnableArgumentCaptor.capture(), any(Instant.class));
+    unixTime += 1_000;
 
     // when
-    eventSystemService.scheduleEvent(callback, Duration.ofSeconds(1));
-    var scheduledTask = runnableArgumentCaptor.getValue();
-    scheduledTask.run();
+    eventSystemService.processDueEvents();
 
     // then
     assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
   }
 
   @Test
-  public void givenCallbackReturnsNonZero_whenExecuteEvent_thenEventIsRescheduled() {
+  public void givenCallbackThrowsException_whenProcessDueEvents_thenEventIsRemoved() {
     // given
-    Supplier<Duration> callback = () -> Duration.ofSeconds(30);
+    eventSystemService.scheduleEvent(
+        () -> {
+          throw new RuntimeException("Test exception");
+        },
+        Duration.ofSeconds(1));
 
-    doReturn(scheduledFuture)
-        .when(taskScheduler)
-        .schedule(runnableArgumentCaptor.capture(), any(Instant.class));
+    unixTime += 1_000;
 
     // when
-    eventSystemService.scheduleEvent(callback, Duration.ofSeconds(10));
-    var scheduledTask = runnableArgumentCaptor.getValue();
-    scheduledTask.run();
+    eventSystemService.processDueEvents();
 
     // then
-    then(taskScheduler).should(times(2)).schedule(any(Runnable.class), any(Instant.class));
-
-    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(1);
+    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
   }
 
   @Test
-  public void givenCallbackThrowsException_whenExecuteEvent_thenEventIsRemoved() {
+  public void givenCallbackReturnsNonZero_whenProcessDueEvents_thenEventIsRescheduled() {
     // given
-    Supplier<Duration> callback =
+    var executions = new AtomicInteger();
+    eventSystemService.scheduleEvent(
         () -> {
-          throw new RuntimeException("Test exception");
-        };
+          executions.incrementAndGet();
+          return Duration.ofSeconds(45);
+        },
+        Duration.ofSeconds(10));
 
-    doReturn(scheduledFuture)
-        .when(taskScheduler)
-        .schedule(runnableArgumentCaptor.capture(), any(Instant.class));
+    unixTime += 10_000;
+    eventSystemService.processDueEvents();
 
     // when
-    eventSystemService.scheduleEvent(callback, Duration.ofSeconds(1));
-    var scheduledTask = runnableArgumentCaptor.getValue();
-    scheduledTask.run();
+    unixTime += 44_990;
+    eventSystemService.processDueEvents();
+    var executionsBeforeNextTimeout = executions.get();
+
+    unixTime += 10;
+    eventSystemService.processDueEvents();
 
     // then
-    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
+    assertThat(executionsBeforeNextTimeout).isEqualTo(1);
+    assertThat(executions).hasValue(2);
+    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(1);
   }
 
   @Test
-  public void givenScheduledEvent_whenScheduleEventWithInitialDelay_thenCorrectInstantIsUsed() {
+  public void givenZeroInitialDelay_whenProcessDueEvents_thenEventIsExecutedOnNextTick() {
     // given
-    Supplier<Duration> callback = () -> Duration.ofSeconds(30);
-    var initialDelay = Duration.ofSeconds(10);
-
-    doReturn(scheduledFuture)
-        .when(taskScheduler)
-        .schedule(any(Runnable.class), instantArgumentCaptor.capture());
+    var executions = new AtomicInteger();
+    eventSystemService.scheduleEvent(
+        () -> {
+          executions.incrementAndGet();
+          return Duration.ZERO;
+        },
+        Duration.ZERO);
 
-    var beforeSchedule = Instant.now();
+    unixTime += EventSystemServiceImpl.EVENT_TICK_MILLIS;
 
     // when
-    eventSystemService.scheduleEvent(callback, initialDelay);
+    eventSystemService.processDueEvents();
 
     // then
-    var scheduledInstant = instantArgumentCaptor.getValue();
-    var afterSchedule = Instant.now().plus(initialDelay);
-
-    assertThat(scheduledInstant).isBetween(beforeSchedule.plus(initialDelay), afterSchedule);
+    assertThat(executions).hasValue(1);
   }
 
   @Test
-  public void givenCallbackReturnsNonZero_whenReschedule_thenNewDelayIsUsed() {
+  public void givenScheduledEvent_whenCancelEvent_thenEventIsNotExecuted() {
     // given
-    Duration nextDelay = Duration.ofSeconds(45);
-    Supplier<Duration> callback = () -> nextDelay;
+    var executions = new AtomicInteger();
+    var eventId =
+        eventSystemService.scheduleEvent(
+            () -> {
+              executions.incrementAndGet();
+              return Duration.ofSeconds(30);
+            },
+            Duration.ofSeconds(10));
 
-    doReturn(scheduledFuture)
-        .when(taskScheduler)
-        .schedule(runnableArgumentCaptor.capture(), instantArgumentCaptor.capture());
+    eventSystemService.processDueEvents();
 
     // when
-    eventSystemService.scheduleEvent(callback, Duration.ofSeconds(10));
-    Runnable scheduledTask = runnableArgumentCaptor.getValue();
+    eventSystemService.cancelEvent(eventId);
 
-    var beforeReschedule = Instant.now();
-    scheduledTask.run();
+    unixTime += 10_000;
+    eventSystemService.processDueEvents();
 
     // then
-    assertThat(instantArgumentCaptor.getAllValues()).hasSize(2);
-    var rescheduledInstant = instantArgumentCaptor.getAllValues().get(1);
-    var afterReschedule = Instant.now().plus(nextDelay);
-
-    assertThat(rescheduledInstant).isBetween(beforeReschedule.plus(nextDelay), afterReschedule);
+    assertThat(executions).hasValue(0);
+    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
   }
 
   @Test
-  public void givenEventCancelledBeforeReschedule_whenExecuteEvent_thenEventIsNotRescheduled() {
+  public void givenEventCancelledBeforeTimerIsScheduled_whenProcessDueEvents_thenNotExecuted() {
     // given
-    Supplier<Duration> callback = () -> Duration.ofSeconds(30);
-
-    doReturn(scheduledFuture)
-        .when(taskScheduler)
-        .schedule(runnableArgumentCaptor.capture(), any(Instant.class));
+    var executions = new AtomicInteger();
+    var eventId =
+        eventSystemService.scheduleEvent(
+            () -> {
+              executions.incrementAndGet();
+              return Duration.ofSeconds(30);
+            },
+            Duration.ZERO);
 
     // when
-    var eventId = eventSystemService.scheduleEvent(callback, Duration.ofSeconds(10));
     eventSystemService.cancelEvent(eventId);
-    var scheduledTask = runnableArgumentCaptor.getValue();
-    scheduledTask.run();
+
+    unixTime += 10_000;
+    eventSystemService.processDueEvents();
 
     // then
+    assertThat(executions).hasValue(0);
     assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
-    then(taskScheduler).should(times(1)).schedule(any(Runnable.class), any(Instant.class));
   }
 
   @Test
-  public void givenMultipleEvents_whenCancelOneEvent_thenOtherEventsRemain() {
+  public void givenEventCancelledByOwnCallback_whenProcessDueEvents_thenEventIsNotRescheduled() {
     // given
-    Supplier<Duration> callback1 = () -> Duration.ofSeconds(10);
-    Supplier<Duration> callback2 = () -> Duration.ofSeconds(20);
-    Supplier<Duration> callback3 = () -> Duration.ofSeconds(30);
+    var eventIdHolder = new long[1];
+    var executions = new AtomicInteger();
+    eventIdHolder[0] =
+        eventSystemService.scheduleEvent(
+            () -> {
+              executions.incrementAndGet();
+              eventSystemService.cancelEvent(eventIdHolder[0]);
+              return Duration.ofSeconds(1);
+            },
+            Duration.ofSeconds(1));
+
+    unixTime += 1_000;
+    eventSystemService.processDueEvents();
 
-    doReturn(scheduledFuture).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    // when
+    unixTime += 1_000;
+    eventSystemService.processDueEvents();
 
-    var eventId1 = eventSystemService.scheduleEvent(callback1, Duration.ofSeconds(5));
-    var eventId2 = eventSystemService.scheduleEvent(callback2, Duration.ofSeconds(5));
-    var eventId3 = eventSystemService.scheduleEvent(callback3, Duration.ofSeconds(5));
+    // then
+    assertThat(executions).hasValue(1);
+    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
+  }
 
+  @Test
+  public void givenNonExistentEvent_whenCancelEvent_thenNoException() {
     // when
-    eventSystemService.cancelEvent(eventId2);
+    eventSystemService.cancelEvent(999L);
 
     // then
-    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(2);
+    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
   }
 
   @Test
   public void givenScheduledEvent_whenCancelSameEventTwice_thenNoException() {
     // given
-    Supplier<Duration> callback = () -> Duration.ofSeconds(30);
-
-    doReturn(scheduledFuture).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
-
-    var eventId = eventSystemService.scheduleEvent(callback, Duration.ofSeconds(10));
+    var eventId =
+        eventSystemService.scheduleEvent(() -> Duration.ofSeconds(30), Duration.ofSeconds(10));
 
     // when
     eventSystemService.cancelEvent(eventId);
     eventSystemService.cancelEvent(eventId);
+    eventSystemService.processDueEvents();
 
     // then
-    then(scheduledFuture).should(times(1)).cancel(false);
-
     assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
   }
 
   @Test
-  public void givenZeroInitialDelay_whenScheduleEvent_thenEventIsScheduledImmediately() {
+  public void givenMultipleEvents_whenCancelOneEvent_thenOtherEventsRemain() {
     // given
-    Supplier<Duration> callback = () -> Duration.ofSeconds(30);
-    var initialDelay = Duration.ZERO;
+    var eventId1 =
+        eventSystemService.scheduleEvent(() -> Duration.ofSeconds(10), Duration.ofSeconds(5));
+    var eventId2 =
+        eventSystemService.scheduleEvent(() -> Duration.ofSeconds(20), Duration.ofSeconds(5));
+    var eventId3 =
+        eventSystemService.scheduleEvent(() -> Duration.ofSeconds(30), Duration.ofSeconds(5));
 
-    doReturn(scheduledFuture)
-        .when(taskScheduler)
-        .schedule(any(Runnable.class), instantArgumentCaptor.capture());
+    // when
+    eventSystemService.cancelEvent(eventId2);
 
-    var beforeSchedule = Instant.now();
+    // then
+    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(2);
+    assertThat(eventId1).isNotEqualTo(eventId3);
+  }
+
+  @Test
+  public void givenMapEvent_whenProcessDueEvents_thenEventIsExecutedOnlyByMapTick() {
+    // given
+    var map = new Map("test", new Coordinates(0, 0), 1, 1, null);
+    var executions = new AtomicInteger();
+    eventSystemService.scheduleEvent(
+        map,
+        () -> {
+          executions.incrementAndGet();
+          return Duration.ZERO;
+        },
+        Duration.ofSeconds(1));
+
+    unixTime += 1_000;
 
     // when
-    eventSystemService.scheduleEvent(callback, initialDelay);
+    eventSystemService.processDueEvents();
+    var executionsAfterGlobalTick = executions.get();
+
+    processPendingCommands(map);
+    eventSystemService.processDueEvents(map);
 
     // then
-    var scheduledInstant = instantArgumentCaptor.getValue();
-    var afterSchedule = Instant.now();
+    assertThat(executionsAfterGlobalTick).isEqualTo(0);
+    assertThat(executions).hasValue(1);
+    assertThat(map.getEventTimingWheel().isEmpty()).isTrue();
+    assertThat(eventSystemService.getPendingEventsCount()).isEqualTo(0);
+  }
 
-    assertThat(scheduledInstant).isBetween(beforeSchedule, afterSchedule);
+  private void processPendingCommands(Map map) {
+    Runnable command;
+    while ((command = map.getPendingCommands().poll()) != null) {
+      command.run();
+    }
   }
 }
@@ -0,0 +1,88 @@
+package com.blaj.openmetin.game.infrastructure.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.blaj.openmetin.game.domain.enums.entity.EntityType;
+import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.domain.model.spatial.QuadTree;
+import com.blaj.openmetin.game.domain.model.spatial.SpatialHashGrid;
+import com.blaj.openmetin.game.infrastructure.service.world.GameWorldService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class QuadTreeMetricsServiceTest {
+
+  private QuadTreeMetricsService quadTreeMetricsService;
+  private SimpleMeterRegistry meterRegistry;
+
+  @Mock private GameWorldService gameWorldService;
+  @Mock private Map map;
+
+  @BeforeEach
+  public void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    quadTreeMetricsService = new QuadTreeMetricsService(gameWorldService, meterRegistry);
+  }
+
+  @Test
+  public void givenMapWithoutQuadTree_whenRegisterQuadTreeMetrics_thenRegisterNothing() {
+    // given
+    given(gameWorldService.getMaps()).willReturn(java.util.Map.of("map_a1", map));
+    given(map.getSpatialIndex()).willReturn(new SpatialHashGrid(0, 0, 100, 100, 10));
+
+    // when
+    quadTreeMetricsService.registerQuadTreeMetrics();
+
+    // then
+    assertThat(meterRegistry.find("quadtree.entities.total").gauge()).isNull();
+  }
+
+  @Test
+  public void givenPublishedStatistics_whenReadGauges_thenReturnSnapshotValues() {
+    // given
+    var quadTree = new QuadTree(0, 0, 100, 100, 10);
+    quadTree.insert(MonsterGameEntity.builder().vid(1).positionX(50).positionY(50).build());
+    quadTree.publishStatistics();
+
+    given(gameWorldService.getMaps()).willReturn(java.util.Map.of("map_a1", map));
+    given(map.getSpatialIndex()).willReturn(quadTree);
+
+    // when
+    quadTreeMetricsService.registerQuadTreeMetrics();
+
+    // then
+    assertThat(meterRegistry.get("quadtree.entities.total").tag("map", "map_a1").gauge().value())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("quadtree.nodes.leaf").tag("map", "map_a1").gauge().value())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("quadtree.entities.by.type")
+                .tag("map", "map_a1")
+                .tag("type", EntityType.MONSTER.name())
+                .gauge()
+                .value())
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void givenAlreadyRegisteredMap_whenRegisterQuadTreeMetrics_thenKeepSingleGauge() {
+    // given
+    given(gameWorldService.getMaps()).willReturn(java.util.Map.of("map_a1", map));
+    given(map.getSpatialIndex()).willReturn(new QuadTree(0, 0, 100, 100, 10));
+
+    // when
+    quadTreeMetricsService.registerQuadTreeMetrics();
+    quadTreeMetricsService.registerQuadTreeMetrics();
+
+    // then
+    assertThat(meterRegistry.find("quadtree.entities.total").gauges()).hasSize(1);
+  }
+}
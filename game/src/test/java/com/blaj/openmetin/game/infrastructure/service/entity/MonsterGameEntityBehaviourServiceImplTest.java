@@ -8,7 +8,6 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
@@ -19,17 +18,17 @@ import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
 import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
 import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity.BehaviourState;
 import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.infrastructure.service.tick.TickClockService;
 import com.blaj.openmetin.shared.common.abstractions.SessionService;
 import com.blaj.openmetin.shared.common.model.Session;
-import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
 import com.blaj.openmetin.shared.domain.model.Coordinates;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +42,7 @@ public class MonsterGameEntityBehaviourServiceImplTest {
 
   @Mock private GameEntityMovementService gameEntityMovementService;
   @Mock private SessionService sessionService;
+  @Mock private TickClockService tickClockService;
 
   @Mock private MonsterGameEntity monsterGameEntity;
   @Mock private GameCharacterEntity gameCharacterEntity;
@@ -52,7 +52,8 @@ public class MonsterGameEntityBehaviourServiceImplTest {
   @BeforeEach
   public void beforeEach() {
     monsterGameEntityBehaviourService =
-        new MonsterGameEntityBehaviourServiceImpl(gameEntityMovementService, sessionService);
+        new MonsterGameEntityBehaviourServiceImpl(
+            gameEntityMovementService, sessionService, tickClockService);
   }
 
   @Test
@@ -60,16 +61,12 @@ public class MonsterGameEntityBehaviourServiceImplTest {
     // given
     given(monsterGameEntity.getState()).willReturn(EntityState.MOVING);
 
-    try (MockedStatic<DateTimeUtils> dateTimeUtilsMock = mockStatic(DateTimeUtils.class)) {
-      dateTimeUtilsMock.when(DateTimeUtils::getUnixTime).thenReturn(CURRENT_TIME);
-
-      // when
-      monsterGameEntityBehaviourService.update(monsterGameEntity);
+    // when
+    monsterGameEntityBehaviourService.update(monsterGameEntity);
 
-      // then
-      then(behaviourState).should(never()).getNextMovementTime();
-      then(gameEntityMovementService).should(never()).goTo(any(), anyInt(), anyInt(), anyLong());
-    }
+    // then
+    then(behaviourState).should(never()).getNextMovementTime();
+    then(gameEntityMovementService).should(never()).goTo(any(), anyInt(), anyInt(), anyLong());
   }
 
   @Test
@@ -78,16 +75,13 @@ public class MonsterGameEntityBehaviourServiceImplTest {
     given(monsterGameEntity.getBehaviourState()).willReturn(behaviourState);
     given(monsterGameEntity.getState()).willReturn(EntityState.IDLE);
     given(behaviourState.getNextMovementTime()).willReturn(CURRENT_TIME + 5000);
+    given(tickClockService.getServerTime()).willReturn(CURRENT_TIME);
 
-    try (MockedStatic<DateTimeUtils> dateTimeUtilsMock = mockStatic(DateTimeUtils.class)) {
-      dateTimeUtilsMock.when(DateTimeUtils::getUnixTime).thenReturn(CURRENT_TIME);
-
-      // when
-      monsterGameEntityBehaviourService.update(monsterGameEntity);
+    // when
+    monsterGameEntityBehaviourService.update(monsterGameEntity);
 
-      // then
-      then(gameEntityMovementService).should(never()).goTo(any(), anyInt(), anyInt(), anyLong());
-    }
+    // then
+    then(gameEntityMovementService).should(never()).goTo(any(), anyInt(), anyInt(), anyLong());
   }
 
   @Test
@@ -99,17 +93,14 @@ public class MonsterGameEntityBehaviourServiceImplTest {
     given(behaviourState.getNextMovementTime()).willReturn(CURRENT_TIME - 1000);
     given(monsterGameEntity.getCoordinates()).willReturn(new Coordinates(10000, 10000));
     given(map.isPositionInside(any(Coordinates.class))).willReturn(false);
+    given(tickClockService.getServerTime()).willReturn(CURRENT_TIME);
 
-    try (MockedStatic<DateTimeUtils> dateTimeUtilsMock = mockStatic(DateTimeUtils.class)) {
-      dateTimeUtilsMock.when(DateTimeUtils::getUnixTime).thenReturn(CURRENT_TIME);
-
-      // when
-      monsterGameEntityBehaviourService.update(monsterGameEntity);
+    // when
+    monsterGameEntityBehaviourService.update(monsterGameEntity);
 
-      // then
-      then(map).should(times(16)).isPositionInside(any(Coordinates.class));
-      then(gameEntityMovementService).should(never()).goTo(any(), anyInt(), anyInt(), anyLong());
-    }
+    // then
+    then(map).should(times(16)).isPositionInside(any(Coordinates.class));
+    then(gameEntityMovementService).should(never()).goTo(any(), anyInt(), anyInt(), anyLong());
   }
 
   @Test
@@ -123,19 +114,16 @@ public class MonsterGameEntityBehaviourServiceImplTest {
     given(map.isPositionInside(any(Coordinates.class))).willReturn(true);
     given(map.hasAnyMapAttributeOnCoordinates(any(Coordinates.class), eq(BLOCK_ATTRIBUTES)))
         .willReturn(true);
+    given(tickClockService.getServerTime()).willReturn(CURRENT_TIME);
 
-    try (MockedStatic<DateTimeUtils> dateTimeUtilsMock = mockStatic(DateTimeUtils.class)) {
-      dateTimeUtilsMock.when(DateTimeUtils::getUnixTime).thenReturn(CURRENT_TIME);
-
-      // when
-      monsterGameEntityBehaviourService.update(monsterGameEntity);
+    // when
+    monsterGameEntityBehaviourService.update(monsterGameEntity);
 
-      // then
-      then(map)
-          .should(times(16))
-          .hasAnyMapAttributeOnCoordinates(any(Coordinates.class), eq(BLOCK_ATTRIBUTES));
-      then(gameEntityMovementService).should(never()).goTo(any(), anyInt(), anyInt(), anyLong());
-    }
+    // then
+    then(map)
+        .should(times(16))
+        .hasAnyMapAttributeOnCoordinates(any(Coordinates.class), eq(BLOCK_ATTRIBUTES));
+    then(gameEntityMovementService).should(never()).goTo(any(), anyInt(), anyInt(), anyLong());
   }
 
   @Test
@@ -153,20 +141,17 @@ public class MonsterGameEntityBehaviourServiceImplTest {
             map.hasAttributeOnStraightPath(
                 any(Coordinates.class), any(Coordinates.class), eq(BLOCK_ATTRIBUTES)))
         .willReturn(true);
+    given(tickClockService.getServerTime()).willReturn(CURRENT_TIME);
 
-    try (MockedStatic<DateTimeUtils> dateTimeUtilsMock = mockStatic(DateTimeUtils.class)) {
-      dateTimeUtilsMock.when(DateTimeUtils::getUnixTime).thenReturn(CURRENT_TIME);
-
-      // when
-      monsterGameEntityBehaviourService.update(monsterGameEntity);
+    // when
+    monsterGameEntityBehaviourService.update(monsterGameEntity);
 
-      // then
-      then(map)
-          .should(times(16))
-          .hasAttributeOnStraightPath(
-              any(Coordinates.class), any(Coordinates.class), eq(BLOCK_ATTRIBUTES));
-      then(gameEntityMovementService).should(never()).goTo(any(), anyInt(), anyInt(), anyLong());
-    }
+    // then
+    then(map)
+        .should(times(16))
+        .hasAttributeOnStraightPath(
+            any(Coordinates.class), any(Coordinates.class), eq(BLOCK_ATTRIBUTES));
+    then(gameEntityMovementService).should(never()).goTo(any(), anyInt(), anyInt(), anyLong());
   }
 
   @Test
@@ -197,21 +182,18 @@ public class MonsterGameEntityBehaviourServiceImplTest {
         .willReturn(false);
 
     given(gameCharacterEntity.getSession()).willReturn(session);
+    given(tickClockService.getServerTime()).willReturn(CURRENT_TIME);
 
-    try (MockedStatic<DateTimeUtils> dateTimeUtilsMock = mockStatic(DateTimeUtils.class)) {
-      dateTimeUtilsMock.when(DateTimeUtils::getUnixTime).thenReturn(CURRENT_TIME);
-
-      // when
-      monsterGameEntityBehaviourService.update(monsterGameEntity);
+    // when
+    monsterGameEntityBehaviourService.update(monsterGameEntity);
 
-      // then
-      then(gameEntityMovementService)
-          .should()
-          .goTo(eq(monsterGameEntity), anyInt(), anyInt(), anyLong());
-      then(monsterGameEntity).should().setRotation(anyFloat());
-      then(sessionService).should().sendPacketAsync(eq(123L), any());
-      then(behaviourState).should().setNextMovementTime(anyLong());
-    }
+    // then
+    then(gameEntityMovementService)
+        .should()
+        .goTo(eq(monsterGameEntity), anyInt(), anyInt(), anyLong());
+    then(monsterGameEntity).should().setRotation(anyFloat());
+    then(sessionService).should().queueBroadcastPacketToSessions(any(), eq(List.of(session)));
+    then(behaviourState).should().setNextMovementTime(anyLong());
   }
 
   @Test
@@ -5,11 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 
+import com.blaj.openmetin.game.domain.enums.map.SpatialIndexType;
+import com.blaj.openmetin.game.domain.model.spatial.QuadTree;
+import com.blaj.openmetin.game.domain.model.spatial.SpatialHashGrid;
 import com.blaj.openmetin.game.infrastructure.exception.AtlasInfoParseException;
 import com.blaj.openmetin.game.infrastructure.properties.DataPathProperties;
+import com.blaj.openmetin.game.infrastructure.properties.SpatialIndexProperties;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,7 +33,11 @@ public class AtlasMapProviderServiceTest {
 
   @BeforeEach
   public void beforeEach() {
-    atlasMapProviderService = new AtlasMapProviderService(dataPathProperties);
+    atlasMapProviderService =
+        new AtlasMapProviderService(
+            dataPathProperties,
+            new SpatialIndexProperties(
+                SpatialIndexType.QUAD_TREE, Map.of("map2", SpatialIndexType.SPATIAL_HASH_GRID)));
   }
 
   @Test
@@ -100,6 +109,29 @@ public class AtlasMapProviderServiceTest {
     assertThat(result.get(1).getName()).isEqualTo("map2");
   }
 
+  @Test
+  public void givenSpatialIndexConfiguredPerMap_whenGetAll_thenUseConfiguredSpatialIndex()
+      throws IOException {
+    // given
+    var atlasInfoPath = tempDir.resolve("atlasinfo.txt");
+    var content =
+        """
+        map1 1000 2000 4 5
+        map2 3000 4000 6 7
+        """;
+    Files.writeString(atlasInfoPath, content);
+    given(dataPathProperties.atlasInfoFile()).willReturn(atlasInfoPath);
+    given(dataPathProperties.townFile(anyString())).willReturn(tempDir.resolve("nonexistent.txt"));
+
+    // when
+    var result = atlasMapProviderService.getAll();
+
+    // then
+    assertThat(result).hasSize(2);
+    assertThat(result.get(0).getSpatialIndex()).isInstanceOf(QuadTree.class);
+    assertThat(result.get(1).getSpatialIndex()).isInstanceOf(SpatialHashGrid.class);
+  }
+
   @Test
   public void givenValidAtlasInfoWithoutTownFile_whenGetAll_thenReturnMapsWithoutTownCoordinates()
       throws IOException {
@@ -28,11 +28,13 @@ import com.blaj.openmetin.game.domain.enums.spawn.SpawnPointType;
 import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
 import com.blaj.openmetin.game.domain.model.map.Map;
 import com.blaj.openmetin.game.domain.model.map.TownCoordinates;
+import com.blaj.openmetin.game.domain.model.spawn.MonsterGroup;
 import com.blaj.openmetin.game.domain.model.spawn.SpawnGroup;
 import com.blaj.openmetin.game.domain.model.spawn.SpawnGroupCollection;
 import com.blaj.openmetin.game.domain.model.spawn.SpawnPoint;
 import com.blaj.openmetin.game.infrastructure.service.world.GameWorldService;
 import com.blaj.openmetin.shared.domain.model.Coordinates;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
@@ -532,6 +534,40 @@ public class ProcessMapSpawnPointsServiceTest {
     assertThat(spawnedEntity).isIn(leader1Entity, leader2Entity);
   }
 
+  @Test
+  public void givenDeadMonsterGroup_whenRespawn_thenRefillSameGroup() {
+    // given
+    var spawnPoint =
+        SpawnPoint.builder().type(SpawnPointType.MONSTER).monsterId(101L).x(100).y(200).build();
+    var map =
+        new Map(
+            "name",
+            new Coordinates(10, 20),
+            10,
+            20,
+            TownCoordinates.allOf(new Coordinates(15, 25)));
+    var deadMonsterGameEntity = MonsterGameEntity.builder().vid(1L).build();
+    var monsterGroup =
+        MonsterGroup.builder()
+            .monsterEntities(new ArrayList<>(List.of(deadMonsterGameEntity)))
+            .spawnPoint(spawnPoint)
+            .build();
+    var monsterGameEntity =
+        MonsterGameEntity.builder().vid(2L).monsterDefinition(monsterDefinition()).build();
+
+    given(monsterGameEntityFactoryService.createForSpawn(eq(101L), eq(spawnPoint), eq(map)))
+        .willReturn(monsterGameEntity);
+
+    // when
+    processMapSpawnPointsService.respawn(monsterGroup, map, gameWorldService);
+
+    // then
+    then(gameWorldService).should().spawnEntity(monsterGameEntity);
+    assertThat(monsterGroup.getMonsterEntities()).containsExactly(monsterGameEntity);
+    assertThat(monsterGameEntity.getMonsterGroup()).isEqualTo(monsterGroup);
+    assertThat(spawnPoint.getCurrentGroup()).isEqualTo(monsterGroup);
+  }
+
   private MonsterDefinition monsterDefinition() {
     return MonsterDefinition.builder()
         .id(123L)
@@ -0,0 +1,57 @@
+package com.blaj.openmetin.game.infrastructure.service.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.domain.model.session.GameSession;
+import com.blaj.openmetin.shared.domain.model.Coordinates;
+import io.netty.channel.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class GameSessionRemovalServiceTest {
+
+  private GameSessionRemovalService gameSessionRemovalService;
+
+  @Mock private Channel channel;
+
+  @BeforeEach
+  public void beforeEach() {
+    gameSessionRemovalService = new GameSessionRemovalService();
+  }
+
+  @Test
+  public void givenSessionWithCharacterOnMap_whenOnSessionRemoved_thenQueueCharacterForDespawn() {
+    // given
+    var map = new Map("test", new Coordinates(0, 0), 1, 1, null);
+    var gameCharacterEntity = GameCharacterEntity.builder().build();
+    gameCharacterEntity.setMap(map);
+
+    var session = new GameSession(1L, channel);
+    session.setGameCharacterEntity(gameCharacterEntity);
+
+    // when
+    gameSessionRemovalService.onSessionRemoved(session);
+
+    // then
+    assertThat(map.getPendingRemovals()).containsExactly(gameCharacterEntity);
+    assertThat(session.getGameCharacterEntity()).isNull();
+  }
+
+  @Test
+  public void givenSessionWithoutCharacter_whenOnSessionRemoved_thenDoNothing() {
+    // given
+    var session = new GameSession(1L, channel);
+
+    // when
+    gameSessionRemovalService.onSessionRemoved(session);
+
+    // then
+    assertThat(session.getGameCharacterEntity()).isNull();
+  }
+}
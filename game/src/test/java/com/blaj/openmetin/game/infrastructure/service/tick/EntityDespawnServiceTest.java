@@ -11,6 +11,7 @@ import com.blaj.openmetin.game.application.common.entity.EntityVisibilityService
 import com.blaj.openmetin.game.domain.enums.entity.EntityType;
 import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
 import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
+import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
 import com.blaj.openmetin.game.domain.model.map.Map;
 import com.blaj.openmetin.game.domain.model.session.GameSession;
 import com.blaj.openmetin.shared.domain.model.Coordinates;
@@ -27,6 +28,7 @@ public class EntityDespawnServiceTest {
   private EntityDespawnService entityDespawnService;
 
   @Mock private EntityVisibilityService entityVisibilityService;
+  @Mock private MonsterRespawnService monsterRespawnService;
 
   @Mock private BaseGameEntity entity1;
   @Mock private BaseGameEntity entity2;
@@ -35,7 +37,7 @@ public class EntityDespawnServiceTest {
 
   @BeforeEach
   public void beforeEach() {
-    entityDespawnService = new EntityDespawnService(entityVisibilityService);
+    entityDespawnService = new EntityDespawnService(entityVisibilityService, monsterRespawnService);
   }
 
   @Test
@@ -59,7 +61,7 @@ public class EntityDespawnServiceTest {
     given(entity1.getPositionX()).willReturn(1000);
     given(entity1.getPositionY()).willReturn(1000);
 
-    map.getQuadTree().insert(entity1);
+    map.getSpatialIndex().insert(entity1);
     map.getEntities().add(entity1);
     map.getPendingRemovals().add(entity1);
 
@@ -86,7 +88,7 @@ public class EntityDespawnServiceTest {
     given(entity1.getNearbyEntities()).willReturn(nearbyEntities);
     given(entity2.getType()).willReturn(EntityType.NPC);
 
-    map.getQuadTree().insert(entity1);
+    map.getSpatialIndex().insert(entity1);
     map.getEntities().add(entity1);
     map.getPendingRemovals().add(entity1);
 
@@ -102,6 +104,32 @@ public class EntityDespawnServiceTest {
     then(entityVisibilityService).should(never()).hideEntityFromPlayer(any(), anyLong());
   }
 
+  @Test
+  public void
+      givenEntityWithInterestCandidate_whenProcessPendingRemovals_thenRemoveFromBothSides() {
+    // given
+    var map = new Map("test", new Coordinates(0, 0), 1, 1, null);
+    var interestCandidates = new HashSet<BaseGameEntity>();
+    interestCandidates.add(entity2);
+
+    given(entity1.getPositionX()).willReturn(1000);
+    given(entity1.getPositionY()).willReturn(1000);
+    given(entity1.getInterestCandidates()).willReturn(interestCandidates);
+
+    map.getSpatialIndex().insert(entity1);
+    map.getEntities().add(entity1);
+    map.getPendingRemovals().add(entity1);
+
+    // when
+    entityDespawnService.processPendingRemovals(map);
+
+    // then
+    assertThat(interestCandidates).isEmpty();
+
+    then(entity2).should().removeInterestCandidate(entity1);
+    then(entityVisibilityService).should(never()).hideEntityFromPlayer(any(), anyLong());
+  }
+
   @Test
   public void givenEntityWithNearbyPlayer_whenProcessPendingRemovals_thenHideFromPlayer() {
     // given
@@ -116,7 +144,7 @@ public class EntityDespawnServiceTest {
     given(gameCharacterEntity.getSession()).willReturn(session);
     given(session.getId()).willReturn(123L);
 
-    map.getQuadTree().insert(entity1);
+    map.getSpatialIndex().insert(entity1);
     map.getEntities().add(entity1);
     map.getPendingRemovals().add(entity1);
 
@@ -141,9 +169,11 @@ public class EntityDespawnServiceTest {
     given(entity1.getPositionY()).willReturn(1000);
     given(entity2.getPositionX()).willReturn(2000);
     given(entity2.getPositionY()).willReturn(2000);
+    given(entity1.getVid()).willReturn(1L);
+    given(entity2.getVid()).willReturn(2L);
 
-    map.getQuadTree().insert(entity1);
-    map.getQuadTree().insert(entity2);
+    map.getSpatialIndex().insert(entity1);
+    map.getSpatialIndex().insert(entity2);
     map.getEntities().add(entity1);
     map.getEntities().add(entity2);
     map.getPendingRemovals().add(entity1);
@@ -159,4 +189,23 @@ public class EntityDespawnServiceTest {
     then(entity1).should().setMap(null);
     then(entity2).should().setMap(null);
   }
+
+  @Test
+  public void givenMonster_whenProcessPendingRemovals_thenNotifyRespawnService() {
+    // given
+    var map = new Map("test", new Coordinates(0, 0), 1, 1, null);
+    var monsterGameEntity =
+        MonsterGameEntity.builder().vid(1L).positionX(1000).positionY(1000).build();
+
+    map.getSpatialIndex().insert(monsterGameEntity);
+    map.getEntities().add(monsterGameEntity);
+    map.getPendingRemovals().add(monsterGameEntity);
+
+    // when
+    entityDespawnService.processPendingRemovals(map);
+
+    // then
+    assertThat(map.getEntities()).isEmpty();
+    then(monsterRespawnService).should().onMonsterRemoved(monsterGameEntity, map);
+  }
 }
@@ -1,5 +1,6 @@
 package com.blaj.openmetin.game.infrastructure.service.tick;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -12,11 +13,11 @@ import static org.mockito.Mockito.never;
 import com.blaj.openmetin.game.application.common.entity.EntityVisibilityService;
 import com.blaj.openmetin.game.domain.enums.entity.EntityType;
 import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import com.blaj.openmetin.game.domain.model.entity.EntityTable;
 import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
 import com.blaj.openmetin.game.domain.model.map.Map;
 import com.blaj.openmetin.game.domain.model.session.GameSession;
-import com.blaj.openmetin.game.domain.model.spatial.QuadTree;
-import java.util.ArrayList;
+import com.blaj.openmetin.game.domain.model.spatial.SpatialIndex;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,7 +34,7 @@ public class EntitySpawnServiceTest {
   @Mock private EntityVisibilityService entityVisibilityService;
 
   @Mock private Map map;
-  @Mock private QuadTree quadTree;
+  @Mock private SpatialIndex spatialIndex;
   @Mock private BaseGameEntity entity1;
   @Mock private BaseGameEntity entity2;
   @Mock private GameCharacterEntity player1;
@@ -42,16 +43,16 @@ public class EntitySpawnServiceTest {
   @Mock private GameSession session2;
 
   private ConcurrentLinkedQueue<BaseGameEntity> pendingSpawns;
-  private List<BaseGameEntity> entities;
+  private EntityTable entities;
 
   @BeforeEach
   public void beforeEach() {
     entitySpawnService = new EntitySpawnService(entityVisibilityService);
     pendingSpawns = new ConcurrentLinkedQueue<>();
-    entities = new ArrayList<>();
+    entities = new EntityTable();
 
     given(map.getPendingSpawns()).willReturn(pendingSpawns);
-    given(map.getQuadTree()).willReturn(quadTree);
+    given(map.getSpatialIndex()).willReturn(spatialIndex);
     given(map.getEntities()).willReturn(entities);
   }
 
@@ -61,24 +62,44 @@ public class EntitySpawnServiceTest {
     entitySpawnService.processPendingSpawns(map);
 
     // then
-    then(quadTree).should(never()).insert(any());
+    then(spatialIndex).should(never()).insert(any());
     then(entityVisibilityService).should(never()).showEntityToPlayer(any(), anyLong());
   }
 
   @Test
-  public void givenEntityOutsideQuadTree_whenProcessPendingSpawns_thenDoNotAddToEntities() {
+  public void givenEntityOutsideSpatialIndex_whenProcessPendingSpawns_thenDoNotAddToEntities() {
     // given
     pendingSpawns.add(entity1);
 
-    given(quadTree.insert(entity1)).willReturn(false);
+    given(spatialIndex.insert(entity1)).willReturn(false);
 
     // when
     entitySpawnService.processPendingSpawns(map);
 
     // then
-    then(quadTree).should().insert(entity1);
+    assertThat(entities).isEmpty();
+    then(spatialIndex).should().insert(entity1);
     then(entity1).should(never()).setMap(any());
-    then(quadTree).should(never()).queryAround(any(), anyInt(), anyInt(), anyInt(), any());
+    then(spatialIndex).should(never()).queryAround(any(), anyInt(), anyInt(), anyInt(), any());
+  }
+
+  @Test
+  public void givenEntityWithAlreadySpawnedVid_whenProcessPendingSpawns_thenSkipEntity() {
+    // given
+    pendingSpawns.add(entity2);
+
+    given(entity1.getVid()).willReturn(1L);
+    given(entity2.getVid()).willReturn(1L);
+    entities.add(entity1);
+
+    // when
+    entitySpawnService.processPendingSpawns(map);
+
+    // then
+    assertThat(entities).containsExactly(entity1);
+    then(spatialIndex).should(never()).insert(any());
+    then(entity2).should(never()).setMap(any());
+    then(entityVisibilityService).should(never()).showEntityToPlayer(any(), anyLong());
   }
 
   @Test
@@ -86,7 +107,7 @@ public class EntitySpawnServiceTest {
     // given
     pendingSpawns.add(entity1);
 
-    given(quadTree.insert(entity1)).willReturn(true);
+    given(spatialIndex.insert(entity1)).willReturn(true);
     given(entity1.getPositionX()).willReturn(1000);
     given(entity1.getPositionY()).willReturn(2000);
     given(entity1.getType()).willReturn(EntityType.NPC);
@@ -95,10 +116,10 @@ public class EntitySpawnServiceTest {
     entitySpawnService.processPendingSpawns(map);
 
     // then
-    then(quadTree).should().insert(entity1);
-    then(quadTree)
+    then(spatialIndex).should().insert(entity1);
+    then(spatialIndex)
         .should()
-        .queryAround(any(), eq(1000), eq(2000), eq(10000), eq(EntityType.PLAYER));
+        .queryAround(any(), eq(1000), eq(2000), eq(13750), eq(EntityType.PLAYER));
     then(entity1).should().setMap(map);
     then(entityVisibilityService).should(never()).showEntityToPlayer(any(), anyLong());
   }
@@ -108,11 +129,12 @@ public class EntitySpawnServiceTest {
     // given
     pendingSpawns.add(entity1);
 
-    given(quadTree.insert(entity1)).willReturn(true);
+    given(spatialIndex.insert(entity1)).willReturn(true);
     given(entity1.getPositionX()).willReturn(1000);
     given(entity1.getPositionY()).willReturn(2000);
     given(entity1.getType()).willReturn(EntityType.NPC);
     given(entity2.getType()).willReturn(EntityType.NPC);
+    given(entity1.isWithinViewDistance(entity2)).willReturn(true);
 
     doAnswer(
             invocation -> {
@@ -120,7 +142,7 @@ public class EntitySpawnServiceTest {
               list.add(entity2);
               return null;
             })
-        .when(quadTree)
+        .when(spatialIndex)
         .queryAround(any(), anyInt(), anyInt(), anyInt(), any());
 
     // when
@@ -138,13 +160,14 @@ public class EntitySpawnServiceTest {
     // given
     pendingSpawns.add(player1);
 
-    given(quadTree.insert(player1)).willReturn(true);
+    given(spatialIndex.insert(player1)).willReturn(true);
     given(player1.getPositionX()).willReturn(1000);
     given(player1.getPositionY()).willReturn(2000);
     given(player1.getType()).willReturn(EntityType.PLAYER);
     given(player1.getSession()).willReturn(session1);
     given(entity2.getType()).willReturn(EntityType.NPC);
     given(session1.getId()).willReturn(123L);
+    given(player1.isWithinViewDistance(entity2)).willReturn(true);
 
     doAnswer(
             invocation -> {
@@ -152,7 +175,7 @@ public class EntitySpawnServiceTest {
               list.add(entity2);
               return null;
             })
-        .when(quadTree)
+        .when(spatialIndex)
         .queryAround(any(), anyInt(), anyInt(), anyInt(), any());
 
     // when
@@ -170,13 +193,14 @@ public class EntitySpawnServiceTest {
     // given
     pendingSpawns.add(entity1);
 
-    given(quadTree.insert(entity1)).willReturn(true);
+    given(spatialIndex.insert(entity1)).willReturn(true);
     given(entity1.getPositionX()).willReturn(1000);
     given(entity1.getPositionY()).willReturn(2000);
     given(entity1.getType()).willReturn(EntityType.NPC);
     given(player1.getType()).willReturn(EntityType.PLAYER);
     given(player1.getSession()).willReturn(session1);
     given(session1.getId()).willReturn(123L);
+    given(entity1.isWithinViewDistance(player1)).willReturn(true);
 
     doAnswer(
             invocation -> {
@@ -184,7 +208,7 @@ public class EntitySpawnServiceTest {
               list.add(player1);
               return null;
             })
-        .when(quadTree)
+        .when(spatialIndex)
         .queryAround(any(), anyInt(), anyInt(), anyInt(), any());
 
     // when
@@ -202,7 +226,7 @@ public class EntitySpawnServiceTest {
     // given
     pendingSpawns.add(player1);
 
-    given(quadTree.insert(player1)).willReturn(true);
+    given(spatialIndex.insert(player1)).willReturn(true);
     given(player1.getPositionX()).willReturn(1000);
     given(player1.getPositionY()).willReturn(2000);
     given(player1.getType()).willReturn(EntityType.PLAYER);
@@ -211,6 +235,7 @@ public class EntitySpawnServiceTest {
     given(player2.getSession()).willReturn(session2);
     given(session1.getId()).willReturn(123L);
     given(session2.getId()).willReturn(456L);
+    given(player1.isWithinViewDistance(player2)).willReturn(true);
 
     doAnswer(
             invocation -> {
@@ -218,7 +243,7 @@ public class EntitySpawnServiceTest {
               list.add(player2);
               return null;
             })
-        .when(quadTree)
+        .when(spatialIndex)
         .queryAround(any(), anyInt(), anyInt(), anyInt(), any());
 
     // when
@@ -232,13 +257,48 @@ public class EntitySpawnServiceTest {
     then(entityVisibilityService).should().showEntityToPlayer(player1, 456L);
   }
 
+  @Test
+  public void
+      givenPlayerWithCandidateBeyondViewDistance_whenProcessPendingSpawns_thenAddCandidateOnly() {
+    // given
+    pendingSpawns.add(player1);
+
+    given(spatialIndex.insert(player1)).willReturn(true);
+    given(player1.getPositionX()).willReturn(1000);
+    given(player1.getPositionY()).willReturn(2000);
+    given(player1.getType()).willReturn(EntityType.PLAYER);
+    given(player1.isWithinViewDistance(entity2)).willReturn(false);
+
+    doAnswer(
+            invocation -> {
+              List<BaseGameEntity> list = invocation.getArgument(0);
+              list.add(entity2);
+              return null;
+            })
+        .when(spatialIndex)
+        .queryAround(any(), anyInt(), anyInt(), anyInt(), any());
+
+    // when
+    entitySpawnService.processPendingSpawns(map);
+
+    // then
+    then(player1).should().addInterestCandidate(entity2);
+    then(entity2).should().addInterestCandidate(player1);
+    then(player1).should(never()).addNearbyEntity(any());
+    then(entity2).should(never()).addNearbyEntity(any());
+    then(player1).should().setMap(map);
+    then(entityVisibilityService).should(never()).showEntityToPlayer(any(), anyLong());
+  }
+
   @Test
   public void givenMultipleEntities_whenProcessPendingSpawns_thenProcessAll() {
     // given
     pendingSpawns.add(entity1);
     pendingSpawns.add(entity2);
 
-    given(quadTree.insert(any())).willReturn(true);
+    given(spatialIndex.insert(any())).willReturn(true);
+    given(entity1.getVid()).willReturn(1L);
+    given(entity2.getVid()).willReturn(2L);
     given(entity1.getPositionX()).willReturn(1000);
     given(entity1.getPositionY()).willReturn(2000);
     given(entity1.getType()).willReturn(EntityType.NPC);
@@ -250,9 +310,10 @@ public class EntitySpawnServiceTest {
     entitySpawnService.processPendingSpawns(map);
 
     // then
-    then(quadTree).should().insert(entity1);
-    then(quadTree).should().insert(entity2);
+    then(spatialIndex).should().insert(entity1);
+    then(spatialIndex).should().insert(entity2);
     then(entity1).should().setMap(map);
     then(entity2).should().setMap(map);
+    assertThat(entities).containsExactly(entity1, entity2);
   }
 }
@@ -2,12 +2,16 @@ package com.blaj.openmetin.game.infrastructure.service.tick;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.atLeast;
 
+import com.blaj.openmetin.game.application.common.eventsystem.EventSystemService;
 import com.blaj.openmetin.game.infrastructure.properties.GameLoopProperties;
+import com.blaj.openmetin.shared.common.abstractions.SessionService;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,11 +24,22 @@ public class GameLoopServiceTest {
   private GameLoopService gameLoopService;
 
   @Mock private GameLoopProperties gameLoopProperties;
+  @Mock private EventSystemService eventSystemService;
   @Mock private MapUpdateService mapUpdateService;
+  @Mock private SessionService sessionService;
+  @Mock private TickMetricsService tickMetricsService;
+  @Mock private TickClockService tickClockService;
 
   @BeforeEach
   public void beforeEach() {
-    gameLoopService = new GameLoopService(gameLoopProperties, mapUpdateService);
+    gameLoopService =
+        new GameLoopService(
+            gameLoopProperties,
+            eventSystemService,
+            mapUpdateService,
+            sessionService,
+            tickMetricsService,
+            tickClockService);
   }
 
   @Test
@@ -44,7 +59,7 @@ public class GameLoopServiceTest {
     // given
     given(gameLoopProperties.enabled()).willReturn(true);
     given(gameLoopProperties.targetTps()).willReturn(25);
-    given(gameLoopProperties.fixedTimestepMs()).willReturn(40);
+    given(gameLoopProperties.tickIntervalNanos()).willReturn(TimeUnit.MILLISECONDS.toNanos(40));
 
     // when
     gameLoopService.start();
@@ -55,7 +70,11 @@ public class GameLoopServiceTest {
         .untilAsserted(
             () -> {
               assertThat(gameLoopService.isRunning()).isTrue();
+              then(eventSystemService).should(atLeast(1)).processDueEvents();
               then(mapUpdateService).should(atLeast(1)).update();
+              then(sessionService).should(atLeast(1)).flushQueuedPackets();
+              then(tickMetricsService).should(atLeast(1)).recordTick(anyLong());
+              then(tickClockService).should(atLeast(1)).advance(anyLong());
             });
 
     // cleanup
@@ -67,7 +86,7 @@ public class GameLoopServiceTest {
     // given
     given(gameLoopProperties.enabled()).willReturn(true);
     given(gameLoopProperties.targetTps()).willReturn(25);
-    given(gameLoopProperties.fixedTimestepMs()).willReturn(40);
+    given(gameLoopProperties.tickIntervalNanos()).willReturn(TimeUnit.MILLISECONDS.toNanos(40));
 
     gameLoopService.start();
 
@@ -104,7 +123,7 @@ public class GameLoopServiceTest {
     // given
     given(gameLoopProperties.enabled()).willReturn(true);
     given(gameLoopProperties.targetTps()).willReturn(25);
-    given(gameLoopProperties.fixedTimestepMs()).willReturn(40);
+    given(gameLoopProperties.tickIntervalNanos()).willReturn(TimeUnit.MILLISECONDS.toNanos(40));
 
     gameLoopService.start();
 
@@ -132,7 +151,7 @@ public class GameLoopServiceTest {
     // given
     given(gameLoopProperties.enabled()).willReturn(true);
     given(gameLoopProperties.targetTps()).willReturn(25);
-    given(gameLoopProperties.fixedTimestepMs()).willReturn(40);
+    given(gameLoopProperties.tickIntervalNanos()).willReturn(TimeUnit.MILLISECONDS.toNanos(40));
 
     gameLoopService.start();
 
@@ -173,7 +192,7 @@ public class GameLoopServiceTest {
     // given
     given(gameLoopProperties.enabled()).willReturn(true);
     given(gameLoopProperties.targetTps()).willReturn(25);
-    given(gameLoopProperties.fixedTimestepMs()).willReturn(40);
+    given(gameLoopProperties.tickIntervalNanos()).willReturn(TimeUnit.MILLISECONDS.toNanos(40));
 
     gameLoopService.start();
 
@@ -229,7 +248,7 @@ public class GameLoopServiceTest {
     // given
     given(gameLoopProperties.enabled()).willReturn(true);
     given(gameLoopProperties.targetTps()).willReturn(25);
-    given(gameLoopProperties.fixedTimestepMs()).willReturn(40);
+    given(gameLoopProperties.tickIntervalNanos()).willReturn(TimeUnit.MILLISECONDS.toNanos(40));
 
     // when
     gameLoopService.start();
@@ -0,0 +1,271 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.blaj.openmetin.game.application.common.entity.EntityVisibilityService;
+import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import com.blaj.openmetin.game.domain.model.entity.GameCharacterEntity;
+import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.domain.model.session.GameSession;
+import com.blaj.openmetin.shared.domain.model.Coordinates;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class InterestManagementServiceTest {
+
+  private InterestManagementService interestManagementService;
+
+  @Mock private EntityVisibilityService entityVisibilityService;
+  @Mock private GameSession session1;
+  @Mock private GameSession session2;
+
+  private Map map;
+
+  @BeforeEach
+  public void beforeEach() {
+    interestManagementService = new InterestManagementService(entityVisibilityService);
+    map = new Map("test", new Coordinates(0, 0), 1, 1, null);
+  }
+
+  @Test
+  public void givenNoMovedEntities_whenUpdate_thenDoNothing() {
+    // when
+    interestManagementService.update(map);
+
+    // then
+    then(entityVisibilityService).should(never()).applyVisibilityChanges(anyLong(), any(), any());
+  }
+
+  @Test
+  public void givenEntityMovedInsideInterestCell_whenUpdate_thenDoNotRequeryCandidates() {
+    // given
+    var player1 = place(createPlayer(1, session1, 1000, 1000));
+    place(createPlayer(2, session2, 2000, 2000));
+
+    move(player1, 1001, 1001);
+
+    // when
+    interestManagementService.update(map);
+
+    // then
+    assertThat(player1.getInterestCandidates()).isEmpty();
+    assertThat(player1.getNearbyEntities()).isEmpty();
+    assertThat(map.getMovedEntities()).isEmpty();
+    then(entityVisibilityService).should(never()).applyVisibilityChanges(anyLong(), any(), any());
+  }
+
+  @Test
+  public void givenCandidateEnteredViewDistanceInsideInterestCell_whenUpdate_thenShowBothPlayers() {
+    // given
+    given(session1.getId()).willReturn(1L);
+    given(session2.getId()).willReturn(2L);
+
+    var player1 = place(createPlayer(1, session1, 1000, 1000));
+    var player2 = place(createPlayer(2, session2, 11100, 1000));
+    addCandidates(player1, player2);
+
+    move(player1, 1200, 1000);
+
+    // when
+    interestManagementService.update(map);
+
+    // then
+    assertThat(player1.getNearbyEntities()).containsExactly(player2);
+    assertThat(player2.getNearbyEntities()).containsExactly(player1);
+    then(entityVisibilityService)
+        .should()
+        .applyVisibilityChanges(1L, Set.of(), Set.<BaseGameEntity>of(player2));
+    then(entityVisibilityService)
+        .should()
+        .applyVisibilityChanges(2L, Set.of(), Set.<BaseGameEntity>of(player1));
+  }
+
+  @Test
+  public void givenCandidateLeftViewDistanceInsideInterestCell_whenUpdate_thenHideBothPlayers() {
+    // given
+    given(session1.getId()).willReturn(1L);
+    given(session2.getId()).willReturn(2L);
+
+    var player1 = place(createPlayer(1, session1, 1200, 1000));
+    var player2 = place(createPlayer(2, session2, 11100, 1000));
+    addCandidates(player1, player2);
+    addNearby(player1, player2);
+
+    move(player1, 1000, 1000);
+
+    // when
+    interestManagementService.update(map);
+
+    // then
+    assertThat(player1.getNearbyEntities()).isEmpty();
+    assertThat(player2.getNearbyEntities()).isEmpty();
+    assertThat(player1.getInterestCandidates()).containsExactly(player2);
+    then(entityVisibilityService)
+        .should()
+        .applyVisibilityChanges(1L, Set.<BaseGameEntity>of(player2), Set.of());
+    then(entityVisibilityService)
+        .should()
+        .applyVisibilityChanges(2L, Set.<BaseGameEntity>of(player1), Set.of());
+  }
+
+  @Test
+  public void givenCandidateOutOfCandidateDistance_whenUpdate_thenRemoveCandidateFromBothSides() {
+    // given
+    var player1 = place(createPlayer(1, session1, 1000, 1000));
+    var player2 = place(createPlayer(2, session2, 24000, 1000));
+    addCandidates(player1, player2);
+
+    move(player1, 1000, 5000);
+
+    // when
+    interestManagementService.update(map);
+
+    // then
+    assertThat(player1.getInterestCandidates()).isEmpty();
+    assertThat(player2.getInterestCandidates()).isEmpty();
+    then(entityVisibilityService).should(never()).applyVisibilityChanges(anyLong(), any(), any());
+  }
+
+  @Test
+  public void givenPlayerEnteredRange_whenUpdate_thenShowBothPlayersInBatch() {
+    // given
+    given(session1.getId()).willReturn(1L);
+    given(session2.getId()).willReturn(2L);
+
+    var player1 = place(createPlayer(1, session1, 1000, 1000));
+    var player2 = place(createPlayer(2, session2, 20000, 1000));
+
+    move(player1, 12000, 1000);
+
+    // when
+    interestManagementService.update(map);
+
+    // then
+    assertThat(player1.getNearbyEntities()).containsExactly(player2);
+    assertThat(player2.getNearbyEntities()).containsExactly(player1);
+    then(entityVisibilityService)
+        .should()
+        .applyVisibilityChanges(1L, Set.of(), Set.<BaseGameEntity>of(player2));
+    then(entityVisibilityService)
+        .should()
+        .applyVisibilityChanges(2L, Set.of(), Set.<BaseGameEntity>of(player1));
+  }
+
+  @Test
+  public void givenPlayerLeftRange_whenUpdate_thenHideBothPlayersInBatch() {
+    // given
+    given(session1.getId()).willReturn(1L);
+    given(session2.getId()).willReturn(2L);
+
+    var player1 = place(createPlayer(1, session1, 12000, 1000));
+    var player2 = place(createPlayer(2, session2, 20000, 1000));
+    addCandidates(player1, player2);
+    addNearby(player1, player2);
+
+    move(player1, 1000, 1000);
+
+    // when
+    interestManagementService.update(map);
+
+    // then
+    assertThat(player1.getNearbyEntities()).isEmpty();
+    assertThat(player2.getNearbyEntities()).isEmpty();
+    then(entityVisibilityService)
+        .should()
+        .applyVisibilityChanges(1L, Set.<BaseGameEntity>of(player2), Set.of());
+    then(entityVisibilityService)
+        .should()
+        .applyVisibilityChanges(2L, Set.<BaseGameEntity>of(player1), Set.of());
+  }
+
+  @Test
+  public void givenBothPlayersMovedIntoRange_whenUpdate_thenShowEachPlayerOnce() {
+    // given
+    given(session1.getId()).willReturn(1L);
+    given(session2.getId()).willReturn(2L);
+
+    var player1 = place(createPlayer(1, session1, 1000, 1000));
+    var player2 = place(createPlayer(2, session2, 24000, 1000));
+
+    move(player1, 8000, 1000);
+    move(player2, 16000, 1000);
+
+    // when
+    interestManagementService.update(map);
+
+    // then
+    then(entityVisibilityService)
+        .should()
+        .applyVisibilityChanges(1L, Set.of(), Set.<BaseGameEntity>of(player2));
+    then(entityVisibilityService)
+        .should()
+        .applyVisibilityChanges(2L, Set.of(), Set.<BaseGameEntity>of(player1));
+  }
+
+  @Test
+  public void givenMonsterEnteredPlayerRange_whenUpdate_thenShowMonsterToPlayerOnly() {
+    // given
+    given(session1.getId()).willReturn(1L);
+
+    var player = place(createPlayer(1, session1, 1000, 1000));
+    var monster =
+        place(MonsterGameEntity.builder().vid(2).positionX(20000).positionY(1000).build());
+
+    move(monster, 8000, 1000);
+
+    // when
+    interestManagementService.update(map);
+
+    // then
+    assertThat(monster.getNearbyEntities()).containsExactly(player);
+    then(entityVisibilityService)
+        .should()
+        .applyVisibilityChanges(1L, Set.of(), Set.<BaseGameEntity>of(monster));
+    then(entityVisibilityService).shouldHaveNoMoreInteractions();
+  }
+
+  private GameCharacterEntity createPlayer(
+      long vid, GameSession session, int positionX, int positionY) {
+    return GameCharacterEntity.builder()
+        .vid(vid)
+        .session(session)
+        .positionX(positionX)
+        .positionY(positionY)
+        .build();
+  }
+
+  private <T extends BaseGameEntity> T place(T entity) {
+    map.getSpatialIndex().insert(entity);
+    entity.updateInterestCell();
+
+    return entity;
+  }
+
+  private void addCandidates(BaseGameEntity entity1, BaseGameEntity entity2) {
+    entity1.addInterestCandidate(entity2);
+    entity2.addInterestCandidate(entity1);
+  }
+
+  private void addNearby(BaseGameEntity entity1, BaseGameEntity entity2) {
+    entity1.addNearbyEntity(entity2);
+    entity2.addNearbyEntity(entity1);
+  }
+
+  private void move(BaseGameEntity entity, int positionX, int positionY) {
+    entity.setPositionX(positionX);
+    entity.setPositionY(positionY);
+    map.getSpatialIndex().updatePosition(entity);
+    map.getMovedEntities().add(entity);
+  }
+}
@@ -0,0 +1,57 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.shared.domain.model.Coordinates;
+import java.util.ArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MapCommandServiceTest {
+
+  private MapCommandService mapCommandService;
+
+  private Map map;
+
+  @BeforeEach
+  public void beforeEach() {
+    mapCommandService = new MapCommandService();
+    map = new Map("test", new Coordinates(0, 0), 1, 1, null);
+  }
+
+  @Test
+  public void givenPendingCommands_whenProcessPendingCommands_thenRunInOrderAndDrainQueue() {
+    // given
+    var executedCommands = new ArrayList<Integer>();
+    map.getPendingCommands().add(() -> executedCommands.add(1));
+    map.getPendingCommands().add(() -> executedCommands.add(2));
+    map.getPendingCommands().add(() -> executedCommands.add(3));
+
+    // when
+    mapCommandService.processPendingCommands(map);
+
+    // then
+    assertThat(executedCommands).containsExactly(1, 2, 3);
+    assertThat(map.getPendingCommands()).isEmpty();
+  }
+
+  @Test
+  public void givenFailingCommand_whenProcessPendingCommands_thenRunRemainingCommands() {
+    // given
+    var executedCommands = new ArrayList<Integer>();
+    map.getPendingCommands()
+        .add(
+            () -> {
+              throw new IllegalStateException("Command failed");
+            });
+    map.getPendingCommands().add(() -> executedCommands.add(2));
+
+    // when
+    mapCommandService.processPendingCommands(map);
+
+    // then
+    assertThat(executedCommands).containsExactly(2);
+    assertThat(map.getPendingCommands()).isEmpty();
+  }
+}
@@ -0,0 +1,116 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.infrastructure.properties.GameLoopProperties;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class MapTickWorkerPoolServiceTest {
+
+  private MapTickWorkerPoolService mapTickWorkerPoolService;
+
+  @Mock private GameLoopProperties gameLoopProperties;
+
+  @Mock private Map map1;
+  @Mock private Map map2;
+  @Mock private Map map3;
+
+  @AfterEach
+  public void afterEach() {
+    mapTickWorkerPoolService.shutdown();
+  }
+
+  @Test
+  public void givenMultipleMaps_whenExecute_thenUpdateAllMapsBeforeReturning() {
+    // given
+    given(gameLoopProperties.mapWorkerPoolSize()).willReturn(2);
+    given(gameLoopProperties.mapWorkerGroups()).willReturn(List.of());
+    given(map1.getName()).willReturn("map1");
+    given(map2.getName()).willReturn("map2");
+    given(map3.getName()).willReturn("map3");
+
+    mapTickWorkerPoolService = new MapTickWorkerPoolService(gameLoopProperties);
+    var updatedMaps = new CopyOnWriteArrayList<Map>();
+
+    // when
+    mapTickWorkerPoolService.execute(List.of(map1, map2, map3), updatedMaps::add);
+
+    // then
+    assertThat(updatedMaps).containsExactlyInAnyOrder(map1, map2, map3);
+  }
+
+  @Test
+  public void givenPinnedMapGroup_whenExecute_thenUpdateGroupOnSameWorker() {
+    // given
+    given(gameLoopProperties.mapWorkerPoolSize()).willReturn(3);
+    given(gameLoopProperties.mapWorkerGroups()).willReturn(List.of(List.of("map1", "map3")));
+    given(map1.getName()).willReturn("map1");
+    given(map2.getName()).willReturn("map2");
+    given(map3.getName()).willReturn("map3");
+
+    mapTickWorkerPoolService = new MapTickWorkerPoolService(gameLoopProperties);
+    var threadNameByMap = new ConcurrentHashMap<Map, String>();
+
+    // when
+    mapTickWorkerPoolService.execute(
+        List.of(map1, map2, map3),
+        map -> threadNameByMap.put(map, Thread.currentThread().getName()));
+
+    // then
+    assertThat(threadNameByMap.get(map1)).isEqualTo(threadNameByMap.get(map3));
+    assertThat(threadNameByMap.get(map1)).isNotEqualTo(threadNameByMap.get(map2));
+    assertThat(mapTickWorkerPoolService.getWorkerIndex("map1"))
+        .isEqualTo(mapTickWorkerPoolService.getWorkerIndex("map3"));
+  }
+
+  @Test
+  public void givenFailingMap_whenExecute_thenUpdateRemainingMaps() {
+    // given
+    given(gameLoopProperties.mapWorkerPoolSize()).willReturn(1);
+    given(gameLoopProperties.mapWorkerGroups()).willReturn(List.of());
+    given(map1.getName()).willReturn("map1");
+    given(map2.getName()).willReturn("map2");
+
+    mapTickWorkerPoolService = new MapTickWorkerPoolService(gameLoopProperties);
+    var updatedMaps = new CopyOnWriteArrayList<Map>();
+
+    // when
+    mapTickWorkerPoolService.execute(
+        List.of(map1, map2),
+        map -> {
+          if (map == map1) {
+            throw new IllegalStateException("Map update failed");
+          }
+
+          updatedMaps.add(map);
+        });
+
+    // then
+    assertThat(updatedMaps).containsExactly(map2);
+  }
+
+  @Test
+  public void givenUnknownMap_whenGetWorkerIndex_thenReturnMinusOne() {
+    // given
+    given(gameLoopProperties.mapWorkerPoolSize()).willReturn(1);
+    given(gameLoopProperties.mapWorkerGroups()).willReturn(List.of());
+
+    mapTickWorkerPoolService = new MapTickWorkerPoolService(gameLoopProperties);
+
+    // when
+    var result = mapTickWorkerPoolService.getWorkerIndex("unknown");
+
+    // then
+    assertThat(result).isEqualTo(-1);
+  }
+}
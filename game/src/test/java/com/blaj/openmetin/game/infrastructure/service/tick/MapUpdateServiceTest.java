@@ -1,13 +1,21 @@
 package com.blaj.openmetin.game.infrastructure.service.tick;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
+import com.blaj.openmetin.game.application.common.eventsystem.EventSystemService;
 import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.infrastructure.properties.GameLoopProperties;
 import com.blaj.openmetin.game.infrastructure.service.world.GameWorldService;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,9 +28,17 @@ public class MapUpdateServiceTest {
   private MapUpdateService mapUpdateService;
 
   @Mock private GameWorldService gameWorldService;
+  @Mock private MapCommandService mapCommandService;
   @Mock private EntityUpdateService entityUpdateService;
   @Mock private EntitySpawnService entitySpawnService;
   @Mock private EntityDespawnService entityDespawnService;
+  @Mock private InterestManagementService interestManagementService;
+  @Mock private MonsterRespawnService monsterRespawnService;
+  @Mock private EventSystemService eventSystemService;
+  @Mock private GameLoopProperties gameLoopProperties;
+  @Mock private MapTickWorkerPoolService mapTickWorkerPoolService;
+  @Mock private TickMetricsService tickMetricsService;
+  @Mock private MapTickMetrics mapTickMetrics;
 
   @Mock private Map map1;
   @Mock private Map map2;
@@ -32,7 +48,17 @@ public class MapUpdateServiceTest {
   public void beforeEach() {
     mapUpdateService =
         new MapUpdateService(
-            gameWorldService, entityUpdateService, entitySpawnService, entityDespawnService);
+            gameWorldService,
+            mapCommandService,
+            entityUpdateService,
+            entitySpawnService,
+            entityDespawnService,
+            interestManagementService,
+            monsterRespawnService,
+            eventSystemService,
+            gameLoopProperties,
+            mapTickWorkerPoolService,
+            tickMetricsService);
   }
 
   @Test
@@ -44,9 +70,14 @@ public class MapUpdateServiceTest {
     mapUpdateService.update();
 
     // then
+    then(mapCommandService).should(never()).processPendingCommands(any());
+    then(eventSystemService).should(never()).processDueEvents(any());
+    then(monsterRespawnService).should(never()).processDueRespawns(any());
     then(entitySpawnService).should(never()).processPendingSpawns(any());
     then(entityDespawnService).should(never()).processPendingRemovals(any());
     then(entityUpdateService).should(never()).update(any());
+    then(interestManagementService).should(never()).update(any());
+    then(tickMetricsService).shouldHaveNoInteractions();
   }
 
   @Test
@@ -58,21 +89,84 @@ public class MapUpdateServiceTest {
     maps.put("map3", map3);
 
     given(gameWorldService.getMaps()).willReturn(maps);
+    given(tickMetricsService.getMapTickMetrics(any())).willReturn(mapTickMetrics);
 
     // when
     mapUpdateService.update();
 
     // then
+    then(mapCommandService).should().processPendingCommands(map1);
+    then(eventSystemService).should().processDueEvents(map1);
+    then(monsterRespawnService).should().processDueRespawns(map1);
     then(entitySpawnService).should().processPendingSpawns(map1);
     then(entityDespawnService).should().processPendingRemovals(map1);
     then(entityUpdateService).should().update(map1);
+    then(interestManagementService).should().update(map1);
 
+    then(mapCommandService).should().processPendingCommands(map2);
+    then(eventSystemService).should().processDueEvents(map2);
+    then(monsterRespawnService).should().processDueRespawns(map2);
     then(entitySpawnService).should().processPendingSpawns(map2);
     then(entityDespawnService).should().processPendingRemovals(map2);
     then(entityUpdateService).should().update(map2);
+    then(interestManagementService).should().update(map2);
 
+    then(mapCommandService).should().processPendingCommands(map3);
+    then(eventSystemService).should().processDueEvents(map3);
+    then(monsterRespawnService).should().processDueRespawns(map3);
     then(entitySpawnService).should().processPendingSpawns(map3);
     then(entityDespawnService).should().processPendingRemovals(map3);
     then(entityUpdateService).should().update(map3);
+    then(interestManagementService).should().update(map3);
+
+    then(mapTickMetrics).should(times(3)).recordTick(any(), anyLong());
+    then(mapTickMetrics).should(times(3)).recordPhase(eq(MapTickPhase.VISIBILITY), anyLong());
+
+    then(mapTickWorkerPoolService).should(never()).execute(any(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void givenParallelMapTick_whenUpdate_thenProcessAllMapsOnWorkerPool() {
+    // given
+    var maps = new HashMap<String, Map>();
+    maps.put("map1", map1);
+    maps.put("map2", map2);
+
+    given(gameWorldService.getMaps()).willReturn(maps);
+    given(tickMetricsService.getMapTickMetrics(any())).willReturn(mapTickMetrics);
+    given(gameLoopProperties.parallelMapTick()).willReturn(true);
+
+    doAnswer(
+            invocation -> {
+              Collection<Map> mapsToUpdate = invocation.getArgument(0);
+              Consumer<Map> mapConsumer = invocation.getArgument(1);
+              mapsToUpdate.forEach(mapConsumer);
+              return null;
+            })
+        .when(mapTickWorkerPoolService)
+        .execute(any(), any());
+
+    // when
+    mapUpdateService.update();
+
+    // then
+    then(mapTickWorkerPoolService).should().execute(any(), any());
+
+    then(mapCommandService).should().processPendingCommands(map1);
+    then(eventSystemService).should().processDueEvents(map1);
+    then(monsterRespawnService).should().processDueRespawns(map1);
+    then(entitySpawnService).should().processPendingSpawns(map1);
+    then(entityDespawnService).should().processPendingRemovals(map1);
+    then(entityUpdateService).should().update(map1);
+    then(interestManagementService).should().update(map1);
+
+    then(mapCommandService).should().processPendingCommands(map2);
+    then(eventSystemService).should().processDueEvents(map2);
+    then(monsterRespawnService).should().processDueRespawns(map2);
+    then(entitySpawnService).should().processPendingSpawns(map2);
+    then(entityDespawnService).should().processPendingRemovals(map2);
+    then(entityUpdateService).should().update(map2);
+    then(interestManagementService).should().update(map2);
   }
 }
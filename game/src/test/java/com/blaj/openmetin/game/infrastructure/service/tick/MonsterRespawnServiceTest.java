@@ -0,0 +1,171 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+
+import com.blaj.openmetin.game.domain.model.entity.MonsterGameEntity;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.domain.model.spawn.MonsterGroup;
+import com.blaj.openmetin.game.domain.model.spawn.SpawnPoint;
+import com.blaj.openmetin.game.infrastructure.service.map.ProcessMapSpawnPointsService;
+import com.blaj.openmetin.game.infrastructure.service.world.GameWorldService;
+import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
+import com.blaj.openmetin.shared.domain.model.Coordinates;
+import java.util.ArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class MonsterRespawnServiceTest {
+
+  private MonsterRespawnService monsterRespawnService;
+
+  @Mock private ProcessMapSpawnPointsService processMapSpawnPointsService;
+  @Mock private GameWorldService gameWorldService;
+
+  private Map map;
+
+  @BeforeEach
+  public void beforeEach() {
+    DateTimeUtils.initialize();
+
+    monsterRespawnService =
+        new MonsterRespawnService(processMapSpawnPointsService, gameWorldService);
+    map = new Map("test", new Coordinates(0, 0), 1, 1, null);
+  }
+
+  @Test
+  public void givenMonsterWithoutGroup_whenOnMonsterRemoved_thenDoNotScheduleRespawn() {
+    // given
+    var monster = MonsterGameEntity.builder().vid(1).build();
+
+    // when
+    monsterRespawnService.onMonsterRemoved(monster, map);
+
+    // then
+    assertThat(map.getRespawnTimingWheel().isEmpty()).isTrue();
+  }
+
+  @Test
+  public void givenGroupMembersAlive_whenOnMonsterRemoved_thenDoNotScheduleRespawn() {
+    // given
+    var monsterGroup = createMonsterGroup(10);
+    var monster1 = addMember(monsterGroup, 1);
+    addMember(monsterGroup, 2);
+
+    // when
+    monsterRespawnService.onMonsterRemoved(monster1, map);
+
+    // then
+    assertThat(monster1.getMonsterGroup()).isNull();
+    assertThat(monsterGroup.getMonsterEntities()).hasSize(1);
+    assertThat(monsterGroup.getRespawnTimer()).isNull();
+    assertThat(map.getRespawnTimingWheel().isEmpty()).isTrue();
+  }
+
+  @Test
+  public void givenLastGroupMember_whenOnMonsterRemoved_thenScheduleRespawnOnce() {
+    // given
+    var monsterGroup = createMonsterGroup(10);
+    var monster = addMember(monsterGroup, 1);
+
+    // when
+    monsterRespawnService.onMonsterRemoved(monster, map);
+    monsterRespawnService.onMonsterRemoved(monster, map);
+
+    // then
+    assertThat(monsterGroup.getMonsterEntities()).isEmpty();
+    assertThat(monsterGroup.getRespawnTimer()).isNotNull();
+    assertThat(map.getRespawnTimingWheel().size()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenRespawnNotDue_whenProcessDueRespawns_thenDoNotRespawn() {
+    // given
+    var monsterGroup = createMonsterGroup(10);
+    var monster = addMember(monsterGroup, 1);
+
+    try (var dateTimeUtils = mockStatic(DateTimeUtils.class)) {
+      dateTimeUtils.when(DateTimeUtils::getUnixTime).thenReturn(5_000L);
+      monsterRespawnService.onMonsterRemoved(monster, map);
+
+      dateTimeUtils.when(DateTimeUtils::getUnixTime).thenReturn(14_999L);
+
+      // when
+      monsterRespawnService.processDueRespawns(map);
+    }
+
+    // then
+    then(processMapSpawnPointsService).should(never()).respawn(any(), any(), any());
+    assertThat(map.getRespawnTimingWheel().size()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenRespawnDue_whenProcessDueRespawns_thenRespawnGroup() {
+    // given
+    var monsterGroup = createMonsterGroup(10);
+    var monster = addMember(monsterGroup, 1);
+
+    try (var dateTimeUtils = mockStatic(DateTimeUtils.class)) {
+      dateTimeUtils.when(DateTimeUtils::getUnixTime).thenReturn(5_000L);
+      monsterRespawnService.onMonsterRemoved(monster, map);
+
+      dateTimeUtils.when(DateTimeUtils::getUnixTime).thenReturn(15_000L);
+
+      // when
+      monsterRespawnService.processDueRespawns(map);
+    }
+
+    // then
+    then(processMapSpawnPointsService).should().respawn(monsterGroup, map, gameWorldService);
+    assertThat(monsterGroup.getRespawnTimer()).isNotNull();
+    assertThat(monsterGroup.getRespawnTimer().getExpiryTick()).isEqualTo(25);
+  }
+
+  @Test
+  public void givenRespawnedGroupWithMembers_whenProcessDueRespawns_thenDoNotReschedule() {
+    // given
+    var monsterGroup = createMonsterGroup(10);
+    var monster = addMember(monsterGroup, 1);
+
+    try (var dateTimeUtils = mockStatic(DateTimeUtils.class)) {
+      dateTimeUtils.when(DateTimeUtils::getUnixTime).thenReturn(5_000L);
+      monsterRespawnService.onMonsterRemoved(monster, map);
+
+      dateTimeUtils.when(DateTimeUtils::getUnixTime).thenReturn(15_000L);
+
+      willAnswer(invocation -> addMember(monsterGroup, 2))
+          .given(processMapSpawnPointsService)
+          .respawn(monsterGroup, map, gameWorldService);
+
+      // when
+      monsterRespawnService.processDueRespawns(map);
+    }
+
+    // then
+    assertThat(monsterGroup.getMonsterEntities()).hasSize(1);
+    assertThat(monsterGroup.getRespawnTimer()).isNull();
+    assertThat(map.getRespawnTimingWheel().isEmpty()).isTrue();
+  }
+
+  private MonsterGroup createMonsterGroup(int respawnTime) {
+    return MonsterGroup.builder()
+        .monsterEntities(new ArrayList<>())
+        .spawnPoint(SpawnPoint.builder().respawnTime(respawnTime).build())
+        .build();
+  }
+
+  private MonsterGameEntity addMember(MonsterGroup monsterGroup, long vid) {
+    var monster = MonsterGameEntity.builder().vid(vid).monsterGroup(monsterGroup).build();
+    monsterGroup.getMonsterEntities().add(monster);
+
+    return monster;
+  }
+}
@@ -0,0 +1,52 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+
+import com.blaj.openmetin.shared.common.utils.DateTimeUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TickClockServiceTest {
+
+  private TickClockService tickClockService;
+
+  @BeforeEach
+  public void beforeEach() {
+    tickClockService = new TickClockService();
+  }
+
+  @Test
+  public void givenNoTick_whenGetServerTime_thenReturnCurrentServerTime() {
+    // given
+    try (var dateTimeUtilsMock = mockStatic(DateTimeUtils.class)) {
+      dateTimeUtilsMock.when(DateTimeUtils::getUnixTime).thenReturn(1000L);
+
+      // when
+      var serverTime = tickClockService.getServerTime();
+
+      // then
+      assertThat(serverTime).isEqualTo(1000L);
+      assertThat(tickClockService.getTick()).isZero();
+    }
+  }
+
+  @Test
+  public void givenAdvancedTick_whenGetServerTime_thenReturnTimeCapturedAtTickStart() {
+    // given
+    try (var dateTimeUtilsMock = mockStatic(DateTimeUtils.class)) {
+      dateTimeUtilsMock.when(DateTimeUtils::getUnixTime).thenReturn(1000L, 2000L);
+
+      tickClockService.advance(7);
+
+      // when
+      var firstServerTime = tickClockService.getServerTime();
+      var secondServerTime = tickClockService.getServerTime();
+
+      // then
+      assertThat(firstServerTime).isEqualTo(1000L);
+      assertThat(secondServerTime).isEqualTo(1000L);
+      assertThat(tickClockService.getTick()).isEqualTo(7);
+    }
+  }
+}
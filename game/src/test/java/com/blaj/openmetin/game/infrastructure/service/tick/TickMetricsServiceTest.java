@@ -0,0 +1,152 @@
+package com.blaj.openmetin.game.infrastructure.service.tick;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.blaj.openmetin.game.domain.enums.entity.EntityType;
+import com.blaj.openmetin.game.domain.enums.tick.GameLoopCatchUpPolicy;
+import com.blaj.openmetin.game.domain.model.entity.BaseGameEntity;
+import com.blaj.openmetin.game.domain.model.entity.EntityTable;
+import com.blaj.openmetin.game.domain.model.map.Map;
+import com.blaj.openmetin.game.infrastructure.properties.GameLoopProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TickMetricsServiceTest {
+
+  private static final int TICK_INTERVAL_MS = 40;
+
+  private TickMetricsService tickMetricsService;
+  private SimpleMeterRegistry meterRegistry;
+
+  @Mock private Map map;
+  @Mock private BaseGameEntity player;
+  @Mock private BaseGameEntity monster;
+
+  @BeforeEach
+  public void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    tickMetricsService =
+        new TickMetricsService(
+            new GameLoopProperties(
+                true,
+                25,
+                false,
+                4,
+                List.of(),
+                GameLoopCatchUpPolicy.CATCH_UP,
+                15),
+            meterRegistry);
+  }
+
+  @Test
+  public void givenTickWithinBudget_whenRecordTick_thenRecordDurationWithoutOverrun() {
+    // given
+    var tickDurationNanos = TimeUnit.MILLISECONDS.toNanos(TICK_INTERVAL_MS - 1);
+
+    // when
+    tickMetricsService.recordTick(tickDurationNanos);
+
+    // then
+    assertThat(meterRegistry.get("game.tick.duration").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("game.tick.overruns").counter().count()).isZero();
+  }
+
+  @Test
+  public void givenTickOverBudget_whenRecordTick_thenCountOverrun() {
+    // given
+    var tickDurationNanos = TimeUnit.MILLISECONDS.toNanos(TICK_INTERVAL_MS + 1);
+
+    // when
+    tickMetricsService.recordTick(tickDurationNanos);
+
+    // then
+    assertThat(meterRegistry.get("game.tick.overruns").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenAccumulatorLag_whenRecordAccumulatorLag_thenExposeLagInMilliseconds() {
+    // given
+    var lagNanos = TimeUnit.MILLISECONDS.toNanos(120);
+
+    // when
+    tickMetricsService.recordAccumulatorLag(lagNanos);
+
+    // then
+    assertThat(meterRegistry.get("game.tick.accumulator.lag").gauge().value()).isEqualTo(120);
+  }
+
+  @Test
+  public void givenSameMap_whenGetMapTickMetrics_thenReturnCachedMetrics() {
+    // given
+    given(map.getName()).willReturn("map_a1");
+
+    // when
+    var first = tickMetricsService.getMapTickMetrics(map);
+    var second = tickMetricsService.getMapTickMetrics(map);
+
+    // then
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  public void givenMapPhase_whenRecordPhase_thenRecordTimerTaggedWithMapAndPhase() {
+    // given
+    given(map.getName()).willReturn("map_a1");
+    var mapTickMetrics = tickMetricsService.getMapTickMetrics(map);
+    var phaseStartNanos = System.nanoTime();
+
+    // when
+    var phaseEndNanos = mapTickMetrics.recordPhase(MapTickPhase.ENTITY_UPDATE, phaseStartNanos);
+
+    // then
+    assertThat(phaseEndNanos).isGreaterThanOrEqualTo(phaseStartNanos);
+    assertThat(
+            meterRegistry
+                .get("game.map.tick.phase.duration")
+                .tag("map", "map_a1")
+                .tag("phase", "entity_update")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void givenMapTickOverBudget_whenRecordTick_thenCountOverrunAndEntities() {
+    // given
+    var entities = new EntityTable();
+
+    given(player.getVid()).willReturn(1L);
+    given(player.getType()).willReturn(EntityType.PLAYER);
+    given(monster.getVid()).willReturn(2L);
+    given(monster.getType()).willReturn(EntityType.MONSTER);
+    entities.add(player);
+    entities.add(monster);
+
+    given(map.getName()).willReturn("map_a1");
+    given(map.getEntities()).willReturn(entities);
+
+    var mapTickMetrics = tickMetricsService.getMapTickMetrics(map);
+
+    // when
+    mapTickMetrics.recordTick(map, TimeUnit.MILLISECONDS.toNanos(TICK_INTERVAL_MS + 1));
+
+    // then
+    assertThat(meterRegistry.get("game.map.tick.duration").tag("map", "map_a1").timer().count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry.get("game.map.tick.overruns").tag("map", "map_a1").counter().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("game.map.entities").tag("map", "map_a1").gauge().value())
+        .isEqualTo(2);
+    assertThat(meterRegistry.get("game.map.players").tag("map", "map_a1").gauge().value())
+        .isEqualTo(1);
+  }
+}
@@ -5,3 +5,5 @@ include("annotation-processor")
 include("shared")
 include("authentication")
 include("game")
+include("bot")
+include("benchmarks")
@@ -10,5 +10,11 @@ public interface PacketDecoderService<T extends Packet> {
 
   Set<PacketDirection> getDirection();
 
+  int getSize();
+
+  default int getFrameLength(ByteBuf byteBuf) {
+    return getSize();
+  }
+
   T decode(ByteBuf byteBuf);
 }
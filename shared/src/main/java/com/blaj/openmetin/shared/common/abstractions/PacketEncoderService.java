@@ -8,5 +8,7 @@ public interface PacketEncoderService<T extends Packet> {
 
   Class<T> getPacketClass();
 
+  int encodedSize(T packet);
+
   void encode(T packet, ByteBuf byteBuf);
 }
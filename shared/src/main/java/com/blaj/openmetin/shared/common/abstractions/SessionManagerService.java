@@ -3,6 +3,7 @@ package com.blaj.openmetin.shared.common.abstractions;
 import com.blaj.openmetin.shared.common.model.Session;
 import io.netty.channel.Channel;
 import io.netty.util.AttributeKey;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 
@@ -20,9 +21,13 @@ public interface SessionManagerService<T extends Session> {
 
   void linkSessionToPid(long sessionId, int pid);
 
+  void linkSessionToAccount(long sessionId, long accountId);
+
   void removeSession(long sessionId);
 
   Map<Long, T> getAllSessions();
 
+  Collection<T> getSessions();
+
   int getSessionCount();
 }
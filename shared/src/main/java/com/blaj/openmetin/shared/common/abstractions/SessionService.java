@@ -1,10 +1,31 @@
 package com.blaj.openmetin.shared.common.abstractions;
 
 import com.blaj.openmetin.shared.common.model.Packet;
+import com.blaj.openmetin.shared.common.model.Session;
+import java.util.Collection;
+import java.util.List;
 
 public interface SessionService {
 
   void sendPacketAsync(long sessionId, Packet packet);
 
+  void sendPacketAsync(Session session, Packet packet);
+
+  void sendPacketsAsync(long sessionId, List<? extends Packet> packets);
+
+  void queuePacket(long sessionId, Packet packet);
+
+  void queuePacket(Session session, Packet packet);
+
+  void queuePackets(long sessionId, List<? extends Packet> packets);
+
+  void flushQueuedPackets();
+
+  void broadcastPacketAsync(Packet packet, Collection<Long> sessionIds);
+
+  void queueBroadcastPacket(Packet packet, Collection<Long> sessionIds);
+
+  void queueBroadcastPacketToSessions(Packet packet, Collection<? extends Session> sessions);
+
   void sendPacketSync(long sessionId, Packet packet);
 }
@@ -0,0 +1,7 @@
+package com.blaj.openmetin.shared.common.enums;
+
+public enum TcpTransport {
+  AUTO,
+  EPOLL,
+  NIO
+}
@@ -0,0 +1,6 @@
+package com.blaj.openmetin.shared.common.model;
+
+public interface CoalescablePacket extends Packet {
+
+  long getCoalesceKey();
+}
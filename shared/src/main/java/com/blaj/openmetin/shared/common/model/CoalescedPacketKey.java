@@ -0,0 +1,3 @@
+package com.blaj.openmetin.shared.common.model;
+
+public record CoalescedPacketKey(Class<? extends Packet> packetClass, long coalesceKey) {}
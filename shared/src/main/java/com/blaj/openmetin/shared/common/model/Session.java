@@ -2,6 +2,9 @@ package com.blaj.openmetin.shared.common.model;
 
 import com.blaj.openmetin.shared.common.enums.Phase;
 import io.netty.channel.Channel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -12,6 +15,7 @@ import lombok.Setter;
 public class Session {
   private final long id;
   private final Channel channel;
+  private final Map<CoalescedPacketKey, Packet> coalescedPackets = new ConcurrentHashMap<>();
 
   private volatile Long handshake = null;
   private volatile Long lastHandshakeTime = null;
@@ -22,4 +26,7 @@ public class Session {
   private volatile Phase phase = Phase.HANDSHAKE;
   private volatile String username = null;
   private volatile Long accountId = null;
+  private volatile long lastActivityNanos = System.nanoTime();
+  private volatile long pingSentNanos = 0;
+  private volatile Executor commandLane = null;
 }
@@ -0,0 +1,8 @@
+package com.blaj.openmetin.shared.common.service;
+
+import com.blaj.openmetin.shared.common.model.Session;
+
+public interface SessionRemovalService<T extends Session> {
+
+  void onSessionRemoved(T session);
+}
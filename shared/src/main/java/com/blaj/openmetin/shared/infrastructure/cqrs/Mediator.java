@@ -1,9 +1,14 @@
 package com.blaj.openmetin.shared.infrastructure.cqrs;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public interface Mediator {
   <T> T send(Request<T> request);
 
   <T> CompletableFuture<T> sendAsync(Request<T> request);
+
+  void sendAndForget(Request<?> request);
+
+  void sendAndForget(Request<?> request, Executor executor);
 }
@@ -6,8 +6,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.function.Supplier;
-import java.util.stream.IntStream;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ResolvableType;
@@ -16,7 +15,8 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Service
 public class MediatorImpl implements Mediator {
-  private final Map<Class<?>, RequestHandler<?, ?>> requestHandlerMap = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Function<Request<?>, ?>> requestPipelineMap =
+      new ConcurrentHashMap<>();
   private final List<PipelineBehavior<?, ?>> behaviorList;
   private final Executor virtualThreadExecutor;
 
@@ -24,10 +24,10 @@ public class MediatorImpl implements Mediator {
       List<RequestHandler<?, ?>> requestHandlers,
       List<PipelineBehavior<?, ?>> behaviorList,
       @Qualifier("virtualThreadExecutor") Executor virtualThreadExecutor) {
-    requestHandlers.forEach(this::register);
-
     this.behaviorList = behaviorList;
     this.virtualThreadExecutor = virtualThreadExecutor;
+
+    requestHandlers.forEach(this::register);
   }
 
   @Override
@@ -37,41 +37,44 @@ public class MediatorImpl implements Mediator {
 
   @Override
   public <T> CompletableFuture<T> sendAsync(Request<T> request) {
-    return CompletableFuture.supplyAsync(() -> executeRequest(request), virtualThreadExecutor)
-        .whenComplete(
-            (result, throwable) -> {
-              if (throwable != null) {
-                log.error(
-                    "Error executing async request: {}",
-                    request.getClass().getSimpleName(),
-                    throwable);
-              }
-            });
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return executeRequest(request);
+          } catch (RuntimeException e) {
+            logAsyncRequestError(request, e);
+            throw e;
+          }
+        },
+        virtualThreadExecutor);
+  }
+
+  @Override
+  public void sendAndForget(Request<?> request) {
+    sendAndForget(request, virtualThreadExecutor);
+  }
+
+  @Override
+  public void sendAndForget(Request<?> request, Executor executor) {
+    executor.execute(
+        () -> {
+          try {
+            executeRequest(request);
+          } catch (RuntimeException e) {
+            logAsyncRequestError(request, e);
+          }
+        });
   }
 
   @SuppressWarnings("unchecked")
   private <R> R executeRequest(Request<R> request) {
-    Supplier<R> terminal =
-        () -> {
-          var handler =
-              (RequestHandler<Request<R>, R>)
-                  Optional.ofNullable(requestHandlerMap.get(request.getClass()))
-                      .orElseThrow(
-                          () ->
-                              new IllegalStateException(
-                                  "No handler for " + request.getClass().getName()));
-
-          return handler.handle(request);
-        };
-
-    var pipeline =
-        IntStream.iterate(behaviorList.size() - 1, i -> i >= 0, i -> i - 1)
-            .parallel()
-            .mapToObj(i -> (PipelineBehavior<Request<R>, R>) behaviorList.get(i))
-            .reduce(
-                terminal, (next, behavior) -> () -> behavior.handle(request, next), (a, b) -> a);
-
-    return pipeline.get();
+    var pipeline = requestPipelineMap.get(request.getClass());
+
+    if (pipeline == null) {
+      throw new IllegalStateException("No handler for " + request.getClass().getName());
+    }
+
+    return (R) pipeline.apply(request);
   }
 
   private void register(RequestHandler<?, ?> requestHandler) {
@@ -97,6 +100,27 @@ public class MediatorImpl implements Mediator {
                         "Cannot resolve request type for class "
                             + requestHandler.getClass().getName()));
 
-    requestHandlerMap.put(requestType, requestHandler);
+    requestPipelineMap.put(requestType, compilePipeline(requestHandler));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Function<Request<?>, ?> compilePipeline(RequestHandler<?, ?> requestHandler) {
+    var handler = (RequestHandler<Request<Object>, Object>) requestHandler;
+    Function<Request<Object>, Object> pipeline = handler::handle;
+
+    for (var i = behaviorList.size() - 1; i >= 0; i--) {
+      var behavior = (PipelineBehavior<Request<Object>, Object>) behaviorList.get(i);
+      var next = pipeline;
+
+      pipeline = request -> behavior.handle(request, () -> next.apply(request));
+    }
+
+    var compiledPipeline = pipeline;
+
+    return request -> compiledPipeline.apply((Request<Object>) request);
+  }
+
+  private void logAsyncRequestError(Request<?> request, Throwable throwable) {
+    log.error("Error executing async request: {}", request.getClass().getSimpleName(), throwable);
   }
 }
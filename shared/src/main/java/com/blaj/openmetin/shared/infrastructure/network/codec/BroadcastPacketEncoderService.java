@@ -0,0 +1,40 @@
+package com.blaj.openmetin.shared.infrastructure.network.codec;
+
+import com.blaj.openmetin.shared.common.model.Packet;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BroadcastPacketEncoderService {
+
+  private final PacketCodecFactoryService packetCodecFactoryService;
+
+  public Optional<ByteBuf> encode(Packet packet) {
+    var packetEncoderService = packetCodecFactoryService.getPacketEncoderServiceForPacket(packet);
+
+    if (packetEncoderService == null) {
+      log.error("No encoder found for broadcast packet: {}", packet.getClass().getSimpleName());
+      return Optional.empty();
+    }
+
+    var byteBuf = ByteBufAllocator.DEFAULT.directBuffer(packetEncoderService.encodedSize(packet));
+
+    try {
+      byteBuf.writeByte(packetEncoderService.getHeader() & 0xFF);
+      packetEncoderService.encode(packet, byteBuf);
+
+      return Optional.of(byteBuf);
+    } catch (Exception e) {
+      byteBuf.release();
+      log.error("Failed to encode broadcast packet: {}", packet.getClass().getSimpleName(), e);
+
+      return Optional.empty();
+    }
+  }
+}
@@ -23,9 +23,9 @@ public class MainByteToMessageDecoderService extends ByteToMessageDecoder {
     byteBuf.markReaderIndex();
     var header = byteBuf.readByte() & 0xFF;
 
-    var packetDecoderOptional = packetCodecFactoryService.getPacketDecoderService(header);
+    var decoder = packetCodecFactoryService.getPacketDecoderService(header);
 
-    if (packetDecoderOptional.isEmpty()) {
+    if (decoder == null) {
       log.warn(
           "Unknown packet header from {}: 0x{}",
           channelHandlerContext.channel().remoteAddress(),
@@ -37,9 +37,15 @@ public class MainByteToMessageDecoderService extends ByteToMessageDecoder {
       return;
     }
 
+    var frameLength = decoder.getFrameLength(byteBuf);
+
+    if (frameLength < 0 || byteBuf.readableBytes() < frameLength) {
+      byteBuf.resetReaderIndex();
+      return;
+    }
+
     try {
-      var decoder = packetDecoderOptional.get();
-      var packet = decoder.decode(byteBuf);
+      var packet = decoder.decode(byteBuf.readSlice(frameLength));
       outList.add(packet);
 
       log.debug(
@@ -47,12 +53,6 @@ public class MainByteToMessageDecoderService extends ByteToMessageDecoder {
           packet.getClass().getSimpleName(),
           String.format("%02X", header),
           channelHandlerContext.channel().remoteAddress());
-    } catch (IndexOutOfBoundsException e) {
-      log.debug(
-          "Not enough data to decode packet 0x{}, waiting for more...",
-          String.format("%02X", header));
-
-      byteBuf.resetReaderIndex();
     } catch (Exception e) {
       log.error(
           "Failed to decode packet with header 0x{} from {}",
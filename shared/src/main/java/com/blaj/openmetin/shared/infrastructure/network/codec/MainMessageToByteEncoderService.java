@@ -13,13 +13,24 @@ public class MainMessageToByteEncoderService extends MessageToByteEncoder<Packet
 
   private final PacketCodecFactoryService packetCodecFactoryService;
 
+  @Override
+  protected ByteBuf allocateBuffer(
+      ChannelHandlerContext channelHandlerContext, Packet packet, boolean preferDirect) {
+    var packetEncoderService = packetCodecFactoryService.getPacketEncoderServiceForPacket(packet);
+
+    if (packetEncoderService == null) {
+      return super.allocateBuffer(channelHandlerContext, packet, preferDirect);
+    }
+
+    return channelHandlerContext.alloc().directBuffer(packetEncoderService.encodedSize(packet));
+  }
+
   @Override
   protected void encode(
       ChannelHandlerContext channelHandlerContext, Packet packet, ByteBuf byteBuf) {
-    var packetEncoderServiceOptional =
-        packetCodecFactoryService.getPacketEncoderServiceForPacket(packet);
+    var packetEncoderService = packetCodecFactoryService.getPacketEncoderServiceForPacket(packet);
 
-    if (packetEncoderServiceOptional.isEmpty()) {
+    if (packetEncoderService == null) {
       log.error(
           "No encoder found for packet: {} to {}",
           packet.getClass().getSimpleName(),
@@ -28,8 +39,6 @@ public class MainMessageToByteEncoderService extends MessageToByteEncoder<Packet
     }
 
     try {
-      var packetEncoderService = packetEncoderServiceOptional.get();
-
       byteBuf.writeByte(packetEncoderService.getHeader() & 0xFF);
       packetEncoderService.encode(packet, byteBuf);
 
@@ -4,7 +4,6 @@ import com.blaj.openmetin.shared.common.abstractions.PacketDecoderService;
 import com.blaj.openmetin.shared.common.abstractions.PacketEncoderService;
 import com.blaj.openmetin.shared.common.model.Packet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -13,42 +12,71 @@ import org.springframework.stereotype.Service;
 @Service
 public class PacketCodecFactoryService {
 
-  private final Map<Class<?>, PacketEncoderService<?>> packetEncoderServiceMap;
-  private final Map<Integer, PacketDecoderService<?>> packetDecoderServiceMap;
+  public static final int HEADER_COUNT = 256;
+
+  private final ClassValue<PacketEncoderService<?>> packetEncoderServiceClassValue;
+  private final PacketDecoderService<?>[] packetDecoderServiceTable;
 
   public PacketCodecFactoryService(
       Set<PacketEncoderService<?>> packetEncoderServices,
       Set<PacketDecoderService<?>> packetDecoderServices) {
-    packetEncoderServiceMap = createPacketEncoderServiceMap(packetEncoderServices);
-    packetDecoderServiceMap = createPacketDecoderServiceMap((packetDecoderServices));
+    packetEncoderServiceClassValue = createPacketEncoderServiceClassValue(packetEncoderServices);
+    packetDecoderServiceTable = createPacketDecoderServiceTable(packetDecoderServices);
   }
 
-  public Optional<PacketDecoderService<?>> getPacketDecoderService(int header) {
-    return Optional.ofNullable(packetDecoderServiceMap.get(header));
+  @SuppressWarnings("unchecked")
+  public PacketDecoderService<Packet> getPacketDecoderService(int header) {
+    if (header < 0 || header >= HEADER_COUNT) {
+      return null;
+    }
+
+    return (PacketDecoderService<Packet>) packetDecoderServiceTable[header];
   }
 
   @SuppressWarnings("unchecked")
-  public <T extends Packet> Optional<PacketEncoderService<T>> getPacketEncoderService(
-      Class<T> packetClass) {
-    return Optional.ofNullable(packetEncoderServiceMap.get(packetClass))
-        .map(packetEncoderService -> (PacketEncoderService<T>) packetEncoderService);
+  public <T extends Packet> PacketEncoderService<T> getPacketEncoderService(Class<T> packetClass) {
+    return (PacketEncoderService<T>) packetEncoderServiceClassValue.get(packetClass);
   }
 
   @SuppressWarnings("unchecked")
-  public Optional<PacketEncoderService<Packet>> getPacketEncoderServiceForPacket(Packet packet) {
-    return Optional.ofNullable(packetEncoderServiceMap.get(packet.getClass()))
-        .map(encoder -> (PacketEncoderService<Packet>) encoder);
+  public PacketEncoderService<Packet> getPacketEncoderServiceForPacket(Packet packet) {
+    return (PacketEncoderService<Packet>) packetEncoderServiceClassValue.get(packet.getClass());
   }
 
-  private Map<Class<?>, PacketEncoderService<?>> createPacketEncoderServiceMap(
+  private ClassValue<PacketEncoderService<?>> createPacketEncoderServiceClassValue(
       Set<PacketEncoderService<?>> packetEncoderServices) {
-    return packetEncoderServices.stream()
-        .collect(Collectors.toMap(PacketEncoderService::getPacketClass, Function.identity()));
+    Map<Class<?>, PacketEncoderService<?>> packetEncoderServiceMap =
+        packetEncoderServices.stream()
+            .collect(Collectors.toMap(PacketEncoderService::getPacketClass, Function.identity()));
+
+    return new ClassValue<>() {
+      @Override
+      protected PacketEncoderService<?> computeValue(Class<?> packetClass) {
+        return packetEncoderServiceMap.get(packetClass);
+      }
+    };
   }
 
-  private Map<Integer, PacketDecoderService<?>> createPacketDecoderServiceMap(
+  private PacketDecoderService<?>[] createPacketDecoderServiceTable(
       Set<PacketDecoderService<?>> packetDecoderServices) {
-    return packetDecoderServices.stream()
-        .collect(Collectors.toMap(PacketDecoderService::getHeader, Function.identity()));
+    var packetDecoderServiceTable = new PacketDecoderService<?>[HEADER_COUNT];
+
+    for (var packetDecoderService : packetDecoderServices) {
+      var header = packetDecoderService.getHeader();
+
+      if (header < 0 || header >= HEADER_COUNT) {
+        throw new IllegalArgumentException(
+            String.format("Packet decoder header out of range: 0x%X", header));
+      }
+
+      if (packetDecoderServiceTable[header] != null) {
+        throw new IllegalStateException(
+            String.format("Duplicate packet decoder for header: 0x%02X", header));
+      }
+
+      packetDecoderServiceTable[header] = packetDecoderService;
+    }
+
+    return packetDecoderServiceTable;
   }
 }
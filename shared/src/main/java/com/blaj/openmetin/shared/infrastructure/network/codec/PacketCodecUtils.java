@@ -1,76 +1,85 @@
 package com.blaj.openmetin.shared.infrastructure.network.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import java.nio.charset.StandardCharsets;
-import java.util.Optional;
-import java.util.stream.IntStream;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public final class PacketCodecUtils {
 
   public static void writeString(ByteBuf out, String value) {
-    Optional.ofNullable(value)
-        .ifPresentOrElse(
-            v -> {
-              var bytes = v.getBytes(StandardCharsets.UTF_8);
-              out.writeShortLE(bytes.length);
-              out.writeBytes(bytes);
-            },
-            () -> out.writeShortLE(0));
+    if (value == null || value.isEmpty()) {
+      out.writeShortLE(0);
+      return;
+    }
+
+    var lengthIndex = out.writerIndex();
+    out.writeShortLE(0);
+
+    var length = out.writeCharSequence(value, StandardCharsets.UTF_8);
+    out.setShortLE(lengthIndex, length);
+  }
+
+  public static int getStringSize(String value) {
+    return Short.BYTES + (value == null ? 0 : ByteBufUtil.utf8Bytes(value));
   }
 
   public static String readString(ByteBuf in) {
-    return Optional.of(in.readShortLE())
-        .filter(length -> length > 0)
-        .map(
-            length -> {
-              var bytes = new byte[length];
-              in.readBytes(bytes);
-              return new String(bytes, StandardCharsets.UTF_8);
-            })
-        .orElse("");
+    var length = in.readShortLE();
+
+    if (length <= 0) {
+      return "";
+    }
+
+    return in.readCharSequence(length, StandardCharsets.UTF_8).toString();
   }
 
   public static void writeFixedString(ByteBuf out, String value, int length) {
-    Optional.ofNullable(value)
-        .map(v -> v.getBytes(StandardCharsets.UTF_8))
-        .ifPresentOrElse(
-            bytes -> {
-              if (bytes.length > length) {
-                throw new IllegalArgumentException(
-                    "String too long: " + bytes.length + " > " + length);
-              }
+    if (value == null) {
+      out.writeZero(length);
+      return;
+    }
+
+    var byteCount = ByteBufUtil.utf8Bytes(value);
 
-              out.writeBytes(bytes);
-              out.writeZero(length - bytes.length);
-            },
-            () -> out.writeZero(length));
+    if (byteCount > length) {
+      throw new IllegalArgumentException("String too long: " + byteCount + " > " + length);
+    }
+
+    out.writeCharSequence(value, StandardCharsets.UTF_8);
+    out.writeZero(length - byteCount);
   }
 
   public static String readFixedString(ByteBuf in, int length) {
-    var bytes = new byte[length];
-    in.readBytes(bytes);
+    var readerIndex = in.readerIndex();
+    var actualLength = in.bytesBefore(readerIndex, length, (byte) 0);
 
-    var actualLength =
-        IntStream.range(0, length).filter(i -> bytes[i] == 0).findFirst().orElse(length);
+    if (actualLength < 0) {
+      actualLength = length;
+    }
 
-    return actualLength > 0 ? new String(bytes, 0, actualLength, StandardCharsets.UTF_8) : "";
+    var value =
+        actualLength > 0
+            ? in.getCharSequence(readerIndex, actualLength, StandardCharsets.UTF_8).toString()
+            : "";
+    in.skipBytes(length);
+
+    return value;
   }
 
   public static void writeFixedByteArray(ByteBuf out, byte[] value, int length) {
-    Optional.ofNullable(value)
-        .ifPresentOrElse(
-            bytes -> {
-              if (bytes.length > length) {
-                throw new IllegalArgumentException(
-                    "Array too long: " + bytes.length + " > " + length);
-              }
+    if (value == null) {
+      out.writeZero(length);
+      return;
+    }
+
+    if (value.length > length) {
+      throw new IllegalArgumentException("Array too long: " + value.length + " > " + length);
+    }
 
-              out.writeBytes(bytes);
-              out.writeZero(length - bytes.length);
-            },
-            () -> out.writeZero(length));
+    out.writeBytes(value);
+    out.writeZero(length - value.length);
   }
 
   public static byte[] readFixedByteArray(ByteBuf in, int length) {
@@ -80,54 +89,83 @@ public final class PacketCodecUtils {
   }
 
   public static long[] readFixedLongArray(ByteBuf in, int length) {
-    return IntStream.range(0, length).mapToLong(i -> in.readLongLE()).toArray();
+    var array = new long[length];
+
+    for (var i = 0; i < length; i++) {
+      array[i] = in.readLongLE();
+    }
+
+    return array;
   }
 
   public static void writeFixedLongArray(ByteBuf out, long[] array, int length) {
-    IntStream.range(0, length)
-        .mapToLong(i -> i < array.length ? array[i] : 0)
-        .forEach(out::writeLongLE);
+    for (var i = 0; i < length; i++) {
+      out.writeLongLE(i < array.length ? array[i] : 0);
+    }
   }
 
   public static int[] readFixedIntArray(ByteBuf in, int length) {
-    return IntStream.range(0, length).map(i -> in.readIntLE()).toArray();
+    var array = new int[length];
+
+    for (var i = 0; i < length; i++) {
+      array[i] = in.readIntLE();
+    }
+
+    return array;
   }
 
   public static void writeFixedIntArray(ByteBuf out, int[] array, int length) {
-    IntStream.range(0, length).map(i -> i < array.length ? array[i] : 0).forEach(out::writeIntLE);
+    for (var i = 0; i < length; i++) {
+      out.writeIntLE(i < array.length ? array[i] : 0);
+    }
   }
 
   public static short[] readFixedShortArray(ByteBuf in, int length) {
     var array = new short[length];
-    IntStream.range(0, length).forEach(i -> array[i] = in.readShortLE());
+
+    for (var i = 0; i < length; i++) {
+      array[i] = in.readShortLE();
+    }
+
     return array;
   }
 
   public static void writeFixedShortArray(ByteBuf out, short[] array, int length) {
-    IntStream.range(0, length).map(i -> i < array.length ? array[i] : 0).forEach(out::writeShortLE);
+    for (var i = 0; i < length; i++) {
+      out.writeShortLE(i < array.length ? array[i] : 0);
+    }
   }
 
   public static long[] readFixedUnsignedIntArray(ByteBuf in, int length) {
-    return IntStream.range(0, length)
-        .mapToLong(i -> Integer.toUnsignedLong(in.readIntLE()))
-        .toArray();
+    var array = new long[length];
+
+    for (var i = 0; i < length; i++) {
+      array[i] = in.readUnsignedIntLE();
+    }
+
+    return array;
   }
 
   public static void writeFixedUnsignedIntArray(ByteBuf out, long[] array, int length) {
-    IntStream.range(0, length)
-        .map(i -> (int) (i < array.length ? array[i] : 0))
-        .forEach(out::writeIntLE);
+    for (var i = 0; i < length; i++) {
+      out.writeIntLE((int) (i < array.length ? array[i] : 0));
+    }
   }
 
   public static String[] readFixedStringArray(ByteBuf in, int arrayLength, int stringLength) {
-    return IntStream.range(0, arrayLength)
-        .mapToObj(i -> readFixedString(in, stringLength))
-        .toArray(String[]::new);
+    var array = new String[arrayLength];
+
+    for (var i = 0; i < arrayLength; i++) {
+      array[i] = readFixedString(in, stringLength);
+    }
+
+    return array;
   }
 
   public static void writeFixedStringArray(
       ByteBuf out, String[] array, int arrayLength, int stringLength) {
-    IntStream.range(0, arrayLength)
-        .forEach(i -> writeFixedString(out, i < array.length ? array[i] : "", stringLength));
+    for (var i = 0; i < arrayLength; i++) {
+      writeFixedString(out, i < array.length ? array[i] : null, stringLength);
+    }
   }
 }
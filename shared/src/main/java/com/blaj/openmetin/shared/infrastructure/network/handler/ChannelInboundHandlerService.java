@@ -1,6 +1,5 @@
 package com.blaj.openmetin.shared.infrastructure.network.handler;
 
-import com.blaj.openmetin.shared.common.abstractions.PacketHandlerService;
 import com.blaj.openmetin.shared.common.abstractions.SessionManagerService;
 import com.blaj.openmetin.shared.common.model.Packet;
 import com.blaj.openmetin.shared.common.model.Session;
@@ -8,6 +7,7 @@ import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.util.Attribute;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -34,20 +34,21 @@ public class ChannelInboundHandlerService extends SimpleChannelInboundHandler<Pa
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   protected void channelRead0(ChannelHandlerContext channelHandlerContext, Packet packet) {
-    var session =
-        Optional.ofNullable(channelHandlerContext)
-            .map(ChannelHandlerContext::channel)
-            .map(channel -> channel.attr(SessionManagerService.sessionKey))
-            .map(Attribute::get)
-            .orElseThrow();
-
-    var packetHandlerService =
-        packetHandlerFactoryService
-            .getPacketHandlerService(packet.getClass())
-            .map(phs -> (PacketHandlerService<Packet>) phs)
-            .orElseThrow();
+    var session = channelHandlerContext.channel().attr(SessionManagerService.sessionKey).get();
+
+    if (session == null) {
+      throw new NoSuchElementException("No session bound to channel");
+    }
+
+    session.setLastActivityNanos(System.nanoTime());
+
+    var packetHandlerService = packetHandlerFactoryService.getPacketHandlerServiceForPacket(packet);
+
+    if (packetHandlerService == null) {
+      throw new NoSuchElementException(
+          "No handler found for packet: " + packet.getClass().getSimpleName());
+    }
 
     packetHandlerService.handle(packet, session);
   }
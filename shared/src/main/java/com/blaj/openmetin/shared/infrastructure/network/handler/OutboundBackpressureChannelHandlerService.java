@@ -0,0 +1,79 @@
+package com.blaj.openmetin.shared.infrastructure.network.handler;
+
+import com.blaj.openmetin.shared.common.abstractions.SessionManagerService;
+import com.blaj.openmetin.shared.infrastructure.network.session.OutboundBackpressureService;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class OutboundBackpressureChannelHandlerService extends ChannelInboundHandlerAdapter {
+
+  private final OutboundBackpressureService outboundBackpressureService;
+  private final long unwritableTimeoutMillis;
+
+  private ScheduledFuture<?> scheduledDisconnect;
+
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext channelHandlerContext) {
+    var channel = channelHandlerContext.channel();
+
+    if (channel.isWritable()) {
+      cancelScheduledDisconnect();
+      Optional.ofNullable(channel.attr(SessionManagerService.sessionKey).get())
+          .ifPresent(outboundBackpressureService::drainCoalescedPackets);
+    } else if (scheduledDisconnect == null) {
+      scheduledDisconnect =
+          channelHandlerContext
+              .executor()
+              .schedule(
+                  () -> disconnect(channelHandlerContext),
+                  unwritableTimeoutMillis,
+                  TimeUnit.MILLISECONDS);
+    }
+
+    channelHandlerContext.fireChannelWritabilityChanged();
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext channelHandlerContext) {
+    var channel = channelHandlerContext.channel();
+
+    cancelScheduledDisconnect();
+    Optional.ofNullable(channel.attr(SessionManagerService.sessionKey).get())
+        .ifPresent(outboundBackpressureService::discardCoalescedPackets);
+
+    channelHandlerContext.fireChannelInactive();
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext channelHandlerContext) {
+    cancelScheduledDisconnect();
+  }
+
+  private void disconnect(ChannelHandlerContext channelHandlerContext) {
+    scheduledDisconnect = null;
+
+    var channel = channelHandlerContext.channel();
+
+    if (channel.isWritable()) {
+      return;
+    }
+
+    Optional.ofNullable(channel.attr(SessionManagerService.sessionKey).get())
+        .ifPresent(outboundBackpressureService::recordSlowConsumerDisconnect);
+    channelHandlerContext.close();
+  }
+
+  private void cancelScheduledDisconnect() {
+    if (scheduledDisconnect == null) {
+      return;
+    }
+
+    scheduledDisconnect.cancel(false);
+    scheduledDisconnect = null;
+  }
+}
@@ -0,0 +1,64 @@
+package com.blaj.openmetin.shared.infrastructure.network.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class OutboundBatchChannelHandlerService extends ChannelOutboundHandlerAdapter {
+
+  private final int flushThresholdBytes;
+  private final long flushDelayMillis;
+
+  private long pendingBytes;
+  private ScheduledFuture<?> scheduledFlush;
+
+  @Override
+  public void write(
+      ChannelHandlerContext channelHandlerContext, Object message, ChannelPromise promise) {
+    if (message instanceof ByteBuf byteBuf) {
+      pendingBytes += byteBuf.readableBytes();
+    }
+
+    channelHandlerContext.write(message, promise);
+
+    if (pendingBytes >= flushThresholdBytes) {
+      flush(channelHandlerContext);
+      return;
+    }
+
+    if (scheduledFlush == null) {
+      scheduledFlush =
+          channelHandlerContext
+              .executor()
+              .schedule(
+                  () -> flush(channelHandlerContext), flushDelayMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public void flush(ChannelHandlerContext channelHandlerContext) {
+    pendingBytes = 0;
+    cancelScheduledFlush();
+
+    channelHandlerContext.flush();
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext channelHandlerContext) {
+    cancelScheduledFlush();
+  }
+
+  private void cancelScheduledFlush() {
+    if (scheduledFlush == null) {
+      return;
+    }
+
+    scheduledFlush.cancel(false);
+    scheduledFlush = null;
+  }
+}
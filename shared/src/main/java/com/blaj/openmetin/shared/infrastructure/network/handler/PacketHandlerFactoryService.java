@@ -3,7 +3,6 @@ package com.blaj.openmetin.shared.infrastructure.network.handler;
 import com.blaj.openmetin.shared.common.abstractions.PacketHandlerService;
 import com.blaj.openmetin.shared.common.model.Packet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -12,21 +11,33 @@ import org.springframework.stereotype.Service;
 @Service
 public class PacketHandlerFactoryService {
 
-  private final Map<Class<? extends Packet>, PacketHandlerService<?>> packetHandlerServiceMap;
+  private final ClassValue<PacketHandlerService<?>> packetHandlerServiceClassValue;
 
   public PacketHandlerFactoryService(Set<PacketHandlerService<?>> packetHandlerServices) {
-    packetHandlerServiceMap = createPacketHandlerServiceMap(packetHandlerServices);
+    packetHandlerServiceClassValue = createPacketHandlerServiceClassValue(packetHandlerServices);
   }
 
   @SuppressWarnings("unchecked")
-  public <T extends Packet> Optional<PacketHandlerService<T>> getPacketHandlerService(
-      Class<T> packetClass) {
-    return Optional.ofNullable((PacketHandlerService<T>) packetHandlerServiceMap.get(packetClass));
+  public <T extends Packet> PacketHandlerService<T> getPacketHandlerService(Class<T> packetClass) {
+    return (PacketHandlerService<T>) packetHandlerServiceClassValue.get(packetClass);
   }
 
-  private Map<Class<? extends Packet>, PacketHandlerService<?>> createPacketHandlerServiceMap(
+  @SuppressWarnings("unchecked")
+  public PacketHandlerService<Packet> getPacketHandlerServiceForPacket(Packet packet) {
+    return (PacketHandlerService<Packet>) packetHandlerServiceClassValue.get(packet.getClass());
+  }
+
+  private ClassValue<PacketHandlerService<?>> createPacketHandlerServiceClassValue(
       Set<PacketHandlerService<?>> packetHandlerServices) {
-    return packetHandlerServices.stream()
-        .collect(Collectors.toMap(PacketHandlerService::getPacketType, Function.identity()));
+    Map<Class<? extends Packet>, PacketHandlerService<?>> packetHandlerServiceMap =
+        packetHandlerServices.stream()
+            .collect(Collectors.toMap(PacketHandlerService::getPacketType, Function.identity()));
+
+    return new ClassValue<>() {
+      @Override
+      protected PacketHandlerService<?> computeValue(Class<?> packetClass) {
+        return packetHandlerServiceMap.get(packetClass);
+      }
+    };
   }
 }
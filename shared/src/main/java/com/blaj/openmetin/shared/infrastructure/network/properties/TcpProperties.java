@@ -1,15 +1,32 @@
 package com.blaj.openmetin.shared.infrastructure.network.properties;
 
 import com.blaj.openmetin.shared.application.common.config.TcpConfig;
+import com.blaj.openmetin.shared.common.enums.TcpTransport;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.net.InetAddress;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
 @Validated
 @ConfigurationProperties(prefix = "open-metin.tcp")
 public record TcpProperties(
-    @NotNull InetAddress host, @Min(0) @Max(65535) int port, @Min(0) int idleSeconds)
+    @NotNull InetAddress host,
+    @Min(0) @Max(65535) int port,
+    @Min(0) int idleSeconds,
+    @DefaultValue("16384") @Min(1) int outboundFlushThresholdBytes,
+    @DefaultValue("50") @Min(1) int outboundFlushDelayMillis,
+    @DefaultValue("AUTO") @NotNull TcpTransport transport,
+    @DefaultValue("1") @Min(1) int acceptorCount,
+    @DefaultValue("1") @Min(1) int bossThreads,
+    @DefaultValue("0") @Min(0) int workerThreads,
+    @DefaultValue("512") @Min(1) int backlog,
+    @DefaultValue("8192") @Min(1) int receiveBufferBytes,
+    @DefaultValue("8192") @Min(1) int sendBufferBytes,
+    @DefaultValue("32768") @Min(1) int writeBufferLowWaterMarkBytes,
+    @DefaultValue("65536") @Min(1) int writeBufferHighWaterMarkBytes,
+    @DefaultValue("10000") @Min(1) int unwritableTimeoutMillis,
+    @DefaultValue("1048576") @Min(1) int writeBufferHardLimitBytes)
     implements TcpConfig {}
@@ -7,6 +7,12 @@ import com.blaj.openmetin.shared.infrastructure.network.codec.PacketCodecFactory
 import com.blaj.openmetin.shared.infrastructure.network.handler.ChannelInboundHandlerService;
 import com.blaj.openmetin.shared.infrastructure.network.handler.GlobalExceptionHandlerService;
 import com.blaj.openmetin.shared.infrastructure.network.handler.HandshakeChannelInboundHandlerService;
+import com.blaj.openmetin.shared.infrastructure.network.handler.OutboundBackpressureChannelHandlerService;
+import com.blaj.openmetin.shared.infrastructure.network.handler.OutboundBatchChannelHandlerService;
+import com.blaj.openmetin.shared.infrastructure.network.properties.TcpProperties;
+import com.blaj.openmetin.shared.infrastructure.network.session.IdleConnectionReaperService;
+import com.blaj.openmetin.shared.infrastructure.network.session.OutboundBackpressureService;
+import com.blaj.openmetin.shared.infrastructure.network.session.SessionCommandLaneService;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.SocketChannel;
 import lombok.RequiredArgsConstructor;
@@ -21,11 +27,24 @@ public class GameChannelInitializerService extends ChannelInitializer<SocketChan
   private final SessionManagerService sessionManagerService;
   private final PacketCodecFactoryService packetCodecFactoryService;
   private final GlobalExceptionHandlerService globalExceptionHandlerService;
+  private final OutboundBackpressureService outboundBackpressureService;
+  private final IdleConnectionReaperService idleConnectionReaperService;
+  private final SessionCommandLaneService sessionCommandLaneService;
+  private final TcpProperties tcpProperties;
 
   @Override
   protected void initChannel(SocketChannel socketChannel) throws Exception {
     socketChannel
         .pipeline()
+        .addLast(
+            "outboundBackpressure",
+            new OutboundBackpressureChannelHandlerService(
+                outboundBackpressureService, tcpProperties.unwritableTimeoutMillis()))
+        .addLast(
+            "outboundBatch",
+            new OutboundBatchChannelHandlerService(
+                tcpProperties.outboundFlushThresholdBytes(),
+                tcpProperties.outboundFlushDelayMillis()))
         .addLast("encoder", new MainMessageToByteEncoderService(packetCodecFactoryService))
         .addLast("decoder", new MainByteToMessageDecoderService(packetCodecFactoryService))
         .addLast("handshakeHandler", handshakeChannelInboundHandlerService)
@@ -34,5 +53,7 @@ public class GameChannelInitializerService extends ChannelInitializer<SocketChan
 
     var session = sessionManagerService.createSession(socketChannel);
     socketChannel.attr(SessionManagerService.sessionKey).set(session);
+    idleConnectionReaperService.register(session);
+    sessionCommandLaneService.register(session);
   }
 }
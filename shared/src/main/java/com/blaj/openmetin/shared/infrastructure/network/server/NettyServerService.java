@@ -1,18 +1,31 @@
 package com.blaj.openmetin.shared.infrastructure.network.server;
 
+import com.blaj.openmetin.shared.common.enums.TcpTransport;
 import com.blaj.openmetin.shared.infrastructure.network.properties.TcpProperties;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
 import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioIoHandler;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NettyServerService {
@@ -20,39 +33,70 @@ public class NettyServerService {
   private final TcpProperties tcpProperties;
   private final GameChannelInitializerService gameChannelInitializerService;
 
+  private final List<Channel> serverChannels = new ArrayList<>();
+
   private EventLoopGroup bossEventLoopGroup;
   private EventLoopGroup workerEventLoopGroup;
-  private Channel serverChannel;
 
+  @Getter private volatile TcpTransport activeTransport;
   @Getter private volatile int boundPort = -1;
 
   public void start() {
-    bossEventLoopGroup = new MultiThreadIoEventLoopGroup(NioIoHandler.newFactory());
-    workerEventLoopGroup = new MultiThreadIoEventLoopGroup(NioIoHandler.newFactory());
+    activeTransport = resolveTransport();
+
+    var acceptorCount = activeTransport == TcpTransport.EPOLL ? tcpProperties.acceptorCount() : 1;
+
+    if (acceptorCount < tcpProperties.acceptorCount()) {
+      log.warn(
+          "SO_REUSEPORT requires the epoll transport, binding a single acceptor instead of {}",
+          tcpProperties.acceptorCount());
+    }
+
+    bossEventLoopGroup =
+        new MultiThreadIoEventLoopGroup(
+            Math.max(tcpProperties.bossThreads(), acceptorCount), createIoHandlerFactory());
+    workerEventLoopGroup =
+        new MultiThreadIoEventLoopGroup(tcpProperties.workerThreads(), createIoHandlerFactory());
 
     var serverBootstrap =
         new ServerBootstrap()
             .group(bossEventLoopGroup, workerEventLoopGroup)
-            .channel(NioServerSocketChannel.class)
+            .channel(getServerChannelClass())
             .option(ChannelOption.SO_REUSEADDR, true)
-            .option(ChannelOption.SO_BACKLOG, 512)
+            .option(ChannelOption.SO_BACKLOG, tcpProperties.backlog())
             .childOption(ChannelOption.TCP_NODELAY, true)
             .childOption(ChannelOption.SO_KEEPALIVE, true)
-            .childOption(ChannelOption.SO_RCVBUF, 8192)
-            .childOption(ChannelOption.SO_SNDBUF, 8192)
+            .childOption(ChannelOption.SO_RCVBUF, tcpProperties.receiveBufferBytes())
+            .childOption(ChannelOption.SO_SNDBUF, tcpProperties.sendBufferBytes())
+            .childOption(
+                ChannelOption.WRITE_BUFFER_WATER_MARK,
+                new WriteBufferWaterMark(
+                    tcpProperties.writeBufferLowWaterMarkBytes(),
+                    tcpProperties.writeBufferHighWaterMarkBytes()))
             .childHandler(gameChannelInitializerService);
 
-    serverChannel =
-        serverBootstrap
-            .bind(tcpProperties.host(), tcpProperties.port())
-            .syncUninterruptibly()
-            .channel();
+    if (acceptorCount > 1) {
+      serverBootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+    }
 
-    boundPort = ((java.net.InetSocketAddress) serverChannel.localAddress()).getPort();
+    var serverChannel = bind(serverBootstrap, tcpProperties.port());
+    boundPort = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+
+    for (var i = 1; i < acceptorCount; i++) {
+      bind(serverBootstrap, boundPort);
+    }
+
+    log.info(
+        "TCP server listening on {}:{} using {} transport with {} acceptor(s)",
+        tcpProperties.host().getHostAddress(),
+        boundPort,
+        activeTransport,
+        acceptorCount);
   }
 
   public void stop() {
-    Optional.ofNullable(serverChannel).ifPresent(sc -> sc.close().syncUninterruptibly());
+    serverChannels.forEach(sc -> sc.close().syncUninterruptibly());
+    serverChannels.clear();
 
     Optional.ofNullable(workerEventLoopGroup)
         .ifPresent(welg -> welg.shutdownGracefully().syncUninterruptibly());
@@ -60,4 +104,39 @@ public class NettyServerService {
     Optional.ofNullable(bossEventLoopGroup)
         .ifPresent(belg -> belg.shutdownGracefully().syncUninterruptibly());
   }
+
+  private TcpTransport resolveTransport() {
+    return switch (tcpProperties.transport()) {
+      case NIO -> TcpTransport.NIO;
+      case EPOLL -> {
+        if (!Epoll.isAvailable()) {
+          throw new IllegalStateException(
+              "Epoll transport is not available", Epoll.unavailabilityCause());
+        }
+
+        yield TcpTransport.EPOLL;
+      }
+      case AUTO -> Epoll.isAvailable() ? TcpTransport.EPOLL : TcpTransport.NIO;
+    };
+  }
+
+  private IoHandlerFactory createIoHandlerFactory() {
+    return activeTransport == TcpTransport.EPOLL
+        ? EpollIoHandler.newFactory()
+        : NioIoHandler.newFactory();
+  }
+
+  private Class<? extends ServerChannel> getServerChannelClass() {
+    return activeTransport == TcpTransport.EPOLL
+        ? EpollServerSocketChannel.class
+        : NioServerSocketChannel.class;
+  }
+
+  private Channel bind(ServerBootstrap serverBootstrap, int port) {
+    var serverChannel =
+        serverBootstrap.bind(tcpProperties.host(), port).syncUninterruptibly().channel();
+    serverChannels.add(serverChannel);
+
+    return serverChannel;
+  }
 }
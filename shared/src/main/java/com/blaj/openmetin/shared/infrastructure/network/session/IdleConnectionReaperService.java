@@ -0,0 +1,71 @@
+package com.blaj.openmetin.shared.infrastructure.network.session;
+
+import com.blaj.openmetin.shared.common.model.Session;
+import com.blaj.openmetin.shared.infrastructure.network.properties.TcpProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class IdleConnectionReaperService {
+
+  private final HashedWheelTimer hashedWheelTimer =
+      new HashedWheelTimer(new DefaultThreadFactory("idle-reaper", true), 1, TimeUnit.SECONDS);
+
+  private final long idleTimeoutNanos;
+  private final Counter reapedConnectionsCounter;
+
+  public IdleConnectionReaperService(TcpProperties tcpProperties, MeterRegistry meterRegistry) {
+    idleTimeoutNanos = TimeUnit.SECONDS.toNanos(tcpProperties.idleSeconds());
+    reapedConnectionsCounter =
+        Counter.builder("network.connections.idle.reaped")
+            .description("Connections closed after receiving nothing for idle-seconds")
+            .register(meterRegistry);
+  }
+
+  public void register(Session session) {
+    if (idleTimeoutNanos == 0) {
+      return;
+    }
+
+    session.setLastActivityNanos(System.nanoTime());
+    schedule(session, idleTimeoutNanos);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    hashedWheelTimer.stop();
+  }
+
+  private void schedule(Session session, long delayNanos) {
+    hashedWheelTimer.newTimeout(timeout -> checkIdle(session), delayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private void checkIdle(Session session) {
+    var channel = session.getChannel();
+
+    if (!channel.isOpen()) {
+      return;
+    }
+
+    var idleNanos = System.nanoTime() - session.getLastActivityNanos();
+
+    if (idleNanos < idleTimeoutNanos) {
+      schedule(session, idleTimeoutNanos - idleNanos);
+      return;
+    }
+
+    reapedConnectionsCounter.increment();
+    log.info(
+        "Closing session {} after {}s without inbound packets",
+        session.getId(),
+        TimeUnit.NANOSECONDS.toSeconds(idleNanos));
+    channel.close();
+  }
+}
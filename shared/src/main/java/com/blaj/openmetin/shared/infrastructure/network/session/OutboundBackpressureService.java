@@ -0,0 +1,131 @@
+package com.blaj.openmetin.shared.infrastructure.network.session;
+
+import com.blaj.openmetin.shared.common.model.CoalescablePacket;
+import com.blaj.openmetin.shared.common.model.CoalescedPacketKey;
+import com.blaj.openmetin.shared.common.model.Packet;
+import com.blaj.openmetin.shared.common.model.Session;
+import com.blaj.openmetin.shared.infrastructure.network.properties.TcpProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class OutboundBackpressureService {
+
+  private final long writeBufferHardLimitBytes;
+  private final Counter coalescedPacketsCounter;
+  private final Counter droppedPacketsCounter;
+  private final Counter slowConsumerDisconnectsCounter;
+
+  public OutboundBackpressureService(TcpProperties tcpProperties, MeterRegistry meterRegistry) {
+    writeBufferHardLimitBytes = tcpProperties.writeBufferHardLimitBytes();
+    coalescedPacketsCounter =
+        Counter.builder("network.outbound.packets.coalesced")
+            .description("Outbound packets superseded by a newer one while the channel was full")
+            .register(meterRegistry);
+    droppedPacketsCounter =
+        Counter.builder("network.outbound.packets.dropped")
+            .description("Outbound packets discarded because the channel closed or overflowed")
+            .register(meterRegistry);
+    slowConsumerDisconnectsCounter =
+        Counter.builder("network.outbound.disconnects.slow.consumer")
+            .description("Sessions disconnected for staying unwritable too long")
+            .register(meterRegistry);
+  }
+
+  public boolean interceptWrite(Session session, Packet packet) {
+    var channel = session.getChannel();
+    var writable = channel.isWritable();
+
+    if (!writable && packet instanceof CoalescablePacket coalescablePacket) {
+      coalesce(session, packet, coalescablePacket.getCoalesceKey());
+
+      return true;
+    }
+
+    writeCoalescedPackets(session);
+
+    if (!writable && channel.bytesBeforeWritable() > writeBufferHardLimitBytes) {
+      droppedPacketsCounter.increment();
+      channel.eventLoop().execute(() -> disconnectOverflowedSession(session));
+
+      return true;
+    }
+
+    return false;
+  }
+
+  public void drainCoalescedPackets(Session session) {
+    if (writeCoalescedPackets(session)) {
+      session.getChannel().flush();
+    }
+  }
+
+  public void discardCoalescedPackets(Session session) {
+    var coalescedPackets = session.getCoalescedPackets();
+    var discardedPackets = coalescedPackets.size();
+
+    if (discardedPackets == 0) {
+      return;
+    }
+
+    coalescedPackets.clear();
+    droppedPacketsCounter.increment(discardedPackets);
+    log.debug("Dropped {} coalesced packets for session {}", discardedPackets, session.getId());
+  }
+
+  public void recordSlowConsumerDisconnect(Session session) {
+    slowConsumerDisconnectsCounter.increment();
+    log.warn("Disconnecting session {} after staying unwritable too long", session.getId());
+  }
+
+  private void coalesce(Session session, Packet packet, long coalesceKey) {
+    var channel = session.getChannel();
+    var key = new CoalescedPacketKey(packet.getClass(), coalesceKey);
+
+    if (session.getCoalescedPackets().put(key, packet) != null) {
+      coalescedPacketsCounter.increment();
+    }
+
+    if (channel.isWritable()) {
+      channel.eventLoop().execute(() -> drainCoalescedPackets(session));
+    }
+  }
+
+  private boolean writeCoalescedPackets(Session session) {
+    var coalescedPackets = session.getCoalescedPackets();
+
+    if (coalescedPackets.isEmpty()) {
+      return false;
+    }
+
+    var channel = session.getChannel();
+
+    for (var key : coalescedPackets.keySet()) {
+      var packet = coalescedPackets.remove(key);
+
+      if (packet != null) {
+        channel.write(packet);
+      }
+    }
+
+    return true;
+  }
+
+  private void disconnectOverflowedSession(Session session) {
+    var channel = session.getChannel();
+
+    if (!channel.isOpen()) {
+      return;
+    }
+
+    slowConsumerDisconnectsCounter.increment();
+    log.warn(
+        "Disconnecting session {} after exceeding the outbound hard limit of {} bytes",
+        session.getId(),
+        writeBufferHardLimitBytes);
+    channel.close();
+  }
+}
@@ -0,0 +1,70 @@
+package com.blaj.openmetin.shared.infrastructure.network.session;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class SessionCommandLane implements Executor {
+
+  private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicBoolean draining = new AtomicBoolean();
+
+  private final long sessionId;
+  private final Executor executor;
+  private final DistributionSummary queueDepthSummary;
+
+  @Override
+  public void execute(Runnable command) {
+    commands.offer(command);
+    queueDepthSummary.record(queueDepth.incrementAndGet());
+
+    scheduleDrain();
+  }
+
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  private void scheduleDrain() {
+    if (!draining.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      executor.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      draining.set(false);
+      throw e;
+    }
+  }
+
+  private void drain() {
+    try {
+      Runnable command;
+      while ((command = commands.poll()) != null) {
+        queueDepth.decrementAndGet();
+
+        try {
+          command.run();
+        } catch (RuntimeException e) {
+          log.error("Error executing command for session {}", sessionId, e);
+        }
+      }
+    } finally {
+      draining.set(false);
+
+      if (!commands.isEmpty()) {
+        scheduleDrain();
+      }
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.blaj.openmetin.shared.infrastructure.network.session;
+
+import com.blaj.openmetin.shared.common.model.Session;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SessionCommandLaneService {
+
+  private final Executor virtualThreadExecutor;
+  private final DistributionSummary queueDepthSummary;
+
+  public SessionCommandLaneService(
+      @Qualifier("virtualThreadExecutor") Executor virtualThreadExecutor,
+      MeterRegistry meterRegistry) {
+    this.virtualThreadExecutor = virtualThreadExecutor;
+    queueDepthSummary =
+        DistributionSummary.builder("network.session.command.lane.depth")
+            .description("Commands queued on a session lane, sampled on every enqueue")
+            .baseUnit("commands")
+            .register(meterRegistry);
+  }
+
+  public void register(Session session) {
+    session.setCommandLane(
+        new SessionCommandLane(session.getId(), virtualThreadExecutor, queueDepthSummary));
+  }
+}
@@ -3,7 +3,10 @@ package com.blaj.openmetin.shared.infrastructure.network.session;
 import com.blaj.openmetin.shared.common.abstractions.SessionManagerService;
 import com.blaj.openmetin.shared.common.model.Session;
 import com.blaj.openmetin.shared.common.service.SessionFactoryService;
+import com.blaj.openmetin.shared.common.service.SessionRemovalService;
 import io.netty.channel.Channel;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,8 +21,15 @@ public class SessionManagerServiceImpl<T extends Session> implements SessionMana
   private final AtomicLong sessionIdGenerator = new AtomicLong(1);
   private final Map<Long, T> sessions = new ConcurrentHashMap<>();
   private final Map<Integer, T> sessionsByPid = new ConcurrentHashMap<>();
+  private final Map<Long, T> sessionsByAccountId = new ConcurrentHashMap<>();
+  private final Collection<T> sessionsView = Collections.unmodifiableCollection(sessions.values());
 
   private final SessionFactoryService<T> sessionFactoryService;
+  private final SessionRemovalService<T> sessionRemovalService;
+
+  public SessionManagerServiceImpl(SessionFactoryService<T> sessionFactoryService) {
+    this(sessionFactoryService, session -> {});
+  }
 
   public T createSession(Channel channel) {
     var sessionId = sessionIdGenerator.getAndIncrement();
@@ -43,9 +53,7 @@ public class SessionManagerServiceImpl<T extends Session> implements SessionMana
 
   @Override
   public Optional<T> getSessionByAccountId(long accountId) {
-    return sessions.values().stream()
-        .filter(session -> session.getAccountId().equals(accountId))
-        .findFirst();
+    return Optional.ofNullable(sessionsByAccountId.get(accountId));
   }
 
   @Override
@@ -53,17 +61,41 @@ public class SessionManagerServiceImpl<T extends Session> implements SessionMana
     Optional.ofNullable(sessions.get(sessionId))
         .ifPresent(
             session -> {
+              Optional.ofNullable(session.getPid())
+                  .ifPresent(previousPid -> sessionsByPid.remove(previousPid, session));
+
               session.setPid(pid);
               sessionsByPid.put(pid, session);
               log.debug("Linked session {} to player {}", sessionId, pid);
             });
   }
 
+  @Override
+  public void linkSessionToAccount(long sessionId, long accountId) {
+    Optional.ofNullable(sessions.get(sessionId))
+        .ifPresent(
+            session -> {
+              Optional.ofNullable(session.getAccountId())
+                  .ifPresent(
+                      previousAccountId -> sessionsByAccountId.remove(previousAccountId, session));
+
+              session.setAccountId(accountId);
+              sessionsByAccountId.put(accountId, session);
+              log.debug("Linked session {} to account {}", sessionId, accountId);
+            });
+  }
+
   @Override
   public void removeSession(long sessionId) {
     Optional.ofNullable(sessions.remove(sessionId))
-        .map(Session::getPid)
-        .ifPresent(sessionsByPid::remove);
+        .ifPresent(
+            session -> {
+              Optional.ofNullable(session.getPid())
+                  .ifPresent(pid -> sessionsByPid.remove(pid, session));
+              Optional.ofNullable(session.getAccountId())
+                  .ifPresent(accountId -> sessionsByAccountId.remove(accountId, session));
+              sessionRemovalService.onSessionRemoved(session);
+            });
 
     log.debug("Removed session {}", sessionId);
   }
@@ -73,6 +105,11 @@ public class SessionManagerServiceImpl<T extends Session> implements SessionMana
     return Map.copyOf(sessions);
   }
 
+  @Override
+  public Collection<T> getSessions() {
+    return sessionsView;
+  }
+
   @Override
   public int getSessionCount() {
     return sessions.size();
@@ -4,6 +4,13 @@ import com.blaj.openmetin.shared.common.abstractions.SessionManagerService;
 import com.blaj.openmetin.shared.common.abstractions.SessionService;
 import com.blaj.openmetin.shared.common.model.Packet;
 import com.blaj.openmetin.shared.common.model.Session;
+import com.blaj.openmetin.shared.infrastructure.network.codec.BroadcastPacketEncoderService;
+import io.netty.channel.Channel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,19 +22,95 @@ import org.springframework.stereotype.Service;
 public class SessionServiceImpl implements SessionService {
 
   private final SessionManagerService<? extends Session> sessionManagerService;
+  private final BroadcastPacketEncoderService broadcastPacketEncoderService;
+  private final OutboundBackpressureService outboundBackpressureService;
+
+  private final Set<Channel> channelsWithQueuedPackets = ConcurrentHashMap.newKeySet();
 
   @Override
   public void sendPacketAsync(long sessionId, Packet packet) {
+    sessionManagerService
+        .getSession(sessionId)
+        .ifPresent(session -> sendPacketAsync(session, packet));
+  }
+
+  @Override
+  public void sendPacketAsync(Session session, Packet packet) {
+    if (outboundBackpressureService.interceptWrite(session, packet)) {
+      return;
+    }
+
+    session.getChannel().writeAndFlush(packet);
+    log.debug("Sent packet {} to session {}", packet.getClass().getSimpleName(), session.getId());
+  }
+
+  @Override
+  public void sendPacketsAsync(long sessionId, List<? extends Packet> packets) {
+    sessionManagerService
+        .getSession(sessionId)
+        .ifPresent(
+            session -> {
+              var channel = session.getChannel();
+
+              packets.forEach(packet -> write(session, packet));
+              channel.flush();
+
+              log.debug("Sent {} packets to session {}", packets.size(), sessionId);
+            });
+  }
+
+  @Override
+  public void queuePacket(long sessionId, Packet packet) {
+    sessionManagerService
+        .getSession(sessionId)
+        .ifPresent(session -> queuePacket(session, packet));
+  }
+
+  @Override
+  public void queuePacket(Session session, Packet packet) {
+    write(session, packet);
+    channelsWithQueuedPackets.add(session.getChannel());
+  }
+
+  @Override
+  public void queuePackets(long sessionId, List<? extends Packet> packets) {
     sessionManagerService
         .getSession(sessionId)
         .ifPresent(
             session -> {
-              session.getChannel().writeAndFlush(packet);
-              log.debug(
-                  "Sent packet {} to session {}", packet.getClass().getSimpleName(), sessionId);
+              packets.forEach(packet -> write(session, packet));
+              channelsWithQueuedPackets.add(session.getChannel());
             });
   }
 
+  @Override
+  public void flushQueuedPackets() {
+    var iterator = channelsWithQueuedPackets.iterator();
+
+    while (iterator.hasNext()) {
+      var channel = iterator.next();
+      iterator.remove();
+
+      channel.flush();
+    }
+  }
+
+  @Override
+  public void broadcastPacketAsync(Packet packet, Collection<Long> sessionIds) {
+    broadcastPacket(packet, sessionIds, true);
+  }
+
+  @Override
+  public void queueBroadcastPacket(Packet packet, Collection<Long> sessionIds) {
+    broadcastPacket(packet, sessionIds, false);
+  }
+
+  @Override
+  public void queueBroadcastPacketToSessions(
+      Packet packet, Collection<? extends Session> sessions) {
+    broadcastPacketToSessions(packet, sessions, false);
+  }
+
   @Override
   public void sendPacketSync(long sessionId, Packet packet) {
     sessionManagerService
@@ -56,4 +139,66 @@ public class SessionServiceImpl implements SessionService {
               }
             });
   }
+
+  private void broadcastPacket(Packet packet, Collection<Long> sessionIds, boolean flush) {
+    if (sessionIds.isEmpty()) {
+      return;
+    }
+
+    var sessions = new ArrayList<Session>(sessionIds.size());
+
+    for (var sessionId : sessionIds) {
+      sessionManagerService.getSession(sessionId).ifPresent(sessions::add);
+    }
+
+    broadcastPacketToSessions(packet, sessions, flush);
+  }
+
+  private void broadcastPacketToSessions(
+      Packet packet, Collection<? extends Session> sessions, boolean flush) {
+    if (sessions.isEmpty()) {
+      return;
+    }
+
+    var encodedPacketOptional = broadcastPacketEncoderService.encode(packet);
+
+    if (encodedPacketOptional.isEmpty()) {
+      return;
+    }
+
+    var encodedPacket = encodedPacketOptional.get();
+
+    try {
+      for (var session : sessions) {
+        if (outboundBackpressureService.interceptWrite(session, packet)) {
+          continue;
+        }
+
+        var channel = session.getChannel();
+
+        if (flush) {
+          channel.writeAndFlush(encodedPacket.retainedDuplicate());
+          continue;
+        }
+
+        channel.write(encodedPacket.retainedDuplicate());
+        channelsWithQueuedPackets.add(channel);
+      }
+
+      log.debug(
+          "Broadcast packet {} to {} sessions",
+          packet.getClass().getSimpleName(),
+          sessions.size());
+    } finally {
+      encodedPacket.release();
+    }
+  }
+
+  private void write(Session session, Packet packet) {
+    if (outboundBackpressureService.interceptWrite(session, packet)) {
+      return;
+    }
+
+    session.getChannel().write(packet);
+  }
 }
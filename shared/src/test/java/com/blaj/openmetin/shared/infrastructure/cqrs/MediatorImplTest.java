@@ -1,13 +1,16 @@
 package com.blaj.openmetin.shared.infrastructure.cqrs;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doAnswer;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -141,6 +144,42 @@ public class MediatorImplTest {
       // then
       assertThat(result).isEqualTo("before-handled: test data-after");
     }
+
+    @Test
+    public void givenMultipleBehaviors_whenSend_thenFirstBehaviorIsOutermost() {
+      // given
+      var handler = new FirstTestRequestHandler();
+      var mediator =
+          new MediatorImpl(
+              List.of(handler),
+              List.of(
+                  new OuterTestRequestPipelineBehavior(), new FirstTestRequestPipelineBehavior()),
+              virtualThreadExecutor);
+      var request = new FirstTestRequest("test data");
+
+      // when
+      var result = mediator.send(request);
+
+      // then
+      assertThat(result).isEqualTo("outer(before-handled: test data-after)");
+    }
+
+    @Test
+    public void givenHandler_whenSendTwice_thenBehaviorWrapsEachRequest() {
+      // given
+      var handler = new FirstTestRequestHandler();
+      var pipelineBehavior = new FirstTestRequestPipelineBehavior();
+      var mediator =
+          new MediatorImpl(List.of(handler), List.of(pipelineBehavior), virtualThreadExecutor);
+
+      // when
+      var result1 = mediator.send(new FirstTestRequest("first"));
+      var result2 = mediator.send(new FirstTestRequest("second"));
+
+      // then
+      assertThat(result1).isEqualTo("before-handled: first-after");
+      assertThat(result2).isEqualTo("before-handled: second-after");
+    }
   }
 
   private record ThrowingExceptionTestRequest(String data) implements Request<Integer> {}
@@ -183,6 +222,15 @@ public class MediatorImplTest {
     }
   }
 
+  private static class OuterTestRequestPipelineBehavior
+      implements PipelineBehavior<FirstTestRequest, String> {
+
+    @Override
+    public String handle(FirstTestRequest request, Supplier<String> next) {
+      return "outer(" + next.get() + ")";
+    }
+  }
+
   @Nested
   public class SendAsyncTests {
 
@@ -239,4 +287,77 @@ public class MediatorImplTest {
       assertThat(result).isCompletedWithValue("handled: test data");
     }
   }
+
+  @Nested
+  public class SendAndForgetTests {
+
+    @Mock FirstTestRequestHandler mockFirstTestRequestHandler;
+
+    @Test
+    public void givenValid_whenSendAndForget_thenHandlerExecutes() {
+      // given
+      var request = new FirstTestRequest("test data");
+      var mediator =
+          new MediatorImpl(
+              List.of(mockFirstTestRequestHandler), Collections.emptyList(), virtualThreadExecutor);
+
+      doAnswer(
+              invocation -> {
+                var task = (Runnable) invocation.getArgument(0);
+                task.run();
+                return null;
+              })
+          .when(virtualThreadExecutor)
+          .execute(any(Runnable.class));
+
+      // when
+      mediator.sendAndForget(request);
+
+      // then
+      then(mockFirstTestRequestHandler).should().handle(request);
+    }
+
+    @Test
+    public void givenHandlerThrowsException_whenSendAndForget_thenExceptionIsNotPropagated() {
+      // given
+      var handler = new ThrowingExceptionTestRequestHandler();
+      var mediator =
+          new MediatorImpl(List.of(handler), Collections.emptyList(), virtualThreadExecutor);
+      var request = new ThrowingExceptionTestRequest("test data");
+
+      doAnswer(
+              invocation -> {
+                var task = (Runnable) invocation.getArgument(0);
+                task.run();
+                return null;
+              })
+          .when(virtualThreadExecutor)
+          .execute(any(Runnable.class));
+
+      // when
+      assertDoesNotThrow(() -> mediator.sendAndForget(request));
+
+      // then
+      then(virtualThreadExecutor).should().execute(any(Runnable.class));
+    }
+
+    @Test
+    public void givenExecutor_whenSendAndForget_thenRequestRunsOnGivenExecutor() {
+      // given
+      var request = new FirstTestRequest("test data");
+      var mediator =
+          new MediatorImpl(
+              List.of(mockFirstTestRequestHandler), Collections.emptyList(), virtualThreadExecutor);
+      var commandLane = new ArrayList<Runnable>();
+
+      // when
+      mediator.sendAndForget(request, commandLane::add);
+      commandLane.forEach(Runnable::run);
+
+      // then
+      assertThat(commandLane).hasSize(1);
+      then(mockFirstTestRequestHandler).should().handle(request);
+      then(virtualThreadExecutor).shouldHaveNoInteractions();
+    }
+  }
 }
@@ -0,0 +1,95 @@
+package com.blaj.openmetin.shared.infrastructure.network.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+import com.blaj.openmetin.shared.common.abstractions.PacketEncoderService;
+import com.blaj.openmetin.shared.common.model.Packet;
+import io.netty.buffer.ByteBuf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BroadcastPacketEncoderServiceTest {
+
+  private BroadcastPacketEncoderService broadcastPacketEncoderService;
+
+  @Mock private PacketCodecFactoryService packetCodecFactoryService;
+  @Mock private PacketEncoderService<Packet> packetEncoderService;
+
+  @BeforeEach
+  public void beforeEach() {
+    broadcastPacketEncoderService = new BroadcastPacketEncoderService(packetCodecFactoryService);
+  }
+
+  @Test
+  public void givenNoEncoder_whenEncode_thenReturnEmpty() {
+    // given
+    var packet = new TestPacket();
+
+    given(packetCodecFactoryService.getPacketEncoderServiceForPacket(packet)).willReturn(null);
+
+    // when
+    var result = broadcastPacketEncoderService.encode(packet);
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  public void givenEncoderFound_whenEncode_thenReturnBufferWithHeaderAndPayload() {
+    // given
+    var packet = new TestPacket();
+
+    given(packetCodecFactoryService.getPacketEncoderServiceForPacket(packet))
+        .willReturn(packetEncoderService);
+    given(packetEncoderService.getHeader()).willReturn(0x01);
+    given(packetEncoderService.encodedSize(packet)).willReturn(5);
+    doAnswer(invocation -> invocation.<ByteBuf>getArgument(1).writeIntLE(123))
+        .when(packetEncoderService)
+        .encode(eq(packet), any(ByteBuf.class));
+
+    // when
+    var result = broadcastPacketEncoderService.encode(packet);
+
+    // then
+    assertThat(result).isPresent();
+
+    var byteBuf = result.get();
+    assertThat(byteBuf.isDirect()).isTrue();
+    assertThat(byteBuf.capacity()).isEqualTo(5);
+    assertThat(byteBuf.readUnsignedByte()).isEqualTo((short) 0x01);
+    assertThat(byteBuf.readIntLE()).isEqualTo(123);
+    assertThat(byteBuf.isReadable()).isFalse();
+
+    byteBuf.release();
+  }
+
+  @Test
+  public void givenEncoderThrows_whenEncode_thenReturnEmpty() {
+    // given
+    var packet = new TestPacket();
+
+    given(packetCodecFactoryService.getPacketEncoderServiceForPacket(packet))
+        .willReturn(packetEncoderService);
+    given(packetEncoderService.getHeader()).willReturn(0x01);
+    doThrow(new RuntimeException("Encoding failed"))
+        .when(packetEncoderService)
+        .encode(eq(packet), any(ByteBuf.class));
+
+    // when
+    var result = broadcastPacketEncoderService.encode(packet);
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  static class TestPacket implements Packet {}
+}
@@ -1,6 +1,7 @@
 package com.blaj.openmetin.shared.infrastructure.network.codec;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -14,7 +15,6 @@ import io.netty.channel.ChannelHandlerContext;
 import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -61,7 +61,7 @@ public class MainByteToMessageDecoderServiceTest {
     byteBuf.writeByte(0x99);
     byteBuf.writeInt(12345);
 
-    given(packetCodecFactoryService.getPacketDecoderService(0x99)).willReturn(Optional.empty());
+    given(packetCodecFactoryService.getPacketDecoderService(0x99)).willReturn(null);
 
     // when
     mainByteToMessageDecoderService.decode(channelHandlerContext, byteBuf, outList);
@@ -72,14 +72,14 @@ public class MainByteToMessageDecoderServiceTest {
   }
 
   @Test
-  public void givenIndexOutOfBoundsException_whenDecode_thenResetsReaderIndex() {
+  public void givenIncompleteFrame_whenDecode_thenWaitsForMoreData() {
     // given
     byteBuf.writeByte(0x01);
+    byteBuf.writeByte(0x02);
 
     given(packetCodecFactoryService.getPacketDecoderService(0x01))
-        .willReturn(Optional.of(packetDecoderService));
-    given(packetDecoderService.decode(byteBuf))
-        .willThrow(new IndexOutOfBoundsException("Not enough data"));
+        .willReturn(packetDecoderService);
+    given(packetDecoderService.getFrameLength(byteBuf)).willReturn(4);
 
     // when
     mainByteToMessageDecoderService.decode(channelHandlerContext, byteBuf, outList);
@@ -88,17 +88,66 @@ public class MainByteToMessageDecoderServiceTest {
     assertThat(outList).isEmpty();
     assertThat(byteBuf.readerIndex()).isZero();
 
+    then(packetDecoderService).should(never()).decode(any());
     then(channelHandlerContext).should(never()).close();
   }
 
+  @Test
+  public void givenUnknownFrameLength_whenDecode_thenWaitsForMoreData() {
+    // given
+    byteBuf.writeByte(0x01);
+    byteBuf.writeByte(0x02);
+
+    given(packetCodecFactoryService.getPacketDecoderService(0x01))
+        .willReturn(packetDecoderService);
+    given(packetDecoderService.getFrameLength(byteBuf)).willReturn(-1);
+
+    // when
+    mainByteToMessageDecoderService.decode(channelHandlerContext, byteBuf, outList);
+
+    // then
+    assertThat(outList).isEmpty();
+    assertThat(byteBuf.readerIndex()).isZero();
+
+    then(packetDecoderService).should(never()).decode(any());
+  }
+
+  @Test
+  public void givenCompleteFrame_whenDecode_thenDecodesOnlyFrameBytes() {
+    // given
+    byteBuf.writeByte(0x01);
+    byteBuf.writeShortLE(0x1234);
+    byteBuf.writeByte(0x01);
+    var expectedPacket = new TestPacket();
+
+    given(packetCodecFactoryService.getPacketDecoderService(0x01))
+        .willReturn(packetDecoderService);
+    given(packetDecoderService.getFrameLength(byteBuf)).willReturn(2);
+    given(packetDecoderService.decode(any()))
+        .willAnswer(
+            invocation -> {
+              ByteBuf frame = invocation.getArgument(0);
+              assertThat(frame.readableBytes()).isEqualTo(2);
+              assertThat(frame.readShortLE()).isEqualTo((short) 0x1234);
+              return expectedPacket;
+            });
+
+    // when
+    mainByteToMessageDecoderService.decode(channelHandlerContext, byteBuf, outList);
+
+    // then
+    assertThat(outList).containsExactly(expectedPacket);
+    assertThat(byteBuf.readableBytes()).isEqualTo(1);
+  }
+
   @Test
   public void givenOtherException_whenDecode_thenResetsReaderIndexAndClosesChannel() {
     // given
     byteBuf.writeByte(0x01);
 
     given(packetCodecFactoryService.getPacketDecoderService(0x01))
-        .willReturn(Optional.of(packetDecoderService));
-    given(packetDecoderService.decode(byteBuf)).willThrow(new RuntimeException("Decoding failed"));
+        .willReturn(packetDecoderService);
+    given(packetDecoderService.decode(any())).willThrow(new RuntimeException("Decoding failed"));
 
     // when
     mainByteToMessageDecoderService.decode(channelHandlerContext, byteBuf, outList);
@@ -128,8 +177,8 @@ public class MainByteToMessageDecoderServiceTest {
     var expectedPacket = new TestPacket();
 
     given(packetCodecFactoryService.getPacketDecoderService(0x01))
-        .willReturn(Optional.of(packetDecoderService));
-    given(packetDecoderService.decode(byteBuf)).willReturn(expectedPacket);
+        .willReturn(packetDecoderService);
+    given(packetDecoderService.decode(any())).willReturn(expectedPacket);
 
     // when
     mainByteToMessageDecoderService.decode(channelHandlerContext, byteBuf, outList);
@@ -146,8 +195,8 @@ public class MainByteToMessageDecoderServiceTest {
     var expectedPacket = new TestPacket();
 
     given(packetCodecFactoryService.getPacketDecoderService(0x01))
-        .willReturn(Optional.of(packetDecoderService));
-    given(packetDecoderService.decode(byteBuf)).willReturn(expectedPacket);
+        .willReturn(packetDecoderService);
+    given(packetDecoderService.decode(any())).willReturn(expectedPacket);
 
     // when
     mainByteToMessageDecoderService.decode(channelHandlerContext, byteBuf, outList);
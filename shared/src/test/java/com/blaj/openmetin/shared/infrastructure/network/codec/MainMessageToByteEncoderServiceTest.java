@@ -1,5 +1,6 @@
 package com.blaj.openmetin.shared.infrastructure.network.codec;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -10,17 +11,20 @@ import static org.mockito.Mockito.never;
 import com.blaj.openmetin.shared.common.abstractions.PacketEncoderService;
 import com.blaj.openmetin.shared.common.model.Packet;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import java.net.SocketAddress;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 public class MainMessageToByteEncoderServiceTest {
 
   private MainMessageToByteEncoderService mainMessageToByteEncoderService;
@@ -47,7 +51,7 @@ public class MainMessageToByteEncoderServiceTest {
     var packet = new TestPacket();
 
     given(packetCodecFactoryService.getPacketEncoderServiceForPacket(packet))
-        .willReturn(Optional.of(packetEncoderService));
+        .willReturn(packetEncoderService);
     given(packetEncoderService.getHeader()).willReturn(0x01);
 
     // when
@@ -63,8 +67,7 @@ public class MainMessageToByteEncoderServiceTest {
     // given
     var packet = new TestPacket();
 
-    given(packetCodecFactoryService.getPacketEncoderServiceForPacket(packet))
-        .willReturn(Optional.empty());
+    given(packetCodecFactoryService.getPacketEncoderServiceForPacket(packet)).willReturn(null);
 
     // when
     mainMessageToByteEncoderService.encode(channelHandlerContext, packet, byteBuf);
@@ -80,7 +83,7 @@ public class MainMessageToByteEncoderServiceTest {
     var packet = new TestPacket();
 
     given(packetCodecFactoryService.getPacketEncoderServiceForPacket(packet))
-        .willReturn(Optional.of(packetEncoderService));
+        .willReturn(packetEncoderService);
     given(packetEncoderService.getHeader()).willReturn(0x01);
 
     doThrow(new RuntimeException("Encoding failed"))
@@ -101,7 +104,7 @@ public class MainMessageToByteEncoderServiceTest {
     var expectedHeader = 0x42;
 
     given(packetCodecFactoryService.getPacketEncoderServiceForPacket(packet))
-        .willReturn(Optional.of(packetEncoderService));
+        .willReturn(packetEncoderService);
     given(packetEncoderService.getHeader()).willReturn(expectedHeader);
 
     // when
@@ -112,5 +115,44 @@ public class MainMessageToByteEncoderServiceTest {
     then(packetEncoderService).should().encode(packet, byteBuf);
   }
 
+  @Test
+  public void givenEncoderFound_whenAllocateBuffer_thenAllocatesDirectBufferOfEncodedSize() {
+    // given
+    var packet = new TestPacket();
+
+    given(packetCodecFactoryService.getPacketEncoderServiceForPacket(packet))
+        .willReturn(packetEncoderService);
+    given(packetEncoderService.encodedSize(packet)).willReturn(42);
+    given(channelHandlerContext.alloc()).willReturn(UnpooledByteBufAllocator.DEFAULT);
+
+    // when
+    var result =
+        mainMessageToByteEncoderService.allocateBuffer(channelHandlerContext, packet, false);
+
+    // then
+    assertThat(result.isDirect()).isTrue();
+    assertThat(result.capacity()).isEqualTo(42);
+
+    result.release();
+  }
+
+  @Test
+  public void givenEncoderNotFound_whenAllocateBuffer_thenFallsBackToDefaultAllocation() {
+    // given
+    var packet = new TestPacket();
+
+    given(packetCodecFactoryService.getPacketEncoderServiceForPacket(packet)).willReturn(null);
+    given(channelHandlerContext.alloc()).willReturn(UnpooledByteBufAllocator.DEFAULT);
+
+    // when
+    var result =
+        mainMessageToByteEncoderService.allocateBuffer(channelHandlerContext, packet, false);
+
+    // then
+    assertThat(result.isDirect()).isFalse();
+
+    result.release();
+  }
+
   static class TestPacket implements Packet {}
 }
@@ -1,6 +1,7 @@
 package com.blaj.openmetin.shared.infrastructure.network.codec;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 
 import com.blaj.openmetin.shared.common.abstractions.PacketDecoderService;
@@ -18,6 +19,7 @@ public class PacketCodecFactoryServiceTest {
 
   @Mock private PacketEncoderService<TestPacket> testPacketPacketEncoderService;
   @Mock private PacketDecoderService<TestPacket> testPacketPacketDecoderService;
+  @Mock private PacketDecoderService<TestPacket> otherPacketDecoderService;
 
   private PacketCodecFactoryService packetCodecFactoryService;
 
@@ -32,14 +34,25 @@ public class PacketCodecFactoryServiceTest {
   }
 
   @Test
-  public void givenUnregisteredDecoder_whenGetPacketDecoderService_thenReturnsEmpty() {
+  public void givenUnregisteredDecoder_whenGetPacketDecoderService_thenReturnsNull() {
+    // given
+
+    // when
+    var result = packetCodecFactoryService.getPacketDecoderService(101);
+
+    // then
+    assertThat(result).isNull();
+  }
+
+  @Test
+  public void givenHeaderOutOfRange_whenGetPacketDecoderService_thenReturnsNull() {
     // given
 
     // when
     var result = packetCodecFactoryService.getPacketDecoderService(999);
 
     // then
-    assertThat(result).isEmpty();
+    assertThat(result).isNull();
   }
 
   @Test
@@ -50,19 +63,18 @@ public class PacketCodecFactoryServiceTest {
     var result = packetCodecFactoryService.getPacketDecoderService(100);
 
     // then
-    assertThat(result).isPresent();
-    assertThat(result).contains(testPacketPacketDecoderService);
+    assertThat(result).isEqualTo(testPacketPacketDecoderService);
   }
 
   @Test
-  public void givenUnregisteredEncoder_whenGetPacketEncoderService_thenReturnsEmpty() {
+  public void givenUnregisteredEncoder_whenGetPacketEncoderService_thenReturnsNull() {
     // given
 
     // when
     var result = packetCodecFactoryService.getPacketEncoderService(Packet.class);
 
     // then
-    assertThat(result).isEmpty();
+    assertThat(result).isNull();
   }
 
   @Test
@@ -73,12 +85,11 @@ public class PacketCodecFactoryServiceTest {
     var result = packetCodecFactoryService.getPacketEncoderService(TestPacket.class);
 
     // then
-    assertThat(result).isPresent();
-    assertThat(result).contains(testPacketPacketEncoderService);
+    assertThat(result).isEqualTo(testPacketPacketEncoderService);
   }
 
   @Test
-  public void givenUnregisteredEncoder_whenGetPacketEncoderServiceForPacket_thenReturnsEmpty() {
+  public void givenUnregisteredEncoder_whenGetPacketEncoderServiceForPacket_thenReturnsNull() {
     // given
     var packet = new Packet() {};
 
@@ -86,7 +97,7 @@ public class PacketCodecFactoryServiceTest {
     var result = packetCodecFactoryService.getPacketEncoderServiceForPacket(packet);
 
     // then
-    assertThat(result).isEmpty();
+    assertThat(result).isNull();
   }
 
   @Test
@@ -98,8 +109,40 @@ public class PacketCodecFactoryServiceTest {
     var result = packetCodecFactoryService.getPacketEncoderServiceForPacket(packet);
 
     // then
-    assertThat(result).isPresent();
-    assertThat(result.get()).isEqualTo(testPacketPacketEncoderService);
+    assertThat(result).isEqualTo(testPacketPacketEncoderService);
+  }
+
+  @Test
+  public void givenDuplicateDecoderHeader_whenCreate_thenThrowsException() {
+    // given
+    given(otherPacketDecoderService.getHeader()).willReturn(100);
+
+    // when
+    var thrownException =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                new PacketCodecFactoryService(
+                    Set.of(),
+                    Set.of(testPacketPacketDecoderService, otherPacketDecoderService)));
+
+    // then
+    assertThat(thrownException).hasMessage("Duplicate packet decoder for header: 0x64");
+  }
+
+  @Test
+  public void givenDecoderHeaderOutOfRange_whenCreate_thenThrowsException() {
+    // given
+    given(otherPacketDecoderService.getHeader()).willReturn(256);
+
+    // when
+    var thrownException =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new PacketCodecFactoryService(Set.of(), Set.of(otherPacketDecoderService)));
+
+    // then
+    assertThat(thrownException).hasMessage("Packet decoder header out of range: 0x100");
   }
 
   static class TestPacket implements Packet {}
@@ -62,6 +62,42 @@ public class PacketCodecUtilsTest {
     assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(value);
   }
 
+  @Test
+  public void givenMultiByteString_whenWriteString_thenWritesByteLength() {
+    // given
+    var value = "żółw";
+
+    // when
+    PacketCodecUtils.writeString(byteBuf, value);
+
+    // then
+    assertThat(byteBuf.readShortLE()).isEqualTo((short) 7);
+    assertThat(byteBuf.readableBytes()).isEqualTo(7);
+  }
+
+  @Test
+  public void givenNullString_whenGetStringSize_thenReturnsLengthPrefixSize() {
+    // when
+    var result = PacketCodecUtils.getStringSize(null);
+
+    // then
+    assertThat(result).isEqualTo(2);
+  }
+
+  @Test
+  public void givenMultiByteString_whenGetStringSize_thenReturnsWrittenSize() {
+    // given
+    var value = "Zażółć";
+
+    PacketCodecUtils.writeString(byteBuf, value);
+
+    // when
+    var result = PacketCodecUtils.getStringSize(value);
+
+    // then
+    assertThat(result).isEqualTo(byteBuf.readableBytes());
+  }
+
   @Test
   public void givenZeroLength_whenReadString_thenReturnsEmptyString() {
     // given
@@ -141,6 +177,20 @@ public class PacketCodecUtilsTest {
     assertThat(result).isEqualTo("Hi");
   }
 
+  @Test
+  public void givenBufferWithoutTerminator_whenReadFixedString_thenReadsWholeLength() {
+    // given
+    byteBuf.writeBytes("Hello".getBytes(StandardCharsets.UTF_8));
+    byteBuf.writeByte('!');
+
+    // when
+    var result = PacketCodecUtils.readFixedString(byteBuf, 5);
+
+    // then
+    assertThat(result).isEqualTo("Hello");
+    assertThat(byteBuf.readByte()).isEqualTo((byte) '!');
+  }
+
   @Test
   public void givenBufferWithAllZeros_whenReadFixedString_thenReturnsEmptyString() {
     // given
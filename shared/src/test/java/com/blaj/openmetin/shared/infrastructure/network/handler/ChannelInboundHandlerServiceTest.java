@@ -15,7 +15,6 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.Attribute;
 import java.util.NoSuchElementException;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,7 +32,7 @@ public class ChannelInboundHandlerServiceTest {
   @Mock private Channel channel;
   @Mock private Attribute<Session> sessionAttribute;
   @Mock private Session session;
-  @Mock private PacketHandlerService<TestPacket> packetHandlerService;
+  @Mock private PacketHandlerService<Packet> packetHandlerService;
 
   @BeforeEach
   public void beforeEach() {
@@ -76,8 +75,7 @@ public class ChannelInboundHandlerServiceTest {
     // given
     var packet = new TestPacket();
 
-    given(packetHandlerFactoryService.getPacketHandlerService(TestPacket.class))
-        .willReturn(Optional.empty());
+    given(packetHandlerFactoryService.getPacketHandlerServiceForPacket(packet)).willReturn(null);
 
     // when
     var thrownException =
@@ -94,8 +92,8 @@ public class ChannelInboundHandlerServiceTest {
     // given
     var packet = new TestPacket();
 
-    given(packetHandlerFactoryService.getPacketHandlerService(TestPacket.class))
-        .willReturn(Optional.of(packetHandlerService));
+    given(packetHandlerFactoryService.getPacketHandlerServiceForPacket(packet))
+        .willReturn(packetHandlerService);
 
     // when
     channelInboundHandlerService.channelRead0(channelHandlerContext, packet);
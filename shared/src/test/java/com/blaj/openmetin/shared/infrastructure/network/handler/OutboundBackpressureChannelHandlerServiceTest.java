@@ -0,0 +1,83 @@
+package com.blaj.openmetin.shared.infrastructure.network.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.blaj.openmetin.shared.common.abstractions.SessionManagerService;
+import com.blaj.openmetin.shared.common.model.Session;
+import com.blaj.openmetin.shared.infrastructure.network.session.OutboundBackpressureService;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboundBackpressureChannelHandlerServiceTest {
+
+  private EmbeddedChannel embeddedChannel;
+
+  @Mock private OutboundBackpressureService outboundBackpressureService;
+  @Mock private Session session;
+
+  @BeforeEach
+  public void beforeEach() {
+    embeddedChannel =
+        new EmbeddedChannel(
+            new OutboundBackpressureChannelHandlerService(outboundBackpressureService, 100));
+    embeddedChannel.attr(SessionManagerService.sessionKey).set(session);
+  }
+
+  @AfterEach
+  public void afterEach() {
+    embeddedChannel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void givenUnwritableChannel_whenTimeoutElapsed_thenCloseChannel() {
+    // given
+    setWritable(false);
+
+    // when
+    embeddedChannel.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+    embeddedChannel.runScheduledPendingTasks();
+
+    // then
+    assertThat(embeddedChannel.isOpen()).isFalse();
+    then(outboundBackpressureService).should().recordSlowConsumerDisconnect(session);
+    then(outboundBackpressureService).should().discardCoalescedPackets(session);
+  }
+
+  @Test
+  public void givenUnwritableChannel_whenWritableBeforeTimeout_thenDrainAndKeepChannelOpen() {
+    // given
+    setWritable(false);
+
+    // when
+    setWritable(true);
+    embeddedChannel.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+    embeddedChannel.runScheduledPendingTasks();
+
+    // then
+    assertThat(embeddedChannel.isOpen()).isTrue();
+    then(outboundBackpressureService).should().drainCoalescedPackets(session);
+    then(outboundBackpressureService).should(never()).recordSlowConsumerDisconnect(session);
+  }
+
+  @Test
+  public void givenOpenChannel_whenClose_thenDiscardCoalescedPackets() {
+    // when
+    embeddedChannel.close();
+
+    // then
+    then(outboundBackpressureService).should().discardCoalescedPackets(session);
+  }
+
+  private void setWritable(boolean writable) {
+    embeddedChannel.unsafe().outboundBuffer().setUserDefinedWritability(1, writable);
+  }
+}
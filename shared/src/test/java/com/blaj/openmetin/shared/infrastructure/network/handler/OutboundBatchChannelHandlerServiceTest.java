@@ -0,0 +1,80 @@
+package com.blaj.openmetin.shared.infrastructure.network.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OutboundBatchChannelHandlerServiceTest {
+
+  private EmbeddedChannel embeddedChannel;
+
+  @BeforeEach
+  public void beforeEach() {
+    embeddedChannel = new EmbeddedChannel(new OutboundBatchChannelHandlerService(8, 50));
+  }
+
+  @AfterEach
+  public void afterEach() {
+    embeddedChannel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void givenWriteBelowThreshold_whenWrite_thenDoNotFlush() {
+    // given
+    var byteBuf = Unpooled.wrappedBuffer(new byte[] {1, 2, 3});
+
+    // when
+    embeddedChannel.write(byteBuf);
+
+    // then
+    assertThat((ByteBuf) embeddedChannel.readOutbound()).isNull();
+  }
+
+  @Test
+  public void givenWritesReachingThreshold_whenWrite_thenFlushAllWrites() {
+    // given
+    var byteBuf1 = Unpooled.wrappedBuffer(new byte[] {1, 2, 3, 4});
+    var byteBuf2 = Unpooled.wrappedBuffer(new byte[] {5, 6, 7, 8});
+
+    // when
+    embeddedChannel.write(byteBuf1);
+    embeddedChannel.write(byteBuf2);
+
+    // then
+    assertThat((ByteBuf) embeddedChannel.readOutbound()).isSameAs(byteBuf1);
+    assertThat((ByteBuf) embeddedChannel.readOutbound()).isSameAs(byteBuf2);
+  }
+
+  @Test
+  public void givenWriteBelowThreshold_whenFlushDelayElapsed_thenFlush() {
+    // given
+    var byteBuf = Unpooled.wrappedBuffer(new byte[] {1, 2, 3});
+    embeddedChannel.write(byteBuf);
+
+    // when
+    embeddedChannel.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+    embeddedChannel.runScheduledPendingTasks();
+
+    // then
+    assertThat((ByteBuf) embeddedChannel.readOutbound()).isSameAs(byteBuf);
+  }
+
+  @Test
+  public void givenWriteBelowThreshold_whenFlush_thenFlushImmediately() {
+    // given
+    var byteBuf = Unpooled.wrappedBuffer(new byte[] {1, 2, 3});
+    embeddedChannel.write(byteBuf);
+
+    // when
+    embeddedChannel.flush();
+
+    // then
+    assertThat((ByteBuf) embeddedChannel.readOutbound()).isSameAs(byteBuf);
+  }
+}
@@ -28,14 +28,14 @@ public class PacketHandlerFactoryServiceTest {
   }
 
   @Test
-  public void givenUnregisteredHandler_whenGetPacketHandlerService_thenReturnsEmpty() {
+  public void givenUnregisteredHandler_whenGetPacketHandlerService_thenReturnsNull() {
     // given
 
     // when
     var result = packetHandlerFactoryService.getPacketHandlerService(TestPacket2.class);
 
     // then
-    assertThat(result).isEmpty();
+    assertThat(result).isNull();
   }
 
   @Test
@@ -46,8 +46,31 @@ public class PacketHandlerFactoryServiceTest {
     var result = packetHandlerFactoryService.getPacketHandlerService(TestPacket1.class);
 
     // then
-    assertThat(result).isPresent();
-    assertThat(result).contains(testPacket1PacketHandlerService);
+    assertThat(result).isEqualTo(testPacket1PacketHandlerService);
+  }
+
+  @Test
+  public void givenRegisteredHandler_whenGetPacketHandlerServiceForPacket_thenReturnsHandler() {
+    // given
+    var packet = new TestPacket1();
+
+    // when
+    var result = packetHandlerFactoryService.getPacketHandlerServiceForPacket(packet);
+
+    // then
+    assertThat(result).isEqualTo(testPacket1PacketHandlerService);
+  }
+
+  @Test
+  public void givenUnregisteredHandler_whenGetPacketHandlerServiceForPacket_thenReturnsNull() {
+    // given
+    var packet = new TestPacket2();
+
+    // when
+    var result = packetHandlerFactoryService.getPacketHandlerServiceForPacket(packet);
+
+    // then
+    assertThat(result).isNull();
   }
 
   static class TestPacket1 implements Packet {}
@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.inOrder;
 
 import com.blaj.openmetin.shared.common.abstractions.SessionManagerService;
+import com.blaj.openmetin.shared.common.enums.TcpTransport;
 import com.blaj.openmetin.shared.common.model.Session;
 import com.blaj.openmetin.shared.infrastructure.network.codec.MainByteToMessageDecoderService;
 import com.blaj.openmetin.shared.infrastructure.network.codec.MainMessageToByteEncoderService;
@@ -14,9 +15,16 @@ import com.blaj.openmetin.shared.infrastructure.network.codec.PacketCodecFactory
 import com.blaj.openmetin.shared.infrastructure.network.handler.ChannelInboundHandlerService;
 import com.blaj.openmetin.shared.infrastructure.network.handler.GlobalExceptionHandlerService;
 import com.blaj.openmetin.shared.infrastructure.network.handler.HandshakeChannelInboundHandlerService;
+import com.blaj.openmetin.shared.infrastructure.network.handler.OutboundBackpressureChannelHandlerService;
+import com.blaj.openmetin.shared.infrastructure.network.handler.OutboundBatchChannelHandlerService;
+import com.blaj.openmetin.shared.infrastructure.network.properties.TcpProperties;
+import com.blaj.openmetin.shared.infrastructure.network.session.IdleConnectionReaperService;
+import com.blaj.openmetin.shared.infrastructure.network.session.OutboundBackpressureService;
+import com.blaj.openmetin.shared.infrastructure.network.session.SessionCommandLaneService;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.util.Attribute;
+import java.net.InetAddress;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +42,9 @@ public class GameChannelInitializerServiceTest {
   @Mock private PacketCodecFactoryService packetCodecFactoryService;
   @Mock private GlobalExceptionHandlerService globalExceptionHandlerService;
   @Mock private SocketChannel socketChannel;
+  @Mock private OutboundBackpressureService outboundBackpressureService;
+  @Mock private IdleConnectionReaperService idleConnectionReaperService;
+  @Mock private SessionCommandLaneService sessionCommandLaneService;
   @Mock private ChannelPipeline pipeline;
   @Mock private Attribute<Session> sessionAttribute;
   @Mock private Session session;
@@ -46,7 +57,27 @@ public class GameChannelInitializerServiceTest {
             channelInboundHandlerService,
             sessionManagerService,
             packetCodecFactoryService,
-            globalExceptionHandlerService);
+            globalExceptionHandlerService,
+            outboundBackpressureService,
+            idleConnectionReaperService,
+            sessionCommandLaneService,
+            new TcpProperties(
+                InetAddress.ofLiteral("127.0.0.1"),
+                0,
+                60,
+                16384,
+                50,
+                TcpTransport.NIO,
+                1,
+                1,
+                0,
+                512,
+                8192,
+                8192,
+                32768,
+                65536,
+                10000,
+                1048576));
 
     given(socketChannel.pipeline()).willReturn(pipeline);
     given(pipeline.addLast(any(String.class), any())).willReturn(pipeline);
@@ -63,6 +94,13 @@ public class GameChannelInitializerServiceTest {
 
     // then
     var inOrder = inOrder(pipeline);
+    inOrder
+        .verify(pipeline)
+        .addLast(
+            eq("outboundBackpressure"), any(OutboundBackpressureChannelHandlerService.class));
+    inOrder
+        .verify(pipeline)
+        .addLast(eq("outboundBatch"), any(OutboundBatchChannelHandlerService.class));
     inOrder.verify(pipeline).addLast(eq("encoder"), any(MainMessageToByteEncoderService.class));
     inOrder.verify(pipeline).addLast(eq("decoder"), any(MainByteToMessageDecoderService.class));
     inOrder
@@ -84,5 +122,7 @@ public class GameChannelInitializerServiceTest {
     // then
     then(sessionManagerService).should().createSession(socketChannel);
     then(sessionAttribute).should().set(session);
+    then(idleConnectionReaperService).should().register(session);
+    then(sessionCommandLaneService).should().register(session);
   }
 }
@@ -3,8 +3,12 @@ package com.blaj.openmetin.shared.infrastructure.network.server;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import com.blaj.openmetin.shared.common.enums.TcpTransport;
 import com.blaj.openmetin.shared.infrastructure.network.properties.TcpProperties;
+import io.netty.channel.epoll.Epoll;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -40,7 +44,7 @@ public class NettyServerServiceTest {
   @Test
   public void givenValidConfiguration_whenStart_thenServerBindsToPort() {
     // given
-    var tcpProperties = new TcpProperties(testHost, testPort, 60);
+    var tcpProperties = createTcpProperties(TcpTransport.AUTO, 1);
     nettyServerService = new NettyServerService(tcpProperties, gameChannelInitializerService);
 
     // when
@@ -62,7 +66,7 @@ public class NettyServerServiceTest {
   @Test
   public void givenStartedServer_whenStop_thenServerStopsGracefully() {
     // given
-    var tcpProperties = new TcpProperties(testHost, testPort, 60);
+    var tcpProperties = createTcpProperties(TcpTransport.AUTO, 1);
     nettyServerService = new NettyServerService(tcpProperties, gameChannelInitializerService);
     nettyServerService.start();
 
@@ -89,10 +93,85 @@ public class NettyServerServiceTest {
   @Test
   public void givenNotStartedServer_whenStop_thenNoExceptionThrown() {
     // given
-    var tcpProperties = new TcpProperties(testHost, testPort, 60);
+    var tcpProperties = createTcpProperties(TcpTransport.AUTO, 1);
     nettyServerService = new NettyServerService(tcpProperties, gameChannelInitializerService);
 
     // when & then
     assertThatCode(() -> nettyServerService.stop()).doesNotThrowAnyException();
   }
+
+  @Test
+  public void givenNioTransport_whenStart_thenServerUsesNioTransport() {
+    // given
+    var tcpProperties = createTcpProperties(TcpTransport.NIO, 4);
+    nettyServerService = new NettyServerService(tcpProperties, gameChannelInitializerService);
+
+    // when
+    nettyServerService.start();
+
+    // then
+    assertThat(nettyServerService.getActiveTransport()).isEqualTo(TcpTransport.NIO);
+    assertThat(nettyServerService.getBoundPort()).isPositive();
+  }
+
+  @Test
+  public void givenEpollTransportWithMultipleAcceptors_whenStart_thenServerAcceptsConnections() {
+    // given
+    assumeTrue(Epoll.isAvailable());
+
+    var tcpProperties = createTcpProperties(TcpTransport.EPOLL, 2);
+    nettyServerService = new NettyServerService(tcpProperties, gameChannelInitializerService);
+
+    // when
+    nettyServerService.start();
+
+    // then
+    assertThat(nettyServerService.getActiveTransport()).isEqualTo(TcpTransport.EPOLL);
+    await()
+        .atMost(Duration.ofSeconds(1))
+        .untilAsserted(
+            () -> {
+              try (Socket socket = new Socket()) {
+                socket.connect(
+                    new InetSocketAddress(testHost, nettyServerService.getBoundPort()), 1000);
+                assertThat(socket.isConnected()).isTrue();
+              }
+            });
+  }
+
+  @Test
+  public void givenEpollTransportUnavailable_whenStart_thenThrowIllegalStateException() {
+    // given
+    assumeTrue(!Epoll.isAvailable());
+
+    var tcpProperties = createTcpProperties(TcpTransport.EPOLL, 1);
+    nettyServerService = new NettyServerService(tcpProperties, gameChannelInitializerService);
+
+    // when
+    var thrownException =
+        assertThrows(IllegalStateException.class, () -> nettyServerService.start());
+
+    // then
+    assertThat(thrownException).hasMessage("Epoll transport is not available");
+  }
+
+  private TcpProperties createTcpProperties(TcpTransport transport, int acceptorCount) {
+    return new TcpProperties(
+        testHost,
+        testPort,
+        60,
+        16384,
+        50,
+        transport,
+        acceptorCount,
+        1,
+        0,
+        512,
+        8192,
+        8192,
+        32768,
+        65536,
+        10000,
+        1048576);
+  }
 }
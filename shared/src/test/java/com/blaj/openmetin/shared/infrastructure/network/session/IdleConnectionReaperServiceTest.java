@@ -0,0 +1,91 @@
+package com.blaj.openmetin.shared.infrastructure.network.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.blaj.openmetin.shared.common.enums.TcpTransport;
+import com.blaj.openmetin.shared.common.model.Session;
+import com.blaj.openmetin.shared.infrastructure.network.properties.TcpProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.Channel;
+import java.net.InetAddress;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class IdleConnectionReaperServiceTest {
+
+  private IdleConnectionReaperService idleConnectionReaperService;
+  private SimpleMeterRegistry meterRegistry;
+
+  @Mock private Channel channel;
+
+  @AfterEach
+  public void afterEach() {
+    idleConnectionReaperService.shutdown();
+  }
+
+  @Test
+  public void givenIdleSession_whenIdleTimeoutElapsed_thenCloseChannel() {
+    // given
+    createIdleConnectionReaperService(1);
+    var session = new Session(1L, channel);
+
+    given(channel.isOpen()).willReturn(true);
+
+    // when
+    idleConnectionReaperService.register(session);
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> then(channel).should().close());
+    assertThat(meterRegistry.counter("network.connections.idle.reaped").count()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenIdleTimeoutDisabled_whenRegister_thenNeverCloseChannel() {
+    // given
+    createIdleConnectionReaperService(0);
+    var session = new Session(1L, channel);
+
+    // when
+    idleConnectionReaperService.register(session);
+
+    // then
+    await()
+        .during(Duration.ofMillis(1500))
+        .atMost(Duration.ofSeconds(2))
+        .untilAsserted(() -> then(channel).shouldHaveNoInteractions());
+  }
+
+  private void createIdleConnectionReaperService(int idleSeconds) {
+    meterRegistry = new SimpleMeterRegistry();
+    idleConnectionReaperService =
+        new IdleConnectionReaperService(
+            new TcpProperties(
+                InetAddress.ofLiteral("127.0.0.1"),
+                0,
+                idleSeconds,
+                16384,
+                50,
+                TcpTransport.NIO,
+                1,
+                1,
+                0,
+                512,
+                8192,
+                8192,
+                32768,
+                65536,
+                10000,
+                1048576),
+            meterRegistry);
+  }
+}
@@ -0,0 +1,245 @@
+package com.blaj.openmetin.shared.infrastructure.network.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+import com.blaj.openmetin.shared.common.model.CoalescablePacket;
+import com.blaj.openmetin.shared.common.model.Packet;
+import com.blaj.openmetin.shared.common.enums.TcpTransport;
+import com.blaj.openmetin.shared.common.model.Session;
+import com.blaj.openmetin.shared.infrastructure.network.properties.TcpProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import java.net.InetAddress;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboundBackpressureServiceTest {
+
+  private OutboundBackpressureService outboundBackpressureService;
+  private SimpleMeterRegistry meterRegistry;
+  private Session session;
+
+  @Mock private Channel channel;
+  @Mock private EventLoop eventLoop;
+
+  @BeforeEach
+  public void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    outboundBackpressureService =
+        new OutboundBackpressureService(
+            new TcpProperties(
+                InetAddress.ofLiteral("127.0.0.1"),
+                0,
+                60,
+                16384,
+                50,
+                TcpTransport.NIO,
+                1,
+                1,
+                0,
+                512,
+                8192,
+                8192,
+                32768,
+                65536,
+                10000,
+                1048576),
+            meterRegistry);
+    session = new Session(1L, channel);
+  }
+
+  @Test
+  public void givenWritableChannel_whenInterceptWrite_thenReturnFalse() {
+    // given
+    var packet = new TestCoalescablePacket(10L);
+
+    given(channel.isWritable()).willReturn(true);
+
+    // when
+    var intercepted = outboundBackpressureService.interceptWrite(session, packet);
+
+    // then
+    assertThat(intercepted).isFalse();
+    assertThat(session.getCoalescedPackets()).isEmpty();
+  }
+
+  @Test
+  public void givenNonCoalescablePacket_whenInterceptWrite_thenReturnFalse() {
+    // given
+    var packet = new TestPacket();
+
+    given(channel.isWritable()).willReturn(true);
+
+    // when
+    var intercepted = outboundBackpressureService.interceptWrite(session, packet);
+
+    // then
+    assertThat(intercepted).isFalse();
+    assertThat(session.getCoalescedPackets()).isEmpty();
+  }
+
+  @Test
+  public void givenUnwritableChannel_whenInterceptWrite_thenKeepLatestPacketPerKey() {
+    // given
+    var packet1 = new TestCoalescablePacket(10L);
+    var packet2 = new TestCoalescablePacket(10L);
+    var packet3 = new TestCoalescablePacket(20L);
+
+    given(channel.isWritable()).willReturn(false);
+
+    // when
+    outboundBackpressureService.interceptWrite(session, packet1);
+    outboundBackpressureService.interceptWrite(session, packet2);
+    var intercepted = outboundBackpressureService.interceptWrite(session, packet3);
+
+    // then
+    assertThat(intercepted).isTrue();
+    assertThat(session.getCoalescedPackets().values())
+        .containsExactlyInAnyOrder(packet2, packet3);
+    assertThat(meterRegistry.counter("network.outbound.packets.coalesced").count())
+        .isEqualTo(1);
+    then(channel).should(never()).write(any());
+  }
+
+  @Test
+  public void givenCoalescedPackets_whenInterceptWriteNonCoalescablePacket_thenWriteThemFirst() {
+    // given
+    var coalescedPacket = new TestCoalescablePacket(10L);
+    var packet = new TestPacket();
+
+    given(channel.isWritable()).willReturn(false);
+    outboundBackpressureService.interceptWrite(session, coalescedPacket);
+
+    // when
+    var intercepted = outboundBackpressureService.interceptWrite(session, packet);
+
+    // then
+    assertThat(intercepted).isFalse();
+    assertThat(session.getCoalescedPackets()).isEmpty();
+    then(channel).should().write(coalescedPacket);
+    then(channel).should(never()).flush();
+  }
+
+  @Test
+  public void givenChannelOverHardLimit_whenInterceptWrite_thenDropPacketAndDisconnect() {
+    // given
+    var packet = new TestPacket();
+
+    given(channel.isWritable()).willReturn(false);
+    given(channel.bytesBeforeWritable()).willReturn(1048577L);
+    given(channel.eventLoop()).willReturn(eventLoop);
+    given(channel.isOpen()).willReturn(true);
+    willAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .given(eventLoop)
+        .execute(any());
+
+    // when
+    var intercepted = outboundBackpressureService.interceptWrite(session, packet);
+
+    // then
+    assertThat(intercepted).isTrue();
+    assertThat(meterRegistry.counter("network.outbound.packets.dropped").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter("network.outbound.disconnects.slow.consumer").count())
+        .isEqualTo(1);
+    then(channel).should(never()).write(any());
+    then(channel).should().close();
+  }
+
+  @Test
+  public void givenChannelUnderHardLimit_whenInterceptWrite_thenReturnFalse() {
+    // given
+    var packet = new TestPacket();
+
+    given(channel.isWritable()).willReturn(false);
+    given(channel.bytesBeforeWritable()).willReturn(65536L);
+
+    // when
+    var intercepted = outboundBackpressureService.interceptWrite(session, packet);
+
+    // then
+    assertThat(intercepted).isFalse();
+    then(channel).should(never()).close();
+  }
+
+  @Test
+  public void givenCoalescedPackets_whenDrainCoalescedPackets_thenWriteAndFlushThem() {
+    // given
+    var packet1 = new TestCoalescablePacket(10L);
+    var packet2 = new TestCoalescablePacket(20L);
+
+    given(channel.isWritable()).willReturn(false);
+    outboundBackpressureService.interceptWrite(session, packet1);
+    outboundBackpressureService.interceptWrite(session, packet2);
+
+    // when
+    outboundBackpressureService.drainCoalescedPackets(session);
+
+    // then
+    then(channel).should().write(packet1);
+    then(channel).should().write(packet2);
+    then(channel).should().flush();
+    assertThat(session.getCoalescedPackets()).isEmpty();
+  }
+
+  @Test
+  public void givenNoCoalescedPackets_whenDrainCoalescedPackets_thenDoNothing() {
+    // when
+    outboundBackpressureService.drainCoalescedPackets(session);
+
+    // then
+    then(channel).should(never()).flush();
+  }
+
+  @Test
+  public void givenCoalescedPackets_whenDiscardCoalescedPackets_thenCountDroppedPackets() {
+    // given
+    given(channel.isWritable()).willReturn(false);
+    outboundBackpressureService.interceptWrite(session, new TestCoalescablePacket(10L));
+    outboundBackpressureService.interceptWrite(session, new TestCoalescablePacket(20L));
+
+    // when
+    outboundBackpressureService.discardCoalescedPackets(session);
+
+    // then
+    assertThat(session.getCoalescedPackets()).isEmpty();
+    assertThat(meterRegistry.counter("network.outbound.packets.dropped").count()).isEqualTo(2);
+  }
+
+  @Test
+  public void whenRecordSlowConsumerDisconnect_thenIncrementCounter() {
+    // when
+    outboundBackpressureService.recordSlowConsumerDisconnect(session);
+
+    // then
+    assertThat(meterRegistry.counter("network.outbound.disconnects.slow.consumer").count())
+        .isEqualTo(1);
+  }
+
+  @RequiredArgsConstructor
+  static class TestCoalescablePacket implements CoalescablePacket {
+
+    private final long coalesceKey;
+
+    @Override
+    public long getCoalesceKey() {
+      return coalesceKey;
+    }
+  }
+
+  static class TestPacket implements Packet {}
+}
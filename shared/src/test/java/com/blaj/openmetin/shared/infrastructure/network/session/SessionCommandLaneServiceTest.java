@@ -0,0 +1,70 @@
+package com.blaj.openmetin.shared.infrastructure.network.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blaj.openmetin.shared.common.model.Session;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.Channel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SessionCommandLaneServiceTest {
+
+  private SessionCommandLaneService sessionCommandLaneService;
+  private SimpleMeterRegistry meterRegistry;
+
+  @Mock private Channel channel;
+
+  @BeforeEach
+  public void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    sessionCommandLaneService = new SessionCommandLaneService(Runnable::run, meterRegistry);
+  }
+
+  @Test
+  public void givenSession_whenRegister_thenCommandLaneIsAssigned() {
+    // given
+    var session = new Session(1L, channel);
+
+    // when
+    sessionCommandLaneService.register(session);
+
+    // then
+    assertThat(session.getCommandLane()).isInstanceOf(SessionCommandLane.class);
+  }
+
+  @Test
+  public void givenRegisteredSession_whenExecuteOnCommandLane_thenDepthIsRecorded() {
+    // given
+    var session = new Session(1L, channel);
+    var executed = new AtomicBoolean();
+    sessionCommandLaneService.register(session);
+
+    // when
+    session.getCommandLane().execute(() -> executed.set(true));
+
+    // then
+    assertThat(executed).isTrue();
+    assertThat(meterRegistry.get("network.session.command.lane.depth").summary().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void givenTwoSessions_whenRegister_thenEachSessionGetsOwnLane() {
+    // given
+    var firstSession = new Session(1L, channel);
+    var secondSession = new Session(2L, channel);
+
+    // when
+    sessionCommandLaneService.register(firstSession);
+    sessionCommandLaneService.register(secondSession);
+
+    // then
+    assertThat(firstSession.getCommandLane()).isNotSameAs(secondSession.getCommandLane());
+  }
+}
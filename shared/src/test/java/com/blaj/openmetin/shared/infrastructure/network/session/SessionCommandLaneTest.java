@@ -0,0 +1,152 @@
+package com.blaj.openmetin.shared.infrastructure.network.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SessionCommandLaneTest {
+
+  private final Queue<Runnable> submittedDrains = new ArrayDeque<>();
+
+  private SessionCommandLane sessionCommandLane;
+  private DistributionSummary queueDepthSummary;
+
+  @BeforeEach
+  public void beforeEach() {
+    submittedDrains.clear();
+    queueDepthSummary = DistributionSummary.builder("test").register(new SimpleMeterRegistry());
+    sessionCommandLane = new SessionCommandLane(1L, submittedDrains::add, queueDepthSummary);
+  }
+
+  @Test
+  public void givenMultipleCommands_whenExecute_thenSingleDrainIsSubmitted() {
+    // given
+    var executed = new ArrayList<Integer>();
+
+    // when
+    sessionCommandLane.execute(() -> executed.add(1));
+    sessionCommandLane.execute(() -> executed.add(2));
+    sessionCommandLane.execute(() -> executed.add(3));
+
+    // then
+    assertThat(submittedDrains).hasSize(1);
+    assertThat(executed).isEmpty();
+    assertThat(sessionCommandLane.getQueueDepth()).isEqualTo(3);
+  }
+
+  @Test
+  public void givenQueuedCommands_whenDrain_thenCommandsRunInSubmissionOrder() {
+    // given
+    var executed = new ArrayList<Integer>();
+    sessionCommandLane.execute(() -> executed.add(1));
+    sessionCommandLane.execute(() -> executed.add(2));
+    sessionCommandLane.execute(() -> executed.add(3));
+
+    // when
+    runSubmittedDrains();
+
+    // then
+    assertThat(executed).containsExactly(1, 2, 3);
+    assertThat(sessionCommandLane.getQueueDepth()).isZero();
+  }
+
+  @Test
+  public void givenCommandThrowsException_whenDrain_thenNextCommandStillRuns() {
+    // given
+    var executed = new ArrayList<Integer>();
+    sessionCommandLane.execute(
+        () -> {
+          throw new RuntimeException("Command error");
+        });
+    sessionCommandLane.execute(() -> executed.add(2));
+
+    // when
+    runSubmittedDrains();
+
+    // then
+    assertThat(executed).containsExactly(2);
+  }
+
+  @Test
+  public void givenCommandThrowsError_whenDrain_thenRemainingCommandsAreRescheduled() {
+    // given
+    var executed = new ArrayList<Integer>();
+    sessionCommandLane.execute(
+        () -> {
+          throw new AssertionError("Command error");
+        });
+    sessionCommandLane.execute(() -> executed.add(2));
+
+    // when
+    var thrownError = assertThrows(AssertionError.class, () -> submittedDrains.poll().run());
+
+    // then
+    assertThat(thrownError).hasMessage("Command error");
+    assertThat(submittedDrains).hasSize(1);
+
+    runSubmittedDrains();
+    assertThat(executed).containsExactly(2);
+  }
+
+  @Test
+  public void givenDrainedLane_whenExecute_thenNewDrainIsSubmitted() {
+    // given
+    var executed = new ArrayList<Integer>();
+    sessionCommandLane.execute(() -> executed.add(1));
+    runSubmittedDrains();
+
+    // when
+    sessionCommandLane.execute(() -> executed.add(2));
+
+    // then
+    assertThat(submittedDrains).hasSize(1);
+
+    runSubmittedDrains();
+    assertThat(executed).containsExactly(1, 2);
+  }
+
+  @Test
+  public void givenCommandEnqueuedWhileDraining_whenDrain_thenItRunsInSameDrain() {
+    // given
+    var executed = new ArrayList<Integer>();
+    sessionCommandLane.execute(
+        () -> {
+          executed.add(1);
+          sessionCommandLane.execute(() -> executed.add(2));
+        });
+
+    // when
+    submittedDrains.poll().run();
+
+    // then
+    assertThat(executed).containsExactly(1, 2);
+    assertThat(submittedDrains).isEmpty();
+  }
+
+  @Test
+  public void givenCommands_whenExecute_thenQueueDepthIsRecorded() {
+    // given
+
+    // when
+    sessionCommandLane.execute(() -> {});
+    sessionCommandLane.execute(() -> {});
+
+    // then
+    assertThat(queueDepthSummary.count()).isEqualTo(2);
+    assertThat(queueDepthSummary.max()).isEqualTo(2);
+  }
+
+  private void runSubmittedDrains() {
+    Runnable drain;
+    while ((drain = submittedDrains.poll()) != null) {
+      drain.run();
+    }
+  }
+}
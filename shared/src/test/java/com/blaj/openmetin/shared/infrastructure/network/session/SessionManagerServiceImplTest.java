@@ -1,10 +1,14 @@
 package com.blaj.openmetin.shared.infrastructure.network.session;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import com.blaj.openmetin.shared.common.model.Session;
 import com.blaj.openmetin.shared.common.service.SessionFactoryService;
+import com.blaj.openmetin.shared.common.service.SessionRemovalService;
 import io.netty.channel.Channel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,12 +22,14 @@ public class SessionManagerServiceImplTest {
   private SessionManagerServiceImpl<Session> sessionManagerService;
 
   @Mock private SessionFactoryService<Session> sessionFactoryService;
+  @Mock private SessionRemovalService<Session> sessionRemovalService;
   @Mock private Channel channel1;
   @Mock private Channel channel2;
 
   @BeforeEach
   public void beforeEach() {
-    sessionManagerService = new SessionManagerServiceImpl<>(sessionFactoryService);
+    sessionManagerService =
+        new SessionManagerServiceImpl<>(sessionFactoryService, sessionRemovalService);
   }
 
   @Test
@@ -122,7 +128,7 @@ public class SessionManagerServiceImplTest {
   }
 
   @Test
-  public void givenSessionWithAccountId_whenGetSessionByAccountId_thenReturnsSession() {
+  public void givenSessionLinkedToAccount_whenGetSessionByAccountId_thenReturnsSession() {
     // given
     var sessionId = 1L;
     var givenSession = new Session(sessionId, channel1);
@@ -130,7 +136,7 @@ public class SessionManagerServiceImplTest {
     given(sessionFactoryService.createSession(sessionId, channel1)).willReturn(givenSession);
 
     var session = sessionManagerService.createSession(channel1);
-    session.setAccountId(12345L);
+    sessionManagerService.linkSessionToAccount(session.getId(), 12345L);
 
     // when
     var result = sessionManagerService.getSessionByAccountId(12345L);
@@ -169,6 +175,64 @@ public class SessionManagerServiceImplTest {
     assertThat(sessionManagerService.getSessionByPid(100)).isPresent();
   }
 
+  @Test
+  public void givenLinkedSession_whenLinkSessionToPid_thenRemovesPreviousPid() {
+    // given
+    var sessionId = 1L;
+    var givenSession = new Session(sessionId, channel1);
+
+    given(sessionFactoryService.createSession(sessionId, channel1)).willReturn(givenSession);
+
+    var session = sessionManagerService.createSession(channel1);
+    sessionManagerService.linkSessionToPid(session.getId(), 100);
+
+    // when
+    sessionManagerService.linkSessionToPid(session.getId(), 200);
+
+    // then
+    assertThat(sessionManagerService.getSessionByPid(100)).isEmpty();
+    assertThat(sessionManagerService.getSessionByPid(200)).contains(session);
+  }
+
+  @Test
+  public void givenSession_whenLinkSessionToAccount_thenLinksCorrectly() {
+    // given
+    var sessionId = 1L;
+    var givenSession = new Session(sessionId, channel1);
+
+    given(sessionFactoryService.createSession(sessionId, channel1)).willReturn(givenSession);
+
+    var session = sessionManagerService.createSession(channel1);
+
+    // when
+    sessionManagerService.linkSessionToAccount(session.getId(), 12345L);
+
+    // then
+    assertThat(session.getAccountId()).isEqualTo(12345L);
+    assertThat(sessionManagerService.getSessionByAccountId(12345L)).contains(session);
+  }
+
+  @Test
+  public void givenAccountRelinkedToNewSession_whenRemoveOldSession_thenKeepsNewSessionLinked() {
+    // given
+    var givenSession1 = new Session(1L, channel1);
+    var givenSession2 = new Session(2L, channel2);
+
+    given(sessionFactoryService.createSession(1L, channel1)).willReturn(givenSession1);
+    given(sessionFactoryService.createSession(2L, channel2)).willReturn(givenSession2);
+
+    var session1 = sessionManagerService.createSession(channel1);
+    var session2 = sessionManagerService.createSession(channel2);
+    sessionManagerService.linkSessionToAccount(session1.getId(), 12345L);
+    sessionManagerService.linkSessionToAccount(session2.getId(), 12345L);
+
+    // when
+    sessionManagerService.removeSession(session1.getId());
+
+    // then
+    assertThat(sessionManagerService.getSessionByAccountId(12345L)).contains(session2);
+  }
+
   @Test
   public void givenNonExistingSession_whenLinkSessionToPid_thenDoesNothing() {
     // given
@@ -180,6 +244,32 @@ public class SessionManagerServiceImplTest {
     assertThat(sessionManagerService.getSessionByPid(100)).isEmpty();
   }
 
+  @Test
+  public void givenExistingSession_whenRemoveSession_thenNotifiesSessionRemovalService() {
+    // given
+    var sessionId = 1L;
+    var givenSession = new Session(sessionId, channel1);
+
+    given(sessionFactoryService.createSession(sessionId, channel1)).willReturn(givenSession);
+
+    var session = sessionManagerService.createSession(channel1);
+
+    // when
+    sessionManagerService.removeSession(session.getId());
+
+    // then
+    then(sessionRemovalService).should().onSessionRemoved(givenSession);
+  }
+
+  @Test
+  public void givenNonExistingSession_whenRemoveSession_thenDoNotNotifySessionRemovalService() {
+    // when
+    sessionManagerService.removeSession(999L);
+
+    // then
+    then(sessionRemovalService).should(never()).onSessionRemoved(any());
+  }
+
   @Test
   public void givenSession_whenRemoveSession_thenRemovesSession() {
     // given
@@ -216,6 +306,45 @@ public class SessionManagerServiceImplTest {
     assertThat(sessionManagerService.getSessionByPid(100)).isEmpty();
   }
 
+  @Test
+  public void givenLinkedAccount_whenRemoveSession_thenRemovesFromAccountIndex() {
+    // given
+    var sessionId = 1L;
+    var givenSession = new Session(sessionId, channel1);
+
+    given(sessionFactoryService.createSession(sessionId, channel1)).willReturn(givenSession);
+
+    var session = sessionManagerService.createSession(channel1);
+    sessionManagerService.linkSessionToAccount(session.getId(), 12345L);
+
+    // when
+    sessionManagerService.removeSession(session.getId());
+
+    // then
+    assertThat(sessionManagerService.getSessionByAccountId(12345L)).isEmpty();
+  }
+
+  @Test
+  public void givenSessionsView_whenSessionsChange_thenViewReflectsCurrentSessions() {
+    // given
+    var givenSession1 = new Session(1L, channel1);
+    var givenSession2 = new Session(2L, channel2);
+
+    given(sessionFactoryService.createSession(1L, channel1)).willReturn(givenSession1);
+    given(sessionFactoryService.createSession(2L, channel2)).willReturn(givenSession2);
+
+    var sessions = sessionManagerService.getSessions();
+
+    // when
+    sessionManagerService.createSession(channel1);
+    sessionManagerService.createSession(channel2);
+    sessionManagerService.removeSession(1L);
+
+    // then
+    assertThat(sessions).isUnmodifiable();
+    assertThat(sessions).containsExactly(givenSession2);
+  }
+
   @Test
   public void givenMultipleSessions_whenGetAllSessions_thenReturnsAllSessions() {
     // given
@@ -1,13 +1,20 @@
 package com.blaj.openmetin.shared.infrastructure.network.session;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import com.blaj.openmetin.shared.common.model.Packet;
 import com.blaj.openmetin.shared.common.model.Session;
+import com.blaj.openmetin.shared.infrastructure.network.codec.BroadcastPacketEncoderService;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,13 +29,17 @@ public class SessionServiceImplTest {
   private SessionServiceImpl sessionService;
 
   @Mock private SessionManagerServiceImpl sessionManagerService;
+  @Mock private BroadcastPacketEncoderService broadcastPacketEncoderService;
+  @Mock private OutboundBackpressureService outboundBackpressureService;
   @Mock private Session session;
   @Mock private Channel channel;
   @Mock private ChannelFuture channelFuture;
 
   @BeforeEach
   public void beforeEach() {
-    sessionService = new SessionServiceImpl(sessionManagerService);
+    sessionService =
+        new SessionServiceImpl(
+            sessionManagerService, broadcastPacketEncoderService, outboundBackpressureService);
   }
 
   @Test
@@ -47,6 +58,53 @@ public class SessionServiceImplTest {
     then(channel).should().writeAndFlush(packet);
   }
 
+  @Test
+  public void givenCoalescedPacket_whenSendPacketAsync_thenDoNotWritePacket() {
+    // given
+    var sessionId = 1L;
+    var packet = new TestPacket();
+
+    given(sessionManagerService.getSession(sessionId)).willReturn(Optional.of(session));
+    given(outboundBackpressureService.interceptWrite(session, packet)).willReturn(true);
+
+    // when
+    sessionService.sendPacketAsync(sessionId, packet);
+
+    // then
+    then(channel).should(never()).writeAndFlush(any());
+  }
+
+  @Test
+  public void givenSession_whenSendPacketAsync_thenSendsPacketWithoutLookup() {
+    // given
+    var packet = new TestPacket();
+
+    given(session.getChannel()).willReturn(channel);
+
+    // when
+    sessionService.sendPacketAsync(session, packet);
+
+    // then
+    then(channel).should().writeAndFlush(packet);
+    then(sessionManagerService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  public void givenSession_whenQueuePacket_thenWritesPacketWithoutLookup() {
+    // given
+    var packet = new TestPacket();
+
+    given(session.getChannel()).willReturn(channel);
+
+    // when
+    sessionService.queuePacket(session, packet);
+
+    // then
+    then(channel).should().write(packet);
+    then(channel).should(never()).flush();
+    then(sessionManagerService).shouldHaveNoInteractions();
+  }
+
   @Test
   public void givenNonExistingSession_whenSendPacketAsync_thenDoesNothing() {
     // given
@@ -62,6 +120,185 @@ public class SessionServiceImplTest {
     then(channel).should(never()).writeAndFlush(packet);
   }
 
+  @Test
+  public void givenExistingSession_whenSendPacketsAsync_thenWritesPacketsAndFlushesOnce() {
+    // given
+    var sessionId = 1L;
+    var packet1 = new TestPacket();
+    var packet2 = new TestPacket();
+
+    given(sessionManagerService.getSession(sessionId)).willReturn(Optional.of(session));
+    given(session.getChannel()).willReturn(channel);
+
+    // when
+    sessionService.sendPacketsAsync(sessionId, List.of(packet1, packet2));
+
+    // then
+    then(channel).should().write(packet1);
+    then(channel).should().write(packet2);
+    then(channel).should().flush();
+    then(channel).should(never()).writeAndFlush(any());
+  }
+
+  @Test
+  public void givenNonExistingSession_whenSendPacketsAsync_thenDoesNothing() {
+    // given
+    var sessionId = 999L;
+    var packet = new TestPacket();
+
+    given(sessionManagerService.getSession(sessionId)).willReturn(Optional.empty());
+
+    // when
+    sessionService.sendPacketsAsync(sessionId, List.of(packet));
+
+    // then
+    then(channel).should(never()).write(any());
+    then(channel).should(never()).flush();
+  }
+
+  @Test
+  public void givenExistingSession_whenQueuePacket_thenWritesPacketWithoutFlush() {
+    // given
+    var sessionId = 1L;
+    var packet = new TestPacket();
+
+    given(sessionManagerService.getSession(sessionId)).willReturn(Optional.of(session));
+    given(session.getChannel()).willReturn(channel);
+
+    // when
+    sessionService.queuePacket(sessionId, packet);
+
+    // then
+    then(channel).should().write(packet);
+    then(channel).should(never()).flush();
+  }
+
+  @Test
+  public void givenQueuedPackets_whenFlushQueuedPackets_thenFlushesEachChannelOnce() {
+    // given
+    var sessionId = 1L;
+    var packet1 = new TestPacket();
+    var packet2 = new TestPacket();
+
+    given(sessionManagerService.getSession(sessionId)).willReturn(Optional.of(session));
+    given(session.getChannel()).willReturn(channel);
+
+    sessionService.queuePacket(sessionId, packet1);
+    sessionService.queuePackets(sessionId, List.of(packet2));
+
+    // when
+    sessionService.flushQueuedPackets();
+    sessionService.flushQueuedPackets();
+
+    // then
+    then(channel).should().write(packet1);
+    then(channel).should().write(packet2);
+    then(channel).should().flush();
+  }
+
+  @Test
+  public void givenNoRecipients_whenBroadcastPacketAsync_thenDoNotEncode() {
+    // given
+    var packet = new TestPacket();
+
+    // when
+    sessionService.broadcastPacketAsync(packet, List.of());
+
+    // then
+    then(broadcastPacketEncoderService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  public void givenRecipients_whenBroadcastPacketAsync_thenEncodeOnceAndShareBuffer() {
+    // given
+    var packet = new TestPacket();
+    var encodedPacket = Unpooled.buffer().writeByte(0x01);
+
+    given(broadcastPacketEncoderService.encode(packet)).willReturn(Optional.of(encodedPacket));
+    given(sessionManagerService.getSession(1L)).willReturn(Optional.of(session));
+    given(sessionManagerService.getSession(2L)).willReturn(Optional.of(session));
+    given(sessionManagerService.getSession(3L)).willReturn(Optional.empty());
+    given(session.getChannel()).willReturn(channel);
+
+    // when
+    sessionService.broadcastPacketAsync(packet, List.of(1L, 2L, 3L));
+
+    // then
+    then(broadcastPacketEncoderService).should().encode(packet);
+    then(channel).should(times(2)).writeAndFlush(any(ByteBuf.class));
+    assertThat(encodedPacket.refCnt()).isEqualTo(2);
+  }
+
+  @Test
+  public void givenRecipients_whenQueueBroadcastPacket_thenWriteSharedBufferWithoutFlush() {
+    // given
+    var packet = new TestPacket();
+    var encodedPacket = Unpooled.buffer().writeByte(0x01);
+
+    given(broadcastPacketEncoderService.encode(packet)).willReturn(Optional.of(encodedPacket));
+    given(sessionManagerService.getSession(1L)).willReturn(Optional.of(session));
+    given(session.getChannel()).willReturn(channel);
+
+    // when
+    sessionService.queueBroadcastPacket(packet, List.of(1L));
+
+    // then
+    then(channel).should().write(any(ByteBuf.class));
+    then(channel).should(never()).flush();
+    assertThat(encodedPacket.refCnt()).isEqualTo(1);
+  }
+
+  @Test
+  public void givenCoalescedRecipient_whenQueueBroadcastPacket_thenSkipRecipient() {
+    // given
+    var packet = new TestPacket();
+    var encodedPacket = Unpooled.buffer().writeByte(0x01);
+
+    given(broadcastPacketEncoderService.encode(packet)).willReturn(Optional.of(encodedPacket));
+    given(sessionManagerService.getSession(1L)).willReturn(Optional.of(session));
+    given(outboundBackpressureService.interceptWrite(session, packet)).willReturn(true);
+
+    // when
+    sessionService.queueBroadcastPacket(packet, List.of(1L));
+
+    // then
+    then(channel).should(never()).write(any());
+    assertThat(encodedPacket.refCnt()).isEqualTo(0);
+  }
+
+  @Test
+  public void givenSessions_whenQueueBroadcastPacketToSessions_thenWriteWithoutLookup() {
+    // given
+    var packet = new TestPacket();
+    var encodedPacket = Unpooled.buffer().writeByte(0x01);
+
+    given(broadcastPacketEncoderService.encode(packet)).willReturn(Optional.of(encodedPacket));
+    given(session.getChannel()).willReturn(channel);
+
+    // when
+    sessionService.queueBroadcastPacketToSessions(packet, List.of(session, session));
+
+    // then
+    then(channel).should(times(2)).write(any(ByteBuf.class));
+    then(channel).should(never()).flush();
+    then(sessionManagerService).shouldHaveNoInteractions();
+    assertThat(encodedPacket.refCnt()).isEqualTo(2);
+  }
+
+  @Test
+  public void givenEncodingFailed_whenBroadcastPacketAsync_thenDoNotSend() {
+    // given
+    var packet = new TestPacket();
+
+    given(broadcastPacketEncoderService.encode(packet)).willReturn(Optional.empty());
+
+    // when
+    sessionService.broadcastPacketAsync(packet, List.of(1L));
+
+    // then
+    then(sessionManagerService).shouldHaveNoInteractions();
+  }
+
   @Test
   public void givenSuccessfulSend_whenSendPacketSync_thenSendsPacketSuccessfully()
       throws InterruptedException {